@@ -0,0 +1,125 @@
+package com.uoc.tfg.gestionvehiculos;
+
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaVenta;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.Usuario;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.enums.Rol;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidades de ejemplo, con todas las relaciones que recorren los mappers, para los benchmarks
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class DatosBenchmark {
+
+    private DatosBenchmark() {
+    }
+
+    public static Vehiculo vehiculo() {
+        SituacionVehiculo situacion = new SituacionVehiculo();
+        situacion.setId(1L);
+        situacion.setNombre("DISPONIBLE");
+
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setId(1L);
+        vehiculo.setMatricula("1234ABC");
+        vehiculo.setMarca("Mercedes-Benz");
+        vehiculo.setModelo("Vito Tourer");
+        vehiculo.setAnyoFabricacion(2023);
+        vehiculo.setColor("Blanco");
+        vehiculo.setKilometros(15000);
+        vehiculo.setNumeroBastidor("WDF63970012345678");
+        vehiculo.setTipoCombustible(TipoCombustible.DIESEL);
+        vehiculo.setSituacion(situacion);
+        vehiculo.setFechaCreacion(LocalDateTime.of(2026, 1, 1, 10, 0));
+        vehiculo.setFechaActualizacion(LocalDateTime.of(2026, 1, 1, 10, 0));
+        vehiculo.setActivo(true);
+        return vehiculo;
+    }
+
+    public static Cliente cliente() {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setTipoCliente(TipoCliente.PARTICULAR);
+        cliente.setDocumento("12345678Z");
+        cliente.setNombre("Ana");
+        cliente.setApellidos("García López");
+        cliente.setDireccion("Calle Mayor 1");
+        cliente.setCiudad("Madrid");
+        cliente.setProvincia("Madrid");
+        cliente.setCodigoPostal("28001");
+        cliente.setTelefono("600000000");
+        cliente.setEmail("ana@example.com");
+        cliente.setActivo(true);
+        return cliente;
+    }
+
+    public static ContratoRenting contrato(int meses) {
+        ContratoRenting contrato = new ContratoRenting();
+        contrato.setId(1L);
+        contrato.setNumeroContrato("RENT-2026-0001");
+        contrato.setCliente(cliente());
+        contrato.setVehiculo(vehiculo());
+        contrato.setFechaInicio(LocalDate.of(2026, 1, 1));
+        contrato.setFechaFin(LocalDate.of(2026, 1, 1).plusMonths(meses));
+        contrato.setDuracionMeses(meses);
+        contrato.setCuotaMensual(new BigDecimal("549.90"));
+        contrato.setKilometrosIncluidos(20000);
+        contrato.setCosteKmExtra(new BigDecimal("0.12"));
+        contrato.setEstado(EstadoContrato.ACTIVO);
+        contrato.setDiaCobroCuota(5);
+        contrato.setActivo(true);
+        return contrato;
+    }
+
+    public static FacturaCompra facturaCompra() {
+        FacturaCompra factura = new FacturaCompra();
+        factura.setId(1L);
+        factura.setNumeroFactura("FC-2026-0001");
+        factura.setFechaFactura(LocalDate.of(2026, 1, 10));
+        factura.setVehiculo(vehiculo());
+        factura.setImporteBase(new BigDecimal("32000.00"));
+        factura.setIva(new BigDecimal("21.00"));
+        factura.setActivo(true);
+        return factura;
+    }
+
+    public static FacturaVenta facturaVenta() {
+        FacturaVenta factura = new FacturaVenta();
+        factura.setId(1L);
+        factura.setNumeroFactura("FV-2026-0001");
+        factura.setFechaFactura(LocalDate.of(2026, 6, 10));
+        factura.setCliente(cliente());
+        factura.setVehiculo(vehiculo());
+        factura.setImporteBase(new BigDecimal("38500.00"));
+        factura.setIva(new BigDecimal("21.00"));
+        factura.setDescuento(new BigDecimal("500.00"));
+        factura.setActivo(true);
+        return factura;
+    }
+
+    public static Usuario usuario() {
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setUsername("admin");
+        usuario.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        usuario.setEmail("admin@example.com");
+        usuario.setNombre("Admin");
+        usuario.setRol(Rol.ADMIN);
+        usuario.setActivo(true);
+        return usuario;
+    }
+}
@@ -0,0 +1,122 @@
+package com.uoc.tfg.gestionvehiculos;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Ejecuta los benchmarks JMH y guarda los resultados en JSON ({@code jmh.resultado}).
+ * <p>
+ * Si se indica {@code jmh.baseline} con el JSON de una ejecución anterior, compara cada benchmark con
+ * ella y termina con error cuando alguno empeora más de {@code jmh.tolerancia} por ciento, de modo que
+ * una regresión rompe la build antes de llegar a producción. Guardar el resultado de la rama principal
+ * como baseline y lanzar la comparación desde la rama con los cambios:
+ * <pre>
+ * mvn -Pjmh -DskipTests verify
+ * cp target/jmh/resultado.json baseline.json
+ * mvn -Pjmh -DskipTests verify -Djmh.baseline=baseline.json
+ * </pre>
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class EjecutorBenchmarks {
+
+    private EjecutorBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String incluir = System.getProperty("jmh.incluir", "");
+        Path resultado = Path.of(System.getProperty("jmh.resultado", "target/jmh/resultado.json"));
+        String baseline = System.getProperty("jmh.baseline", "");
+        double tolerancia = Double.parseDouble(System.getProperty("jmh.tolerancia", "10"));
+
+        Files.createDirectories(resultado.toAbsolutePath().getParent());
+        Options opciones = new OptionsBuilder()
+                .include(incluir.isBlank() ? EjecutorBenchmarks.class.getPackageName() + "\\..*Benchmark" : incluir)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultado.toString())
+                .build();
+        Collection<RunResult> resultados = new Runner(opciones).run();
+        System.out.printf("%nResultados en %s%n", resultado);
+
+        if (!baseline.isBlank() && comparar(resultados, Path.of(baseline), tolerancia) > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return número de benchmarks que han empeorado más que la tolerancia
+     */
+    static int comparar(Collection<RunResult> resultados, Path baseline, double tolerancia) {
+        Map<String, Double> anteriores = leerBaseline(baseline);
+        Map<String, String> lineas = new TreeMap<>();
+        int regresiones = 0;
+
+        for (RunResult resultado : resultados) {
+            String clave = clave(resultado.getParams().getBenchmark(), parametros(resultado));
+            Result<?> principal = resultado.getPrimaryResult();
+            Double anterior = anteriores.get(clave);
+            if (anterior == null || anterior == 0) {
+                lineas.put(clave, String.format("%-80s %14.3f %s  (sin baseline)", clave, principal.getScore(),
+                        principal.getScoreUnit()));
+                continue;
+            }
+            // En throughput más es mejor; en el resto de modos (tiempo por operación) menos es mejor
+            double cambio = (principal.getScore() - anterior) / anterior * 100;
+            double empeora = resultado.getParams().getMode() == Mode.Throughput ? -cambio : cambio;
+            boolean regresion = empeora > tolerancia;
+            if (regresion) {
+                regresiones++;
+            }
+            lineas.put(clave, String.format("%-80s %14.3f -> %14.3f %s  %+7.1f %%%s", clave, anterior,
+                    principal.getScore(), principal.getScoreUnit(), cambio, regresion ? "  REGRESION" : ""));
+        }
+
+        System.out.printf("%nComparación con %s (tolerancia %.1f %%)%n", baseline, tolerancia);
+        lineas.values().forEach(System.out::println);
+        System.out.printf("%d regresiones%n", regresiones);
+        return regresiones;
+    }
+
+    private static Map<String, Double> leerBaseline(Path baseline) {
+        Map<String, Double> anteriores = new HashMap<>();
+        JsonNode raiz = JsonMapper.builder().build().readTree(baseline.toFile());
+        for (JsonNode benchmark : raiz) {
+            Map<String, String> parametros = new TreeMap<>();
+            JsonNode params = benchmark.get("params");
+            if (params != null) {
+                params.properties().forEach(p -> parametros.put(p.getKey(), p.getValue().asString()));
+            }
+            anteriores.put(clave(benchmark.get("benchmark").asString(), parametros),
+                    benchmark.get("primaryMetric").get("score").asDouble());
+        }
+        return anteriores;
+    }
+
+    private static Map<String, String> parametros(RunResult resultado) {
+        Map<String, String> parametros = new TreeMap<>();
+        for (String nombre : resultado.getParams().getParamsKeys()) {
+            parametros.put(nombre, resultado.getParams().getParam(nombre));
+        }
+        return parametros;
+    }
+
+    private static String clave(String benchmark, Map<String, String> parametros) {
+        return parametros.isEmpty() ? benchmark : benchmark + parametros;
+    }
+}
@@ -0,0 +1,88 @@
+package com.uoc.tfg.gestionvehiculos.dtos;
+
+import com.uoc.tfg.gestionvehiculos.DatosBenchmark;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaCompraMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaCompraResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaVentaMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaVentaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResponse;
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaVenta;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción de las respuestas de la API a partir de las entidades (toResponse de los mappers)
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappersBenchmark {
+
+    private Vehiculo vehiculo;
+    private Cliente cliente;
+    private ContratoRenting contrato;
+    private FacturaVenta facturaVenta;
+    private FacturaCompra facturaCompra;
+
+    @Setup
+    public void preparar() {
+        vehiculo = DatosBenchmark.vehiculo();
+        cliente = DatosBenchmark.cliente();
+        contrato = DatosBenchmark.contrato(36);
+        facturaVenta = DatosBenchmark.facturaVenta();
+        facturaVenta.calcularImporteTotal();
+        facturaCompra = DatosBenchmark.facturaCompra();
+        facturaCompra.calcularImporteTotal();
+    }
+
+    @Benchmark
+    public VehiculoResponse vehiculo() {
+        return VehiculoMapper.toResponse(vehiculo);
+    }
+
+    @Benchmark
+    public ClienteResponse cliente() {
+        return ClienteMapper.toResponse(cliente);
+    }
+
+    @Benchmark
+    public ContratoRentingResponse contrato() {
+        return ContratoRentingMapper.toResponse(contrato);
+    }
+
+    @Benchmark
+    public FacturaVentaResponse facturaVenta() {
+        return FacturaVentaMapper.toResponse(facturaVenta);
+    }
+
+    @Benchmark
+    public FacturaCompraResponse facturaCompra() {
+        return FacturaCompraMapper.toResponse(facturaCompra);
+    }
+}
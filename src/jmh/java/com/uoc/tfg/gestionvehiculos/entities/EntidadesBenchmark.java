@@ -0,0 +1,63 @@
+package com.uoc.tfg.gestionvehiculos.entities;
+
+import com.uoc.tfg.gestionvehiculos.DatosBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculos de las entidades en el camino de cada petición: importes de las facturas y
+ * autoridades del usuario autenticado
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntidadesBenchmark {
+
+    private FacturaVenta facturaVenta;
+    private FacturaCompra facturaCompra;
+    private Usuario usuario;
+
+    @Setup
+    public void preparar() {
+        facturaVenta = DatosBenchmark.facturaVenta();
+        facturaCompra = DatosBenchmark.facturaCompra();
+        usuario = DatosBenchmark.usuario();
+    }
+
+    @Benchmark
+    public BigDecimal importeFacturaVenta() {
+        facturaVenta.calcularImporteTotal();
+        return facturaVenta.getImporteTotal();
+    }
+
+    @Benchmark
+    public BigDecimal importeFacturaCompra() {
+        facturaCompra.calcularImporteTotal();
+        return facturaCompra.getImporteTotal();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> autoridadesUsuario() {
+        return usuario.getAuthorities();
+    }
+}
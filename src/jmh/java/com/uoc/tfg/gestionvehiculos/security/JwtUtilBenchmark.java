@@ -0,0 +1,61 @@
+package com.uoc.tfg.gestionvehiculos.security;
+
+import com.uoc.tfg.gestionvehiculos.DatosBenchmark;
+import com.uoc.tfg.gestionvehiculos.entities.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Firma y validación de tokens JWT, que se ejecutan en el login y en cada petición autenticada
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "clave-de-benchmark-con-al-menos-256-bits-para-hs256");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        usuario = DatosBenchmark.usuario();
+        token = jwtUtil.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String generar() {
+        return jwtUtil.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String extraerUsuario() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validar() {
+        return jwtUtil.validateToken(token, usuario);
+    }
+}
@@ -0,0 +1,76 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteBusquedaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda rápida de clientes sobre el índice de trigramas con 500.000 clientes sintéticos: un teléfono
+ * (consulta selectiva), nombre y apellido frecuentes, y un dominio de correo que comparten casi todos
+ * (listas de trigramas muy largas). Con {@code -prof gc} muestra además la memoria reservada por búsqueda.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BusquedaClientesBenchmark {
+
+    private static final int CLIENTES = 500_000;
+    private static final String[] NOMBRES = {"Juan", "María", "José", "Ana", "Antonio", "Carmen", "Manuel", "Laura",
+            "Francisco", "Lucía", "David", "Marta", "Javier", "Elena", "Daniel", "Paula", "Carlos", "Sara"};
+    private static final String[] APELLIDOS = {"García", "Fernández", "González", "Rodríguez", "López", "Martínez",
+            "Sánchez", "Pérez", "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz",
+            "Álvarez", "Romero", "Alonso", "Gutiérrez", "Navarro", "Torres", "Domínguez", "Vázquez", "Ramos"};
+    private static final String[] DOMINIOS = {"gmail.com", "hotmail.com", "yahoo.es", "outlook.es"};
+
+    @Param({"612345678", "maria garcia lopez", "gmail.com"})
+    public String consulta;
+
+    private IndiceClientes indice;
+
+    @Setup
+    public void preparar() {
+        Random aleatorio = new Random(42);
+        List<ClienteIndexado> clientes = new ArrayList<>(CLIENTES);
+        for (long id = 1; id <= CLIENTES; id++) {
+            String nombre = NOMBRES[aleatorio.nextInt(NOMBRES.length)];
+            String apellidos = APELLIDOS[aleatorio.nextInt(APELLIDOS.length)] + " "
+                    + APELLIDOS[aleatorio.nextInt(APELLIDOS.length)];
+            String email = IndiceClientes.normalizar(nombre).charAt(0)
+                    + IndiceClientes.normalizar(apellidos).replace(" ", "") + id
+                    + "@" + DOMINIOS[aleatorio.nextInt(DOMINIOS.length)];
+            clientes.add(new ClienteIndexado(id, TipoCliente.PARTICULAR, String.format("%08dZ", id), nombre,
+                    apellidos, null, email, String.valueOf(600_000_000 + aleatorio.nextInt(100_000_000))));
+        }
+        // La carga normal lee de la BD; aquí se indexa la lista directamente
+        indice = new IndiceClientes(null);
+        indice.indexar(clientes);
+    }
+
+    @Benchmark
+    public List<ClienteBusquedaResponse> buscar() {
+        return indice.buscar(consulta, 20);
+    }
+}
@@ -0,0 +1,50 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.DatosBenchmark;
+import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación de las cuotas al crear un contrato de renting, según su duración
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneracionCuotasBenchmark {
+
+    @Param({"12", "48", "84"})
+    public int meses;
+
+    private ContratoRenting contrato;
+
+    @Setup
+    public void preparar() {
+        contrato = DatosBenchmark.contrato(meses);
+    }
+
+    @Benchmark
+    public int generarCuotas() {
+        contrato.getCuotas().clear();
+        ContratoRentingService.generarCuotas(contrato);
+        return contrato.getCuotas().size();
+    }
+}
@@ -1,11 +1,16 @@
 package com.uoc.tfg.gestionvehiculos;
 
+import com.uoc.tfg.gestionvehiculos.repositories.BaseJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
+@EnableJpaRepositories(repositoryBaseClass = BaseJpaRepository.class)
+@EnableScheduling
 public class GestionVehiculosApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,77 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadisticasRegionCache;
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadoCacheEntidades;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consulta y vaciado de la caché de segundo nivel de Hibernate (ver {@link RegionesCache})
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class CacheEntidades {
+
+    private final SessionFactory sessionFactory;
+
+    public CacheEntidades(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public boolean isHabilitada() {
+        return sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+    }
+
+    /**
+     * @return estadísticas de la región, o null si la caché está deshabilitada
+     */
+    public EstadisticasRegionCache estadisticas(String region) {
+        CacheRegionStatistics regionStatistics = isHabilitada()
+                ? sessionFactory.getStatistics().getCacheRegionStatistics(region) : null;
+        if (regionStatistics == null) {
+            return null;
+        }
+        long aciertos = regionStatistics.getHitCount();
+        long fallos = regionStatistics.getMissCount();
+        long total = aciertos + fallos;
+        return EstadisticasRegionCache.builder()
+                .region(region)
+                .aciertos(aciertos)
+                .fallos(fallos)
+                .escrituras(regionStatistics.getPutCount())
+                .ratioAciertos(total == 0 ? 0 : (double) aciertos / total)
+                .build();
+    }
+
+    public EstadoCacheEntidades estado() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<EstadisticasRegionCache> regiones = new ArrayList<>();
+        for (String region : RegionesCache.TODAS) {
+            EstadisticasRegionCache estadisticas = estadisticas(region);
+            if (estadisticas != null) {
+                regiones.add(estadisticas);
+            }
+        }
+        return EstadoCacheEntidades.builder()
+                .habilitada(isHabilitada())
+                .resolucionesClaveNatural(statistics.getNaturalIdQueryExecutionCount())
+                .regiones(regiones)
+                .build();
+    }
+
+    public void vaciar() {
+        sessionFactory.getCache().evictAllRegions();
+        log.info("Caché de entidades vaciada");
+    }
+}
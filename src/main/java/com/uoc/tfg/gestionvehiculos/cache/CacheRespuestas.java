@@ -0,0 +1,164 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadisticasEndpointCache;
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadoCacheRespuestas;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Respuestas GET ya serializadas, por URL, roles y versión de las entidades de las que dependen.
+ * <p>
+ * El tamaño está acotado en bytes: al superarlo se expulsan las entradas usadas hace más tiempo (LRU).
+ * Una entrada con versión antigua no se borra: la primera petición que la encuentra la regenera y,
+ * mientras tanto, las demás reciben la versión antigua en lugar de repetir el mismo cálculo.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class CacheRespuestas {
+
+    @Value("${cache.respuestas.habilitada:true}")
+    @Getter
+    private boolean habilitada = true;
+
+    @Value("${cache.respuestas.max-bytes:33554432}")
+    private long maxBytes = 32L * 1024 * 1024;
+
+    private final LinkedHashMap<String, Entrada> entradas = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Estadisticas> estadisticas = new ConcurrentHashMap<>();
+    private long bytes;
+    private long expulsadas;
+
+    public synchronized Entrada obtener(String clave) {
+        return entradas.get(clave);
+    }
+
+    public synchronized void guardar(String clave, Entrada entrada) {
+        Entrada anterior = entradas.put(clave, entrada);
+        if (anterior != null) {
+            bytes -= anterior.tamano();
+        }
+        bytes += entrada.tamano();
+
+        Iterator<Entrada> antiguas = entradas.values().iterator();
+        while (bytes > maxBytes && antiguas.hasNext()) {
+            Entrada expulsada = antiguas.next();
+            antiguas.remove();
+            bytes -= expulsada.tamano();
+            expulsadas++;
+        }
+    }
+
+    public synchronized void vaciar() {
+        entradas.clear();
+        bytes = 0;
+        log.info("Caché de respuestas vaciada");
+    }
+
+    public Estadisticas estadisticas(String endpoint) {
+        return estadisticas.computeIfAbsent(endpoint, e -> new Estadisticas());
+    }
+
+    public EstadoCacheRespuestas estado() {
+        List<EstadisticasEndpointCache> porEndpoint = estadisticas.entrySet().stream()
+                .map(e -> e.getValue().resumen(e.getKey()))
+                .sorted(Comparator.comparing(EstadisticasEndpointCache::getEndpoint))
+                .toList();
+
+        synchronized (this) {
+            return EstadoCacheRespuestas.builder()
+                    .habilitada(habilitada)
+                    .entradas(entradas.size())
+                    .bytes(bytes)
+                    .maxBytes(maxBytes)
+                    .expulsadas(expulsadas)
+                    .endpoints(porEndpoint)
+                    .build();
+        }
+    }
+
+    /**
+     * Respuesta guardada: cuerpo, cabeceras que se reenvían y versión con la que se generó
+     */
+    @Getter
+    public static final class Entrada {
+        private final byte[] cuerpo;
+        private final String contentType;
+        private final String etag;
+        private final String lastModified;
+        private final String cacheControl;
+        private final long version;
+        private final AtomicBoolean regenerando = new AtomicBoolean();
+
+        public Entrada(byte[] cuerpo, String contentType, String etag, String lastModified,
+                       String cacheControl, long version) {
+            this.cuerpo = cuerpo;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.cacheControl = cacheControl;
+            this.version = version;
+        }
+
+        /**
+         * Verdadero solo para la primera petición que llega con la entrada obsoleta
+         */
+        public boolean iniciarRegeneracion() {
+            return regenerando.compareAndSet(false, true);
+        }
+
+        public void terminarRegeneracion() {
+            regenerando.set(false);
+        }
+
+        private long tamano() {
+            return cuerpo.length + 256L;
+        }
+    }
+
+    public static final class Estadisticas {
+        private final LongAdder aciertos = new LongAdder();
+        private final LongAdder fallos = new LongAdder();
+        private final LongAdder obsoletas = new LongAdder();
+
+        public void acierto() {
+            aciertos.increment();
+        }
+
+        public void fallo() {
+            fallos.increment();
+        }
+
+        public void obsoleta() {
+            obsoletas.increment();
+        }
+
+        private EstadisticasEndpointCache resumen(String endpoint) {
+            long a = aciertos.sum();
+            long f = fallos.sum();
+            long o = obsoletas.sum();
+            long total = a + f + o;
+            return EstadisticasEndpointCache.builder()
+                    .endpoint(endpoint)
+                    .aciertos(a)
+                    .fallos(f)
+                    .obsoletas(o)
+                    .ratioAciertos(total > 0 ? Math.round((a + o) * 1000.0 / total) / 1000.0 : 0)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+/**
+ * Sirve desde {@link CacheRespuestas} los GET de los endpoints marcados con {@link RespuestaCacheable}.
+ * <p>
+ * Se ejecuta después de Spring Security. Como una respuesta servida desde caché no pasa por el
+ * {@code @PreAuthorize} del controlador, la clave incluye los roles: solo existe entrada para unos roles
+ * si una petición con esos mismos roles ya fue autorizada y respondida con 200.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class CacheRespuestasFilter extends OncePerRequestFilter {
+
+    static final String CABECERA_CACHE = "X-Cache";
+
+    private final CacheRespuestas cacheRespuestas;
+    private final VersionesEntidades versionesEntidades;
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    public CacheRespuestasFilter(CacheRespuestas cacheRespuestas, VersionesEntidades versionesEntidades,
+                                 @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        this.cacheRespuestas = cacheRespuestas;
+        this.versionesEntidades = versionesEntidades;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !cacheRespuestas.isHabilitada() || !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication autenticacion = SecurityContextHolder.getContext().getAuthentication();
+        String endpoint = null;
+        RespuestaCacheable anotacion = null;
+        if (autenticacion != null && autenticacion.isAuthenticated()) {
+            HandlerMethod handler = resolverHandler(request);
+            anotacion = handler != null ? handler.getMethodAnnotation(RespuestaCacheable.class) : null;
+            endpoint = "GET " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        }
+        if (anotacion == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String clave = clave(autenticacion, request);
+        long version = versionesEntidades.version(anotacion.value());
+        CacheRespuestas.Estadisticas estadisticas = cacheRespuestas.estadisticas(endpoint);
+        CacheRespuestas.Entrada entrada = cacheRespuestas.obtener(clave);
+
+        if (entrada != null && entrada.getVersion() == version) {
+            estadisticas.acierto();
+            servir(entrada, "HIT", request, response);
+            return;
+        }
+
+        boolean regenerando = false;
+        if (entrada != null) {
+            if (!entrada.iniciarRegeneracion()) {
+                estadisticas.obsoleta();
+                servir(entrada, "STALE", request, response);
+                return;
+            }
+            regenerando = true;
+        }
+
+        estadisticas.fallo();
+        ContentCachingResponseWrapper respuesta = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, respuesta);
+            if (respuesta.getStatus() == HttpServletResponse.SC_OK) {
+                cacheRespuestas.guardar(clave, new CacheRespuestas.Entrada(
+                        respuesta.getContentAsByteArray(), respuesta.getContentType(),
+                        respuesta.getHeader(HttpHeaders.ETAG), respuesta.getHeader(HttpHeaders.LAST_MODIFIED),
+                        respuesta.getHeader(HttpHeaders.CACHE_CONTROL), version));
+            }
+            respuesta.setHeader(CABECERA_CACHE, "MISS");
+            respuesta.copyBodyToResponse();
+        } finally {
+            if (regenerando) {
+                entrada.terminarRegeneracion();
+            }
+        }
+    }
+
+    /**
+     * Handler que atenderá la petición, o null si no es un método de controlador
+     */
+    private HandlerMethod resolverHandler(HttpServletRequest request) {
+        Object rutaPrevia = request.getAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE);
+        try {
+            if (rutaPrevia == null) {
+                ServletRequestPathUtils.parseAndCache(request);
+            }
+            HandlerExecutionChain cadena = handlerMapping.getHandler(request);
+            return cadena != null && cadena.getHandler() instanceof HandlerMethod handler ? handler : null;
+        } catch (Exception e) {
+            log.debug("No se ha podido resolver el handler de {}: {}", request.getRequestURI(), e.getMessage());
+            return null;
+        } finally {
+            if (rutaPrevia == null) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+
+    private static String clave(Authentication autenticacion, HttpServletRequest request) {
+        String roles = autenticacion.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        String consulta = request.getQueryString();
+        return roles + " " + request.getRequestURI() + (consulta != null ? "?" + consulta : "");
+    }
+
+    private static void servir(CacheRespuestas.Entrada entrada, String resultado,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(CABECERA_CACHE, resultado);
+        if (entrada.getCacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entrada.getCacheControl());
+        }
+        if (entrada.getLastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, entrada.getLastModified());
+        }
+        if (entrada.getEtag() != null && new ServletWebRequest(request, response).checkNotModified(entrada.getEtag())) {
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entrada.getContentType());
+        response.setContentLength(entrada.getCuerpo().length);
+        response.getOutputStream().write(entrada.getCuerpo());
+    }
+}
@@ -0,0 +1,33 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import java.util.List;
+
+/**
+ * Regiones de la caché de segundo nivel de Hibernate. Cada entidad cacheada tiene una región para sus
+ * filas y otra para la resolución de su clave natural a id; el tamaño y la caducidad de cada una se
+ * definen en {@code cache-entidades.conf}, y una región que no esté allí impide arrancar.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class RegionesCache {
+
+    public static final String USUARIOS = "usuarios";
+    public static final String USUARIOS_USERNAME = "usuarios-username";
+    public static final String CLIENTES = "clientes";
+    public static final String CLIENTES_DOCUMENTO = "clientes-documento";
+    public static final String PROVEEDORES = "proveedores";
+    public static final String PROVEEDORES_CIF = "proveedores-cif";
+    public static final String SITUACIONES = "situaciones";
+    public static final String SITUACIONES_NOMBRE = "situaciones-nombre";
+
+    public static final List<String> TODAS = List.of(
+            USUARIOS, USUARIOS_USERNAME,
+            CLIENTES, CLIENTES_DOCUMENTO,
+            PROVEEDORES, PROVEEDORES_CIF,
+            SITUACIONES, SITUACIONES_NOMBRE);
+
+    private RegionesCache() {
+    }
+}
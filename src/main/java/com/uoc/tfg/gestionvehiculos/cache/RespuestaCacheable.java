@@ -0,0 +1,25 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un endpoint GET cuya respuesta se guarda ya serializada en {@link CacheRespuestas}.
+ * La respuesta deja de ser válida cuando cambia la versión de cualquiera de las entidades indicadas.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RespuestaCacheable {
+
+    EntidadCacheada[] value();
+}
@@ -0,0 +1,57 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador de versión por tipo de entidad. Los servicios lo incrementan en cada escritura
+ * y la caché de respuestas lo usa para saber si una respuesta guardada sigue vigente.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+public class VersionesEntidades {
+
+    private final AtomicLongArray versiones = new AtomicLongArray(EntidadCacheada.values().length);
+
+    /**
+     * Versión conjunta de varias entidades. Los contadores solo crecen,
+     * así que la suma cambia en cuanto cambia cualquiera de ellos.
+     */
+    public long version(EntidadCacheada... entidades) {
+        long total = 0;
+        for (EntidadCacheada entidad : entidades) {
+            total += versiones.get(entidad.ordinal());
+        }
+        return total;
+    }
+
+    public void incrementar(EntidadCacheada... entidades) {
+        for (EntidadCacheada entidad : entidades) {
+            versiones.incrementAndGet(entidad.ordinal());
+        }
+    }
+
+    /**
+     * Incrementa la versión cuando la transacción en curso se confirme (inmediatamente si no hay
+     * transacción): antes de confirmar, otra petición podría volver a guardar los datos antiguos
+     */
+    public void incrementarTrasConfirmar(EntidadCacheada... entidades) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementar(entidades);
+                }
+            });
+        } else {
+            incrementar(entidades);
+        }
+    }
+}
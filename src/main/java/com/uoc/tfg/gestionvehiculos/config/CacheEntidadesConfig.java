@@ -0,0 +1,44 @@
+package com.uoc.tfg.gestionvehiculos.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caché de segundo nivel de Hibernate para las entidades que casi solo se leen (usuarios, clientes,
+ * proveedores y situaciones), sobre JCache con Caffeine.
+ * <p>
+ * Las regiones se definen una a una en {@code cache-entidades.conf} con su tamaño máximo y caducidad;
+ * si una entidad anotada usa una región que no está en el fichero, la aplicación no arranca. Las
+ * estadísticas de Hibernate quedan activadas para poder consultar aciertos y fallos por región.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Configuration
+public class CacheEntidadesConfig {
+
+    private static final String CONFIGURACION = "cache-entidades.conf";
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheEntidadesCustomizer(
+            @Value("${cache.entidades.habilitada:true}") boolean habilitada) {
+        return propiedades -> {
+            propiedades.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, habilitada);
+            propiedades.put(AvailableSettings.USE_QUERY_CACHE, false);
+            propiedades.put(AvailableSettings.GENERATE_STATISTICS, true);
+            if (habilitada) {
+                propiedades.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                propiedades.put(ConfigSettings.PROVIDER, CaffeineCachingProvider.class.getName());
+                propiedades.put(ConfigSettings.CONFIG_URI, CONFIGURACION);
+                propiedades.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.uoc.tfg.gestionvehiculos.config;
+
+import com.uoc.tfg.gestionvehiculos.jdbc.DataSourceContabilizado;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource de la aplicación en un {@link DataSourceContabilizado}, de modo que JPA
+ * y los repositorios JDBC cuenten sus sentencias por petición y por llamada a servicio.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Configuration
+public class ContabilidadSqlConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceContabilizadoPostProcessor(Environment environment) {
+        boolean habilitada = environment.getProperty("sql.contabilidad.habilitada", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (habilitada && bean instanceof DataSource dataSource && !(bean instanceof DataSourceContabilizado)) {
+                    return new DataSourceContabilizado(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -8,11 +8,14 @@ import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
 import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
 import com.uoc.tfg.gestionvehiculos.repositories.UsuarioRepository;
 import com.uoc.tfg.gestionvehiculos.repositories.VehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.security.PasswordEncoderMedido;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -25,10 +28,14 @@ public class DataInitializer {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new PasswordEncoderMedido(new BCryptPasswordEncoder());
     }
 
+    /**
+     * Se ejecuta antes que el resto de tareas de arranque, que pueden necesitar los usuarios y situaciones
+     */
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     CommandLineRunner initDatabase(
             UsuarioRepository usuarioRepository,
             SituacionVehiculoRepository situacionRepository,
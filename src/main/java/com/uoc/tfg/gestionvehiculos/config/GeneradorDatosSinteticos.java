@@ -0,0 +1,420 @@
+package com.uoc.tfg.gestionvehiculos.config;
+
+import com.uoc.tfg.gestionvehiculos.repositories.DatosSinteticosJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Genera al arrancar, con el perfil {@code datos-sinteticos}, una flota con el volumen de producción para
+ * pruebas de rendimiento y entornos de demostración: proveedores, clientes y vehículos con su factura de
+ * compra, y según su posición, un contrato de renting con sus cuotas, una reserva en curso o una reserva
+ * completada con su factura de venta. La situación de cada vehículo es coherente con lo que tiene asociado.
+ * <p>
+ * Las filas se reparten en bloques que se generan e insertan en paralelo, cada bloque en su transacción
+ * con inserciones JDBC por lotes. Cada bloque usa un {@link Random} derivado de la semilla, de la tabla y
+ * del número de bloque, así que con la misma semilla y el mismo mes se obtienen los mismos datos en
+ * cualquier orden de ejecución (salvo los ids de cuotas y facturas, que asigna la base de datos). Las
+ * fechas se toman respecto al mes actual para que haya contratos en vigor, cuotas pagadas y pendientes.
+ * <p>
+ * Se ejecuta después de {@link DataInitializer}, que crea usuarios y situaciones, y antes de que la
+ * aplicación esté lista, de modo que los índices en memoria se cargan ya con estos datos. Por defecto no
+ * hace nada si ya hay clientes en la base de datos.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Profile("datos-sinteticos")
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class GeneradorDatosSinteticos implements CommandLineRunner {
+
+    private static final String[] APELLIDOS = {"García", "Martínez", "López", "Sánchez", "Pérez", "Gómez", "Martín",
+            "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz", "Álvarez", "Romero", "Alonso", "Gutiérrez",
+            "Navarro", "Torres", "Domínguez", "Vázquez", "Ramos", "Gil", "Ramírez", "Serrano", "Blanco", "Molina",
+            "Morales", "Suárez", "Ortega", "Delgado", "Castro", "Ortiz", "Rubio", "Marín", "Sanz", "Iglesias"};
+
+    private static final String[] NOMBRES = {"Antonio", "Manuel", "José", "Francisco", "David", "Juan", "Javier",
+            "Daniel", "Carlos", "Jesús", "María", "Carmen", "Ana", "Isabel", "Laura", "Cristina", "Marta", "Lucía",
+            "Elena", "Pilar", "Sara", "Paula", "Raquel", "Alberto", "Pablo", "Sergio", "Jorge", "Alejandro"};
+
+    private static final String[][] CIUDADES = {{"Madrid", "Madrid", "28"}, {"Barcelona", "Barcelona", "08"},
+            {"Valencia", "Valencia", "46"}, {"Sevilla", "Sevilla", "41"}, {"Zaragoza", "Zaragoza", "50"},
+            {"Málaga", "Málaga", "29"}, {"Murcia", "Murcia", "30"}, {"Palma", "Illes Balears", "07"},
+            {"Bilbao", "Bizkaia", "48"}, {"Alicante", "Alicante", "03"}, {"Córdoba", "Córdoba", "14"},
+            {"Valladolid", "Valladolid", "47"}, {"Vigo", "Pontevedra", "36"}, {"Gijón", "Asturias", "33"}};
+
+    private static final String[][] MODELOS = {{"Seat", "Ibiza"}, {"Seat", "León"}, {"Volkswagen", "Golf"},
+            {"Volkswagen", "Polo"}, {"Renault", "Clio"}, {"Renault", "Megane"}, {"Peugeot", "208"},
+            {"Peugeot", "3008"}, {"Toyota", "Corolla"}, {"Toyota", "C-HR"}, {"Kia", "Sportage"},
+            {"Hyundai", "Tucson"}, {"Dacia", "Sandero"}, {"Ford", "Focus"}, {"Tesla", "Model 3"},
+            {"Mercedes-Benz", "Clase A"}, {"BMW", "Serie 1"}, {"Audi", "A3"}, {"Citroën", "C4"}, {"Opel", "Corsa"}};
+
+    private static final String[] COLORES = {"Blanco", "Negro", "Gris", "Plata", "Azul", "Rojo", "Verde"};
+    private static final String[] COMBUSTIBLES = {"GASOLINA", "DIESEL", "ELECTRICO", "HIBRIDO", "HIBRIDO_ENCHUFABLE"};
+    private static final String[] CALLES = {"Calle Mayor", "Avenida de la Constitución", "Calle Real",
+            "Plaza de España", "Calle Nueva", "Avenida del Mar", "Calle del Sol", "Paseo de la Estación"};
+    private static final int[] DURACIONES = {12, 24, 36, 48, 60};
+    private static final double DURACION_MEDIA = 36.0;
+    private static final String LETRAS_DNI = "TRWAGMYFPDXBNJZSQVHLCKE";
+    private static final String CONSONANTES = "BCDFGHJKLMNPRSTVWXYZ";
+    private static final BigDecimal IVA = new BigDecimal("21.00");
+    private static final BigDecimal FACTOR_IVA = new BigDecimal("1.21");
+    private static final String USUARIO = "sinteticos";
+
+    /**
+     * Vehículos que se dejan siempre libres, para que se puedan crear contratos y reservas
+     */
+    private static final double MIN_LIBRES = 0.1;
+    private static final int TAMANO_BLOQUE = 2000;
+
+    private final DatosSinteticosJdbcRepository repository;
+    private final TransactionTemplate transaccion;
+    private final int vehiculos;
+    private final int clientes;
+    private final int proveedores;
+    private final long cuotas;
+    private final double proporcionVendidos;
+    private final double proporcionReservados;
+    private final long semilla;
+    private final int hilos;
+    private final boolean soloSiVacia;
+
+    private final Map<String, LongAdder> filas = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile double segundos;
+
+    public GeneradorDatosSinteticos(DatosSinteticosJdbcRepository repository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${datos-sinteticos.vehiculos:100000}") int vehiculos,
+                                    @Value("${datos-sinteticos.clientes:200000}") int clientes,
+                                    @Value("${datos-sinteticos.proveedores:500}") int proveedores,
+                                    @Value("${datos-sinteticos.cuotas:1000000}") long cuotas,
+                                    @Value("${datos-sinteticos.proporcion-vendidos:0.15}") double proporcionVendidos,
+                                    @Value("${datos-sinteticos.proporcion-reservados:0.05}") double proporcionReservados,
+                                    @Value("${datos-sinteticos.semilla:42}") long semilla,
+                                    @Value("${datos-sinteticos.hilos:0}") int hilos,
+                                    @Value("${datos-sinteticos.solo-si-vacia:true}") boolean soloSiVacia) {
+        this.repository = repository;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.vehiculos = vehiculos;
+        this.clientes = Math.max(1, clientes);
+        this.proveedores = Math.max(1, proveedores);
+        this.cuotas = cuotas;
+        this.proporcionVendidos = proporcionVendidos;
+        this.proporcionReservados = proporcionReservados;
+        this.semilla = semilla;
+        this.hilos = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+        this.soloSiVacia = soloSiVacia;
+    }
+
+    @Override
+    public void run(String... args) throws InterruptedException {
+        if (soloSiVacia && repository.contar("clientes") > 0) {
+            log.info("Datos sintéticos: la base de datos ya tiene clientes, no se generan");
+            return;
+        }
+        generar();
+    }
+
+    /**
+     * Filas insertadas en cada tabla en la última generación
+     */
+    public Map<String, Long> getFilas() {
+        Map<String, Long> resultado = new LinkedHashMap<>();
+        filas.forEach((tabla, total) -> resultado.put(tabla, total.sum()));
+        return resultado;
+    }
+
+    /**
+     * Duración de la última generación en segundos
+     */
+    public double getSegundos() {
+        return segundos;
+    }
+
+    void generar() throws InterruptedException {
+        long inicio = System.nanoTime();
+        filas.clear();
+        Plan plan = planificar();
+        log.info("Generando datos sintéticos con {} hilos (semilla {}): {} vehículos ({} con contrato, {} vendidos, " +
+                        "{} reservados), {} clientes y {} proveedores",
+                hilos, semilla, vehiculos, plan.contratos, plan.vendidos, plan.reservados, clientes, proveedores);
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            enBloques(ejecutor, 1, proveedores, (desde, hasta, aleatorio) -> insertarProveedores(desde, hasta, aleatorio, plan));
+            enBloques(ejecutor, 2, clientes, (desde, hasta, aleatorio) -> insertarClientes(desde, hasta, aleatorio, plan));
+            enBloques(ejecutor, 3, vehiculos, (desde, hasta, aleatorio) -> insertarVehiculos(desde, hasta, aleatorio, plan));
+        } finally {
+            ejecutor.shutdownNow();
+        }
+
+        repository.ajustarIdentidad("proveedores", plan.primerProveedor + proveedores);
+        repository.ajustarIdentidad("clientes", plan.primerCliente + clientes);
+        repository.ajustarIdentidad("vehiculos", plan.primerVehiculo + vehiculos);
+        repository.ajustarIdentidad("contratos_renting", plan.primerContrato + plan.contratos);
+        repository.ajustarIdentidad("reservas_venta", plan.primerReserva + plan.vendidos + plan.reservados);
+
+        segundos = (System.nanoTime() - inicio) / 1e9;
+        long total = getFilas().values().stream().mapToLong(Long::longValue).sum();
+        log.info("Datos sintéticos generados en {} s ({} filas/s): {}", String.format("%.1f", segundos),
+                Math.round(total / Math.max(segundos, 0.001)), getFilas());
+    }
+
+    /**
+     * Reparte los vehículos por tramos de índice: primero los que tienen contrato, luego los vendidos,
+     * luego los reservados y el resto libres. Los contratos se ajustan al número de cuotas pedido.
+     */
+    private Plan planificar() {
+        Plan plan = new Plan();
+        plan.situaciones = repository.situaciones();
+        if (!plan.situaciones.keySet().containsAll(List.of("DISPONIBLE", "EN_RENTING", "RESERVADO", "VENDIDO"))) {
+            throw new IllegalStateException("Faltan situaciones de vehículo para generar datos sintéticos: " + plan.situaciones.keySet());
+        }
+        plan.primerProveedor = repository.siguienteId("proveedores");
+        plan.primerCliente = repository.siguienteId("clientes");
+        plan.primerVehiculo = repository.siguienteId("vehiculos");
+        plan.primerContrato = repository.siguienteId("contratos_renting");
+        plan.primerReserva = repository.siguienteId("reservas_venta");
+
+        plan.vendidos = (int) (vehiculos * proporcionVendidos);
+        plan.reservados = (int) (vehiculos * proporcionReservados);
+        int maxContratos = Math.max(0, (int) (vehiculos * (1 - MIN_LIBRES)) - plan.vendidos - plan.reservados);
+        plan.contratos = (int) Math.min(maxContratos, Math.round(cuotas / DURACION_MEDIA));
+        plan.hoy = LocalDate.now();
+        plan.ahora = LocalDateTime.now();
+        return plan;
+    }
+
+    private void insertarProveedores(int desde, int hasta, Random aleatorio, Plan plan) {
+        List<Object[]> proveedoresBloque = new ArrayList<>(hasta - desde);
+        for (int i = desde; i < hasta; i++) {
+            String[] ciudad = CIUDADES[aleatorio.nextInt(CIUDADES.length)];
+            String nombre = APELLIDOS[aleatorio.nextInt(APELLIDOS.length)] + " Automoción " + ciudad[0];
+            proveedoresBloque.add(new Object[]{plan.primerProveedor + i, String.format("A%08d", 10_000_000 + i),
+                    nombre + " S.A.", nombre, direccion(aleatorio), ciudad[0], ciudad[1], codigoPostal(aleatorio, ciudad),
+                    telefono(aleatorio, "9"), String.format("compras%d@proveedor.es", i),
+                    NOMBRES[aleatorio.nextInt(NOMBRES.length)] + " " + APELLIDOS[aleatorio.nextInt(APELLIDOS.length)],
+                    plan.ahora, plan.ahora, USUARIO, USUARIO});
+        }
+        repository.insertarProveedores(proveedoresBloque);
+        contar("proveedores", proveedoresBloque.size());
+    }
+
+    private void insertarClientes(int desde, int hasta, Random aleatorio, Plan plan) {
+        List<Object[]> clientesBloque = new ArrayList<>(hasta - desde);
+        for (int i = desde; i < hasta; i++) {
+            String[] ciudad = CIUDADES[aleatorio.nextInt(CIUDADES.length)];
+            String nombre = NOMBRES[aleatorio.nextInt(NOMBRES.length)];
+            String apellidos = APELLIDOS[aleatorio.nextInt(APELLIDOS.length)] + " "
+                    + APELLIDOS[aleatorio.nextInt(APELLIDOS.length)];
+            int tipo = aleatorio.nextInt(10);
+            String tipoCliente = tipo < 8 ? "PARTICULAR" : tipo < 9 ? "AUTONOMO" : "EMPRESA";
+            boolean empresa = "EMPRESA".equals(tipoCliente);
+
+            clientesBloque.add(new Object[]{plan.primerCliente + i, tipoCliente,
+                    empresa ? String.format("B%08d", 10_000_000 + i) : dni(i), nombre, apellidos,
+                    empresa ? apellidos + " " + ciudad[0] + " S.L." : null, direccion(aleatorio),
+                    ciudad[0], ciudad[1], codigoPostal(aleatorio, ciudad), telefono(aleatorio, "6"),
+                    String.format("cliente%d@correo.es", i), plan.ahora, plan.ahora, USUARIO, USUARIO});
+        }
+        repository.insertarClientes(clientesBloque);
+        contar("clientes", clientesBloque.size());
+    }
+
+    /**
+     * Cada vehículo con su factura de compra y, según el tramo en el que cae, su contrato y cuotas,
+     * su reserva en curso o su reserva completada y factura de venta
+     */
+    private void insertarVehiculos(int desde, int hasta, Random aleatorio, Plan plan) {
+        List<Object[]> vehiculosBloque = new ArrayList<>(hasta - desde);
+        List<Object[]> comprasBloque = new ArrayList<>(hasta - desde);
+        List<Object[]> contratosBloque = new ArrayList<>();
+        List<Object[]> cuotasBloque = new ArrayList<>();
+        List<Object[]> reservasBloque = new ArrayList<>();
+        List<Object[]> ventasBloque = new ArrayList<>();
+        LocalDate mesActual = plan.hoy.withDayOfMonth(1);
+
+        for (int i = desde; i < hasta; i++) {
+            long vehiculoId = plan.primerVehiculo + i;
+            long clienteId = plan.primerCliente + aleatorio.nextInt(clientes);
+            BigDecimal precioCompra = BigDecimal.valueOf(800_000 + aleatorio.nextInt(3_700_000), 2);
+            String situacion;
+            LocalDate fechaCompra;
+
+            if (i < plan.contratos) {
+                int duracion = DURACIONES[aleatorio.nextInt(DURACIONES.length)];
+                LocalDate fechaInicio = mesActual.minusMonths(aleatorio.nextInt(72)).plusDays(aleatorio.nextInt(28));
+                LocalDate fechaFin = fechaInicio.plusMonths(duracion);
+                boolean enVigor = !fechaFin.isBefore(plan.hoy);
+                BigDecimal cuotaMensual = BigDecimal.valueOf(15_000 + aleatorio.nextInt(60_000), 2);
+                long contratoId = plan.primerContrato + i;
+
+                contratosBloque.add(new Object[]{contratoId, String.format("RENT-SIN-%07d", i), clienteId, vehiculoId,
+                        fechaInicio, fechaFin, duracion, cuotaMensual, 15_000 * duracion / 12, new BigDecimal("0.080"),
+                        enVigor ? "ACTIVO" : "FINALIZADO", fechaInicio.getDayOfMonth(),
+                        plan.ahora, plan.ahora, USUARIO, USUARIO});
+                LocalDate vencimiento = fechaInicio;
+                for (int numero = 1; numero <= duracion; numero++) {
+                    vencimiento = vencimiento.plusMonths(1);
+                    boolean pagada = vencimiento.isBefore(plan.hoy);
+                    cuotasBloque.add(new Object[]{contratoId, numero, vencimiento, pagada ? vencimiento : null,
+                            cuotaMensual, pagada ? "PAGADA" : "PENDIENTE", plan.ahora, plan.ahora, USUARIO, USUARIO});
+                }
+                situacion = enVigor ? "EN_RENTING" : "DISPONIBLE";
+                fechaCompra = fechaInicio.minusDays(10 + aleatorio.nextInt(80));
+            } else if (i < plan.contratos + plan.vendidos + plan.reservados) {
+                boolean vendido = i < plan.contratos + plan.vendidos;
+                long reservaId = plan.primerReserva + i - plan.contratos;
+                LocalDate fechaReserva = vendido
+                        ? plan.hoy.minusDays(30 + aleatorio.nextInt(1065))
+                        : plan.hoy.minusDays(aleatorio.nextInt(10));
+                BigDecimal precioVenta = precioCompra.multiply(BigDecimal.valueOf(110 + aleatorio.nextInt(25), 2))
+                        .setScale(2, RoundingMode.HALF_UP);
+
+                reservasBloque.add(new Object[]{reservaId, clienteId, vehiculoId, fechaReserva, fechaReserva.plusDays(15),
+                        precioVenta, vendido ? "COMPLETADA" : aleatorio.nextBoolean() ? "CONFIRMADA" : "PENDIENTE",
+                        plan.ahora, plan.ahora, USUARIO, USUARIO});
+                if (vendido) {
+                    ventasBloque.add(new Object[]{String.format("FV-SIN-%08d", i),
+                            fechaReserva.plusDays(1 + aleatorio.nextInt(14)), clienteId, vehiculoId, reservaId,
+                            precioVenta, IVA, BigDecimal.ZERO.setScale(2), conIva(precioVenta),
+                            plan.ahora, plan.ahora, USUARIO, USUARIO});
+                }
+                situacion = vendido ? "VENDIDO" : "RESERVADO";
+                fechaCompra = fechaReserva.minusDays(30 + aleatorio.nextInt(700));
+            } else {
+                situacion = "DISPONIBLE";
+                fechaCompra = plan.hoy.minusDays(aleatorio.nextInt(1000));
+            }
+
+            String[] modelo = MODELOS[aleatorio.nextInt(MODELOS.length)];
+            vehiculosBloque.add(new Object[]{vehiculoId, matricula(i), modelo[0], modelo[1],
+                    fechaCompra.getYear() - aleatorio.nextInt(4), COLORES[aleatorio.nextInt(COLORES.length)],
+                    aleatorio.nextInt(200_000), String.format("VSSSIN%011d", i),
+                    COMBUSTIBLES[aleatorio.nextInt(COMBUSTIBLES.length)], plan.situaciones.get(situacion),
+                    plan.ahora, plan.ahora, USUARIO, USUARIO});
+            comprasBloque.add(new Object[]{String.format("FC-SIN-%08d", i), fechaCompra,
+                    plan.primerProveedor + aleatorio.nextInt(proveedores), vehiculoId, precioCompra, IVA,
+                    conIva(precioCompra), plan.ahora, plan.ahora, USUARIO, USUARIO});
+        }
+
+        repository.insertarVehiculos(vehiculosBloque);
+        repository.insertarFacturasCompra(comprasBloque);
+        repository.insertarContratos(contratosBloque);
+        repository.insertarCuotas(cuotasBloque);
+        repository.insertarReservas(reservasBloque);
+        repository.insertarFacturasVenta(ventasBloque);
+        contar("vehiculos", vehiculosBloque.size());
+        contar("facturas_compra", comprasBloque.size());
+        contar("contratos_renting", contratosBloque.size());
+        contar("cuotas_renting", cuotasBloque.size());
+        contar("reservas_venta", reservasBloque.size());
+        contar("facturas_venta", ventasBloque.size());
+    }
+
+    /**
+     * Reparte [0, total) en bloques que se generan e insertan en paralelo, cada uno en su transacción
+     * y con su propio generador; {@code tabla} separa los generadores de tablas distintas
+     */
+    private void enBloques(ExecutorService ejecutor, int tabla, int total, Bloque bloque) throws InterruptedException {
+        List<Future<?>> pendientes = new ArrayList<>();
+        for (int desde = 0, n = 0; desde < total; desde += TAMANO_BLOQUE, n++) {
+            int inicio = desde;
+            Random aleatorio = new Random((semilla * 31 + tabla) * 1_000_003 + n);
+            pendientes.add(ejecutor.submit(() -> transaccion.executeWithoutResult(estado ->
+                    bloque.generar(inicio, Math.min(total, inicio + TAMANO_BLOQUE), aleatorio))));
+        }
+        try {
+            for (Future<?> pendiente : pendientes) {
+                pendiente.get();
+            }
+        } catch (ExecutionException e) {
+            pendientes.forEach(p -> p.cancel(true));
+            throw new IllegalStateException("Error generando datos sintéticos", e.getCause());
+        }
+    }
+
+    private void contar(String tabla, int cantidad) {
+        filas.computeIfAbsent(tabla, t -> new LongAdder()).add(cantidad);
+    }
+
+    /**
+     * Cuatro cifras y tres consonantes, como las matrículas actuales; distinta para cada índice
+     */
+    static String matricula(int indice) {
+        int letras = indice / 10_000;
+        int n = CONSONANTES.length();
+        return String.format("%04d", indice % 10_000)
+                + CONSONANTES.charAt(letras / (n * n) % n)
+                + CONSONANTES.charAt(letras / n % n)
+                + CONSONANTES.charAt(letras % n);
+    }
+
+    static String dni(int indice) {
+        int numero = 20_000_000 + indice;
+        return String.format("%08d%c", numero, LETRAS_DNI.charAt(numero % 23));
+    }
+
+    private static BigDecimal conIva(BigDecimal base) {
+        return base.multiply(FACTOR_IVA).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String direccion(Random aleatorio) {
+        return CALLES[aleatorio.nextInt(CALLES.length)] + ", " + (1 + aleatorio.nextInt(150));
+    }
+
+    private static String codigoPostal(Random aleatorio, String[] ciudad) {
+        return ciudad[2] + String.format("%03d", aleatorio.nextInt(1000));
+    }
+
+    private static String telefono(Random aleatorio, String prefijo) {
+        return prefijo + String.format("%08d", aleatorio.nextInt(100_000_000));
+    }
+
+    @FunctionalInterface
+    private interface Bloque {
+        void generar(int desde, int hasta, Random aleatorio);
+    }
+
+    /**
+     * Lo que comparten todos los bloques: ids de partida, tramos de vehículos y fechas de referencia
+     */
+    private static final class Plan {
+        private Map<String, Long> situaciones;
+        private long primerProveedor;
+        private long primerCliente;
+        private long primerVehiculo;
+        private long primerContrato;
+        private long primerReserva;
+        private int contratos;
+        private int vendidos;
+        private int reservados;
+        private LocalDate hoy;
+        private LocalDateTime ahora;
+    }
+}
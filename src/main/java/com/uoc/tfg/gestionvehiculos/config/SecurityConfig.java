@@ -2,6 +2,7 @@ package com.uoc.tfg.gestionvehiculos.config;
 
 import com.uoc.tfg.gestionvehiculos.security.CustomUserDetailsService;
 import com.uoc.tfg.gestionvehiculos.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +34,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
 
                 .authorizeHttpRequests(auth -> auth
+                        // La petición ya se autorizó antes de iniciar el procesamiento asíncrono (descargas en streaming)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         // Swagger/OpenAPI endpoints (públicos)
                         .requestMatchers(
@@ -41,6 +44,8 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/v3/api-docs/**"
                         ).permitAll()
+                        // Salud y métricas para Prometheus: se sirven en el puerto de gestión, que no se publica fuera
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
 
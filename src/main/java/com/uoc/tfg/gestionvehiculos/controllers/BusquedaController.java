@@ -0,0 +1,60 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorEncontrado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.services.BusquedaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/buscar")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Búsqueda", description = "Búsqueda rápida por identificador")
+@SecurityRequirement(name = "bearerAuth")
+public class BusquedaController {
+
+    private final BusquedaService busquedaService;
+
+    @Operation(
+            summary = "Buscar por identificador",
+            description = "Reconoce matrículas, números de bastidor, documentos de cliente, CIF de proveedor, " +
+                    "números de contrato y de factura, completos o por el principio, sin distinguir mayúsculas, " +
+                    "espacios ni guiones. Cada resultado indica su tipo y el recurso donde consultarlo"
+    )
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
+    public ResponseEntity<List<IdentificadorEncontrado>> buscar(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<TipoIdentificador> tipo,
+            @RequestParam(defaultValue = "10") int limite) {
+        if (q == null || q.isBlank()) {
+            throw new InvalidOperationException("Debe indicar el texto a buscar");
+        }
+
+        log.info("Búsqueda rápida: {}", q);
+        Set<TipoIdentificador> tipos = tipo == null || tipo.isEmpty()
+                ? EnumSet.noneOf(TipoIdentificador.class) : EnumSet.copyOf(tipo);
+        List<IdentificadorEncontrado> response = busquedaService.buscar(q, tipos, Math.min(Math.max(limite, 1), 50));
+        return ResponseEntity.ok(response);
+    }
+}
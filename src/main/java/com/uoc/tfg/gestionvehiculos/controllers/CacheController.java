@@ -0,0 +1,77 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.cache.CacheEntidades;
+import com.uoc.tfg.gestionvehiculos.cache.CacheRespuestas;
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadoCacheEntidades;
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadoCacheRespuestas;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Caché", description = "Estado de la caché de respuestas y de la caché de entidades")
+@SecurityRequirement(name = "bearerAuth")
+public class CacheController {
+
+    private final CacheRespuestas cacheRespuestas;
+    private final CacheEntidades cacheEntidades;
+
+    @Operation(
+            summary = "Estado de la caché de respuestas",
+            description = "Entradas y bytes ocupados, entradas expulsadas por tamaño y, por endpoint, " +
+                    "aciertos, fallos, respuestas obsoletas servidas mientras se regeneraban y ratio de aciertos"
+    )
+    @GetMapping("/respuestas")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EstadoCacheRespuestas> estado() {
+        log.info("Consultando estado de la caché de respuestas");
+        return ResponseEntity.ok(cacheRespuestas.estado());
+    }
+
+    @Operation(summary = "Vaciar la caché de respuestas")
+    @DeleteMapping("/respuestas")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> vaciar() {
+        log.info("Vaciando la caché de respuestas");
+        cacheRespuestas.vaciar();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Estado de la caché de entidades",
+            description = "Caché de segundo nivel de usuarios, clientes, proveedores y situaciones: por región, " +
+                    "aciertos, fallos, entradas guardadas y ratio de aciertos, y número de claves naturales " +
+                    "(username, documento, CIF) que hubo que resolver en la base de datos"
+    )
+    @GetMapping("/entidades")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EstadoCacheEntidades> estadoEntidades() {
+        log.info("Consultando estado de la caché de entidades");
+        return ResponseEntity.ok(cacheEntidades.estado());
+    }
+
+    @Operation(summary = "Vaciar la caché de entidades")
+    @DeleteMapping("/entidades")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> vaciarEntidades() {
+        log.info("Vaciando la caché de entidades");
+        cacheEntidades.vaciar();
+        return ResponseEntity.noContent().build();
+    }
+}
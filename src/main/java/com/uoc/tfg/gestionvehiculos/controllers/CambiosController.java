@@ -0,0 +1,74 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import com.uoc.tfg.gestionvehiculos.services.CanalCambios;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/cambios")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Cambios", description = "Canal de cambios en tiempo real")
+@SecurityRequirement(name = "bearerAuth")
+public class CambiosController {
+
+    private final CanalCambios canalCambios;
+
+    @Operation(
+            summary = "Suscribirse a los cambios",
+            description = "Flujo Server-Sent Events con un evento 'cambio' (entidad, id, estado o situación, " +
+                    "activo y secuencia) por cada vehículo, contrato o cuota modificado. Con tipo= se limita a " +
+                    "esas entidades; solo se reciben las que el rol puede consultar. Al reconectar, la cabecera " +
+                    "Last-Event-ID reanuda desde el último evento recibido. Un evento 'resync' indica que se han " +
+                    "perdido cambios (también tras un reinicio del servidor) y que hay que volver a consultar los listados"
+    )
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL', 'OPERARIO')")
+    public SseEmitter suscribir(
+            @RequestParam(required = false) List<EntidadCambio> tipo,
+            @RequestHeader(name = "Last-Event-ID", required = false) String ultimoEvento,
+            Authentication autenticacion) {
+        Set<String> autoridades = autenticacion.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+
+        Set<EntidadCambio> entidades = EnumSet.noneOf(EntidadCambio.class);
+        for (EntidadCambio entidad : tipo == null || tipo.isEmpty() ? List.of(EntidadCambio.values()) : tipo) {
+            if (entidad.getRoles().stream().anyMatch(rol -> autoridades.contains("ROLE_" + rol.name()))) {
+                entidades.add(entidad);
+            }
+        }
+        if (entidades.isEmpty()) {
+            throw new AccessDeniedException("Sin permiso sobre las entidades solicitadas: " + tipo);
+        }
+
+        log.info("Suscripción al canal de cambios de {} ({}), último evento {}",
+                autenticacion.getName(), entidades, ultimoEvento);
+        return canalCambios.suscribir(entidades, ultimoEvento);
+    }
+}
@@ -1,11 +1,15 @@
 package com.uoc.tfg.gestionvehiculos.controllers;
 
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteBusquedaResponse;
 import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.FichaClienteResponse;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
 import com.uoc.tfg.gestionvehiculos.services.ClienteService;
+import com.uoc.tfg.gestionvehiculos.services.FichaClienteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,6 +39,7 @@ import java.util.Map;
 public class ClienteController {
 
     private final ClienteService clienteService;
+    private final FichaClienteService fichaClienteService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
@@ -54,6 +59,19 @@ public class ClienteController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Ficha del cliente",
+            description = "Datos del cliente con sus contratos, cuotas, reservas y facturas de venta en una sola " +
+                    "llamada. Las consultas se hacen a la vez; 'secciones' recoge lo que tardó cada una"
+    )
+    @GetMapping("/{id}/ficha")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
+    public ResponseEntity<FichaClienteResponse> obtenerFicha(@PathVariable Long id) {
+        log.info("Obteniendo ficha del cliente {}", id);
+        FichaClienteResponse response = fichaClienteService.obtener(id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/documento/{documento}")
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
     public ResponseEntity<ClienteResponse> obtenerPorDocumento(@PathVariable String documento) {
@@ -64,18 +82,40 @@ public class ClienteController {
     }
 
     @Operation(
-            summary = "Buscar clientes por nombre",
-            description = "Búsqueda parcial de clientes por nombre (case insensitive)"
+            summary = "Buscar clientes",
+            description = "Búsqueda rápida por nombre, apellidos, razón social, documento, email o teléfono, " +
+                    "ordenada por relevancia y tolerante a erratas. Se admite 'nombre' como alias de 'q'"
     )
     @GetMapping("/buscar")
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
-    public ResponseEntity<List<ClienteResponse>> buscarPorNombre(@RequestParam String nombre) {
-        log.info("Buscando clientes con nombre: {}", nombre);
-        List<Cliente> clientes = clienteService.buscarPorNombre(nombre);
+    public ResponseEntity<List<ClienteResponse>> buscar(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String nombre,
+            @RequestParam(defaultValue = "20") int limite) {
+        String consulta = consulta(q, nombre);
+        log.info("Buscando clientes: {}", consulta);
+        List<Cliente> clientes = clienteService.buscarClientes(consulta, limiteBusqueda(limite));
         List<ClienteResponse> response = ClienteMapper.toListResponse(clientes);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Buscar clientes con puntuación",
+            description = "Misma búsqueda que /buscar, pero devuelve solo los datos de contacto y la puntuación " +
+                    "de relevancia de cada cliente, sin consultar la base de datos"
+    )
+    @GetMapping("/buscar/relevancia")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
+    public ResponseEntity<List<ClienteBusquedaResponse>> buscarConRelevancia(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String nombre,
+            @RequestParam(defaultValue = "20") int limite) {
+        String consulta = consulta(q, nombre);
+        log.info("Buscando clientes por relevancia: {}", consulta);
+        List<ClienteBusquedaResponse> response = clienteService.buscar(consulta, limiteBusqueda(limite));
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Obtener clientes por tipo",
             description = "Filtra clientes por tipo (PARTICULAR, EMPRESA, AUTONOMO)"
@@ -140,4 +180,16 @@ public class ClienteController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private static String consulta(String q, String nombre) {
+        String consulta = q != null ? q : nombre;
+        if (consulta == null || consulta.isBlank()) {
+            throw new InvalidOperationException("Debe indicar el texto a buscar");
+        }
+        return consulta;
+    }
+
+    private static int limiteBusqueda(int limite) {
+        return Math.min(Math.max(limite, 1), 100);
+    }
+}
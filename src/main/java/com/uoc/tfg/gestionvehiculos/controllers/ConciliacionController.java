@@ -0,0 +1,52 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.ResultadoConciliacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoExtracto;
+import com.uoc.tfg.gestionvehiculos.services.ConciliacionBancariaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/conciliaciones")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Conciliación bancaria", description = "Conciliación de extractos bancarios con las cuotas de renting")
+@SecurityRequirement(name = "bearerAuth")
+public class ConciliacionController {
+
+    private final ConciliacionBancariaService conciliacionService;
+
+    @Operation(
+            summary = "Conciliar extracto bancario",
+            description = "Casa los abonos del extracto (CAMT.053 o CSV) con las cuotas pendientes y vencidas, " +
+                    "marca como pagadas las conciliadas y devuelve el informe de la ejecución"
+    )
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<ResultadoConciliacion> conciliar(
+            @RequestParam("fichero") MultipartFile fichero,
+            @RequestParam(defaultValue = "CAMT053") FormatoExtracto formato) throws IOException {
+
+        log.info("Conciliando extracto {} ({} bytes)", fichero.getOriginalFilename(), fichero.getSize());
+
+        try (InputStream contenido = fichero.getInputStream()) {
+            return ResponseEntity.ok(conciliacionService.conciliar(contenido, formato));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.uoc.tfg.gestionvehiculos.controllers;
 
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
 import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingResponse;
@@ -17,10 +18,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -41,22 +44,45 @@ public class ContratoRentingController {
 
     private final ContratoRentingService contratoService;
 
+    @Operation(
+            summary = "Listar contratos activos",
+            description = "Admite peticiones condicionales (If-None-Match / If-Modified-Since). " +
+                    "Con fields=id,numeroContrato,estado,cuotaMensual solo se consultan y devuelven esos campos " +
+                    "(el id siempre)"
+    )
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
-    public ResponseEntity<List<ContratoRentingResponse>> listarActivos() {
+    public ResponseEntity<List<?>> listarActivos(@RequestParam(name = "fields", required = false) List<String> campos,
+                                                 WebRequest request) {
+        VersionRecurso version = contratoService.obtenerVersionActivos();
+        if (request.checkNotModified(version.getEtagDebil(), version.getUltimaModificacionMillis())) {
+            return null;
+        }
+
+        if (campos != null && !campos.isEmpty()) {
+            log.info("Listando contratos de renting activos con los campos {}", campos);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(contratoService.listarActivos(campos));
+        }
+
         log.info("Listando contratos de renting activos");
         List<ContratoRenting> contratos = contratoService.listarActivos();
         List<ContratoRentingResponse> response = ContratoRentingMapper.toListResponse(contratos);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
-    public ResponseEntity<ContratoRentingResponse> obtenerPorId(@PathVariable Long id) {
+    public ResponseEntity<ContratoRentingResponse> obtenerPorId(@PathVariable Long id, WebRequest request) {
+        VersionRecurso version = contratoService.obtenerVersion(id);
+        if (version.existe() && request.checkNotModified(version.getEtag(), version.getUltimaModificacionMillis())) {
+            return null;
+        }
+
         log.info("Obteniendo contrato {}", id);
         ContratoRenting contrato = contratoService.obtenerPorId(id);
         ContratoRentingResponse response = ContratoRentingMapper.toResponse(contrato);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
     }
 
     @GetMapping("/numero/{numeroContrato}")
@@ -2,12 +2,16 @@ package com.uoc.tfg.gestionvehiculos.controllers;
 
 import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaRentingMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaRentingResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.PagoMasivoRequest;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.PagoMasivoResponse;
 import com.uoc.tfg.gestionvehiculos.entities.CuotaRenting;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
 import com.uoc.tfg.gestionvehiculos.services.CuotaRentingService;
+import com.uoc.tfg.gestionvehiculos.services.PagoMasivoCuotaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -32,10 +36,21 @@ import java.util.Map;
 public class CuotaRentingController {
 
     private final CuotaRentingService cuotaService;
+    private final PagoMasivoCuotaService pagoMasivoService;
 
+    @Operation(
+            summary = "Listar cuotas activas",
+            description = "Con fields=id,numeroCuota,estadoNombre,importe solo se consultan y devuelven esos campos " +
+                    "(el id siempre)"
+    )
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
-    public ResponseEntity<List<CuotaRentingResponse>> listarActivas() {
+    public ResponseEntity<List<?>> listarActivas(@RequestParam(name = "fields", required = false) List<String> campos) {
+        if (campos != null && !campos.isEmpty()) {
+            log.info("Listando cuotas activas con los campos {}", campos);
+            return ResponseEntity.ok(cuotaService.listarActivas(campos));
+        }
+
         log.info("Listando cuotas activas");
         List<CuotaRenting> cuotas = cuotaService.listarActivas();
         List<CuotaRentingResponse> response = CuotaRentingMapper.toListResponse(cuotas);
@@ -108,6 +123,20 @@ public class CuotaRentingController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Pagar cuotas en bloque",
+            description = "Marca como pagadas varias cuotas (por id o por contrato y número de cuota) " +
+                    "y devuelve el resultado de cada una"
+    )
+    @PatchMapping("/pagar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
+    public ResponseEntity<PagoMasivoResponse> pagarEnBloque(@Valid @RequestBody PagoMasivoRequest request) {
+        log.info("Pago masivo de cuotas: {} ids y {} referencias",
+                request.getCuotaIds().size(), request.getReferencias().size());
+        PagoMasivoResponse response = pagoMasivoService.pagar(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/actualizar-vencidas")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Map<String, String>> actualizarCuotasVencidas() {
@@ -0,0 +1,54 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.eventos.EstadoDespachoEventos;
+import com.uoc.tfg.gestionvehiculos.services.DespachadorEventos;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/eventos")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Eventos", description = "Despacho de eventos de dominio")
+@SecurityRequirement(name = "bearerAuth")
+public class EventosController {
+
+    private final DespachadorEventos despachadorEventos;
+
+    @Operation(
+            summary = "Estado del despacho de eventos",
+            description = "Eventos pendientes y fallidos, entregados, reintentos y descartados desde el arranque, " +
+                    "antigüedad del pendiente más antiguo y retraso entre registro y entrega"
+    )
+    @GetMapping("/estado")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EstadoDespachoEventos> estado() {
+        log.info("Consultando estado del despacho de eventos");
+        return ResponseEntity.ok(despachadorEventos.estado());
+    }
+
+    @Operation(summary = "Reintentar los eventos fallidos",
+            description = "Devuelve a pendientes los eventos que agotaron sus intentos")
+    @PostMapping("/fallidos/reintentar")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> reintentarFallidos() {
+        log.info("Reintentando eventos fallidos");
+        return ResponseEntity.ok(Map.of("reactivados", despachadorEventos.reintentarFallidos()));
+    }
+}
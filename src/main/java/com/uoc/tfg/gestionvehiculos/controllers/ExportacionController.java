@@ -0,0 +1,99 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.services.ExportacionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/exportaciones")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Exportaciones", description = "Exportación masiva de facturas y cuotas para contabilidad")
+@SecurityRequirement(name = "bearerAuth")
+public class ExportacionController {
+
+    private final ExportacionService exportacionService;
+
+    @Operation(
+            summary = "Exportar facturas de venta",
+            description = "Descarga en streaming (CSV o NDJSON) las facturas de venta emitidas entre dos fechas"
+    )
+    @GetMapping("/facturas-venta")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<StreamingResponseBody> exportarFacturasVenta(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fin,
+            @RequestParam(defaultValue = "CSV") FormatoFichero formato) {
+
+        log.info("Exportando facturas de venta entre {} y {}", inicio, fin);
+        StreamingResponseBody cuerpo = salida -> exportacionService.exportarFacturasVenta(inicio, fin, formato, salida);
+        return descarga("facturas-venta", inicio, fin, formato, cuerpo);
+    }
+
+    @Operation(
+            summary = "Exportar facturas de compra",
+            description = "Descarga en streaming (CSV o NDJSON) las facturas de compra recibidas entre dos fechas"
+    )
+    @GetMapping("/facturas-compra")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<StreamingResponseBody> exportarFacturasCompra(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fin,
+            @RequestParam(defaultValue = "CSV") FormatoFichero formato) {
+
+        log.info("Exportando facturas de compra entre {} y {}", inicio, fin);
+        StreamingResponseBody cuerpo = salida -> exportacionService.exportarFacturasCompra(inicio, fin, formato, salida);
+        return descarga("facturas-compra", inicio, fin, formato, cuerpo);
+    }
+
+    @Operation(
+            summary = "Exportar cuotas de renting",
+            description = "Descarga en streaming (CSV o NDJSON) las cuotas que vencen entre dos fechas"
+    )
+    @GetMapping("/cuotas-renting")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<StreamingResponseBody> exportarCuotas(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fin,
+            @RequestParam(defaultValue = "CSV") FormatoFichero formato) {
+
+        log.info("Exportando cuotas de renting entre {} y {}", inicio, fin);
+        StreamingResponseBody cuerpo = salida -> exportacionService.exportarCuotas(inicio, fin, formato, salida);
+        return descarga("cuotas-renting", inicio, fin, formato, cuerpo);
+    }
+
+    private ResponseEntity<StreamingResponseBody> descarga(String nombre, LocalDate inicio, LocalDate fin,
+                                                           FormatoFichero formato, StreamingResponseBody cuerpo) {
+        exportacionService.validarPeriodo(inicio, fin);
+
+        String fichero = String.format("%s_%s_%s.%s", nombre, inicio, fin, formato.getExtension());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fichero).build().toString())
+                .body(cuerpo);
+    }
+}
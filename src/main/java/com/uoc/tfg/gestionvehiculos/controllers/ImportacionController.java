@@ -0,0 +1,112 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.EstadoImportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.ResultadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.services.ImportacionClienteService;
+import com.uoc.tfg.gestionvehiculos.services.ImportacionVehiculoService;
+import com.uoc.tfg.gestionvehiculos.services.RegistroImportaciones;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/importaciones")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Importaciones", description = "Importación masiva de datos desde ficheros CSV o NDJSON")
+@SecurityRequirement(name = "bearerAuth")
+public class ImportacionController {
+
+    private final ImportacionVehiculoService importacionVehiculoService;
+    private final ImportacionClienteService importacionClienteService;
+    private final RegistroImportaciones registroImportaciones;
+
+    @Operation(
+            summary = "Importar vehículos",
+            description = "Importa en segundo plano un fichero de vehículos (con su factura de compra opcional). " +
+                    "Devuelve el identificador de la importación para consultar su progreso"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importación iniciada")
+    })
+    @PostMapping(value = "/vehiculos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<EstadoImportacion> importarVehiculos(
+            @RequestParam("fichero") MultipartFile fichero,
+            @RequestParam(defaultValue = "CSV") FormatoFichero formato) throws IOException {
+
+        log.info("Importando vehículos desde {} ({} bytes)", fichero.getOriginalFilename(), fichero.getSize());
+
+        try (InputStream contenido = fichero.getInputStream()) {
+            EstadoImportacion estado = importacionVehiculoService.iniciar(contenido, formato);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(estado);
+        }
+    }
+
+    @Operation(
+            summary = "Importar clientes",
+            description = "Importa en segundo plano un fichero de clientes, descartando documentos duplicados. " +
+                    "Para reanudar una importación interrumpida se envía el mismo fichero con desdeFila igual " +
+                    "a la última fila confirmada"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importación iniciada")
+    })
+    @PostMapping(value = "/clientes", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<EstadoImportacion> importarClientes(
+            @RequestParam("fichero") MultipartFile fichero,
+            @RequestParam(defaultValue = "CSV") FormatoFichero formato,
+            @RequestParam(defaultValue = "0") long desdeFila) throws IOException {
+
+        log.info("Importando clientes desde {} ({} bytes, desde la fila {})",
+                fichero.getOriginalFilename(), fichero.getSize(), desdeFila);
+
+        try (InputStream contenido = fichero.getInputStream()) {
+            EstadoImportacion estado = importacionClienteService.iniciar(contenido, formato, desdeFila);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(estado);
+        }
+    }
+
+    @Operation(
+            summary = "Consultar progreso de una importación",
+            description = "Devuelve los contadores de filas procesadas, creadas y rechazadas"
+    )
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<EstadoImportacion> obtenerEstado(@PathVariable String id) {
+        log.info("Consultando importación {}", id);
+        return ResponseEntity.ok(registroImportaciones.obtener(id));
+    }
+
+    @Operation(
+            summary = "Informe de una importación",
+            description = "Devuelve el resultado de cada fila procesada hasta el momento"
+    )
+    @GetMapping("/{id}/resultados")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    public ResponseEntity<Collection<ResultadoFilaImportacion>> obtenerResultados(@PathVariable String id) {
+        log.info("Consultando resultados de la importación {}", id);
+        return ResponseEntity.ok(registroImportaciones.obtener(id).getResultados());
+    }
+}
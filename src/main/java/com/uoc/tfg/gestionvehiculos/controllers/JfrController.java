@@ -0,0 +1,100 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.jfr.EstadoGrabacionJfr;
+import com.uoc.tfg.gestionvehiculos.jfr.GrabacionesJfr;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/jfr/grabacion")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "JFR", description = "Grabaciones de Java Flight Recorder bajo demanda")
+@SecurityRequirement(name = "bearerAuth")
+public class JfrController {
+
+    private static final DateTimeFormatter FORMATO_FICHERO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final GrabacionesJfr grabacionesJfr;
+
+    @Operation(summary = "Estado de la grabación JFR")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EstadoGrabacionJfr> estado() {
+        log.info("Consultando estado de la grabación JFR");
+        return ResponseEntity.ok(grabacionesJfr.estado());
+    }
+
+    @Operation(
+            summary = "Iniciar una grabación JFR",
+            description = "Graba con la configuración del JDK indicada en jfr.configuracion más los eventos de " +
+                    "negocio (contratos, login, reservas, facturas e informes). La duración se limita a la máxima " +
+                    "configurada y en disco solo se conservan los últimos minutos configurados"
+    )
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EstadoGrabacionJfr> iniciar(@RequestParam(required = false) Long minutos) {
+        log.info("Iniciando grabación JFR ({} minutos)", minutos);
+        return ResponseEntity.ok(grabacionesJfr.iniciar(minutos));
+    }
+
+    @Operation(summary = "Detener la grabación JFR en curso")
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EstadoGrabacionJfr> detener() {
+        log.info("Deteniendo grabación JFR");
+        return ResponseEntity.ok(grabacionesJfr.detener());
+    }
+
+    @Operation(
+            summary = "Descargar la grabación JFR",
+            description = "Fichero .jfr con lo grabado hasta ahora, en curso o ya detenida, para abrir con JDK Mission Control o jfr print"
+    )
+    @GetMapping("/volcado")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> volcar() throws IOException {
+        log.info("Volcando grabación JFR");
+        Path fichero = grabacionesJfr.volcar();
+        String nombre = "gestion-vehiculos-" + LocalDateTime.now().format(FORMATO_FICHERO) + ".jfr";
+
+        StreamingResponseBody cuerpo = salida -> {
+            try {
+                Files.copy(fichero, salida);
+            } finally {
+                Files.deleteIfExists(fichero);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(fichero))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(nombre).build().toString())
+                .body(cuerpo);
+    }
+}
@@ -0,0 +1,57 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.latencias.LatenciaRuta;
+import com.uoc.tfg.gestionvehiculos.metricas.LatenciasRutas;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/latencias")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Latencias", description = "Percentiles de latencia por endpoint")
+@SecurityRequirement(name = "bearerAuth")
+public class LatenciasController {
+
+    private static final int LIMITE_MAXIMO = 500;
+
+    private final LatenciasRutas latenciasRutas;
+
+    @Operation(
+            summary = "Latencias por endpoint",
+            description = "Por endpoint y clase de estado (2xx, 4xx...): peticiones, media, p50, p90, p99, p99.9 " +
+                    "y máximo en milisegundos durante la ventana reciente, ordenados por p99 de mayor a menor"
+    )
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<LatenciaRuta>> peores(@RequestParam(defaultValue = "50") int limite) {
+        log.info("Consultando latencias por endpoint (límite {})", limite);
+        return ResponseEntity.ok(latenciasRutas.peores(Math.max(1, Math.min(limite, LIMITE_MAXIMO))));
+    }
+
+    @Operation(summary = "Reiniciar las latencias por endpoint")
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> vaciar() {
+        log.info("Reiniciando latencias por endpoint");
+        latenciasRutas.vaciar();
+        return ResponseEntity.noContent().build();
+    }
+}
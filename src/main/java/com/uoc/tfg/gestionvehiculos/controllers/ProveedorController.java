@@ -1,9 +1,11 @@
 package com.uoc.tfg.gestionvehiculos.controllers;
 
+import com.uoc.tfg.gestionvehiculos.cache.RespuestaCacheable;
 import com.uoc.tfg.gestionvehiculos.dtos.proveedor.ProveedorMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.proveedor.ProveedorRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.proveedor.ProveedorResponse;
 import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.services.ProveedorService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,6 +37,7 @@ public class ProveedorController {
     private final ProveedorService proveedorService;
 
     @GetMapping
+    @RespuestaCacheable(EntidadCacheada.PROVEEDOR)
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
     public ResponseEntity<List<ProveedorResponse>> listarActivos() {
         log.info("Listando proveedores activos");
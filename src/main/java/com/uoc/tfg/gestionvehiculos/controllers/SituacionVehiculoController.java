@@ -1,9 +1,11 @@
 package com.uoc.tfg.gestionvehiculos.controllers;
 
+import com.uoc.tfg.gestionvehiculos.cache.RespuestaCacheable;
 import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.SituacionVehiculoMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.SituacionVehiculoRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.SituacionVehiculoResponse;
 import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.services.SituacionVehiculoService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -32,6 +34,7 @@ public class SituacionVehiculoController {
     private final SituacionVehiculoService situacionService;
 
     @GetMapping
+    @RespuestaCacheable(EntidadCacheada.SITUACION_VEHICULO)
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL', 'OPERARIO')")
     public ResponseEntity<List<SituacionVehiculoResponse>> listarActivas() {
         log.info("Listando situaciones de vehículo activas");
@@ -41,6 +44,7 @@ public class SituacionVehiculoController {
     }
 
     @GetMapping("/todas")
+    @RespuestaCacheable(EntidadCacheada.SITUACION_VEHICULO)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<SituacionVehiculoResponse>> listarTodas() {
         log.info("Listando todas las situaciones");
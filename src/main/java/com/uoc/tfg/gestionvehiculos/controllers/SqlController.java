@@ -0,0 +1,58 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.dtos.sql.EstadisticasSqlEndpoint;
+import com.uoc.tfg.gestionvehiculos.jdbc.EstadisticasSql;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@RestController
+@RequestMapping("/api/sql")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "SQL", description = "Sentencias SQL por endpoint y detección de N+1")
+@SecurityRequirement(name = "bearerAuth")
+public class SqlController {
+
+    private static final int LIMITE_MAXIMO = 200;
+
+    private final EstadisticasSql estadisticasSql;
+
+    @Operation(
+            summary = "Endpoints con más sentencias SQL",
+            description = "Por endpoint: peticiones, sentencias totales, media y máximo por petición, filas, " +
+                    "tiempo de base de datos, peticiones sobre los umbrales configurados y sospechas de N+1 " +
+                    "(una misma sentencia repetida muchas veces en una petición) con la última sentencia repetida"
+    )
+    @GetMapping("/endpoints")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EstadisticasSqlEndpoint>> peores(@RequestParam(defaultValue = "20") int limite) {
+        log.info("Consultando endpoints con más sentencias SQL (límite {})", limite);
+        return ResponseEntity.ok(estadisticasSql.peores(Math.max(1, Math.min(limite, LIMITE_MAXIMO))));
+    }
+
+    @Operation(summary = "Reiniciar las estadísticas SQL por endpoint")
+    @DeleteMapping("/endpoints")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> vaciar() {
+        log.info("Reiniciando estadísticas SQL por endpoint");
+        estadisticasSql.vaciar();
+        return ResponseEntity.noContent().build();
+    }
+}
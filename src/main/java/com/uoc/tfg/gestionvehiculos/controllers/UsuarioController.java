@@ -1,9 +1,11 @@
 package com.uoc.tfg.gestionvehiculos.controllers;
 
+import com.uoc.tfg.gestionvehiculos.cache.RespuestaCacheable;
 import com.uoc.tfg.gestionvehiculos.dtos.usuario.UsuarioMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.usuario.UsuarioRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.usuario.UsuarioResponse;
 import com.uoc.tfg.gestionvehiculos.entities.Usuario;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.enums.Rol;
 import com.uoc.tfg.gestionvehiculos.services.UsuarioService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,6 +41,7 @@ public class UsuarioController {
     private final UsuarioService usuarioService;
 
     @GetMapping
+    @RespuestaCacheable(EntidadCacheada.USUARIO)
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
     public ResponseEntity<List<UsuarioResponse>> listarActivos() {
         log.info("Listando usuarios activos");
@@ -66,6 +69,7 @@ public class UsuarioController {
     }
 
     @GetMapping("/rol/{rol}")
+    @RespuestaCacheable(EntidadCacheada.USUARIO)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UsuarioResponse>> obtenerPorRol(@PathVariable Rol rol) {
         log.info("Listando usuarios por rol", rol);
@@ -75,6 +79,7 @@ public class UsuarioController {
     }
 
     @GetMapping("/bloqueados")
+    @RespuestaCacheable(EntidadCacheada.USUARIO)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UsuarioResponse>> obtenerBloqueados() {
         log.info("Listando usuarios bloqueados");
@@ -1,10 +1,16 @@
 package com.uoc.tfg.gestionvehiculos.controllers;
 
+import com.uoc.tfg.gestionvehiculos.cache.RespuestaCacheable;
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.BusquedaVehiculosResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.FiltroVehiculos;
 import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoMapper;
 import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResumenResponse;
 import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
 import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
 import com.uoc.tfg.gestionvehiculos.services.SituacionVehiculoService;
@@ -19,10 +25,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -45,17 +56,73 @@ public class VehiculoController {
 
     @Operation(
             summary = "Listar vehículos activos",
-            description = "Obtiene todos los vehículos que están activos en la BD"
+            description = "Obtiene todos los vehículos que están activos en la BD. Admite peticiones " +
+                    "condicionales (If-None-Match / If-Modified-Since): si nada ha cambiado responde 304 sin cuerpo. " +
+                    "Con fields=id,matricula,marca solo se consultan y devuelven esos campos (el id siempre)"
     )
     @GetMapping
+    @RespuestaCacheable({EntidadCacheada.VEHICULO, EntidadCacheada.SITUACION_VEHICULO})
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL', 'OPERARIO')")
-    public ResponseEntity<List<VehiculoResponse>> listarActivos() {
+    public ResponseEntity<List<?>> listarActivos(@RequestParam(name = "fields", required = false) List<String> campos,
+                                                 WebRequest request) {
+        VersionRecurso version = vehiculoService.obtenerVersionActivos();
+        if (request.checkNotModified(version.getEtagDebil(), version.getUltimaModificacionMillis())) {
+            return null;
+        }
+
+        if (campos != null && !campos.isEmpty()) {
+            log.info("Listando vehículos activos con los campos {}", campos);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(vehiculoService.listarActivos(campos));
+        }
+
         log.info("Listando vehículos activos");
         List<Vehiculo> vehiculos = vehiculoService.listarActivos();
         List<VehiculoResponse> response = vehiculos.stream()
                 .map(VehiculoMapper::toResponse)
                 .toList();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
+    }
+
+    @Operation(
+            summary = "Listar resúmenes de vehículos",
+            description = "Vehículos activos con su situación, contrato en curso, última reserva, cliente y " +
+                    "precios de compra y venta, en una sola consulta sobre el resumen precalculado. " +
+                    "Con situacion= se limita a los vehículos en esa situación"
+    )
+    @GetMapping("/resumen")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
+    public ResponseEntity<List<VehiculoResumenResponse>> listarResumenes(
+            @RequestParam(required = false) String situacion) {
+        log.info("Listando resúmenes de vehículos (situación {})", situacion);
+        return ResponseEntity.ok(vehiculoService.listarResumenes(situacion));
+    }
+
+    @Operation(
+            summary = "Obtener resumen de un vehículo",
+            description = "Los datos de la ficha del vehículo (situación, contrato, reserva, cliente y precios) " +
+                    "en una sola lectura por clave"
+    )
+    @GetMapping("/{id}/resumen")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL')")
+    public ResponseEntity<VehiculoResumenResponse> obtenerResumen(@PathVariable Long id) {
+        log.info("Obteniendo resumen del vehículo {}", id);
+        return ResponseEntity.ok(vehiculoService.obtenerResumen(id));
+    }
+
+    @Operation(
+            summary = "Buscar vehículos",
+            description = "Búsqueda paginada por marca, modelo, combustible, año, kilómetros, situación y estado. " +
+                    "Incluye los recuentos por faceta. Ordenable por id, matricula, marca, modelo, anyoFabricacion, " +
+                    "kilometros, fechaCreacion y situacion"
+    )
+    @GetMapping("/buscar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL', 'OPERARIO')")
+    public ResponseEntity<BusquedaVehiculosResponse> buscar(
+            @ParameterObject FiltroVehiculos filtro,
+            @ParameterObject @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        log.info("Buscando vehículos: {} ({})", filtro, pageable);
+        return ResponseEntity.ok(vehiculoService.buscar(filtro, pageable));
     }
 
     @Operation(
@@ -75,11 +142,16 @@ public class VehiculoController {
     })
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'COMERCIAL', 'OPERARIO')")
-    public ResponseEntity<VehiculoResponse> obtenerPorId(@PathVariable Long id) {
+    public ResponseEntity<VehiculoResponse> obtenerPorId(@PathVariable Long id, WebRequest request) {
+        VersionRecurso version = vehiculoService.obtenerVersion(id);
+        if (version.existe() && request.checkNotModified(version.getEtag(), version.getUltimaModificacionMillis())) {
+            return null;
+        }
+
         log.info("Obteniendo vehículo {}", id);
         Vehiculo vehiculo = vehiculoService.obtenerPorId(id);
         VehiculoResponse response = VehiculoMapper.toResponse(vehiculo);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
     }
 
     @Operation(
@@ -0,0 +1,90 @@
+package com.uoc.tfg.gestionvehiculos.dtos;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.stream.Stream;
+
+/**
+ * Versión de un recurso o de un listado calculada sin cargar entidades: número de filas
+ * y fecha de la última modificación. Sirve de validador para las peticiones condicionales
+ * (If-None-Match / If-Modified-Since).
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Getter
+public class VersionRecurso {
+
+    private final long elementos;
+    private final LocalDateTime ultimaModificacion;
+
+    public VersionRecurso(Long elementos, LocalDateTime ultimaModificacion) {
+        this.elementos = elementos != null ? elementos : 0;
+        this.ultimaModificacion = ultimaModificacion;
+    }
+
+    /**
+     * Para recursos cuya respuesta incluye datos de una entidad relacionada
+     */
+    public VersionRecurso(Long elementos, LocalDateTime propia, LocalDateTime relacionada) {
+        this(elementos, propia, relacionada, null);
+    }
+
+    /**
+     * Para recursos cuya respuesta incluye datos de entidades relacionadas:
+     * la última modificación es la más reciente de todas
+     */
+    public VersionRecurso(Long elementos, LocalDateTime propia, LocalDateTime relacionada1, LocalDateTime relacionada2) {
+        this(elementos, Stream.of(propia, relacionada1, relacionada2)
+                .filter(f -> f != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null));
+    }
+
+    public boolean existe() {
+        return elementos > 0;
+    }
+
+    /**
+     * Milisegundos desde epoch para Last-Modified, o -1 si no hay fecha
+     */
+    public long getUltimaModificacionMillis() {
+        return ultimaModificacion != null ? instante().toEpochMilli() : -1;
+    }
+
+    /**
+     * ETag fuerte: identifica el estado exacto de un recurso individual
+     */
+    public String getEtag() {
+        return "\"" + valorEtag() + "\"";
+    }
+
+    /**
+     * ETag débil para listados: número de filas y última modificación
+     * identifican el contenido, pero no byte a byte
+     */
+    public String getEtagDebil() {
+        return "W/\"" + valorEtag() + "\"";
+    }
+
+    /**
+     * Filas y microsegundos de la última modificación en hexadecimal
+     * (Last-Modified solo llega al segundo)
+     */
+    private String valorEtag() {
+        long micros = 0;
+        if (ultimaModificacion != null) {
+            Instant instante = instante();
+            micros = instante.getEpochSecond() * 1_000_000 + instante.getNano() / 1_000;
+        }
+        return Long.toHexString(elementos) + "-" + Long.toHexString(micros);
+    }
+
+    private Instant instante() {
+        return ultimaModificacion.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
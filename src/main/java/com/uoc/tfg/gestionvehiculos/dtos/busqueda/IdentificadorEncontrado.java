@@ -0,0 +1,32 @@
+package com.uoc.tfg.gestionvehiculos.dtos.busqueda;
+
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de la búsqueda rápida: qué es el identificador y dónde consultar la entidad
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentificadorEncontrado {
+
+    private TipoIdentificador tipo;
+    private Long id;
+    private String valor;
+    private String descripcion;
+    private String recurso;
+
+    /**
+     * Verdadero si el identificador coincide entero con la consulta y no solo empieza por ella
+     */
+    private boolean exacto;
+}
@@ -0,0 +1,65 @@
+package com.uoc.tfg.gestionvehiculos.dtos.busqueda;
+
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaVenta;
+import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Identificador de una entidad tal como se guarda en la búsqueda rápida
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentificadorIndexado {
+
+    private TipoIdentificador tipo;
+    private Long id;
+    private String valor;
+    private String descripcion;
+
+    public static IdentificadorIndexado matricula(Vehiculo vehiculo) {
+        return new IdentificadorIndexado(TipoIdentificador.MATRICULA, vehiculo.getId(),
+                vehiculo.getMatricula(), vehiculo.getMarca() + " " + vehiculo.getModelo());
+    }
+
+    public static IdentificadorIndexado bastidor(Vehiculo vehiculo) {
+        return new IdentificadorIndexado(TipoIdentificador.BASTIDOR, vehiculo.getId(),
+                vehiculo.getNumeroBastidor(), vehiculo.getMarca() + " " + vehiculo.getModelo());
+    }
+
+    public static IdentificadorIndexado documento(Cliente cliente) {
+        return new IdentificadorIndexado(TipoIdentificador.DOCUMENTO_CLIENTE, cliente.getId(),
+                cliente.getDocumento(), cliente.getNombreCompleto());
+    }
+
+    public static IdentificadorIndexado cif(Proveedor proveedor) {
+        return new IdentificadorIndexado(TipoIdentificador.CIF_PROVEEDOR, proveedor.getId(),
+                proveedor.getCif(), proveedor.getRazonSocial());
+    }
+
+    public static IdentificadorIndexado contrato(ContratoRenting contrato) {
+        return new IdentificadorIndexado(TipoIdentificador.NUMERO_CONTRATO, contrato.getId(),
+                contrato.getNumeroContrato(), contrato.getVehiculo() != null ? contrato.getVehiculo().getMatricula() : null);
+    }
+
+    public static IdentificadorIndexado facturaCompra(FacturaCompra factura) {
+        return new IdentificadorIndexado(TipoIdentificador.FACTURA_COMPRA, factura.getId(),
+                factura.getNumeroFactura(), factura.getProveedor() != null ? factura.getProveedor().getRazonSocial() : null);
+    }
+
+    public static IdentificadorIndexado facturaVenta(FacturaVenta factura) {
+        return new IdentificadorIndexado(TipoIdentificador.FACTURA_VENTA, factura.getId(),
+                factura.getNumeroFactura(), factura.getCliente() != null ? factura.getCliente().getNombreCompleto() : null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aciertos y fallos de la caché de respuestas para un endpoint
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasEndpointCache {
+
+    private String endpoint;
+    private long aciertos;
+    private long fallos;
+
+    /**
+     * Respuestas servidas desde una entrada obsoleta mientras otra petición la regeneraba
+     */
+    private long obsoletas;
+
+    /**
+     * (aciertos + obsoletas) / total
+     */
+    private double ratioAciertos;
+}
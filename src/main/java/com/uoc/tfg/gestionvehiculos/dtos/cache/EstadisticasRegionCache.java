@@ -0,0 +1,34 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aciertos, fallos y escrituras de una región de la caché de segundo nivel
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasRegionCache {
+
+    private String region;
+    private long aciertos;
+    private long fallos;
+
+    /**
+     * Entradas guardadas en la región: tras leer de la base de datos o tras una escritura confirmada
+     */
+    private long escrituras;
+
+    /**
+     * aciertos / (aciertos + fallos)
+     */
+    private double ratioAciertos;
+}
@@ -0,0 +1,31 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Estado de la caché de segundo nivel de Hibernate y estadísticas por región
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoCacheEntidades {
+
+    private boolean habilitada;
+
+    /**
+     * Claves naturales (username, documento, CIF, nombre) que hubo que resolver en la base de datos
+     */
+    private long resolucionesClaveNatural;
+
+    private List<EstadisticasRegionCache> regiones;
+}
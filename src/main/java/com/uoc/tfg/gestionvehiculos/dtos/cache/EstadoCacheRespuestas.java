@@ -0,0 +1,29 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ocupación de la caché de respuestas y estadísticas por endpoint
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoCacheRespuestas {
+
+    private boolean habilitada;
+    private int entradas;
+    private long bytes;
+    private long maxBytes;
+    private long expulsadas;
+    private List<EstadisticasEndpointCache> endpoints;
+}
@@ -0,0 +1,35 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cambios;
+
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio confirmado de una entidad. La secuencia crece con cada evento publicado y, precedida de la
+ * marca de la instancia, forma el id del evento SSE con el que el cliente reanuda la suscripción (Last-Event-ID).
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoCambio {
+
+    private long secuencia;
+    private EntidadCambio entidad;
+    private Long id;
+
+    /**
+     * Situación del vehículo o estado del contrato o la cuota después del cambio
+     */
+    private String estado;
+    private boolean activo;
+    private LocalDateTime fecha;
+}
@@ -0,0 +1,29 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cliente;
+
+import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de la búsqueda rápida de clientes, ordenado por relevancia
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteBusquedaResponse {
+
+    private Long id;
+    private TipoCliente tipoCliente;
+    private String documento;
+    private String nombreCompleto;
+    private String email;
+    private String telefono;
+    private double puntuacion;
+}
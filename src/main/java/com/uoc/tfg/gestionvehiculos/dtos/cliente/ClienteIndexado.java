@@ -0,0 +1,42 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cliente;
+
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Campos de un cliente que intervienen en la búsqueda rápida
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteIndexado {
+
+    private Long id;
+    private TipoCliente tipoCliente;
+    private String documento;
+    private String nombre;
+    private String apellidos;
+    private String razonSocial;
+    private String email;
+    private String telefono;
+
+    public static ClienteIndexado de(Cliente cliente) {
+        return new ClienteIndexado(cliente.getId(), cliente.getTipoCliente(), cliente.getDocumento(),
+                cliente.getNombre(), cliente.getApellidos(), cliente.getRazonSocial(),
+                cliente.getEmail(), cliente.getTelefono());
+    }
+
+    public String getNombreCompleto() {
+        if (tipoCliente == TipoCliente.EMPRESA) {
+            return razonSocial != null ? razonSocial : nombre;
+        }
+        return apellidos != null ? nombre + " " + apellidos : nombre;
+    }
+}
@@ -0,0 +1,37 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cliente;
+
+import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaRentingResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaVentaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.reserva.ReservaVentaResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Vista completa de un cliente: sus datos, contratos, cuotas, reservas y facturas de venta.
+ * {@code msTotal} es lo que tardó la ficha entera; al consultarse las secciones a la vez, debería
+ * parecerse a la más lenta de {@code secciones} y no a su suma
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FichaClienteResponse {
+
+    private ClienteResponse cliente;
+    private List<ContratoRentingResponse> contratos;
+    private List<CuotaRentingResponse> cuotas;
+    private List<ReservaVentaResponse> reservas;
+    private List<FacturaVentaResponse> facturas;
+
+    private List<SeccionFicha> secciones;
+    private long msTotal;
+}
@@ -0,0 +1,25 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cliente;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Coste de cada consulta de la ficha de cliente: elementos devueltos, tiempo y sentencias SQL
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeccionFicha {
+
+    private String seccion;
+    private int elementos;
+    private long ms;
+    private long sentencias;
+}
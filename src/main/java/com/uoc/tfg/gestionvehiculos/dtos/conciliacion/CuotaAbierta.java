@@ -0,0 +1,28 @@
+package com.uoc.tfg.gestionvehiculos.dtos.conciliacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Cuota pendiente o vencida, con lo mínimo necesario para casarla con un movimiento bancario
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CuotaAbierta {
+
+    private Long id;
+    private Long contratoId;
+    private String numeroContrato;
+    private Integer numeroCuota;
+    private LocalDate fechaVencimiento;
+    private BigDecimal importe;
+}
@@ -0,0 +1,36 @@
+package com.uoc.tfg.gestionvehiculos.dtos.conciliacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Apunte de un extracto bancario. Los abonos tienen importe positivo y los cargos negativo.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovimientoBancario {
+
+    private LocalDate fecha;
+    private BigDecimal importe;
+
+    /**
+     * Referencia estructurada del cobro (referencia de mandato o EndToEndId en CAMT.053)
+     */
+    private String referencia;
+
+    /**
+     * Concepto libre del apunte
+     */
+    private String concepto;
+}
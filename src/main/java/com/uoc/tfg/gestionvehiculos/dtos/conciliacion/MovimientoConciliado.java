@@ -0,0 +1,37 @@
+package com.uoc.tfg.gestionvehiculos.dtos.conciliacion;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoConciliacion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resultado de conciliar un movimiento del extracto
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MovimientoConciliado {
+
+    private long posicion;
+    private LocalDate fecha;
+    private BigDecimal importe;
+    private String referencia;
+    private EstadoConciliacion estado;
+    private Long cuotaId;
+    private Long contratoId;
+    private String numeroContrato;
+    private Integer numeroCuota;
+    private String mensaje;
+}
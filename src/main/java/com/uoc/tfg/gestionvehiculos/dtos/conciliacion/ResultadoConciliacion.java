@@ -0,0 +1,46 @@
+package com.uoc.tfg.gestionvehiculos.dtos.conciliacion;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoConciliacion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Informe de una ejecución de conciliación: recuentos por estado, tasa de acierto y tiempos por fase
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoConciliacion {
+
+    private long movimientos;
+    private Map<EstadoConciliacion, Long> porEstado;
+
+    /**
+     * Porcentaje de abonos conciliados automáticamente (los cargos ignorados no cuentan)
+     */
+    private double tasaConciliacion;
+    private BigDecimal importeConciliado;
+
+    private int cuotasAbiertas;
+    private long msIndice;
+    private long msLectura;
+    private long msAplicacion;
+    private long msTotal;
+
+    /**
+     * Movimientos uno a uno, hasta {@code conciliacion.max-detalle}; los recuentos incluyen todos
+     */
+    private List<MovimientoConciliado> detalle;
+    private boolean detalleTruncado;
+}
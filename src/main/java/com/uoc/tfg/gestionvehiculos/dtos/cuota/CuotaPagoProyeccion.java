@@ -0,0 +1,28 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cuota;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Datos mínimos de una cuota para validar un pago masivo sin cargar la entidad ni su contrato
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CuotaPagoProyeccion {
+
+    private Long id;
+    private Long contratoId;
+    private String numeroContrato;
+    private Integer numeroCuota;
+    private BigDecimal importe;
+    private EstadoCuota estado;
+}
@@ -0,0 +1,74 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cuota;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pago de varias cuotas en una sola petición. Las cuotas se indican por id,
+ * por número de contrato y número de cuota, o combinando ambas listas.
+ * <p>
+ * El constructor con todos los campos es privado (solo lo usa el builder) para que Jackson rellene
+ * la petición con los setters, que convierten las listas nulas en vacías.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PagoMasivoRequest {
+
+    @NotNull(message = "La fecha de pago es obligatoria")
+    @PastOrPresent(message = "La fecha de pago no puede ser futura")
+    private LocalDate fechaPago;
+
+    @Builder.Default
+    private List<@NotNull Long> cuotaIds = new ArrayList<>();
+
+    @Valid
+    @Builder.Default
+    private List<ReferenciaCuota> referencias = new ArrayList<>();
+
+    /**
+     * Cuotas por transacción. Si no se indica, todas las cuotas se pagan en una única transacción
+     */
+    @Min(value = 1, message = "El tamaño de bloque debe ser al menos 1")
+    private Integer tamanoBloque;
+
+    /**
+     * Un {@code "cuotaIds": null} explícito en el JSON equivale a no indicar ninguna
+     */
+    public void setCuotaIds(List<Long> cuotaIds) {
+        this.cuotaIds = cuotaIds != null ? cuotaIds : new ArrayList<>();
+    }
+
+    public void setReferencias(List<ReferenciaCuota> referencias) {
+        this.referencias = referencias != null ? referencias : new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReferenciaCuota {
+
+        @NotBlank(message = "El número de contrato es obligatorio")
+        private String numeroContrato;
+
+        @NotNull(message = "El número de cuota es obligatorio")
+        private Integer numeroCuota;
+    }
+}
@@ -0,0 +1,25 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cuota;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PagoMasivoResponse {
+
+    private int total;
+    private int pagadas;
+    private int rechazadas;
+    private List<ResultadoPagoCuota> resultados;
+}
@@ -0,0 +1,28 @@
+package com.uoc.tfg.gestionvehiculos.dtos.cuota;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado del pago masivo para una cuota concreta
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoPagoCuota {
+
+    private Long cuotaId;
+    private String numeroContrato;
+    private Integer numeroCuota;
+    private boolean pagada;
+    private String mensaje;
+}
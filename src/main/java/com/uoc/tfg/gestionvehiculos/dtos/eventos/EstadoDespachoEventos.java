@@ -0,0 +1,46 @@
+package com.uoc.tfg.gestionvehiculos.dtos.eventos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado del despacho de eventos de dominio
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoDespachoEventos {
+
+    private long pendientes;
+    private long fallidos;
+
+    /**
+     * Contadores desde el arranque
+     */
+    private long procesados;
+    private long reintentos;
+    private long descartados;
+
+    /**
+     * Antigüedad del evento pendiente más antiguo
+     */
+    private long retrasoPendienteMs;
+
+    /**
+     * Tiempo entre el registro y la entrega del último evento entregado, y el máximo del último lote
+     */
+    private long retrasoUltimoMs;
+    private long retrasoMaximoLoteMs;
+
+    private LocalDateTime ultimoDespacho;
+    private int manejadores;
+}
@@ -0,0 +1,35 @@
+package com.uoc.tfg.gestionvehiculos.dtos.eventos;
+
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Evento de dominio tal como lo recibe un manejador
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoDominio {
+
+    private Long id;
+    private TipoEventoDominio tipo;
+    private Long agregadoId;
+    private Map<String, Object> datos;
+    private LocalDateTime fechaCreacion;
+
+    /**
+     * 1 en la primera entrega; mayor si es un reintento
+     */
+    private int intento;
+}
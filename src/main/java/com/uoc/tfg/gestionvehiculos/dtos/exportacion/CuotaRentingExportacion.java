@@ -0,0 +1,44 @@
+package com.uoc.tfg.gestionvehiculos.dtos.exportacion;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Proyección de cuota de renting para exportación (se construye en la propia consulta JPQL)
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CuotaRentingExportacion implements FilaExportacion {
+
+    public static final List<String> CABECERA = List.of(
+            "id", "contratoNumero", "clienteDocumento", "numeroCuota",
+            "fechaVencimiento", "fechaPago", "importe", "estado"
+    );
+
+    private Long id;
+    private String contratoNumero;
+    private String clienteDocumento;
+    private Integer numeroCuota;
+    private LocalDate fechaVencimiento;
+    private LocalDate fechaPago;
+    private BigDecimal importe;
+    private EstadoCuota estado;
+
+    @Override
+    public List<Object> valores() {
+        return Arrays.asList(id, contratoNumero, clienteDocumento, numeroCuota,
+                fechaVencimiento, fechaPago, importe, estado);
+    }
+}
@@ -0,0 +1,45 @@
+package com.uoc.tfg.gestionvehiculos.dtos.exportacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Proyección de factura de compra para exportación (se construye en la propia consulta JPQL)
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacturaCompraExportacion implements FilaExportacion {
+
+    public static final List<String> CABECERA = List.of(
+            "id", "numeroFactura", "fechaFactura", "proveedorCif", "proveedorRazonSocial",
+            "vehiculoMatricula", "vehiculoBastidor", "importeBase", "iva", "importeTotal"
+    );
+
+    private Long id;
+    private String numeroFactura;
+    private LocalDate fechaFactura;
+    private String proveedorCif;
+    private String proveedorRazonSocial;
+    private String vehiculoMatricula;
+    private String vehiculoBastidor;
+    private BigDecimal importeBase;
+    private BigDecimal iva;
+    private BigDecimal importeTotal;
+
+    @Override
+    public List<Object> valores() {
+        return Arrays.asList(id, numeroFactura, fechaFactura, proveedorCif, proveedorRazonSocial,
+                vehiculoMatricula, vehiculoBastidor, importeBase, iva, importeTotal);
+    }
+}
@@ -0,0 +1,45 @@
+package com.uoc.tfg.gestionvehiculos.dtos.exportacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Proyección de factura de venta para exportación (se construye en la propia consulta JPQL)
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacturaVentaExportacion implements FilaExportacion {
+
+    public static final List<String> CABECERA = List.of(
+            "id", "numeroFactura", "fechaFactura", "clienteDocumento", "clienteNombre",
+            "vehiculoMatricula", "importeBase", "iva", "descuento", "importeTotal"
+    );
+
+    private Long id;
+    private String numeroFactura;
+    private LocalDate fechaFactura;
+    private String clienteDocumento;
+    private String clienteNombre;
+    private String vehiculoMatricula;
+    private BigDecimal importeBase;
+    private BigDecimal iva;
+    private BigDecimal descuento;
+    private BigDecimal importeTotal;
+
+    @Override
+    public List<Object> valores() {
+        return Arrays.asList(id, numeroFactura, fechaFactura, clienteDocumento, clienteNombre,
+                vehiculoMatricula, importeBase, iva, descuento, importeTotal);
+    }
+}
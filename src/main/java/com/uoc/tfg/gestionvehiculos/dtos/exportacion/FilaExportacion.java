@@ -0,0 +1,16 @@
+package com.uoc.tfg.gestionvehiculos.dtos.exportacion;
+
+import java.util.List;
+
+/**
+ * Fila plana de una exportación. Los valores se devuelven en el mismo orden
+ * que la cabecera CSV de cada tipo de fila.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public interface FilaExportacion {
+
+    List<Object> valores();
+}
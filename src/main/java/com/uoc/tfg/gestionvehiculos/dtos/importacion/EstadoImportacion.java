@@ -0,0 +1,79 @@
+package com.uoc.tfg.gestionvehiculos.dtos.importacion;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoFilaImportacion;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progreso de una importación en segundo plano. Lo actualiza el hilo que procesa
+ * el fichero y se consulta desde las peticiones de seguimiento.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EstadoImportacion {
+
+    private final String id;
+    private final String tipo;
+    private final String usuario;
+    private final LocalDateTime fechaInicio = LocalDateTime.now();
+    private volatile LocalDateTime fechaFin;
+    private volatile String error;
+
+    private final AtomicLong filasProcesadas = new AtomicLong();
+    private final AtomicLong filasCreadas = new AtomicLong();
+    private final AtomicLong filasRechazadas = new AtomicLong();
+
+    /**
+     * Última fila del fichero cuyo bloque ya está confirmado en BD. Si la importación
+     * se interrumpe, puede reanudarse con el mismo fichero a partir de la fila siguiente.
+     */
+    private final AtomicLong ultimaFilaConfirmada = new AtomicLong();
+
+    @JsonIgnore
+    private final Queue<ResultadoFilaImportacion> resultados = new ConcurrentLinkedQueue<>();
+
+    public EstadoImportacion(String id, String tipo, String usuario) {
+        this.id = id;
+        this.tipo = tipo;
+        this.usuario = usuario;
+    }
+
+    public boolean isFinalizada() {
+        return fechaFin != null;
+    }
+
+    public void registrar(Collection<ResultadoFilaImportacion> bloque) {
+        for (ResultadoFilaImportacion resultado : bloque) {
+            if (resultado.getEstado() == EstadoFilaImportacion.CREADO) {
+                filasCreadas.incrementAndGet();
+            } else {
+                filasRechazadas.incrementAndGet();
+            }
+            resultados.add(resultado);
+        }
+        filasProcesadas.addAndGet(bloque.size());
+    }
+
+    public void confirmarHasta(long fila) {
+        ultimaFilaConfirmada.set(fila);
+    }
+
+    public void fallar(String mensaje) {
+        this.error = mensaje;
+    }
+
+    public void finalizar() {
+        this.fechaFin = LocalDateTime.now();
+    }
+}
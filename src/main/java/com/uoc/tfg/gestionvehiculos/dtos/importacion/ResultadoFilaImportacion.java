@@ -0,0 +1,36 @@
+package com.uoc.tfg.gestionvehiculos.dtos.importacion;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoFilaImportacion;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoFilaImportacion {
+
+    private long fila;
+    private String clave;
+    private EstadoFilaImportacion estado;
+    private Long id;
+    private List<String> mensajes;
+
+    public static ResultadoFilaImportacion creado(long fila, String clave, Long id) {
+        return new ResultadoFilaImportacion(fila, clave, EstadoFilaImportacion.CREADO, id, null);
+    }
+
+    public static ResultadoFilaImportacion rechazado(long fila, String clave, EstadoFilaImportacion estado,
+                                                    List<String> mensajes) {
+        return new ResultadoFilaImportacion(fila, clave, estado, null, mensajes);
+    }
+}
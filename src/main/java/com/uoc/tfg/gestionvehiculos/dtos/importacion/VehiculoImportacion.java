@@ -0,0 +1,80 @@
+package com.uoc.tfg.gestionvehiculos.dtos.importacion;
+
+import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fila de importación masiva de vehículos. Los campos de factura son opcionales,
+ * pero si se informa el número de factura el resto pasan a ser obligatorios.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehiculoImportacion {
+
+    @NotBlank(message = "La matrícula es obligatoria")
+    @Size(max = 10, message = "La matrícula no puede tener más de 10 caracteres")
+    private String matricula;
+
+    @NotBlank(message = "La marca es obligatoria")
+    @Size(max = 50, message = "La marca no puede tener más de 50 caracteres")
+    private String marca;
+
+    @NotBlank(message = "El modelo es obligatorio")
+    @Size(max = 50, message = "El modelo no puede tener más de 50 caracteres")
+    private String modelo;
+
+    @NotNull(message = "El año de fabricación es obligatorio")
+    @Min(value = 1900, message = "El año debe ser posterior a 1900")
+    @Max(value = 2100, message = "El año no puede ser posterior a 2100")
+    private Integer anyoFabricacion;
+
+    @Size(max = 30, message = "El color no puede tener más de 30 caracteres")
+    private String color;
+
+    @NotNull(message = "Los kilómetros son obligatorios")
+    @Min(value = 0, message = "Los kilómetros no pueden ser negativos")
+    private Integer kilometros;
+
+    @NotBlank(message = "El número de bastidor es obligatorio")
+    @Size(max = 17, message = "El número de bastidor no puede tener más de 17 caracteres")
+    private String numeroBastidor;
+
+    @NotNull(message = "El tipo de combustible es obligatorio")
+    private TipoCombustible tipoCombustible;
+
+    /**
+     * Nombre de la situación inicial (DISPONIBLE si no se indica)
+     */
+    private String situacion;
+
+    @Size(max = 50, message = "El número de factura no puede tener más de 50 caracteres")
+    private String numeroFactura;
+
+    private LocalDate fechaFactura;
+
+    @DecimalMin(value = "0.0", message = "El importe base debe ser positivo")
+    private BigDecimal importeBase;
+
+    @DecimalMin(value = "0.0", message = "El IVA debe ser positivo")
+    private BigDecimal iva;
+
+    @Size(max = 20, message = "El CIF no puede tener más de 20 caracteres")
+    private String proveedorCif;
+
+    public boolean tieneFactura() {
+        return numeroFactura != null && !numeroFactura.isBlank();
+    }
+}
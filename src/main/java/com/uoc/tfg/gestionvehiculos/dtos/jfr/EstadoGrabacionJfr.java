@@ -0,0 +1,34 @@
+package com.uoc.tfg.gestionvehiculos.dtos.jfr;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de la grabación JFR bajo demanda
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoGrabacionJfr {
+
+    /**
+     * SIN_GRABACION, RUNNING, STOPPED o CLOSED
+     */
+    private String estado;
+
+    private String configuracion;
+    private LocalDateTime inicio;
+    private Long duracionMin;
+    private Long maxEdadMin;
+    private Long maxTamanoMb;
+    private long tamanoBytes;
+}
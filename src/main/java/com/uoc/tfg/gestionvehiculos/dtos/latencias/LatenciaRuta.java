@@ -0,0 +1,38 @@
+package com.uoc.tfg.gestionvehiculos.dtos.latencias;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Percentiles de latencia de un endpoint para una clase de estado HTTP dentro de la ventana actual
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatenciaRuta {
+
+    /**
+     * Método HTTP y plantilla de ruta, p. ej. "GET /api/contratos-renting/{id}"
+     */
+    private String endpoint;
+
+    /**
+     * 2xx, 3xx, 4xx o 5xx
+     */
+    private String claseEstado;
+
+    private long peticiones;
+    private double mediaMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+}
@@ -0,0 +1,45 @@
+package com.uoc.tfg.gestionvehiculos.dtos.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sentencias SQL acumuladas por las peticiones a un endpoint
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasSqlEndpoint {
+
+    /**
+     * Método HTTP y plantilla de ruta, p. ej. "GET /api/vehiculos/{id}"
+     */
+    private String endpoint;
+    private long peticiones;
+    private long sentencias;
+    private double mediaSentencias;
+    private long maxSentencias;
+    private long filas;
+    private long tiempoBdMs;
+    private double mediaTiempoBdMs;
+
+    /**
+     * Peticiones que superaron el umbral de sentencias o de tiempo de base de datos
+     */
+    private long peticionesSobreUmbral;
+
+    /**
+     * Peticiones que repitieron una misma sentencia más veces que el umbral de repeticiones
+     */
+    private long sospechasNMasUno;
+
+    private String ultimaSentenciaRepetida;
+    private int repeticionesUltimaSentencia;
+}
@@ -0,0 +1,32 @@
+package com.uoc.tfg.gestionvehiculos.dtos.vehiculo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de resultados de la búsqueda de vehículos junto con los recuentos por faceta.
+ * Cada faceta se calcula con todos los filtros salvo el suyo, para poder ofrecer
+ * las alternativas a la selección actual.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusquedaVehiculosResponse {
+
+    private List<VehiculoResponse> contenido;
+    private int pagina;
+    private int tamano;
+    private long totalElementos;
+    private int totalPaginas;
+    private Map<String, Map<String, Long>> facetas;
+}
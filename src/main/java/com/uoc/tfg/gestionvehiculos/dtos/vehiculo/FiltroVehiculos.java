@@ -0,0 +1,39 @@
+package com.uoc.tfg.gestionvehiculos.dtos.vehiculo;
+
+import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Filtros de la búsqueda de vehículos. Los campos sin informar no filtran;
+ * los de tipo lista admiten varios valores (cualquiera de ellos).
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroVehiculos {
+
+    private String marca;
+    private String modelo;
+    private List<TipoCombustible> tipoCombustible;
+    private List<String> situacion;
+    private Integer anyoDesde;
+    private Integer anyoHasta;
+    private Integer kilometrosDesde;
+    private Integer kilometrosHasta;
+
+    /**
+     * Por defecto solo vehículos activos
+     */
+    @Builder.Default
+    private Boolean activo = true;
+}
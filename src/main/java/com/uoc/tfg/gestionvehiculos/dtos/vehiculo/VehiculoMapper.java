@@ -1,6 +1,7 @@
 package com.uoc.tfg.gestionvehiculos.dtos.vehiculo;
 
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.VehiculoResumen;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -35,6 +36,35 @@ public class VehiculoMapper {
                 .build();
     }
 
+    public static VehiculoResumenResponse toResumenResponse(VehiculoResumen resumen) {
+        if (resumen == null) {
+            return null;
+        }
+
+        return VehiculoResumenResponse.builder()
+                .id(resumen.getVehiculoId())
+                .matricula(resumen.getMatricula())
+                .marca(resumen.getMarca())
+                .modelo(resumen.getModelo())
+                .anyoFabricacion(resumen.getAnyoFabricacion())
+                .kilometros(resumen.getKilometros())
+                .situacionNombre(resumen.getSituacion())
+                .activo(resumen.getActivo())
+                .contratoId(resumen.getContratoId())
+                .numeroContrato(resumen.getNumeroContrato())
+                .estadoContrato(resumen.getEstadoContrato())
+                .cuotaMensual(resumen.getCuotaMensual())
+                .fechaFinContrato(resumen.getFechaFinContrato())
+                .reservaId(resumen.getReservaId())
+                .estadoReserva(resumen.getEstadoReserva())
+                .fechaLimiteReserva(resumen.getFechaLimiteReserva())
+                .clienteId(resumen.getClienteId())
+                .clienteNombre(resumen.getClienteNombre())
+                .precioCompra(resumen.getPrecioCompra())
+                .precioVenta(resumen.getPrecioVenta())
+                .build();
+    }
+
     public static Vehiculo toEntity(VehiculoRequest request) {
         if (request == null) {
             return null;
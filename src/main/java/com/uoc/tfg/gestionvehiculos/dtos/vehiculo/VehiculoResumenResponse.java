@@ -0,0 +1,51 @@
+package com.uoc.tfg.gestionvehiculos.dtos.vehiculo;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoReserva;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Ficha resumida de un vehículo para el detalle y los listados: situación, contrato en curso,
+ * última reserva, cliente y precios de compra y venta
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehiculoResumenResponse {
+
+    private Long id;
+    private String matricula;
+    private String marca;
+    private String modelo;
+    private Integer anyoFabricacion;
+    private Integer kilometros;
+    private String situacionNombre;
+    private Boolean activo;
+
+    private Long contratoId;
+    private String numeroContrato;
+    private EstadoContrato estadoContrato;
+    private BigDecimal cuotaMensual;
+    private LocalDate fechaFinContrato;
+
+    private Long reservaId;
+    private EstadoReserva estadoReserva;
+    private LocalDate fechaLimiteReserva;
+
+    private Long clienteId;
+    private String clienteNombre;
+
+    private BigDecimal precioCompra;
+    private BigDecimal precioVenta;
+}
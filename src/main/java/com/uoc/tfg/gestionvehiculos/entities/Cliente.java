@@ -1,5 +1,6 @@
 package com.uoc.tfg.gestionvehiculos.entities;
 
+import com.uoc.tfg.gestionvehiculos.cache.RegionesCache;
 import com.uoc.tfg.gestionvehiculos.entities.base.AuditableEntity;
 import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
 import jakarta.persistence.*;
@@ -11,6 +12,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -29,6 +34,8 @@ import lombok.NoArgsConstructor;
                 @Index(name = "idx_tipo_cliente", columnList = "tipo_cliente")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.CLIENTES)
+@NaturalIdCache(region = RegionesCache.CLIENTES_DOCUMENTO)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -44,6 +51,7 @@ public class Cliente extends AuditableEntity {
     @Column(name = "tipo_cliente", nullable = false, length = 20)
     private TipoCliente tipoCliente;
 
+    @NaturalId(mutable = true)
     @NotBlank(message = "El documento (DNI/CIF) es obligatorio")
     @Size(max = 20)
     @Column(nullable = false, unique = true, length = 20)
@@ -30,10 +30,11 @@ import java.util.List;
                 @UniqueConstraint(name = "uk_numero_contrato", columnNames = "numero_contrato")
         },
         indexes = {
-                @Index(name = "idx_cliente", columnList = "cliente_id"),
-                @Index(name = "idx_vehiculo", columnList = "vehiculo_id"),
-                @Index(name = "idx_estado", columnList = "estado"),
-                @Index(name = "idx_fecha_inicio", columnList = "fecha_inicio")
+                @Index(name = "idx_contrato_cliente", columnList = "cliente_id"),
+                @Index(name = "idx_contrato_vehiculo", columnList = "vehiculo_id"),
+                @Index(name = "idx_contrato_estado", columnList = "estado"),
+                @Index(name = "idx_fecha_inicio", columnList = "fecha_inicio"),
+                @Index(name = "idx_contrato_activo_actualizacion", columnList = "activo, fecha_actualizacion")
         }
 )
 @Data
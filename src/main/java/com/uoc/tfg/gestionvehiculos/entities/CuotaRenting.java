@@ -25,7 +25,7 @@ import java.time.LocalDate;
 @Table(name = "cuotas_renting",
         indexes = {
                 @Index(name = "idx_contrato", columnList = "contrato_id"),
-                @Index(name = "idx_estado", columnList = "estado"),
+                @Index(name = "idx_cuota_estado", columnList = "estado"),
                 @Index(name = "idx_fecha_vencimiento", columnList = "fecha_vencimiento")
         }
 )
@@ -0,0 +1,72 @@
+package com.uoc.tfg.gestionvehiculos.entities;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoEventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio pendiente de entregar. Se inserta en la misma transacción que el cambio que
+ * lo origina, así que existe si y solo si el cambio se confirmó.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Entity
+@Table(name = "eventos_outbox",
+        indexes = {
+                @Index(name = "idx_eventos_outbox_estado", columnList = "estado, id"),
+                @Index(name = "idx_eventos_outbox_agregado", columnList = "agregado, agregado_id, id")
+        }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private TipoEventoDominio tipo;
+
+    @Column(nullable = false, length = 40)
+    private String agregado;
+
+    @Column(name = "agregado_id", nullable = false)
+    private Long agregadoId;
+
+    /**
+     * Datos del evento en JSON
+     */
+    @Column(columnDefinition = "TEXT")
+    private String datos;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoEventoOutbox estado;
+
+    @Column(nullable = false)
+    private int intentos;
+
+    @Column(name = "siguiente_intento")
+    private LocalDateTime siguienteIntento;
+
+    @Column(name = "ultimo_error", length = 500)
+    private String ultimoError;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "fecha_procesado")
+    private LocalDateTime fechaProcesado;
+}
@@ -27,7 +27,7 @@ import java.time.LocalDate;
         },
         indexes = {
                 @Index(name = "idx_proveedor", columnList = "proveedor_id"),
-                @Index(name = "idx_vehiculo", columnList = "vehiculo_id"),
+                @Index(name = "idx_vehiculo_compra", columnList = "vehiculo_id"),
                 @Index(name = "idx_fecha_factura", columnList = "fecha_factura")
         }
 )
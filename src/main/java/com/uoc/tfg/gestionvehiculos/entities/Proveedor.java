@@ -1,5 +1,6 @@
 package com.uoc.tfg.gestionvehiculos.entities;
 
+import com.uoc.tfg.gestionvehiculos.cache.RegionesCache;
 import com.uoc.tfg.gestionvehiculos.entities.base.AuditableEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
@@ -9,6 +10,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -26,6 +31,8 @@ import lombok.NoArgsConstructor;
                 @Index(name = "idx_cif", columnList = "cif")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.PROVEEDORES)
+@NaturalIdCache(region = RegionesCache.PROVEEDORES_CIF)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -36,6 +43,7 @@ public class Proveedor extends AuditableEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @NotBlank(message = "El CIF es obligatorio")
     @Size(max = 20)
     @Column(nullable = false, unique = true, length = 20)
@@ -23,9 +23,9 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "reservas_venta",
         indexes = {
-                @Index(name = "idx_cliente", columnList = "cliente_id"),
-                @Index(name = "idx_vehiculo", columnList = "vehiculo_id"),
-                @Index(name = "idx_estado", columnList = "estado"),
+                @Index(name = "idx_reserva_cliente", columnList = "cliente_id"),
+                @Index(name = "idx_reserva_vehiculo", columnList = "vehiculo_id"),
+                @Index(name = "idx_reserva_estado", columnList = "estado"),
                 @Index(name = "idx_fecha_reserva", columnList = "fecha_reserva")
         }
 )
@@ -1,14 +1,21 @@
 package com.uoc.tfg.gestionvehiculos.entities;
 
+import com.uoc.tfg.gestionvehiculos.cache.RegionesCache;
 import com.uoc.tfg.gestionvehiculos.entities.base.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "situaciones_vehiculo")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.SITUACIONES)
+@NaturalIdCache(region = RegionesCache.SITUACIONES_NOMBRE)
 @EqualsAndHashCode(callSuper = true)
 @Data
 @NoArgsConstructor
@@ -19,6 +26,7 @@ public class SituacionVehiculo extends AuditableEntity{
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 20)
     private String nombre;
 
@@ -1,5 +1,6 @@
 package com.uoc.tfg.gestionvehiculos.entities;
 
+import com.uoc.tfg.gestionvehiculos.cache.RegionesCache;
 import com.uoc.tfg.gestionvehiculos.entities.base.AuditableEntity;
 import com.uoc.tfg.gestionvehiculos.enums.Rol;
 import jakarta.persistence.*;
@@ -11,6 +12,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -31,6 +36,8 @@ import java.util.List;
                 @Index(name = "idx_activo", columnList = "activo")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.USUARIOS)
+@NaturalIdCache(region = RegionesCache.USUARIOS_USERNAME)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -41,6 +48,7 @@ public class Usuario extends AuditableEntity implements UserDetails {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @NotBlank(message = "El nombre de usuario es obligatorio")
     @Size(min = 4, max = 50, message = "El username debe tener entre 4 y 50 caracteres")
     @Column(nullable = false, unique = true, length = 50)
@@ -22,7 +22,11 @@ import java.util.List;
 @Table(name = "vehiculos", indexes = {
         @Index(name = "idx_matricula", columnList = "matricula"),
         @Index(name = "idx_situacion", columnList = "situacion_id"),
-        @Index(name = "idx_marca_modelo", columnList = "marca, modelo")
+        @Index(name = "idx_marca_modelo", columnList = "marca, modelo"),
+        @Index(name = "idx_vehiculo_activo_situacion_marca", columnList = "activo, situacion_id, marca"),
+        @Index(name = "idx_vehiculo_combustible_anyo", columnList = "tipo_combustible, anyo_fabricacion"),
+        @Index(name = "idx_vehiculo_anyo_kilometros", columnList = "anyo_fabricacion, kilometros"),
+        @Index(name = "idx_vehiculo_activo_actualizacion", columnList = "activo, fecha_actualizacion")
 })
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -0,0 +1,110 @@
+package com.uoc.tfg.gestionvehiculos.entities;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoReserva;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de lectura con una fila por vehículo: su situación, el contrato en curso, la última reserva,
+ * el cliente y los precios de compra y venta, ya resueltos. Lo mantiene {@code ResumenVehiculos}
+ * en cada escritura que afecta a alguno de estos datos; desde la aplicación solo se lee.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Entity
+@Immutable
+@Table(name = "vehiculo_resumen",
+        indexes = {
+                @Index(name = "idx_vehiculo_resumen_situacion", columnList = "activo, situacion, vehiculo_id"),
+                @Index(name = "idx_vehiculo_resumen_cliente", columnList = "cliente_id")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehiculoResumen {
+
+    @Id
+    @Column(name = "vehiculo_id")
+    private Long vehiculoId;
+
+    @Column(nullable = false, length = 10)
+    private String matricula;
+
+    @Column(nullable = false, length = 50)
+    private String marca;
+
+    @Column(nullable = false, length = 50)
+    private String modelo;
+
+    @Column(name = "anyo_fabricacion")
+    private Integer anyoFabricacion;
+
+    private Integer kilometros;
+
+    @Column(nullable = false, length = 20)
+    private String situacion;
+
+    @Column(nullable = false)
+    private Boolean activo;
+
+    /**
+     * Contrato pendiente o activo más reciente
+     */
+    @Column(name = "contrato_id")
+    private Long contratoId;
+
+    @Column(name = "numero_contrato", length = 50)
+    private String numeroContrato;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado_contrato", length = 20)
+    private EstadoContrato estadoContrato;
+
+    @Column(name = "cuota_mensual", precision = 10, scale = 2)
+    private BigDecimal cuotaMensual;
+
+    @Column(name = "fecha_fin_contrato")
+    private LocalDate fechaFinContrato;
+
+    /**
+     * Reserva más reciente, en cualquier estado
+     */
+    @Column(name = "reserva_id")
+    private Long reservaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado_reserva", length = 20)
+    private EstadoReserva estadoReserva;
+
+    @Column(name = "fecha_limite_reserva")
+    private LocalDate fechaLimiteReserva;
+
+    /**
+     * Cliente del contrato o, si no hay contrato, de la reserva pendiente o confirmada
+     */
+    @Column(name = "cliente_id")
+    private Long clienteId;
+
+    @Column(name = "cliente_nombre", length = 401)
+    private String clienteNombre;
+
+    @Column(name = "precio_compra", precision = 10, scale = 2)
+    private BigDecimal precioCompra;
+
+    @Column(name = "precio_venta", precision = 10, scale = 2)
+    private BigDecimal precioVenta;
+
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+}
@@ -0,0 +1,15 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * Tipos de entidad de los que dependen las respuestas guardadas en la caché de respuestas
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum EntidadCacheada {
+    VEHICULO,
+    SITUACION_VEHICULO,
+    PROVEEDOR,
+    USUARIO
+}
@@ -0,0 +1,28 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Entidades cuyos cambios se publican en el canal de cambios, con los roles que pueden recibirlos
+ * (los mismos que pueden consultar su listado)
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum EntidadCambio {
+    VEHICULO(EnumSet.of(Rol.ADMIN, Rol.GERENTE, Rol.COMERCIAL, Rol.OPERARIO)),
+    CONTRATO_RENTING(EnumSet.of(Rol.ADMIN, Rol.GERENTE, Rol.COMERCIAL)),
+    CUOTA_RENTING(EnumSet.of(Rol.ADMIN, Rol.GERENTE, Rol.COMERCIAL));
+
+    private final Set<Rol> roles;
+
+    EntidadCambio(Set<Rol> roles) {
+        this.roles = roles;
+    }
+
+    public Set<Rol> getRoles() {
+        return roles;
+    }
+}
@@ -0,0 +1,31 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum EstadoConciliacion {
+    CONCILIADO("Conciliado", "Movimiento asignado a una cuota y cuota marcada como pagada"),
+    AMBIGUO("Ambiguo", "El movimiento encaja con cuotas de varios contratos; requiere revisión manual"),
+    IMPORTE_DISTINTO("Importe distinto", "El contrato se ha identificado pero ninguna cuota abierta tiene ese importe"),
+    SIN_COINCIDENCIA("Sin coincidencia", "No se ha identificado ningún contrato en el movimiento"),
+    IGNORADO("Ignorado", "Movimiento que no es un abono"),
+    ERROR("Error", "La cuota cambió de estado antes de poder aplicarse el pago");
+
+    private final String nombre;
+    private final String descripcion;
+
+    EstadoConciliacion(String nombre, String descripcion) {
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
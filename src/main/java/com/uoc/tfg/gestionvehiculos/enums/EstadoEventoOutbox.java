@@ -0,0 +1,14 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * Estado de un evento en la tabla de salida. FALLIDO indica que agotó los reintentos
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum EstadoEventoOutbox {
+    PENDIENTE,
+    PROCESADO,
+    FALLIDO
+}
@@ -0,0 +1,29 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum EstadoFilaImportacion {
+    CREADO("Creado", "Fila importada correctamente"),
+    DUPLICADO("Duplicado", "Ya existe en la BD o aparece repetida en el fichero"),
+    INVALIDO("Inválido", "La fila no supera las validaciones"),
+    ERROR("Error", "Error al guardar el bloque que contenía la fila");
+
+    private final String nombre;
+    private final String descripcion;
+
+    EstadoFilaImportacion(String nombre, String descripcion) {
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
@@ -0,0 +1,29 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * Formatos admitidos para los extractos bancarios a conciliar
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum FormatoExtracto {
+    CAMT053("CAMT.053", "Extracto ISO 20022 en XML"),
+    CSV("CSV", "Fichero CSV con cabecera fecha,importe,referencia,concepto");
+
+    private final String nombre;
+    private final String descripcion;
+
+    FormatoExtracto(String nombre, String descripcion) {
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
@@ -0,0 +1,27 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * Eventos de dominio que se guardan en la tabla de salida (outbox), con el tipo de agregado
+ * al que pertenecen: los eventos de un mismo agregado se entregan en el orden en que se registraron
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum TipoEventoDominio {
+    CONTRATO_CREADO("CONTRATO_RENTING"),
+    CUOTA_PAGADA("CUOTA_RENTING"),
+    RESERVA_COMPLETADA("RESERVA_VENTA"),
+    RESERVA_EXPIRADA("RESERVA_VENTA"),
+    VEHICULO_VENDIDO("VEHICULO");
+
+    private final String agregado;
+
+    TipoEventoDominio(String agregado) {
+        this.agregado = agregado;
+    }
+
+    public String getAgregado() {
+        return agregado;
+    }
+}
@@ -0,0 +1,28 @@
+package com.uoc.tfg.gestionvehiculos.enums;
+
+/**
+ * Tipos de identificador que reconoce la búsqueda rápida, con el recurso REST al que pertenecen
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public enum TipoIdentificador {
+    MATRICULA("/api/vehiculos"),
+    BASTIDOR("/api/vehiculos"),
+    DOCUMENTO_CLIENTE("/api/clientes"),
+    CIF_PROVEEDOR("/api/proveedores"),
+    NUMERO_CONTRATO("/api/contratos-renting"),
+    FACTURA_COMPRA("/api/facturas-compra"),
+    FACTURA_VENTA("/api/facturas-venta");
+
+    private final String recurso;
+
+    TipoIdentificador(String recurso) {
+        this.recurso = recurso;
+    }
+
+    public String getRecurso() {
+        return recurso;
+    }
+}
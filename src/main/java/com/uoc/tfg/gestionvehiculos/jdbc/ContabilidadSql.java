@@ -0,0 +1,109 @@
+package com.uoc.tfg.gestionvehiculos.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Sentencias SQL, filas y tiempo de base de datos acumulados por el hilo actual.
+ * <p>
+ * Los contadores solo crecen: quien quiere medir un tramo (una petición, una llamada a un servicio)
+ * toma el valor al empezar y al terminar y resta. Las huellas de las sentencias (el SQL sin literales)
+ * solo se guardan mientras hay una captura abierta, para detectar la misma consulta repetida muchas
+ * veces dentro de una petición (el patrón N+1).
+ * <p>
+ * El trabajo que una petición delega en otros hilos se cuenta en esos hilos, no en la petición.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class ContabilidadSql {
+
+    private static final ThreadLocal<ContabilidadSql> ACTUAL = ThreadLocal.withInitial(ContabilidadSql::new);
+
+    private static final int MAX_HUELLAS = 200;
+    private static final int MAX_HUELLAS_NORMALIZADAS = 2000;
+    private static final Map<String, String> NORMALIZADAS = new ConcurrentHashMap<>();
+    private static final Pattern CADENAS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMEROS = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTAS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    private long sentencias;
+    private long filas;
+    private long nanos;
+    private Map<String, Integer> huellas;
+
+    private ContabilidadSql() {
+    }
+
+    public static ContabilidadSql actual() {
+        return ACTUAL.get();
+    }
+
+    public long getSentencias() {
+        return sentencias;
+    }
+
+    public long getFilas() {
+        return filas;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    void registrar(String sql, long duracionNanos) {
+        sentencias++;
+        nanos += duracionNanos;
+        if (huellas != null && sql != null && (huellas.size() < MAX_HUELLAS || huellas.containsKey(sql))) {
+            huellas.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void anadirFilas(long cantidad) {
+        if (cantidad > 0) {
+            filas += cantidad;
+        }
+    }
+
+    /**
+     * Empieza a guardar las huellas de las sentencias ejecutadas por el hilo
+     */
+    public void iniciarCaptura() {
+        huellas = new HashMap<>();
+    }
+
+    /**
+     * Deja de guardar huellas
+     *
+     * @return número de ejecuciones de cada huella desde {@link #iniciarCaptura()}
+     */
+    public Map<String, Integer> terminarCaptura() {
+        Map<String, Integer> capturadas = huellas != null ? huellas : Map.of();
+        huellas = null;
+        Map<String, Integer> normalizadas = new HashMap<>();
+        capturadas.forEach((sql, veces) -> normalizadas.merge(huella(sql), veces, Integer::sum));
+        return normalizadas;
+    }
+
+    /**
+     * SQL sin literales, con las listas de parámetros reducidas a uno y los espacios normalizados,
+     * de modo que la misma consulta con distintos valores tenga la misma huella
+     */
+    static String huella(String sql) {
+        String normalizada = NORMALIZADAS.get(sql);
+        if (normalizada == null) {
+            normalizada = CADENAS.matcher(sql).replaceAll("?");
+            normalizada = NUMEROS.matcher(normalizada).replaceAll("?");
+            normalizada = LISTAS.matcher(normalizada).replaceAll("(?...)");
+            normalizada = ESPACIOS.matcher(normalizada).replaceAll(" ").trim();
+            if (NORMALIZADAS.size() < MAX_HUELLAS_NORMALIZADAS) {
+                NORMALIZADAS.put(sql, normalizada);
+            }
+        }
+        return normalizada;
+    }
+}
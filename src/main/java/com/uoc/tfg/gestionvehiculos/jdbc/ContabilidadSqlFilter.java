@@ -0,0 +1,190 @@
+package com.uoc.tfg.gestionvehiculos.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Cuenta las sentencias SQL, filas y tiempo de base de datos de cada petición HTTP.
+ * <p>
+ * Las peticiones que superan el umbral de sentencias o de tiempo, o que repiten una misma sentencia
+ * más veces que el umbral de repeticiones (el patrón N+1: una consulta por cada elemento de una lista),
+ * se registran en el log con las sentencias repetidas. Todas se acumulan por endpoint en
+ * {@link EstadisticasSql}. Fuera de producción se pueden devolver los totales en las cabeceras
+ * X-Query-Count y X-DB-Time (ms); se escriben al empezar el cuerpo de la respuesta.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class ContabilidadSqlFilter extends OncePerRequestFilter {
+
+    static final String CABECERA_SENTENCIAS = "X-Query-Count";
+    static final String CABECERA_TIEMPO = "X-DB-Time";
+
+    private static final int REPETIDAS_EN_LOG = 3;
+    private static final int LONGITUD_SENTENCIA = 300;
+
+    private final EstadisticasSql estadisticasSql;
+    private final boolean habilitada;
+    private final boolean cabeceras;
+    private final int umbralSentencias;
+    private final long umbralMs;
+    private final int umbralRepeticiones;
+
+    public ContabilidadSqlFilter(EstadisticasSql estadisticasSql,
+                                 @Value("${sql.contabilidad.habilitada:true}") boolean habilitada,
+                                 @Value("${sql.contabilidad.cabeceras:false}") boolean cabeceras,
+                                 @Value("${sql.contabilidad.umbral-sentencias:30}") int umbralSentencias,
+                                 @Value("${sql.contabilidad.umbral-ms:500}") long umbralMs,
+                                 @Value("${sql.contabilidad.umbral-repeticiones:10}") int umbralRepeticiones) {
+        this.estadisticasSql = estadisticasSql;
+        this.habilitada = habilitada;
+        this.cabeceras = cabeceras;
+        this.umbralSentencias = umbralSentencias;
+        this.umbralMs = umbralMs;
+        this.umbralRepeticiones = umbralRepeticiones;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitada;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContabilidadSql contabilidad = ContabilidadSql.actual();
+        long sentenciasInicio = contabilidad.getSentencias();
+        long filasInicio = contabilidad.getFilas();
+        long nanosInicio = contabilidad.getNanos();
+        RespuestaConCabeceras respuesta = cabeceras
+                ? new RespuestaConCabeceras(response, contabilidad, sentenciasInicio, nanosInicio) : null;
+
+        contabilidad.iniciarCaptura();
+        try {
+            chain.doFilter(request, respuesta != null ? respuesta : response);
+        } finally {
+            Map<String, Integer> huellas = contabilidad.terminarCaptura();
+            if (respuesta != null) {
+                respuesta.anotar();
+            }
+            registrar(request, contabilidad.getSentencias() - sentenciasInicio,
+                    contabilidad.getFilas() - filasInicio, contabilidad.getNanos() - nanosInicio, huellas);
+        }
+    }
+
+    private void registrar(HttpServletRequest request, long sentencias, long filas, long nanos,
+                           Map<String, Integer> huellas) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (patron != null ? patron : "UNKNOWN");
+        long ms = nanos / 1_000_000;
+
+        Map.Entry<String, Integer> masRepetida = huellas.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .filter(e -> e.getValue() >= umbralRepeticiones)
+                .orElse(null);
+        boolean sobreUmbral = sentencias > umbralSentencias || ms > umbralMs;
+
+        estadisticasSql.registrar(endpoint, sentencias, filas, nanos, sobreUmbral,
+                masRepetida != null ? truncar(masRepetida.getKey()) : null,
+                masRepetida != null ? masRepetida.getValue() : 0);
+
+        if (sobreUmbral || masRepetida != null) {
+            String repetidas = huellas.entrySet().stream()
+                    .filter(e -> e.getValue() > 1)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(REPETIDAS_EN_LOG)
+                    .map(e -> e.getValue() + "x " + truncar(e.getKey()))
+                    .collect(Collectors.joining(" | "));
+            log.warn("{} ({}) con {} sentencias SQL, {} filas y {} ms de base de datos. Repetidas: {}",
+                    endpoint, request.getRequestURI(), sentencias, filas, ms, repetidas.isEmpty() ? "ninguna" : repetidas);
+        }
+    }
+
+    private static String truncar(String sql) {
+        return sql.length() > LONGITUD_SENTENCIA ? sql.substring(0, LONGITUD_SENTENCIA) + "..." : sql;
+    }
+
+    /**
+     * Añade las cabeceras con lo acumulado justo antes de que se empiece a escribir el cuerpo,
+     * que es cuando la respuesta deja de admitir cabeceras
+     */
+    private static final class RespuestaConCabeceras extends HttpServletResponseWrapper {
+        private final ContabilidadSql contabilidad;
+        private final long sentenciasInicio;
+        private final long nanosInicio;
+        private boolean anotada;
+
+        private RespuestaConCabeceras(HttpServletResponse response, ContabilidadSql contabilidad,
+                                      long sentenciasInicio, long nanosInicio) {
+            super(response);
+            this.contabilidad = contabilidad;
+            this.sentenciasInicio = sentenciasInicio;
+            this.nanosInicio = nanosInicio;
+        }
+
+        private void anotar() {
+            if (anotada || isCommitted()) {
+                return;
+            }
+            anotada = true;
+            setHeader(CABECERA_SENTENCIAS, String.valueOf(contabilidad.getSentencias() - sentenciasInicio));
+            setHeader(CABECERA_TIEMPO, String.valueOf((contabilidad.getNanos() - nanosInicio) / 1_000_000));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            anotar();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            anotar();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            anotar();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            anotar();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            anotar();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            anotar();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.uoc.tfg.gestionvehiculos.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource que anota en {@link ContabilidadSql} cada sentencia ejecutada, su duración y las filas
+ * leídas o modificadas. Envuelve conexiones, sentencias y resultados en proxies que solo observan:
+ * el resto de llamadas pasan tal cual al driver.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class DataSourceContabilizado extends DelegatingDataSource {
+
+    private static final Set<String> EJECUCIONES = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public DataSourceContabilizado(DataSource destino) {
+        super(destino);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return envolver(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return envolver(super.getConnection(username, password));
+    }
+
+    private static Connection envolver(Connection conexion) {
+        return (Connection) Proxy.newProxyInstance(DataSourceContabilizado.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConexionContabilizada(conexion));
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class ConexionContabilizada implements InvocationHandler {
+        private final Connection conexion;
+
+        private ConexionContabilizada(Connection conexion) {
+            this.conexion = conexion;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object resultado = invocar(conexion, metodo, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+            Class<?> tipo = switch (metodo.getName()) {
+                case "createStatement" -> Statement.class;
+                case "prepareStatement" -> PreparedStatement.class;
+                case "prepareCall" -> CallableStatement.class;
+                default -> null;
+            };
+            if (tipo == null) {
+                return resultado;
+            }
+            return Proxy.newProxyInstance(DataSourceContabilizado.class.getClassLoader(),
+                    new Class<?>[]{tipo}, new SentenciaContabilizada((Statement) resultado, sql));
+        }
+    }
+
+    private static final class SentenciaContabilizada implements InvocationHandler {
+        private final Statement sentencia;
+        private final String sqlPreparado;
+        private String sqlLote;
+
+        private SentenciaContabilizada(Statement sentencia, String sqlPreparado) {
+            this.sentencia = sentencia;
+            this.sqlPreparado = sqlPreparado;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nombre = metodo.getName();
+            if ("addBatch".equals(nombre) && args != null && args.length == 1 && sqlLote == null) {
+                sqlLote = (String) args[0];
+            }
+            if (!EJECUCIONES.contains(nombre)) {
+                Object resultado = invocar(sentencia, metodo, args);
+                return "getResultSet".equals(nombre) && resultado != null
+                        ? envolverResultado((ResultSet) resultado) : resultado;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String texto
+                    ? texto : sqlPreparado != null ? sqlPreparado : sqlLote;
+            ContabilidadSql contabilidad = ContabilidadSql.actual();
+            long inicio = System.nanoTime();
+            Object resultado;
+            try {
+                resultado = invocar(sentencia, metodo, args);
+            } finally {
+                contabilidad.registrar(sql, System.nanoTime() - inicio);
+                if (nombre.endsWith("Batch")) {
+                    sqlLote = null;
+                }
+            }
+
+            if (resultado instanceof ResultSet filas) {
+                return envolverResultado(filas);
+            }
+            if (resultado instanceof Integer cantidad) {
+                contabilidad.anadirFilas(cantidad);
+            } else if (resultado instanceof Long cantidad) {
+                contabilidad.anadirFilas(cantidad);
+            } else if (resultado instanceof int[] cantidades) {
+                for (int cantidad : cantidades) {
+                    contabilidad.anadirFilas(cantidad);
+                }
+            } else if (resultado instanceof long[] cantidades) {
+                for (long cantidad : cantidades) {
+                    contabilidad.anadirFilas(cantidad);
+                }
+            }
+            return resultado;
+        }
+    }
+
+    private static ResultSet envolverResultado(ResultSet resultado) {
+        return (ResultSet) Proxy.newProxyInstance(DataSourceContabilizado.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, metodo, args) -> {
+                    Object valor = invocar(resultado, metodo, args);
+                    if ("next".equals(metodo.getName()) && Boolean.TRUE.equals(valor)) {
+                        ContabilidadSql.actual().anadirFilas(1);
+                    }
+                    return valor;
+                });
+    }
+}
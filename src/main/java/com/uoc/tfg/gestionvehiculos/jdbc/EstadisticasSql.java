@@ -0,0 +1,93 @@
+package com.uoc.tfg.gestionvehiculos.jdbc;
+
+import com.uoc.tfg.gestionvehiculos.dtos.sql.EstadisticasSqlEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumulado por endpoint de las sentencias SQL de cada petición, para localizar los que más
+ * consultas lanzan y los sospechosos de N+1.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+public class EstadisticasSql {
+
+    private final Map<String, Acumulado> porEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * @param huellaRepetida sentencia repetida por encima del umbral en esta petición, o null
+     */
+    public void registrar(String endpoint, long sentencias, long filas, long nanos, boolean sobreUmbral,
+                          String huellaRepetida, int repeticiones) {
+        Acumulado acumulado = porEndpoint.computeIfAbsent(endpoint, e -> new Acumulado());
+        acumulado.peticiones.increment();
+        acumulado.sentencias.add(sentencias);
+        acumulado.filas.add(filas);
+        acumulado.nanos.add(nanos);
+        acumulado.maxSentencias.accumulate(sentencias);
+        if (sobreUmbral) {
+            acumulado.sobreUmbral.increment();
+        }
+        if (huellaRepetida != null) {
+            acumulado.sospechasNMasUno.increment();
+            acumulado.ultimaHuellaRepetida = huellaRepetida;
+            acumulado.repeticionesUltimaHuella = repeticiones;
+        }
+    }
+
+    /**
+     * Endpoints ordenados por sentencias totales, de más a menos
+     */
+    public List<EstadisticasSqlEndpoint> peores(int limite) {
+        return porEndpoint.entrySet().stream()
+                .map(e -> e.getValue().resumen(e.getKey()))
+                .sorted(Comparator.comparingLong(EstadisticasSqlEndpoint::getSentencias).reversed())
+                .limit(limite)
+                .toList();
+    }
+
+    public void vaciar() {
+        porEndpoint.clear();
+    }
+
+    private static final class Acumulado {
+        private final LongAdder peticiones = new LongAdder();
+        private final LongAdder sentencias = new LongAdder();
+        private final LongAdder filas = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxSentencias = new LongAccumulator(Math::max, 0);
+        private final LongAdder sobreUmbral = new LongAdder();
+        private final LongAdder sospechasNMasUno = new LongAdder();
+        private volatile String ultimaHuellaRepetida;
+        private volatile int repeticionesUltimaHuella;
+
+        private EstadisticasSqlEndpoint resumen(String endpoint) {
+            long numPeticiones = peticiones.sum();
+            long numSentencias = sentencias.sum();
+            long tiempoMs = nanos.sum() / 1_000_000;
+            return EstadisticasSqlEndpoint.builder()
+                    .endpoint(endpoint)
+                    .peticiones(numPeticiones)
+                    .sentencias(numSentencias)
+                    .mediaSentencias(numPeticiones == 0 ? 0 : (double) numSentencias / numPeticiones)
+                    .maxSentencias(maxSentencias.get())
+                    .filas(filas.sum())
+                    .tiempoBdMs(tiempoMs)
+                    .mediaTiempoBdMs(numPeticiones == 0 ? 0 : (double) tiempoMs / numPeticiones)
+                    .peticionesSobreUmbral(sobreUmbral.sum())
+                    .sospechasNMasUno(sospechasNMasUno.sum())
+                    .ultimaSentenciaRepetida(ultimaHuellaRepetida)
+                    .repeticionesUltimaSentencia(repeticionesUltimaHuella)
+                    .build();
+        }
+    }
+}
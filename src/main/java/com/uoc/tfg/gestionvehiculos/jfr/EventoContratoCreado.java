@@ -0,0 +1,33 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Alta de un contrato de renting con la generación de sus cuotas
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Name(EventosJfr.CONTRATO_CREADO)
+@Label("Contrato creado")
+@Category(EventosJfr.CATEGORIA)
+@StackTrace(false)
+public class EventoContratoCreado extends Event {
+
+    @Label("Id del contrato")
+    public long contratoId;
+
+    @Label("Número de contrato")
+    public String numeroContrato;
+
+    @Label("Meses")
+    public int duracionMeses;
+
+    @Label("Cuotas generadas")
+    public int cuotas;
+}
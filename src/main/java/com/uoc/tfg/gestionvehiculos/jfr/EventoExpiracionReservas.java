@@ -0,0 +1,24 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Pasada de cancelación de las reservas de venta expiradas
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Name(EventosJfr.EXPIRACION_RESERVAS)
+@Label("Expiración de reservas")
+@Category(EventosJfr.CATEGORIA)
+@StackTrace(false)
+public class EventoExpiracionReservas extends Event {
+
+    @Label("Reservas expiradas")
+    public int reservasExpiradas;
+}
@@ -0,0 +1,33 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Alta de una factura de compra o de venta
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Name(EventosJfr.FACTURA_CREADA)
+@Label("Factura creada")
+@Category(EventosJfr.CATEGORIA)
+@StackTrace(false)
+public class EventoFacturaCreada extends Event {
+
+    public static final String COMPRA = "COMPRA";
+    public static final String VENTA = "VENTA";
+
+    @Label("Tipo")
+    public String tipo;
+
+    @Label("Id de la factura")
+    public long facturaId;
+
+    @Label("Importe total")
+    public double importeTotal;
+}
@@ -0,0 +1,38 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Generación de un informe: exportaciones de facturas y cuotas y cálculo del beneficio total
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Name(EventosJfr.INFORME_GENERADO)
+@Label("Informe generado")
+@Category(EventosJfr.CATEGORIA)
+@StackTrace(false)
+public class EventoInformeGenerado extends Event {
+
+    @Label("Informe")
+    public String informe;
+
+    @Label("Formato")
+    public String formato;
+
+    @Label("Filas")
+    public long filas;
+
+    /**
+     * Tamaño de la respuesta, o 0 si el informe no genera un fichero
+     */
+    @Label("Tamaño")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
@@ -0,0 +1,32 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Inicio de sesión, con el tiempo dedicado a comprobar la contraseña
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Name(EventosJfr.LOGIN)
+@Label("Login")
+@Category(EventosJfr.CATEGORIA)
+@StackTrace(false)
+public class EventoLogin extends Event {
+
+    @Label("Usuario")
+    public String usuario;
+
+    @Label("Correcto")
+    public boolean exito;
+
+    @Label("Tiempo de hash")
+    @Timespan(Timespan.NANOSECONDS)
+    public long hash;
+}
@@ -0,0 +1,32 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import java.util.List;
+
+/**
+ * Nombres y categoría de los eventos JFR propios de la aplicación.
+ * <p>
+ * Los eventos se crean con {@code begin()} al empezar la operación y se confirman con {@code commit()}
+ * al terminar; si no hay ninguna grabación que los tenga activados, {@code commit()} no hace nada,
+ * así que instrumentar una operación no cuesta nada fuera de una grabación.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class EventosJfr {
+
+    static final String CATEGORIA = "Gestión de vehículos";
+    static final String PREFIJO = "gestionvehiculos.";
+
+    static final String CONTRATO_CREADO = PREFIJO + "ContratoCreado";
+    static final String LOGIN = PREFIJO + "Login";
+    static final String EXPIRACION_RESERVAS = PREFIJO + "ExpiracionReservas";
+    static final String FACTURA_CREADA = PREFIJO + "FacturaCreada";
+    static final String INFORME_GENERADO = PREFIJO + "InformeGenerado";
+
+    static final List<String> TODOS = List.of(CONTRATO_CREADO, LOGIN, EXPIRACION_RESERVAS,
+            FACTURA_CREADA, INFORME_GENERADO);
+
+    private EventosJfr() {
+    }
+}
@@ -0,0 +1,147 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import com.uoc.tfg.gestionvehiculos.dtos.jfr.EstadoGrabacionJfr;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Grabación JFR bajo demanda, sin herramientas externas ni reiniciar la JVM.
+ * <p>
+ * Solo hay una grabación a la vez y siempre está acotada: dura como mucho {@code jfr.duracion-maxima-min}
+ * y en disco conserva los últimos {@code jfr.max-edad-min} minutos sin pasar de {@code jfr.max-tamano-mb}.
+ * Parte de la configuración {@code jfr.configuracion} del JDK ("default", pensada para producción con
+ * un coste en torno al 1 %, o "profile", más detallada) y activa además los eventos propios de la
+ * aplicación sin umbral de duración.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class GrabacionesJfr {
+
+    static final String NOMBRE = "gestion-vehiculos";
+
+    private final long duracionMaximaMin;
+    private final long maxEdadMin;
+    private final long maxTamanoMb;
+    private final String configuracion;
+
+    private Recording grabacion;
+
+    public GrabacionesJfr(@Value("${jfr.duracion-maxima-min:60}") long duracionMaximaMin,
+                          @Value("${jfr.max-edad-min:15}") long maxEdadMin,
+                          @Value("${jfr.max-tamano-mb:64}") long maxTamanoMb,
+                          @Value("${jfr.configuracion:default}") String configuracion) {
+        this.duracionMaximaMin = duracionMaximaMin;
+        this.maxEdadMin = maxEdadMin;
+        this.maxTamanoMb = maxTamanoMb;
+        this.configuracion = configuracion;
+    }
+
+    /**
+     * Inicia una grabación de los minutos indicados, o de la duración máxima si no se indican
+     * o la superan
+     */
+    public synchronized EstadoGrabacionJfr iniciar(Long minutos) {
+        if (grabacion != null && grabacion.getState() == RecordingState.RUNNING) {
+            throw new InvalidOperationException("Ya hay una grabación JFR en curso");
+        }
+        cerrar();
+
+        long duracion = minutos == null ? duracionMaximaMin : Math.max(1, Math.min(minutos, duracionMaximaMin));
+        Recording nueva = new Recording(ajustes());
+        nueva.setName(NOMBRE);
+        nueva.setToDisk(true);
+        nueva.setMaxAge(Duration.ofMinutes(maxEdadMin));
+        nueva.setMaxSize(maxTamanoMb * 1024 * 1024);
+        nueva.setDuration(Duration.ofMinutes(duracion));
+        nueva.start();
+        grabacion = nueva;
+
+        log.info("Grabación JFR iniciada durante {} minutos con la configuración '{}'", duracion, configuracion);
+        return estado();
+    }
+
+    /**
+     * Detiene la grabación en curso; sus datos se pueden seguir volcando hasta la siguiente
+     */
+    public synchronized EstadoGrabacionJfr detener() {
+        if (grabacion == null || grabacion.getState() != RecordingState.RUNNING) {
+            throw new InvalidOperationException("No hay ninguna grabación JFR en curso");
+        }
+        grabacion.stop();
+        log.info("Grabación JFR detenida");
+        return estado();
+    }
+
+    public synchronized EstadoGrabacionJfr estado() {
+        if (grabacion == null) {
+            return EstadoGrabacionJfr.builder().estado("SIN_GRABACION").configuracion(configuracion).build();
+        }
+        return EstadoGrabacionJfr.builder()
+                .estado(grabacion.getState().name())
+                .configuracion(configuracion)
+                .inicio(grabacion.getStartTime() != null
+                        ? LocalDateTime.ofInstant(grabacion.getStartTime(), ZoneId.systemDefault()) : null)
+                .duracionMin(grabacion.getDuration() != null ? grabacion.getDuration().toMinutes() : null)
+                .maxEdadMin(maxEdadMin)
+                .maxTamanoMb(maxTamanoMb)
+                .tamanoBytes(grabacion.getSize())
+                .build();
+    }
+
+    /**
+     * Vuelca la grabación a un fichero temporal que el llamante debe borrar
+     */
+    public synchronized Path volcar() throws IOException {
+        if (grabacion == null || grabacion.getState() == RecordingState.NEW
+                || grabacion.getState() == RecordingState.CLOSED) {
+            throw new ResourceNotFoundException("No hay ninguna grabación JFR que volcar");
+        }
+        Path fichero = Files.createTempFile(NOMBRE + "-", ".jfr");
+        grabacion.dump(fichero);
+        log.info("Grabación JFR volcada: {} bytes", Files.size(fichero));
+        return fichero;
+    }
+
+    @PreDestroy
+    public synchronized void cerrar() {
+        if (grabacion != null) {
+            grabacion.close();
+            grabacion = null;
+        }
+    }
+
+    private Map<String, String> ajustes() {
+        Map<String, String> ajustes;
+        try {
+            ajustes = new HashMap<>(Configuration.getConfiguration(configuracion).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new InvalidOperationException("Configuración JFR no válida: " + configuracion);
+        }
+        for (String evento : EventosJfr.TODOS) {
+            ajustes.put(evento + "#enabled", "true");
+            ajustes.put(evento + "#threshold", "0 ms");
+        }
+        return ajustes;
+    }
+}
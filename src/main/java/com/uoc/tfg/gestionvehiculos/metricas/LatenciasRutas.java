@@ -0,0 +1,131 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import com.uoc.tfg.gestionvehiculos.dtos.latencias.LatenciaRuta;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histogramas de latencia por endpoint (método y plantilla de ruta) y clase de estado HTTP.
+ * <p>
+ * Cada combinación escribe en un {@link Recorder} de HdrHistogram, que no usa bloqueos en el lado
+ * de la petición. Los valores se guardan en microsegundos con dos cifras significativas (1 % de error)
+ * en histogramas compactos que solo ocupan memoria para los rangos que se usan. La ventana que se
+ * informa son los últimos {@code latencias.intervalos} intervalos de {@code latencias.intervalo-ms}
+ * más el intervalo en curso: los más antiguos se descartan al rotar, de modo que un pico de hace
+ * una hora no tapa cómo va el servicio ahora.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+public class LatenciasRutas {
+
+    private static final int CIFRAS_SIGNIFICATIVAS = 2;
+    private static final double MICROS_POR_MS = 1000.0;
+
+    private final Map<String, Latencias> porRuta = new ConcurrentHashMap<>();
+    private final int intervalos;
+
+    public LatenciasRutas(@Value("${latencias.intervalos:5}") int intervalos) {
+        this.intervalos = Math.max(1, intervalos);
+    }
+
+    /**
+     * @param endpoint método HTTP y plantilla de ruta, p. ej. "GET /api/vehiculos/{id}"
+     */
+    public void registrar(String endpoint, int estado, long nanos) {
+        String clave = endpoint + " " + claseEstado(estado);
+        Latencias latencias = porRuta.get(clave);
+        if (latencias == null) {
+            latencias = porRuta.computeIfAbsent(clave, c -> new Latencias(endpoint, claseEstado(estado), intervalos));
+        }
+        latencias.recorder.recordValue(Math.max(0, nanos / 1000));
+    }
+
+    /**
+     * Endpoints ordenados por percentil 99 dentro de la ventana, de más lento a más rápido.
+     * Los que no han recibido peticiones en la ventana no aparecen.
+     */
+    public List<LatenciaRuta> peores(int limite) {
+        return porRuta.values().stream()
+                .map(Latencias::resumen)
+                .filter(r -> r.getPeticiones() > 0)
+                .sorted(Comparator.comparingDouble(LatenciaRuta::getP99Ms).reversed())
+                .limit(limite)
+                .toList();
+    }
+
+    @Scheduled(fixedRateString = "${latencias.intervalo-ms:60000}", initialDelayString = "${latencias.intervalo-ms:60000}")
+    public void rotar() {
+        porRuta.values().forEach(Latencias::rotar);
+    }
+
+    public void vaciar() {
+        porRuta.clear();
+    }
+
+    static String claseEstado(int estado) {
+        return estado >= 100 && estado < 600 ? (estado / 100) + "xx" : "otro";
+    }
+
+    private static final class Latencias {
+        private final String endpoint;
+        private final String claseEstado;
+        private final Recorder recorder = new Recorder(CIFRAS_SIGNIFICATIVAS, true);
+        private final Histogram[] ventana;
+        private int actual;
+        private Histogram intervalo;
+
+        private Latencias(String endpoint, String claseEstado, int intervalos) {
+            this.endpoint = endpoint;
+            this.claseEstado = claseEstado;
+            this.ventana = new Histogram[intervalos + 1];
+            for (int i = 0; i < ventana.length; i++) {
+                ventana[i] = new PackedHistogram(CIFRAS_SIGNIFICATIVAS);
+            }
+        }
+
+        /**
+         * Pasa lo grabado desde la última lectura al intervalo en curso
+         */
+        private void drenar() {
+            intervalo = recorder.getIntervalHistogram(intervalo);
+            ventana[actual].add(intervalo);
+        }
+
+        private synchronized void rotar() {
+            drenar();
+            actual = (actual + 1) % ventana.length;
+            ventana[actual].reset();
+        }
+
+        private synchronized LatenciaRuta resumen() {
+            drenar();
+            Histogram total = new PackedHistogram(CIFRAS_SIGNIFICATIVAS);
+            for (Histogram histograma : ventana) {
+                total.add(histograma);
+            }
+            return LatenciaRuta.builder()
+                    .endpoint(endpoint)
+                    .claseEstado(claseEstado)
+                    .peticiones(total.getTotalCount())
+                    .mediaMs(total.getMean() / MICROS_POR_MS)
+                    .p50Ms(total.getValueAtPercentile(50) / MICROS_POR_MS)
+                    .p90Ms(total.getValueAtPercentile(90) / MICROS_POR_MS)
+                    .p99Ms(total.getValueAtPercentile(99) / MICROS_POR_MS)
+                    .p999Ms(total.getValueAtPercentile(99.9) / MICROS_POR_MS)
+                    .maxMs(total.getMaxValue() / MICROS_POR_MS)
+                    .build();
+        }
+    }
+}
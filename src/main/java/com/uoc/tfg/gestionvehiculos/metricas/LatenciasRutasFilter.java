@@ -0,0 +1,62 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mide la duración de cada petición y la anota en {@link LatenciasRutas} por plantilla de ruta y clase
+ * de estado. Va el primero de la cadena para incluir seguridad, caché de respuestas y el resto de filtros.
+ * <p>
+ * Las peticiones asíncronas (el canal de cambios por SSE) no se miden: su duración es la de la
+ * suscripción, no la de una respuesta.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LatenciasRutasFilter extends OncePerRequestFilter {
+
+    private final LatenciasRutas latenciasRutas;
+    private final boolean habilitada;
+
+    public LatenciasRutasFilter(LatenciasRutas latenciasRutas,
+                                @Value("${latencias.habilitada:true}") boolean habilitada) {
+        this.latenciasRutas = latenciasRutas;
+        this.habilitada = habilitada;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitada;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long inicio = System.nanoTime();
+        boolean error = true;
+        try {
+            chain.doFilter(request, response);
+            error = false;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                latenciasRutas.registrar(request.getMethod() + " " + (patron != null ? patron : "UNKNOWN"),
+                        error ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        System.nanoTime() - inicio);
+            }
+        }
+    }
+}
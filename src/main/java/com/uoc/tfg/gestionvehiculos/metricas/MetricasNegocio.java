@@ -0,0 +1,80 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.repositories.ContratoRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoResumenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Indicadores de negocio como gauges: cuotas por cobrar (aún no vencidas y vencidas, sin solaparse),
+ * contratos activos y vehículos disponibles.
+ * <p>
+ * Los valores se recalculan periódicamente con consultas de conteo y el gauge devuelve el último
+ * calculado, de modo que cada lectura de métricas no lanza consultas contra la base de datos.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class MetricasNegocio {
+
+    static final String SITUACION_DISPONIBLE = "DISPONIBLE";
+
+    private final CuotaRentingRepository cuotaRentingRepository;
+    private final ContratoRentingRepository contratoRentingRepository;
+    private final VehiculoResumenRepository vehiculoResumenRepository;
+
+    private final AtomicLong cuotasPendientes = new AtomicLong();
+    private final AtomicLong cuotasVencidas = new AtomicLong();
+    private final AtomicLong contratosActivos = new AtomicLong();
+    private final AtomicLong vehiculosDisponibles = new AtomicLong();
+
+    public MetricasNegocio(CuotaRentingRepository cuotaRentingRepository,
+                           ContratoRentingRepository contratoRentingRepository,
+                           VehiculoResumenRepository vehiculoResumenRepository,
+                           MeterRegistry meterRegistry) {
+        this.cuotaRentingRepository = cuotaRentingRepository;
+        this.contratoRentingRepository = contratoRentingRepository;
+        this.vehiculoResumenRepository = vehiculoResumenRepository;
+
+        Gauge.builder("negocio.cuotas", cuotasPendientes, AtomicLong::get)
+                .description("Cuotas de renting por cobrar")
+                .tag("estado", "pendiente")
+                .register(meterRegistry);
+        Gauge.builder("negocio.cuotas", cuotasVencidas, AtomicLong::get)
+                .description("Cuotas de renting por cobrar")
+                .tag("estado", "vencida")
+                .register(meterRegistry);
+        Gauge.builder("negocio.contratos.activos", contratosActivos, AtomicLong::get)
+                .description("Contratos de renting activos")
+                .register(meterRegistry);
+        Gauge.builder("negocio.vehiculos.disponibles", vehiculosDisponibles, AtomicLong::get)
+                .description("Vehículos disponibles para renting o venta")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${metricas.negocio.intervalo-ms:60000}", initialDelayString = "PT10S")
+    public void actualizar() {
+        try {
+            LocalDate hoy = LocalDate.now();
+            cuotasPendientes.set(cuotaRentingRepository.countByEstadoAndActivoTrueAndFechaVencimientoGreaterThanEqual(
+                    EstadoCuota.PENDIENTE, hoy));
+            cuotasVencidas.set(cuotaRentingRepository.countVencidas(hoy, EstadoCuota.VENCIDA, EstadoCuota.PENDIENTE));
+            contratosActivos.set(contratoRentingRepository.countByEstadoAndActivoTrue(EstadoContrato.ACTIVO));
+            vehiculosDisponibles.set(vehiculoResumenRepository.countByActivoTrueAndSituacion(SITUACION_DISPONIBLE));
+        } catch (RuntimeException e) {
+            log.warn("No se han podido actualizar las métricas de negocio: {}", e.getMessage());
+        }
+    }
+}
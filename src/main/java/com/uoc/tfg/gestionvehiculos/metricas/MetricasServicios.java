@@ -0,0 +1,96 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import com.uoc.tfg.gestionvehiculos.jdbc.ContabilidadSql;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada método público de los beans del paquete de servicios: un timer {@code servicios.llamadas}
+ * con etiquetas clase, método y resultado (ok o error) y un contador {@code servicios.errores} con la
+ * clase de la excepción. Además, {@code servicios.sentencias} reparte las sentencias SQL lanzadas en
+ * cada llamada, incluidas las de los servicios a los que llama. Las etiquetas solo toman valores del
+ * código, no de los datos, así que el número de series está acotado.
+ * <p>
+ * Las llamadas entre métodos del mismo servicio no pasan por el proxy y cuentan dentro del método
+ * que las hace.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Aspect
+@Component
+public class MetricasServicios {
+
+    static final String LLAMADAS = "servicios.llamadas";
+    static final String ERRORES = "servicios.errores";
+    static final String SENTENCIAS = "servicios.sentencias";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> exitos = new ConcurrentHashMap<>();
+    private final Map<Method, DistributionSummary> sentencias = new ConcurrentHashMap<>();
+
+    public MetricasServicios(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.uoc.tfg.gestionvehiculos.services..*) && execution(public * *(..))")
+    public Object medir(ProceedingJoinPoint llamada) throws Throwable {
+        ContabilidadSql contabilidad = ContabilidadSql.actual();
+        long sentenciasInicio = contabilidad.getSentencias();
+        long inicio = System.nanoTime();
+        try {
+            Object resultado = llamada.proceed();
+            Method metodo = metodo(llamada);
+            exitos.computeIfAbsent(metodo, m -> timer(m, "ok"))
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            sentencias.computeIfAbsent(metodo, this::resumenSentencias)
+                    .record(contabilidad.getSentencias() - sentenciasInicio);
+            return resultado;
+        } catch (Throwable e) {
+            Method metodo = metodo(llamada);
+            timer(metodo, "error").record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            Counter.builder(ERRORES)
+                    .description("Excepciones lanzadas por los servicios")
+                    .tag("clase", metodo.getDeclaringClass().getSimpleName())
+                    .tag("metodo", metodo.getName())
+                    .tag("excepcion", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+    }
+
+    private Method metodo(ProceedingJoinPoint llamada) {
+        return ((MethodSignature) llamada.getSignature()).getMethod();
+    }
+
+    private DistributionSummary resumenSentencias(Method metodo) {
+        return DistributionSummary.builder(SENTENCIAS)
+                .description("Sentencias SQL por llamada a los servicios")
+                .tag("clase", metodo.getDeclaringClass().getSimpleName())
+                .tag("metodo", metodo.getName())
+                .register(meterRegistry);
+    }
+
+    private Timer timer(Method metodo, String resultado) {
+        return Timer.builder(LLAMADAS)
+                .description("Duración de las llamadas a los servicios")
+                .tag("clase", metodo.getDeclaringClass().getSimpleName())
+                .tag("metodo", metodo.getName())
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.uoc.tfg.gestionvehiculos.migraciones;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Renombra los índices que las entidades declaraban con el mismo nombre en varias tablas (idx_cliente,
+ * idx_vehiculo, idx_estado). MySQL lo admite porque el nombre es por tabla, pero H2 no, y hacía imposible
+ * montar el esquema completo con migraciones.
+ * <p>
+ * Solo tiene trabajo en las bases de datos creadas con ddl-auto=update, que Flyway marca como versión 1 sin
+ * ejecutar {@code V1__esquema_inicial.sql}; las creadas por las migraciones ya tienen los nombres nuevos.
+ * Es Java y no SQL porque MySQL no tiene {@code RENAME INDEX IF EXISTS}.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class V2__IndicesConNombrePorTabla extends BaseJavaMigration {
+
+    /**
+     * Tabla, nombre heredado y nombre nuevo
+     */
+    private static final String[][] RENOMBRADOS = {
+            {"contratos_renting", "idx_cliente", "idx_contrato_cliente"},
+            {"contratos_renting", "idx_vehiculo", "idx_contrato_vehiculo"},
+            {"contratos_renting", "idx_estado", "idx_contrato_estado"},
+            {"cuotas_renting", "idx_estado", "idx_cuota_estado"},
+            {"facturas_compra", "idx_vehiculo", "idx_vehiculo_compra"},
+            {"reservas_venta", "idx_cliente", "idx_reserva_cliente"},
+            {"reservas_venta", "idx_vehiculo", "idx_reserva_vehiculo"},
+            {"reservas_venta", "idx_estado", "idx_reserva_estado"}
+    };
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexion = context.getConnection();
+        DatabaseMetaData metadatos = conexion.getMetaData();
+        boolean mysql = metadatos.getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+
+        try (Statement sentencia = conexion.createStatement()) {
+            for (String[] renombrado : RENOMBRADOS) {
+                String tabla = renombrado[0];
+                String heredado = renombrado[1];
+                String nuevo = renombrado[2];
+                if (!existeIndice(conexion, metadatos, tabla, heredado)) {
+                    continue;
+                }
+                sentencia.execute(mysql
+                        ? "alter table " + tabla + " rename index " + heredado + " to " + nuevo
+                        : "alter index " + heredado + " rename to " + nuevo);
+                log.info("Índice {} de {} renombrado a {}", heredado, tabla, nuevo);
+            }
+        }
+    }
+
+    private static boolean existeIndice(Connection conexion, DatabaseMetaData metadatos, String tabla, String indice)
+            throws SQLException {
+        try (ResultSet indices = metadatos.getIndexInfo(conexion.getCatalog(), conexion.getSchema(), tabla, false, true)) {
+            while (indices.next()) {
+                if (indice.equalsIgnoreCase(indices.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Implementación base de los repositorios JPA: añade a {@link SimpleJpaRepository} la búsqueda
+ * por clave natural de {@link NaturalIdRepository}.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class BaseJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements NaturalIdRepository<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public BaseJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<T> buscarPorClaveNatural(Object clave) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(getDomainClass())
+                .loadOptional(clave);
+    }
+}
@@ -1,12 +1,16 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -14,13 +18,21 @@ import java.util.Optional;
  * @date 12-2025
  */
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+public interface ClienteRepository extends NaturalIdRepository<Cliente, Long> {
 
     Optional<Cliente> findByDocumento(String documento);
 
     boolean existsByDocumento(String documento);
 
+    @Query("select c.documento from Cliente c where c.documento in :documentos")
+    Set<String> findDocumentosExistentes(@Param("documentos") Collection<String> documentos);
+
     List<Cliente> findByTipoCliente(TipoCliente tipoCliente);
 
     List<Cliente> findByNombreContainingIgnoreCase(String nombre);
+
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado(" +
+            "c.id, c.tipoCliente, c.documento, c.nombre, c.apellidos, c.razonSocial, c.email, c.telefono) " +
+            "from Cliente c where c.activo = true")
+    List<ClienteIndexado> findActivosParaIndexar();
 }
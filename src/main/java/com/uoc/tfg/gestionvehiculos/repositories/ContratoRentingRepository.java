@@ -1,10 +1,13 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -23,11 +26,37 @@ public interface ContratoRentingRepository extends JpaRepository<ContratoRenting
 
     List<ContratoRenting> findByCliente(Cliente cliente);
 
+    /**
+     * Contratos de un cliente con su vehículo, del más reciente al más antiguo, sin cargar antes el cliente.
+     * Las facturas del vehículo van en la misma consulta porque Hibernate no puede dejar sin cargar el lado
+     * inverso de un uno a uno y las pediría de una en una
+     */
+    @Query("select c from ContratoRenting c join fetch c.cliente join fetch c.vehiculo v join fetch v.situacion " +
+            "left join fetch v.facturaCompra left join fetch v.facturaVenta " +
+            "where c.cliente.id = :clienteId order by c.fechaInicio desc, c.id desc")
+    List<ContratoRenting> findParaFichaCliente(@Param("clienteId") Long clienteId);
+
     List<ContratoRenting> findByVehiculo(Vehiculo vehiculo);
 
     List<ContratoRenting> findByEstado(EstadoContrato estado);
 
+    long countByEstadoAndActivoTrue(EstadoContrato estado);
+
     List<ContratoRenting> findByFechaFinBefore(LocalDate fecha);
 
     boolean existsByNumeroContrato(String numeroContrato);
+
+    /**
+     * La respuesta incluye el nombre del cliente y la matrícula del vehículo,
+     * así que sus modificaciones también cambian la versión
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso(count(c), max(c.fechaActualizacion), " +
+            "max(v.fechaActualizacion), max(cl.fechaActualizacion)) " +
+            "from ContratoRenting c join c.vehiculo v join c.cliente cl where c.id = :id")
+    VersionRecurso findVersionById(@Param("id") Long id);
+
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso(count(c), max(c.fechaActualizacion), " +
+            "max(v.fechaActualizacion), max(cl.fechaActualizacion)) " +
+            "from ContratoRenting c join c.vehiculo v join c.cliente cl where c.activo = true")
+    VersionRecurso findVersionActivos();
 }
\ No newline at end of file
@@ -1,13 +1,25 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.CuotaAbierta;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaPagoProyeccion;
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.CuotaRentingExportacion;
 import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
 import com.uoc.tfg.gestionvehiculos.entities.CuotaRenting;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -19,6 +31,13 @@ public interface CuotaRentingRepository extends JpaRepository<CuotaRenting, Long
 
     List<CuotaRenting> findByContrato(ContratoRenting contrato);
 
+    /**
+     * Cuotas de todos los contratos de un cliente, de la que vence más tarde a la primera
+     */
+    @Query("select q from CuotaRenting q join fetch q.contrato ct " +
+            "where ct.cliente.id = :clienteId order by q.fechaVencimiento desc, q.id desc")
+    List<CuotaRenting> findParaFichaCliente(@Param("clienteId") Long clienteId);
+
     List<CuotaRenting> findByEstado(EstadoCuota estado);
 
     List<CuotaRenting> findByFechaVencimientoBefore(LocalDate fecha);
@@ -27,4 +46,70 @@ public interface CuotaRentingRepository extends JpaRepository<CuotaRenting, Long
             EstadoCuota estado,
             LocalDate fecha
     );
-}
\ No newline at end of file
+
+    long countByEstadoAndActivoTrueAndFechaVencimientoGreaterThanEqual(EstadoCuota estado, LocalDate fecha);
+
+    /**
+     * Cuotas vencidas sin pagar, incluidas las pendientes cuya fecha ya pasó y aún no se han marcado
+     */
+    @Query("select count(q) from CuotaRenting q where q.activo = true and (q.estado = :vencida " +
+            "or (q.estado = :pendiente and q.fechaVencimiento < :hoy))")
+    long countVencidas(@Param("hoy") LocalDate hoy,
+                       @Param("vencida") EstadoCuota vencida,
+                       @Param("pendiente") EstadoCuota pendiente);
+
+    /**
+     * Recorre las cuotas que vencen en un período como proyección plana, sin cargar entidades.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.exportacion.CuotaRentingExportacion(" +
+            "q.id, ct.numeroContrato, cl.documento, q.numeroCuota, " +
+            "q.fechaVencimiento, q.fechaPago, q.importe, q.estado) " +
+            "from CuotaRenting q join q.contrato ct join ct.cliente cl " +
+            "where q.fechaVencimiento between :inicio and :fin order by q.fechaVencimiento, q.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<CuotaRentingExportacion> streamParaExportacion(@Param("inicio") LocalDate inicio,
+                                                          @Param("fin") LocalDate fin);
+
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaPagoProyeccion(" +
+            "q.id, ct.id, ct.numeroContrato, q.numeroCuota, q.importe, q.estado) " +
+            "from CuotaRenting q join q.contrato ct where q.id in :ids")
+    List<CuotaPagoProyeccion> findParaPagoPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Candidatas por contrato y número de cuota. Devuelve el producto cruzado de ambas listas;
+     * el llamante se queda con los pares que realmente ha pedido.
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaPagoProyeccion(" +
+            "q.id, ct.id, ct.numeroContrato, q.numeroCuota, q.importe, q.estado) " +
+            "from CuotaRenting q join q.contrato ct " +
+            "where ct.numeroContrato in :contratos and q.numeroCuota in :numeros")
+    List<CuotaPagoProyeccion> findParaPagoPorContratos(@Param("contratos") Collection<String> contratos,
+                                                       @Param("numeros") Collection<Integer> numeros);
+
+    /**
+     * Marca como pagadas las cuotas indicadas en una única sentencia. Solo actualiza las que
+     * siguen pendientes o vencidas, para detectar cambios concurrentes desde la validación.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CuotaRenting q set q.estado = com.uoc.tfg.gestionvehiculos.enums.EstadoCuota.PAGADA, " +
+            "q.fechaPago = :fechaPago, q.fechaActualizacion = :ahora, q.usuarioModificacion = :usuario " +
+            "where q.id in :ids and q.estado in (com.uoc.tfg.gestionvehiculos.enums.EstadoCuota.PENDIENTE, " +
+            "com.uoc.tfg.gestionvehiculos.enums.EstadoCuota.VENCIDA)")
+    int marcarComoPagadas(@Param("ids") Collection<Long> ids,
+                          @Param("fechaPago") LocalDate fechaPago,
+                          @Param("ahora") LocalDateTime ahora,
+                          @Param("usuario") String usuario);
+
+    /**
+     * Cuotas pendientes o vencidas de todos los contratos, de la más antigua a la más reciente
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.conciliacion.CuotaAbierta(" +
+            "q.id, ct.id, ct.numeroContrato, q.numeroCuota, q.fechaVencimiento, q.importe) " +
+            "from CuotaRenting q join q.contrato ct " +
+            "where q.estado in (com.uoc.tfg.gestionvehiculos.enums.EstadoCuota.PENDIENTE, " +
+            "com.uoc.tfg.gestionvehiculos.enums.EstadoCuota.VENCIDA) " +
+            "order by q.fechaVencimiento, q.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    List<CuotaAbierta> findAbiertasParaConciliar();
+}
@@ -0,0 +1,147 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Inserciones por lotes JDBC del generador de datos sintéticos.
+ * Cada fila trae los valores en el orden de las columnas de su INSERT, auditoría incluida.
+ * Vehículos, clientes, proveedores, contratos y reservas llevan el id asignado por el generador
+ * para poder relacionarlos sin leerlos de vuelta; cuotas y facturas usan el id generado por la base de datos.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class DatosSinteticosJdbcRepository {
+
+    private static final String AUDITORIA = "activo, fecha_creacion, fecha_actualizacion, usuario_creacion, usuario_modificacion";
+    private static final String VALORES_AUDITORIA = "TRUE, ?, ?, ?, ?";
+
+    private static final String INSERT_PROVEEDOR =
+            "INSERT INTO proveedores (id, cif, razon_social, nombre_comercial, direccion, ciudad, provincia, " +
+                    "codigo_postal, telefono, email, persona_contacto, " + AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_CLIENTE =
+            "INSERT INTO clientes (id, tipo_cliente, documento, nombre, apellidos, razon_social, direccion, " +
+                    "ciudad, provincia, codigo_postal, telefono, email, " + AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_VEHICULO =
+            "INSERT INTO vehiculos (id, matricula, marca, modelo, anyo_fabricacion, color, kilometros, " +
+                    "numero_bastidor, tipo_combustible, situacion_id, " + AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_FACTURA_COMPRA =
+            "INSERT INTO facturas_compra (numero_factura, fecha_factura, proveedor_id, vehiculo_id, " +
+                    "importe_base, iva, importe_total, " + AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_CONTRATO =
+            "INSERT INTO contratos_renting (id, numero_contrato, cliente_id, vehiculo_id, fecha_inicio, fecha_fin, " +
+                    "duracion_meses, cuota_mensual, kilometros_incluidos, coste_km_extra, estado, dia_cobro_cuota, " +
+                    AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_CUOTA =
+            "INSERT INTO cuotas_renting (contrato_id, numero_cuota, fecha_vencimiento, fecha_pago, importe, estado, " +
+                    AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_RESERVA =
+            "INSERT INTO reservas_venta (id, cliente_id, vehiculo_id, fecha_reserva, fecha_limite, precio_reserva, " +
+                    "estado, " + AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private static final String INSERT_FACTURA_VENTA =
+            "INSERT INTO facturas_venta (numero_factura, fecha_factura, cliente_id, vehiculo_id, reserva_id, " +
+                    "importe_base, iva, descuento, importe_total, " + AUDITORIA + ") " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, " + VALORES_AUDITORIA + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${datos-sinteticos.tamano-lote:1000}")
+    private int tamanoLote;
+
+    public void insertarProveedores(List<Object[]> filas) {
+        insertar(INSERT_PROVEEDOR, filas);
+    }
+
+    public void insertarClientes(List<Object[]> filas) {
+        insertar(INSERT_CLIENTE, filas);
+    }
+
+    public void insertarVehiculos(List<Object[]> filas) {
+        insertar(INSERT_VEHICULO, filas);
+    }
+
+    public void insertarFacturasCompra(List<Object[]> filas) {
+        insertar(INSERT_FACTURA_COMPRA, filas);
+    }
+
+    public void insertarContratos(List<Object[]> filas) {
+        insertar(INSERT_CONTRATO, filas);
+    }
+
+    public void insertarCuotas(List<Object[]> filas) {
+        insertar(INSERT_CUOTA, filas);
+    }
+
+    public void insertarReservas(List<Object[]> filas) {
+        insertar(INSERT_RESERVA, filas);
+    }
+
+    public void insertarFacturasVenta(List<Object[]> filas) {
+        insertar(INSERT_FACTURA_VENTA, filas);
+    }
+
+    /**
+     * Id de cada situación por su nombre
+     */
+    public Map<String, Long> situaciones() {
+        return jdbcTemplate.query("SELECT id, nombre FROM situaciones_vehiculo",
+                        (rs, i) -> Map.entry(rs.getString("nombre"), rs.getLong("id")))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    public long contar(String tabla) {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabla, Long.class);
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * Primer id libre de la tabla
+     */
+    public long siguienteId(String tabla) {
+        Long maximo = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabla, Long.class);
+        return maximo == null ? 1 : maximo + 1;
+    }
+
+    /**
+     * Lleva el contador de identidad de la tabla más allá de los ids insertados a mano.
+     * MySQL lo avanza solo al insertar un id mayor; H2 no, y el siguiente INSERT sin id chocaría.
+     */
+    public void ajustarIdentidad(String tabla, long siguiente) {
+        String producto = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if ("H2".equals(producto)) {
+            jdbcTemplate.execute("ALTER TABLE " + tabla + " ALTER COLUMN id RESTART WITH " + siguiente);
+        }
+    }
+
+    private void insertar(String sql, List<Object[]> filas) {
+        for (int desde = 0; desde < filas.size(); desde += tamanoLote) {
+            jdbcTemplate.batchUpdate(sql, filas.subList(desde, Math.min(filas.size(), desde + tamanoLote)));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.entities.EventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoEventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Acceso JDBC a la tabla de salida de eventos. Los eventos se insertan por lotes (la entidad usa
+ * IDENTITY) y el despachador los lee y actualiza sin pasar por el contexto de persistencia.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventoOutboxRepository {
+
+    private static final String INSERT_EVENTO =
+            "INSERT INTO eventos_outbox (tipo, agregado, agregado_id, datos, estado, intentos, fecha_creacion) " +
+                    "VALUES (?, ?, ?, ?, 'PENDIENTE', 0, ?)";
+
+    /**
+     * Pendientes que ya pueden entregarse, excluyendo los de agregados con un evento anterior
+     * esperando un reintento: así un evento nunca adelanta a otro anterior del mismo agregado
+     */
+    private static final String SELECT_ENTREGABLES =
+            "SELECT e.id, e.tipo, e.agregado, e.agregado_id, e.datos, e.estado, e.intentos, e.siguiente_intento, " +
+                    "e.fecha_creacion FROM eventos_outbox e " +
+                    "WHERE e.estado = 'PENDIENTE' AND (e.siguiente_intento IS NULL OR e.siguiente_intento <= ?) " +
+                    "AND NOT EXISTS (SELECT 1 FROM eventos_outbox p WHERE p.agregado = e.agregado " +
+                    "AND p.agregado_id = e.agregado_id AND p.id < e.id AND p.estado = 'PENDIENTE' " +
+                    "AND p.siguiente_intento > ?) " +
+                    "ORDER BY e.id LIMIT ?";
+
+    private static final RowMapper<EventoOutbox> MAPPER = (rs, i) -> EventoOutbox.builder()
+            .id(rs.getLong("id"))
+            .tipo(TipoEventoDominio.valueOf(rs.getString("tipo")))
+            .agregado(rs.getString("agregado"))
+            .agregadoId(rs.getLong("agregado_id"))
+            .datos(rs.getString("datos"))
+            .estado(EstadoEventoOutbox.valueOf(rs.getString("estado")))
+            .intentos(rs.getInt("intentos"))
+            .siguienteIntento(rs.getObject("siguiente_intento", LocalDateTime.class))
+            .fechaCreacion(rs.getObject("fecha_creacion", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta los eventos en un único lote; debe llamarse dentro de la transacción del cambio
+     */
+    public void insertar(List<EventoOutbox> eventos) {
+        jdbcTemplate.batchUpdate(INSERT_EVENTO, eventos, eventos.size(), (ps, e) -> {
+            ps.setString(1, e.getTipo().name());
+            ps.setString(2, e.getAgregado());
+            ps.setLong(3, e.getAgregadoId());
+            ps.setString(4, e.getDatos());
+            ps.setObject(5, e.getFechaCreacion(), Types.TIMESTAMP);
+        });
+    }
+
+    /**
+     * Primeros eventos entregables en el instante indicado, por orden de registro
+     */
+    public List<EventoOutbox> buscarEntregables(LocalDateTime ahora, int limite) {
+        Timestamp instante = Timestamp.valueOf(ahora);
+        return jdbcTemplate.query(SELECT_ENTREGABLES, MAPPER, instante, instante, limite);
+    }
+
+    public void marcarProcesados(List<Long> ids, LocalDateTime fecha) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE eventos_outbox SET estado = 'PROCESADO', fecha_procesado = ?, ultimo_error = NULL WHERE id = ?",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setObject(1, fecha, Types.TIMESTAMP);
+                    ps.setLong(2, id);
+                });
+    }
+
+    /**
+     * Guarda el resultado de una entrega fallida: nuevo número de intentos, próximo intento y estado
+     */
+    public void marcarFallos(List<EventoOutbox> eventos) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE eventos_outbox SET estado = ?, intentos = ?, siguiente_intento = ?, ultimo_error = ? WHERE id = ?",
+                eventos, eventos.size(), (ps, e) -> {
+                    ps.setString(1, e.getEstado().name());
+                    ps.setInt(2, e.getIntentos());
+                    ps.setObject(3, e.getSiguienteIntento(), Types.TIMESTAMP);
+                    ps.setString(4, e.getUltimoError());
+                    ps.setLong(5, e.getId());
+                });
+    }
+
+    public long contarPorEstado(EstadoEventoOutbox estado) {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM eventos_outbox WHERE estado = ?", Long.class, estado.name());
+        return total != null ? total : 0;
+    }
+
+    public LocalDateTime fechaPendienteMasAntigua() {
+        Timestamp fecha = jdbcTemplate.queryForObject(
+                "SELECT MIN(fecha_creacion) FROM eventos_outbox WHERE estado = 'PENDIENTE'", Timestamp.class);
+        return fecha != null ? fecha.toLocalDateTime() : null;
+    }
+
+    /**
+     * Devuelve los eventos fallidos a pendientes con los intentos a cero
+     */
+    public int reactivarFallidos() {
+        return jdbcTemplate.update("UPDATE eventos_outbox SET estado = 'PENDIENTE', intentos = 0, " +
+                "siguiente_intento = NULL WHERE estado = 'FALLIDO'");
+    }
+
+    public int eliminarProcesadosAntesDe(LocalDateTime fecha) {
+        return jdbcTemplate.update("DELETE FROM eventos_outbox WHERE estado = 'PROCESADO' AND fecha_procesado < ?",
+                ps -> ps.setObject(1, fecha, Types.TIMESTAMP));
+    }
+}
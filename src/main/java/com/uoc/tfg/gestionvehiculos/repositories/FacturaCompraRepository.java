@@ -1,14 +1,23 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaCompraExportacion;
 import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
 import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -27,4 +36,20 @@ public interface FacturaCompraRepository extends JpaRepository<FacturaCompra, Lo
     List<FacturaCompra> findByFechaFacturaBetween(LocalDate inicio, LocalDate fin);
 
     boolean existsByNumeroFactura(String numeroFactura);
-}
\ No newline at end of file
+
+    @Query("select f.numeroFactura from FacturaCompra f where f.numeroFactura in :numeros")
+    Set<String> findNumerosFacturaExistentes(@Param("numeros") Collection<String> numeros);
+
+    /**
+     * Recorre las facturas de un período como proyección plana, sin cargar entidades.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaCompraExportacion(" +
+            "f.id, f.numeroFactura, f.fechaFactura, p.cif, p.razonSocial, " +
+            "v.matricula, v.numeroBastidor, f.importeBase, f.iva, f.importeTotal) " +
+            "from FacturaCompra f join f.proveedor p join f.vehiculo v " +
+            "where f.fechaFactura between :inicio and :fin order by f.fechaFactura, f.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<FacturaCompraExportacion> streamParaExportacion(@Param("inicio") LocalDate inicio,
+                                                           @Param("fin") LocalDate fin);
+}
@@ -1,14 +1,21 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaVentaExportacion;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.entities.FacturaVenta;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -24,7 +31,29 @@ public interface FacturaVentaRepository extends JpaRepository<FacturaVenta, Long
 
     List<FacturaVenta> findByCliente(Cliente cliente);
 
+    /**
+     * Facturas de un cliente con su vehículo, como {@link ContratoRentingRepository#findParaFichaCliente}
+     */
+    @Query("select f from FacturaVenta f join fetch f.cliente join fetch f.vehiculo v join fetch v.situacion " +
+            "left join fetch v.facturaCompra left join fetch v.facturaVenta " +
+            "where f.cliente.id = :clienteId order by f.fechaFactura desc, f.id desc")
+    List<FacturaVenta> findParaFichaCliente(@Param("clienteId") Long clienteId);
+
     List<FacturaVenta> findByFechaFacturaBetween(LocalDate inicio, LocalDate fin);
 
     boolean existsByNumeroFactura(String numeroFactura);
-}
\ No newline at end of file
+
+    /**
+     * Recorre las facturas de un período como proyección plana, sin cargar entidades.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaVentaExportacion(" +
+            "f.id, f.numeroFactura, f.fechaFactura, c.documento, " +
+            "coalesce(c.razonSocial, concat(c.nombre, ' ', coalesce(c.apellidos, ''))), " +
+            "v.matricula, f.importeBase, f.iva, f.descuento, f.importeTotal) " +
+            "from FacturaVenta f join f.cliente c join f.vehiculo v " +
+            "where f.fechaFactura between :inicio and :fin order by f.fechaFactura, f.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<FacturaVentaExportacion> streamParaExportacion(@Param("inicio") LocalDate inicio,
+                                                          @Param("fin") LocalDate fin);
+}
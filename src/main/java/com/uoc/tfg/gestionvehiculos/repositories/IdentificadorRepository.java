@@ -0,0 +1,96 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lectura de los identificadores de todas las entidades para la búsqueda rápida.
+ * Solo se proyectan id, identificador y descripción, sin cargar entidades.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+public class IdentificadorRepository {
+
+    private static final String NOMBRE_CLIENTE =
+            "case when c.tipoCliente = com.uoc.tfg.gestionvehiculos.enums.TipoCliente.EMPRESA " +
+                    "then coalesce(c.razonSocial, c.nombre) " +
+                    "when c.apellidos is not null then concat(c.nombre, ' ', c.apellidos) " +
+                    "else c.nombre end";
+
+    /**
+     * Consulta de cada tipo (id, valor, descripción) y campo sobre el que se filtra por valor exacto
+     */
+    private static final Map<TipoIdentificador, String[]> CONSULTAS = new EnumMap<>(Map.of(
+            TipoIdentificador.MATRICULA, new String[]{
+                    "select v.id, v.matricula, concat(v.marca, ' ', v.modelo) from Vehiculo v where v.activo = true",
+                    "v.matricula"},
+            TipoIdentificador.BASTIDOR, new String[]{
+                    "select v.id, v.numeroBastidor, concat(v.marca, ' ', v.modelo) from Vehiculo v " +
+                            "where v.activo = true and v.numeroBastidor is not null",
+                    "v.numeroBastidor"},
+            TipoIdentificador.DOCUMENTO_CLIENTE, new String[]{
+                    "select c.id, c.documento, " + NOMBRE_CLIENTE + " from Cliente c where c.activo = true",
+                    "c.documento"},
+            TipoIdentificador.CIF_PROVEEDOR, new String[]{
+                    "select p.id, p.cif, p.razonSocial from Proveedor p where p.activo = true",
+                    "p.cif"},
+            TipoIdentificador.NUMERO_CONTRATO, new String[]{
+                    "select r.id, r.numeroContrato, v.matricula from ContratoRenting r left join r.vehiculo v " +
+                            "where r.activo = true",
+                    "r.numeroContrato"},
+            TipoIdentificador.FACTURA_COMPRA, new String[]{
+                    "select f.id, f.numeroFactura, p.razonSocial from FacturaCompra f left join f.proveedor p " +
+                            "where f.activo = true",
+                    "f.numeroFactura"},
+            TipoIdentificador.FACTURA_VENTA, new String[]{
+                    "select f.id, f.numeroFactura, " + NOMBRE_CLIENTE + " from FacturaVenta f left join f.cliente c " +
+                            "where f.activo = true",
+                    "f.numeroFactura"}));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Todos los identificadores de entidades activas
+     */
+    public List<IdentificadorIndexado> findTodos() {
+        List<IdentificadorIndexado> resultado = new ArrayList<>();
+        CONSULTAS.forEach((tipo, consulta) ->
+                anadir(resultado, tipo, entityManager.createQuery(consulta[0], Tuple.class)));
+        return resultado;
+    }
+
+    /**
+     * Identificadores que coinciden exactamente con alguno de los valores, de los tipos indicados
+     */
+    public List<IdentificadorIndexado> findPorValores(Collection<String> valores, Collection<TipoIdentificador> tipos) {
+        List<IdentificadorIndexado> resultado = new ArrayList<>();
+        for (TipoIdentificador tipo : tipos) {
+            String[] consulta = CONSULTAS.get(tipo);
+            TypedQuery<Tuple> query = entityManager.createQuery(
+                    consulta[0] + " and " + consulta[1] + " in :valores", Tuple.class);
+            anadir(resultado, tipo, query.setParameter("valores", valores));
+        }
+        return resultado;
+    }
+
+    private void anadir(List<IdentificadorIndexado> resultado, TipoIdentificador tipo, TypedQuery<Tuple> query) {
+        for (Tuple fila : query.getResultList()) {
+            resultado.add(new IdentificadorIndexado(tipo, fila.get(0, Long.class), fila.get(1, String.class), fila.get(2, String.class)));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inserciones masivas por lotes JDBC para las importaciones.
+ * Las entidades usan IDENTITY, que impide a Hibernate agrupar los INSERT,
+ * así que aquí se escriben directamente y se rellenan los campos de auditoría.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImportacionJdbcRepository {
+
+    private static final String INSERT_VEHICULO =
+            "INSERT INTO vehiculos (matricula, marca, modelo, anyo_fabricacion, color, kilometros, " +
+                    "numero_bastidor, tipo_combustible, situacion_id, activo, " +
+                    "fecha_creacion, fecha_actualizacion, usuario_creacion, usuario_modificacion) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?)";
+
+    private static final String INSERT_FACTURA_COMPRA =
+            "INSERT INTO facturas_compra (numero_factura, fecha_factura, proveedor_id, vehiculo_id, " +
+                    "importe_base, iva, importe_total, activo, " +
+                    "fecha_creacion, fecha_actualizacion, usuario_creacion, usuario_modificacion) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?)";
+
+    private static final String INSERT_CLIENTE =
+            "INSERT INTO clientes (tipo_cliente, documento, nombre, apellidos, razon_social, direccion, " +
+                    "ciudad, provincia, codigo_postal, telefono, email, observaciones, activo, " +
+                    "fecha_creacion, fecha_actualizacion, usuario_creacion, usuario_modificacion) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta los vehículos en un único lote y les asigna el id generado
+     */
+    public void insertarVehiculos(List<Vehiculo> vehiculos, String usuario) {
+        LocalDateTime ahora = LocalDateTime.now();
+        KeyHolder claves = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_VEHICULO, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Vehiculo v = vehiculos.get(i);
+                        ps.setString(1, v.getMatricula());
+                        ps.setString(2, v.getMarca());
+                        ps.setString(3, v.getModelo());
+                        ps.setInt(4, v.getAnyoFabricacion());
+                        ps.setString(5, v.getColor());
+                        ps.setInt(6, v.getKilometros());
+                        ps.setString(7, v.getNumeroBastidor());
+                        ps.setString(8, v.getTipoCombustible().name());
+                        ps.setLong(9, v.getSituacion().getId());
+                        auditoria(ps, 10, ahora, usuario);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return vehiculos.size();
+                    }
+                },
+                claves);
+
+        List<Long> ids = idsGenerados(claves);
+        for (int i = 0; i < vehiculos.size(); i++) {
+            vehiculos.get(i).setId(ids.get(i));
+        }
+    }
+
+    /**
+     * Inserta los clientes en un único lote y les asigna el id generado
+     */
+    public void insertarClientes(List<Cliente> clientes, String usuario) {
+        LocalDateTime ahora = LocalDateTime.now();
+        KeyHolder claves = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_CLIENTE, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Cliente c = clientes.get(i);
+                        ps.setString(1, c.getTipoCliente().name());
+                        ps.setString(2, c.getDocumento());
+                        ps.setString(3, c.getNombre());
+                        ps.setString(4, c.getApellidos());
+                        ps.setString(5, c.getRazonSocial());
+                        ps.setString(6, c.getDireccion());
+                        ps.setString(7, c.getCiudad());
+                        ps.setString(8, c.getProvincia());
+                        ps.setString(9, c.getCodigoPostal());
+                        ps.setString(10, c.getTelefono());
+                        ps.setString(11, c.getEmail());
+                        ps.setString(12, c.getObservaciones());
+                        auditoria(ps, 13, ahora, usuario);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return clientes.size();
+                    }
+                },
+                claves);
+
+        List<Long> ids = idsGenerados(claves);
+        for (int i = 0; i < clientes.size(); i++) {
+            clientes.get(i).setId(ids.get(i));
+        }
+    }
+
+    /**
+     * Inserta las facturas de compra en un único lote (vehículo y proveedor ya deben tener id)
+     * y les asigna el id generado
+     */
+    public void insertarFacturasCompra(List<FacturaCompra> facturas, String usuario) {
+        LocalDateTime ahora = LocalDateTime.now();
+        KeyHolder claves = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_FACTURA_COMPRA, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        FacturaCompra f = facturas.get(i);
+                        ps.setString(1, f.getNumeroFactura());
+                        ps.setObject(2, f.getFechaFactura());
+                        ps.setLong(3, f.getProveedor().getId());
+                        ps.setLong(4, f.getVehiculo().getId());
+                        ps.setBigDecimal(5, f.getImporteBase());
+                        ps.setBigDecimal(6, f.getIva());
+                        ps.setBigDecimal(7, f.getImporteTotal());
+                        auditoria(ps, 8, ahora, usuario);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return facturas.size();
+                    }
+                },
+                claves);
+
+        List<Long> ids = idsGenerados(claves);
+        for (int i = 0; i < facturas.size(); i++) {
+            facturas.get(i).setId(ids.get(i));
+        }
+    }
+
+    private List<Long> idsGenerados(KeyHolder claves) {
+        return claves.getKeyList().stream()
+                .map(fila -> ((Number) fila.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private void auditoria(PreparedStatement ps, int desde, LocalDateTime ahora, String usuario) throws SQLException {
+        ps.setObject(desde, ahora, Types.TIMESTAMP);
+        ps.setObject(desde + 1, ahora, Types.TIMESTAMP);
+        ps.setString(desde + 2, usuario);
+        ps.setString(desde + 3, usuario);
+    }
+}
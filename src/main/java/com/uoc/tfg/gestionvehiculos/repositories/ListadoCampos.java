@@ -0,0 +1,164 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Listado del que el cliente puede pedir solo algunos campos ({@code ?fields=id,matricula,marca}).
+ * <p>
+ * Cada campo de la respuesta se corresponde con una expresión JPQL y, si la necesita, con un join:
+ * la consulta selecciona solo las columnas pedidas y solo hace los joins que esas columnas requieren.
+ * Los nombres de los campos son los mismos que los de la respuesta completa.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class ListadoCampos {
+
+    private static final String NOMBRE_CLIENTE =
+            "case when cl.tipoCliente = com.uoc.tfg.gestionvehiculos.enums.TipoCliente.EMPRESA " +
+                    "then coalesce(cl.razonSocial, cl.nombre) " +
+                    "when cl.apellidos is not null then concat(cl.nombre, ' ', cl.apellidos) " +
+                    "else cl.nombre end";
+
+    public static final ListadoCampos VEHICULOS_ACTIVOS =
+            new ListadoCampos("Vehiculo v", "v.activo = true", "v.id")
+                    .campo("matricula", "v.matricula")
+                    .campo("marca", "v.marca")
+                    .campo("modelo", "v.modelo")
+                    .campo("anyoFabricacion", "v.anyoFabricacion")
+                    .campo("color", "v.color")
+                    .campo("kilometros", "v.kilometros")
+                    .campo("numeroBastidor", "v.numeroBastidor")
+                    .campo("tipoCombustible", "v.tipoCombustible")
+                    .campo("situacionNombre", "s.nombre", "left join v.situacion s")
+                    .campo("fechaCreacion", "v.fechaCreacion")
+                    .campo("fechaActualizacion", "v.fechaActualizacion")
+                    .campo("activo", "v.activo");
+
+    public static final ListadoCampos CONTRATOS_ACTIVOS =
+            new ListadoCampos("ContratoRenting c", "c.activo = true", "c.id")
+                    .campo("numeroContrato", "c.numeroContrato")
+                    .campo("clienteId", "c.cliente.id")
+                    .campo("clienteNombre", NOMBRE_CLIENTE, "left join c.cliente cl")
+                    .campo("vehiculoId", "c.vehiculo.id")
+                    .campo("vehiculoMatricula", "v.matricula", "left join c.vehiculo v")
+                    .campo("fechaInicio", "c.fechaInicio")
+                    .campo("fechaFin", "c.fechaFin")
+                    .campo("duracionMeses", "c.duracionMeses")
+                    .campo("cuotaMensual", "c.cuotaMensual")
+                    .campo("kilometrosIncluidos", "c.kilometrosIncluidos")
+                    .campo("costeKmExtra", "c.costeKmExtra")
+                    .campo("estado", "c.estado")
+                    .campo("estadoNombre", "c.estado", null, estado -> ((EstadoContrato) estado).getNombre())
+                    .campo("diaCobroCuota", "c.diaCobroCuota")
+                    .campo("observaciones", "c.observaciones")
+                    .campo("fechaCreacion", "c.fechaCreacion")
+                    .campo("fechaActualizacion", "c.fechaActualizacion")
+                    .campo("activo", "c.activo");
+
+    public static final ListadoCampos CUOTAS_ACTIVAS =
+            new ListadoCampos("CuotaRenting q", "q.activo = true", "q.id")
+                    .campo("contratoId", "q.contrato.id")
+                    .campo("contratoNumero", "c.numeroContrato", "left join q.contrato c")
+                    .campo("numeroCuota", "q.numeroCuota")
+                    .campo("fechaVencimiento", "q.fechaVencimiento")
+                    .campo("fechaPago", "q.fechaPago")
+                    .campo("importe", "q.importe")
+                    .campo("estadoNombre", "q.estado")
+                    .campo("observaciones", "q.observaciones")
+                    .campo("fechaCreacion", "q.fechaCreacion")
+                    .campo("fechaActualizacion", "q.fechaActualizacion")
+                    .campo("activo", "q.activo");
+
+    private final String entidad;
+    private final String condicion;
+    private final Map<String, Campo> campos = new LinkedHashMap<>();
+
+    private ListadoCampos(String entidad, String condicion, String id) {
+        this.entidad = entidad;
+        this.condicion = condicion;
+        campo("id", id);
+    }
+
+    private ListadoCampos campo(String nombre, String expresion) {
+        return campo(nombre, expresion, null, null);
+    }
+
+    private ListadoCampos campo(String nombre, String expresion, String join) {
+        return campo(nombre, expresion, join, null);
+    }
+
+    private ListadoCampos campo(String nombre, String expresion, String join, Function<Object, Object> conversion) {
+        campos.put(nombre, new Campo(expresion, join, conversion));
+        return this;
+    }
+
+    /**
+     * Campos pedidos sin repetir, con el id siempre el primero
+     *
+     * @throws InvalidOperationException si alguno no existe
+     */
+    List<String> resolver(Collection<String> pedidos) {
+        Set<String> resultado = new LinkedHashSet<>();
+        resultado.add("id");
+        for (String pedido : pedidos) {
+            String nombre = pedido.trim();
+            if (nombre.isEmpty()) {
+                continue;
+            }
+            if (!campos.containsKey(nombre)) {
+                throw new InvalidOperationException("El campo '" + nombre + "' no existe. Campos válidos: "
+                        + campos.keySet());
+            }
+            resultado.add(nombre);
+        }
+        return List.copyOf(resultado);
+    }
+
+    /**
+     * Consulta JPQL que selecciona los campos indicados, en ese orden
+     */
+    String consulta(List<String> nombres) {
+        Set<String> joins = new LinkedHashSet<>();
+        StringBuilder select = new StringBuilder("select ");
+        for (int i = 0; i < nombres.size(); i++) {
+            Campo campo = campos.get(nombres.get(i));
+            select.append(i > 0 ? ", " : "").append(campo.expresion);
+            if (campo.join != null) {
+                joins.add(campo.join);
+            }
+        }
+        select.append(" from ").append(entidad);
+        joins.forEach(join -> select.append(' ').append(join));
+        return select.append(" where ").append(condicion)
+                .append(" order by ").append(campos.get("id").expresion)
+                .toString();
+    }
+
+    Object convertir(String nombre, Object valor) {
+        Function<Object, Object> conversion = campos.get(nombre).conversion;
+        return conversion != null && valor != null ? conversion.apply(valor) : valor;
+    }
+
+    private static final class Campo {
+        private final String expresion;
+        private final String join;
+        private final Function<Object, Object> conversion;
+
+        private Campo(String expresion, String join, Function<Object, Object> conversion) {
+            this.expresion = expresion;
+            this.join = join;
+            this.conversion = conversion;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ejecuta un {@link ListadoCampos} con solo los campos pedidos. Cada fila es un mapa campo → valor
+ * en el orden pedido, sin cargar entidades ni pasar por el contexto de persistencia.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+public class ListadoCamposRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Map<String, Object>> listar(ListadoCampos listado, Collection<String> campos) {
+        List<String> nombres = listado.resolver(campos);
+        List<Tuple> filas = entityManager.createQuery(listado.consulta(nombres), Tuple.class).getResultList();
+
+        List<Map<String, Object>> resultado = new ArrayList<>(filas.size());
+        for (Tuple fila : filas) {
+            Map<String, Object> elemento = new LinkedHashMap<>(nombres.size() * 2);
+            for (int i = 0; i < nombres.size(); i++) {
+                elemento.put(nombres.get(i), listado.convertir(nombres.get(i), fila.get(i)));
+            }
+            resultado.add(elemento);
+        }
+        return resultado;
+    }
+}
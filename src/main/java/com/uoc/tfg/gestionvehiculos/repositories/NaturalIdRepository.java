@@ -0,0 +1,23 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Optional;
+
+/**
+ * Repositorio de una entidad con clave natural ({@code @NaturalId}).
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, ID> extends JpaRepository<T, ID> {
+
+    /**
+     * Busca por clave natural. A diferencia de una consulta derivada ({@code findByDocumento}), pasa por
+     * la caché de segundo nivel: si la clave y la entidad están cacheadas no se consulta la base de datos.
+     */
+    Optional<T> buscarPorClaveNatural(Object clave);
+}
@@ -1,9 +1,10 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
 import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,11 +14,13 @@ import java.util.Optional;
  * @since 1.0
  */
 @Repository
-public interface ProveedorRepository extends JpaRepository<Proveedor, Long> {
+public interface ProveedorRepository extends NaturalIdRepository<Proveedor, Long> {
 
     Optional<Proveedor> findByCif(String cif);
 
     boolean existsByCif(String cif);
 
     Optional<Proveedor> findByNombreComercial(String nombreComercial);
+
+    List<Proveedor> findByCifIn(Collection<String> cifs);
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.uoc.tfg.gestionvehiculos.entities.ReservaVenta;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoReserva;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -20,6 +22,14 @@ public interface ReservaVentaRepository extends JpaRepository<ReservaVenta, Long
 
     List<ReservaVenta> findByCliente(Cliente cliente);
 
+    /**
+     * Reservas de un cliente con su vehículo y las facturas de este, como {@link ContratoRentingRepository#findParaFichaCliente}
+     */
+    @Query("select r from ReservaVenta r join fetch r.cliente join fetch r.vehiculo v join fetch v.situacion " +
+            "left join fetch v.facturaCompra left join fetch v.facturaVenta " +
+            "where r.cliente.id = :clienteId order by r.fechaReserva desc, r.id desc")
+    List<ReservaVenta> findParaFichaCliente(@Param("clienteId") Long clienteId);
+
     List<ReservaVenta> findByVehiculo(Vehiculo vehiculo);
 
     List<ReservaVenta> findByEstado(EstadoReserva estado);
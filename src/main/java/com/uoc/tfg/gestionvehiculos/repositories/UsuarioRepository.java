@@ -2,14 +2,13 @@ package com.uoc.tfg.gestionvehiculos.repositories;
 
 import com.uoc.tfg.gestionvehiculos.entities.Usuario;
 import com.uoc.tfg.gestionvehiculos.enums.Rol;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+public interface UsuarioRepository extends NaturalIdRepository<Usuario, Long> {
 
     Optional<Usuario> findByUsername(String username);
 
@@ -0,0 +1,267 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.FiltroVehiculos;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResponse;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Búsqueda de vehículos con filtros dinámicos (Criteria API), paginación y facetas.
+ * Los resultados se proyectan directamente a {@link VehiculoResponse}: cargar entidades
+ * dispararía una consulta por vehículo para sus relaciones uno a uno inversas.
+ * <p>
+ * Las facetas de texto libre (marca y modelo) devuelven solo los valores más frecuentes, hasta
+ * {@code busqueda.vehiculos.max-valores-faceta}, y el resto sumado en {@value #OTROS}; los kilómetros
+ * se cuentan por tramos.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+public class VehiculoBusquedaRepository {
+
+    public static final String FACETA_MARCA = "marca";
+    public static final String FACETA_MODELO = "modelo";
+    public static final String FACETA_COMBUSTIBLE = "tipoCombustible";
+    public static final String FACETA_SITUACION = "situacion";
+    public static final String FACETA_ANYO = "anyoFabricacion";
+    public static final String FACETA_KILOMETROS = "kilometros";
+    public static final String FACETA_ACTIVO = "activo";
+
+    /**
+     * Valor de faceta que agrupa los que quedan fuera de los más frecuentes
+     */
+    public static final String OTROS = "otros";
+
+    /**
+     * Límites inferiores de los tramos de kilómetros; el último tramo no tiene límite superior
+     */
+    private static final int[] TRAMOS_KILOMETROS = {0, 10_000, 50_000, 100_000, 150_000};
+
+    /**
+     * Campos por los que se permite ordenar
+     */
+    private static final Map<String, BiFunction<Root<Vehiculo>, Join<Vehiculo, SituacionVehiculo>, Path<?>>> ORDENABLES = Map.of(
+            "id", (v, s) -> v.get("id"),
+            "matricula", (v, s) -> v.get("matricula"),
+            "marca", (v, s) -> v.get("marca"),
+            "modelo", (v, s) -> v.get("modelo"),
+            "anyoFabricacion", (v, s) -> v.get("anyoFabricacion"),
+            "kilometros", (v, s) -> v.get("kilometros"),
+            "fechaCreacion", (v, s) -> v.get("fechaCreacion"),
+            "situacion", (v, s) -> s.get("nombre")
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${busqueda.vehiculos.max-valores-faceta:20}")
+    private int maxValoresFaceta = 20;
+
+    public Page<VehiculoResponse> buscar(FiltroVehiculos filtro, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<VehiculoResponse> consulta = cb.createQuery(VehiculoResponse.class);
+        Root<Vehiculo> v = consulta.from(Vehiculo.class);
+        Join<Vehiculo, SituacionVehiculo> s = v.join("situacion");
+        consulta.select(cb.construct(VehiculoResponse.class,
+                        v.get("id"), v.get("matricula"), v.get("marca"), v.get("modelo"),
+                        v.get("anyoFabricacion"), v.get("color"), v.get("kilometros"), v.get("numeroBastidor"),
+                        v.get("tipoCombustible"), s.get("nombre"),
+                        v.get("fechaCreacion"), v.get("fechaActualizacion"), v.get("activo")))
+                .where(predicados(cb, v, s, filtro, null))
+                .orderBy(ordenes(cb, v, s, pageable.getSort()));
+
+        List<VehiculoResponse> contenido = entityManager.createQuery(consulta)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        CriteriaQuery<Long> recuento = cb.createQuery(Long.class);
+        Root<Vehiculo> vr = recuento.from(Vehiculo.class);
+        Join<Vehiculo, SituacionVehiculo> sr = vr.join("situacion");
+        recuento.select(cb.count(vr)).where(predicados(cb, vr, sr, filtro, null));
+        long total = entityManager.createQuery(recuento).getSingleResult();
+
+        return new PageImpl<>(contenido, pageable, total);
+    }
+
+    /**
+     * Recuentos por valor de cada faceta. Cada una aplica todos los filtros menos el suyo.
+     */
+    public Map<String, Map<String, Long>> facetas(FiltroVehiculos filtro) {
+        Map<String, Map<String, Long>> facetas = new LinkedHashMap<>();
+        facetas.put(FACETA_MARCA, faceta(filtro, FACETA_MARCA, (v, s) -> v.get("marca"), true));
+        facetas.put(FACETA_MODELO, faceta(filtro, FACETA_MODELO, (v, s) -> v.get("modelo"), true));
+        facetas.put(FACETA_COMBUSTIBLE, faceta(filtro, FACETA_COMBUSTIBLE, (v, s) -> v.get("tipoCombustible"), false));
+        facetas.put(FACETA_SITUACION, faceta(filtro, FACETA_SITUACION, (v, s) -> s.get("nombre"), false));
+        facetas.put(FACETA_ANYO, faceta(filtro, FACETA_ANYO, (v, s) -> v.get("anyoFabricacion"), false));
+        facetas.put(FACETA_KILOMETROS, facetaKilometros(filtro));
+        facetas.put(FACETA_ACTIVO, faceta(filtro, FACETA_ACTIVO, (v, s) -> v.get("activo"), false));
+        return facetas;
+    }
+
+    /**
+     * Recuentos por valor ordenados de mayor a menor. Si la faceta está acotada, solo los
+     * {@code maxValoresFaceta} primeros y el resto sumado en {@value #OTROS}.
+     */
+    private Map<String, Long> faceta(FiltroVehiculos filtro, String nombre,
+                                     BiFunction<Root<Vehiculo>, Join<Vehiculo, SituacionVehiculo>, Expression<?>> campo,
+                                     boolean acotada) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<Vehiculo> v = consulta.from(Vehiculo.class);
+        Join<Vehiculo, SituacionVehiculo> s = v.join("situacion");
+        Expression<?> valor = campo.apply(v, s);
+        Expression<Long> total = cb.count(v);
+
+        consulta.multiselect(valor, total)
+                .where(predicados(cb, v, s, filtro, nombre))
+                .groupBy(valor)
+                .orderBy(cb.desc(total));
+
+        TypedQuery<Tuple> query = entityManager.createQuery(consulta);
+        if (acotada) {
+            query.setMaxResults(maxValoresFaceta);
+        }
+
+        Map<String, Long> recuentos = new LinkedHashMap<>();
+        long contados = 0;
+        for (Tuple fila : query.getResultList()) {
+            recuentos.put(String.valueOf(fila.get(0)), fila.get(1, Long.class));
+            contados += fila.get(1, Long.class);
+        }
+
+        // Solo si se ha llenado el límite puede haber más valores: se cuentan todos y se resta lo ya contado
+        if (acotada && recuentos.size() == maxValoresFaceta) {
+            CriteriaQuery<Long> recuento = cb.createQuery(Long.class);
+            Root<Vehiculo> vr = recuento.from(Vehiculo.class);
+            Join<Vehiculo, SituacionVehiculo> sr = vr.join("situacion");
+            recuento.select(cb.count(vr)).where(predicados(cb, vr, sr, filtro, nombre));
+            long otros = entityManager.createQuery(recuento).getSingleResult() - contados;
+            if (otros > 0) {
+                recuentos.put(OTROS, otros);
+            }
+        }
+        return recuentos;
+    }
+
+    /**
+     * Vehículos por tramo de kilómetros ("0-9999", ..., "150000+"), en una sola consulta con una suma
+     * condicional por tramo. Los tramos sin vehículos se devuelven a cero para que la interfaz los muestre siempre.
+     */
+    private Map<String, Long> facetaKilometros(FiltroVehiculos filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<Vehiculo> v = consulta.from(Vehiculo.class);
+        Join<Vehiculo, SituacionVehiculo> s = v.join("situacion");
+        Path<Integer> kilometros = v.get("kilometros");
+
+        List<Selection<?>> sumas = new ArrayList<>();
+        for (int i = 0; i < TRAMOS_KILOMETROS.length; i++) {
+            Predicate enTramo = cb.greaterThanOrEqualTo(kilometros, TRAMOS_KILOMETROS[i]);
+            if (i + 1 < TRAMOS_KILOMETROS.length) {
+                enTramo = cb.and(enTramo, cb.lessThan(kilometros, TRAMOS_KILOMETROS[i + 1]));
+            }
+            sumas.add(cb.sum(cb.<Long>selectCase().when(enTramo, 1L).otherwise(0L)));
+        }
+        consulta.multiselect(sumas).where(predicados(cb, v, s, filtro, FACETA_KILOMETROS));
+
+        Tuple fila = entityManager.createQuery(consulta).getSingleResult();
+        Map<String, Long> recuentos = new LinkedHashMap<>();
+        for (int i = 0; i < TRAMOS_KILOMETROS.length; i++) {
+            String tramo = i + 1 < TRAMOS_KILOMETROS.length
+                    ? TRAMOS_KILOMETROS[i] + "-" + (TRAMOS_KILOMETROS[i + 1] - 1)
+                    : TRAMOS_KILOMETROS[i] + "+";
+            Number total = (Number) fila.get(i);
+            recuentos.put(tramo, total != null ? total.longValue() : 0L);
+        }
+        return recuentos;
+    }
+
+    private Predicate[] predicados(CriteriaBuilder cb, Root<Vehiculo> v, Join<Vehiculo, SituacionVehiculo> s,
+                                   FiltroVehiculos filtro, String facetaExcluida) {
+        List<Predicate> predicados = new ArrayList<>();
+
+        if (filtro.getActivo() != null && !FACETA_ACTIVO.equals(facetaExcluida)) {
+            predicados.add(cb.equal(v.get("activo"), filtro.getActivo()));
+        }
+        if (filtro.getMarca() != null && !FACETA_MARCA.equals(facetaExcluida)) {
+            predicados.add(cb.equal(v.get("marca"), filtro.getMarca()));
+        }
+        if (filtro.getModelo() != null && !FACETA_MODELO.equals(facetaExcluida)) {
+            predicados.add(cb.equal(v.get("modelo"), filtro.getModelo()));
+        }
+        if (filtro.getTipoCombustible() != null && !filtro.getTipoCombustible().isEmpty()
+                && !FACETA_COMBUSTIBLE.equals(facetaExcluida)) {
+            predicados.add(v.get("tipoCombustible").in(filtro.getTipoCombustible()));
+        }
+        if (filtro.getSituacion() != null && !filtro.getSituacion().isEmpty()
+                && !FACETA_SITUACION.equals(facetaExcluida)) {
+            predicados.add(s.get("nombre").in(filtro.getSituacion()));
+        }
+        if (!FACETA_ANYO.equals(facetaExcluida)) {
+            if (filtro.getAnyoDesde() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(v.get("anyoFabricacion"), filtro.getAnyoDesde()));
+            }
+            if (filtro.getAnyoHasta() != null) {
+                predicados.add(cb.lessThanOrEqualTo(v.get("anyoFabricacion"), filtro.getAnyoHasta()));
+            }
+        }
+        if (!FACETA_KILOMETROS.equals(facetaExcluida)) {
+            if (filtro.getKilometrosDesde() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(v.get("kilometros"), filtro.getKilometrosDesde()));
+            }
+            if (filtro.getKilometrosHasta() != null) {
+                predicados.add(cb.lessThanOrEqualTo(v.get("kilometros"), filtro.getKilometrosHasta()));
+            }
+        }
+
+        return predicados.toArray(Predicate[]::new);
+    }
+
+    private List<Order> ordenes(CriteriaBuilder cb, Root<Vehiculo> v, Join<Vehiculo, SituacionVehiculo> s, Sort sort) {
+        List<Order> ordenes = new ArrayList<>();
+        for (Sort.Order orden : sort) {
+            var campo = ORDENABLES.get(orden.getProperty());
+            if (campo == null) {
+                throw new InvalidOperationException("No se puede ordenar por '" + orden.getProperty()
+                        + "'. Campos válidos: " + ORDENABLES.keySet());
+            }
+            Path<?> ruta = campo.apply(v, s);
+            ordenes.add(orden.isAscending() ? cb.asc(ruta) : cb.desc(ruta));
+        }
+        // Desempate estable para que la paginación no repita ni salte filas
+        if (sort.getOrderFor("id") == null) {
+            ordenes.add(cb.asc(v.get("id")));
+        }
+        return ordenes;
+    }
+}
@@ -1,13 +1,35 @@
 package com.uoc.tfg.gestionvehiculos.repositories;
 
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface VehiculoRepository extends JpaRepository<Vehiculo, Long> {
 
     Optional<Vehiculo> findByMatricula(String matricula);
+
+    @Query("select v.matricula from Vehiculo v where v.matricula in :matriculas")
+    Set<String> findMatriculasExistentes(@Param("matriculas") Collection<String> matriculas);
+
+    @Query("select v.numeroBastidor from Vehiculo v where v.numeroBastidor in :bastidores")
+    Set<String> findBastidoresExistentes(@Param("bastidores") Collection<String> bastidores);
+
+    /**
+     * La respuesta incluye el nombre de la situación, así que renombrarla también cambia la versión
+     */
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso(count(v), max(v.fechaActualizacion), " +
+            "max(s.fechaActualizacion)) from Vehiculo v join v.situacion s where v.id = :id")
+    VersionRecurso findVersionById(@Param("id") Long id);
+
+    @Query("select new com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso(count(v), max(v.fechaActualizacion), " +
+            "max(s.fechaActualizacion)) from Vehiculo v join v.situacion s where v.activo = true")
+    VersionRecurso findVersionActivos();
 }
@@ -0,0 +1,93 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mantenimiento de la tabla vehiculo_resumen. Cada fila se recalcula entera desde las tablas de origen
+ * con un INSERT ... SELECT, así que el resultado no depende del orden en que lleguen los cambios.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class VehiculoResumenJdbcRepository {
+
+    private static final int TAMANO_IN = 500;
+
+    private static final String INSERT_RESUMEN =
+            "INSERT INTO vehiculo_resumen (vehiculo_id, matricula, marca, modelo, anyo_fabricacion, kilometros, " +
+                    "situacion, activo, contrato_id, numero_contrato, estado_contrato, cuota_mensual, " +
+                    "fecha_fin_contrato, reserva_id, estado_reserva, fecha_limite_reserva, cliente_id, " +
+                    "cliente_nombre, precio_compra, precio_venta, fecha_actualizacion) " +
+            "SELECT v.id, v.matricula, v.marca, v.modelo, v.anyo_fabricacion, v.kilometros, " +
+                    "s.nombre, COALESCE(v.activo, TRUE), c.id, c.numero_contrato, c.estado, c.cuota_mensual, " +
+                    "c.fecha_fin, r.id, r.estado, r.fecha_limite, cl.id, " +
+                    "CASE WHEN cl.tipo_cliente = 'EMPRESA' THEN COALESCE(cl.razon_social, cl.nombre) " +
+                    "WHEN cl.apellidos IS NULL THEN cl.nombre ELSE CONCAT(cl.nombre, ' ', cl.apellidos) END, " +
+                    "fc.importe_total, fv.importe_total, ? " +
+            "FROM vehiculos v " +
+            "JOIN situaciones_vehiculo s ON s.id = v.situacion_id " +
+            "LEFT JOIN contratos_renting c ON c.id = (SELECT MAX(c2.id) FROM contratos_renting c2 " +
+                    "WHERE c2.vehiculo_id = v.id AND c2.activo = TRUE AND c2.estado IN ('PENDIENTE', 'ACTIVO')) " +
+            "LEFT JOIN reservas_venta r ON r.id = (SELECT MAX(r2.id) FROM reservas_venta r2 " +
+                    "WHERE r2.vehiculo_id = v.id AND r2.activo = TRUE) " +
+            "LEFT JOIN clientes cl ON cl.id = COALESCE(c.cliente_id, " +
+                    "CASE WHEN r.estado IN ('PENDIENTE', 'CONFIRMADA') THEN r.cliente_id END) " +
+            "LEFT JOIN facturas_compra fc ON fc.vehiculo_id = v.id " +
+            "LEFT JOIN facturas_venta fv ON fv.vehiculo_id = v.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Vuelve a calcular las filas de los vehículos indicados (y borra las de los que ya no existan)
+     */
+    public void recalcular(Collection<Long> vehiculoIds) {
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(vehiculoIds);
+        for (int desde = 0; desde < ids.size(); desde += TAMANO_IN) {
+            List<Long> bloque = ids.subList(desde, Math.min(desde + TAMANO_IN, ids.size()));
+            String marcadores = String.join(", ", Collections.nCopies(bloque.size(), "?"));
+
+            jdbcTemplate.update("DELETE FROM vehiculo_resumen WHERE vehiculo_id IN (" + marcadores + ")",
+                    bloque.toArray());
+
+            Object[] parametros = new Object[bloque.size() + 1];
+            parametros[0] = ahora;
+            for (int i = 0; i < bloque.size(); i++) {
+                parametros[i + 1] = bloque.get(i);
+            }
+            jdbcTemplate.update(INSERT_RESUMEN + " WHERE v.id IN (" + marcadores + ")", parametros);
+        }
+    }
+
+    /**
+     * Vuelve a calcular la tabla entera
+     *
+     * @return número de filas
+     */
+    public int reconstruir() {
+        jdbcTemplate.update("DELETE FROM vehiculo_resumen");
+        return jdbcTemplate.update(INSERT_RESUMEN, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public List<Long> buscarIdsPorCliente(Long clienteId) {
+        return jdbcTemplate.queryForList(
+                "SELECT vehiculo_id FROM vehiculo_resumen WHERE cliente_id = ?", Long.class, clienteId);
+    }
+
+    public List<Long> buscarIdsPorSituacion(Long situacionId) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM vehiculos WHERE situacion_id = ?", Long.class, situacionId);
+    }
+}
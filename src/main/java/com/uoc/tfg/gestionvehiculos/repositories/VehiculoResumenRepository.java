@@ -0,0 +1,22 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.entities.VehiculoResumen;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Repository
+public interface VehiculoResumenRepository extends JpaRepository<VehiculoResumen, Long> {
+
+    List<VehiculoResumen> findByActivoTrueOrderByVehiculoId();
+
+    List<VehiculoResumen> findByActivoTrueAndSituacionOrderByVehiculoId(String situacion);
+
+    long countByActivoTrueAndSituacion(String situacion);
+}
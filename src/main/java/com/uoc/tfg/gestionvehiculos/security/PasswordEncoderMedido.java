@@ -0,0 +1,54 @@
+package com.uoc.tfg.gestionvehiculos.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que acumula por hilo el tiempo dedicado a calcular y comprobar hashes, para que
+ * el login pueda separar el coste del hash (BCrypt es lento a propósito) del resto de la operación.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class PasswordEncoderMedido implements PasswordEncoder {
+
+    private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final PasswordEncoder delegado;
+
+    public PasswordEncoderMedido(PasswordEncoder delegado) {
+        this.delegado = delegado;
+    }
+
+    /**
+     * Nanosegundos acumulados en el hilo actual; solo tiene sentido la diferencia entre dos lecturas
+     */
+    public static long nanosHilo() {
+        return NANOS.get()[0];
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long inicio = System.nanoTime();
+        try {
+            return delegado.encode(rawPassword);
+        } finally {
+            NANOS.get()[0] += System.nanoTime() - inicio;
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long inicio = System.nanoTime();
+        try {
+            return delegado.matches(rawPassword, encodedPassword);
+        } finally {
+            NANOS.get()[0] += System.nanoTime() - inicio;
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegado.upgradeEncoding(encodedPassword);
+    }
+}
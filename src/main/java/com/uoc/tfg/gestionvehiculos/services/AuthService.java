@@ -1,12 +1,16 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
 import com.uoc.tfg.gestionvehiculos.dtos.auth.LoginRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.auth.LoginResponse;
 import com.uoc.tfg.gestionvehiculos.dtos.auth.RegistroRequest;
 import com.uoc.tfg.gestionvehiculos.entities.Usuario;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.enums.Rol;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoLogin;
 import com.uoc.tfg.gestionvehiculos.repositories.UsuarioRepository;
 import com.uoc.tfg.gestionvehiculos.security.JwtUtil;
+import com.uoc.tfg.gestionvehiculos.security.PasswordEncoderMedido;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -28,12 +32,16 @@ public class AuthService {
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final VersionesEntidades versionesEntidades;
 
     /**
      * Autentica un usuario y retorna un token JWT
      */
     @Transactional
     public LoginResponse login(LoginRequest request) {
+        EventoLogin evento = new EventoLogin();
+        evento.begin();
+        long hashInicio = PasswordEncoderMedido.nanosHilo();
         try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -43,13 +51,15 @@ public class AuthService {
             );
 
             UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
-            Usuario usuario = usuarioRepository.findByUsername(request.getUsername())
+            Usuario usuario = usuarioRepository.buscarPorClaveNatural(request.getUsername())
                     .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
             usuario.registrarAcceso();
             usuarioRepository.save(usuario);
+            versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
 
             String token = jwtUtil.generateToken(userDetails);
+            evento.exito = true;
 
             return LoginResponse.builder()
                     .token(token)
@@ -62,13 +72,18 @@ public class AuthService {
 
         } catch (BadCredentialsException e) {
             // Registrar intento fallido
-            usuarioRepository.findByUsername(request.getUsername())
+            usuarioRepository.buscarPorClaveNatural(request.getUsername())
                     .ifPresent(usuario -> {
                         usuario.registrarIntentoFallido();
                         usuarioRepository.save(usuario);
+                        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
                     });
 
             throw new BadCredentialsException("Credenciales inválidas");
+        } finally {
+            evento.usuario = request.getUsername();
+            evento.hash = PasswordEncoderMedido.nanosHilo() - hashInicio;
+            evento.commit();
         }
     }
 
@@ -95,6 +110,8 @@ public class AuthService {
         nuevoUsuario.setRol(Rol.USUARIO); // Por defecto rol USUARIO
         nuevoUsuario.setFechaCambioPassword(LocalDateTime.now());
 
-        return usuarioRepository.save(nuevoUsuario);
+        Usuario guardado = usuarioRepository.save(nuevoUsuario);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
+        return guardado;
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorEncontrado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import com.uoc.tfg.gestionvehiculos.repositories.IdentificadorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Búsqueda rápida de cualquier identificador (matrícula, bastidor, documento, CIF,
+ * número de contrato o de factura) desde una única caja de texto
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BusquedaService {
+
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final IdentificadorRepository identificadorRepository;
+
+    /**
+     * Identificadores que empiezan por la consulta, primero los exactos. Mientras el índice
+     * en memoria no esté cargado solo se buscan coincidencias exactas en BD.
+     */
+    public List<IdentificadorEncontrado> buscar(String consulta, Set<TipoIdentificador> tipos, int limite) {
+        if (indiceIdentificadores.isCargado()) {
+            return indiceIdentificadores.buscar(consulta, tipos, limite);
+        }
+
+        log.debug("Índice de identificadores aún no disponible, buscando en BD: {}", consulta);
+        String valor = consulta.trim();
+        Set<String> valores = new LinkedHashSet<>(List.of(valor, valor.toUpperCase(Locale.ROOT)));
+        return identificadorRepository.findPorValores(valores, tipos.isEmpty() ? EnumSet.allOf(TipoIdentificador.class) : tipos)
+                .stream()
+                .limit(limite)
+                .map(identificador -> IndiceIdentificadores.aResultado(identificador, true))
+                .toList();
+    }
+}
@@ -0,0 +1,248 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cambios.EventoCambio;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Canal de cambios por Server-Sent Events: los servicios publican aquí, tras confirmar la transacción,
+ * los cambios de vehículos, contratos y cuotas, y cada suscriptor recibe los de las entidades que ha pedido.
+ * <p>
+ * Cada suscriptor tiene una cola acotada y los envíos se hacen fuera del hilo que publica, así que un
+ * cliente lento nunca retrasa una escritura. Si la cola se llena se descarta entera y el cliente recibe
+ * un evento {@code resync}: debe volver a consultar los listados en lugar de aplicar cambios sueltos.
+ * Los últimos eventos se guardan para que un cliente que se reconecta con {@code Last-Event-ID} reciba
+ * los que se perdió; si son más antiguos que el historial, también recibe {@code resync}.
+ * <p>
+ * La secuencia vive en memoria y vuelve a empezar con cada arranque, así que el id de cada evento lleva
+ * delante una marca de la instancia ({@code instancia-secuencia}): un id de una ejecución anterior, o que
+ * no se reconoce, provoca {@code resync} en lugar de saltarse en silencio lo ocurrido mientras tanto.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class CanalCambios {
+
+    static final String EVENTO_CAMBIO = "cambio";
+    static final String EVENTO_RESYNC = "resync";
+
+    private final TaskExecutor applicationTaskExecutor;
+    private final int capacidadCliente;
+    private final int capacidadHistorial;
+    private final long timeoutMs;
+
+    private final String instancia = Long.toString(System.currentTimeMillis(), 36);
+    private final List<Suscriptor> suscriptores = new CopyOnWriteArrayList<>();
+    private final ArrayDeque<EventoCambio> historial = new ArrayDeque<>();
+    private long secuencia;
+
+    public CanalCambios(TaskExecutor applicationTaskExecutor,
+                        @Value("${cambios.buffer-cliente:256}") int capacidadCliente,
+                        @Value("${cambios.historial:1000}") int capacidadHistorial,
+                        @Value("${cambios.timeout-ms:1800000}") long timeoutMs) {
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.capacidadCliente = capacidadCliente;
+        this.capacidadHistorial = capacidadHistorial;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Publica el cambio cuando la transacción en curso se confirme (inmediatamente si no hay transacción)
+     */
+    public void publicarTrasConfirmar(EntidadCambio entidad, Long id, String estado, boolean activo) {
+        trasConfirmar(() -> publicar(entidad, id, estado, activo));
+    }
+
+    public void publicarTrasConfirmar(EntidadCambio entidad, Collection<Long> ids, String estado) {
+        List<Long> copia = List.copyOf(ids);
+        trasConfirmar(() -> copia.forEach(id -> publicar(entidad, id, estado, true)));
+    }
+
+    public void publicar(EntidadCambio entidad, Long id, String estado, boolean activo) {
+        synchronized (this) {
+            EventoCambio evento = EventoCambio.builder()
+                    .secuencia(++secuencia)
+                    .entidad(entidad)
+                    .id(id)
+                    .estado(estado)
+                    .activo(activo)
+                    .fecha(LocalDateTime.now())
+                    .build();
+            historial.addLast(evento);
+            if (historial.size() > capacidadHistorial) {
+                historial.removeFirst();
+            }
+            suscriptores.forEach(s -> s.encolar(evento));
+        }
+        suscriptores.forEach(Suscriptor::programar);
+    }
+
+    /**
+     * Abre una suscripción a los cambios de las entidades indicadas
+     *
+     * @param ultimoEvento id del último evento recibido antes de reconectar, o null
+     */
+    public SseEmitter suscribir(Set<EntidadCambio> entidades, String ultimoEvento) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        suscribir(emitter, entidades, ultimoEvento);
+        return emitter;
+    }
+
+    void suscribir(SseEmitter emitter, Set<EntidadCambio> entidades, String ultimoEvento) {
+        Suscriptor suscriptor = new Suscriptor(emitter, entidades);
+        Long ultimaSecuencia = ultimoEvento != null ? secuenciaDe(ultimoEvento) : null;
+
+        synchronized (this) {
+            if (ultimoEvento != null && (ultimaSecuencia == null || ultimaSecuencia > secuencia)) {
+                // De otra ejecución o no reconocido: no se sabe qué se ha perdido
+                suscriptor.desbordado = true;
+            } else if (ultimaSecuencia != null && ultimaSecuencia < secuencia) {
+                EventoCambio primero = historial.peekFirst();
+                if (primero == null || primero.getSecuencia() > ultimaSecuencia + 1) {
+                    suscriptor.desbordado = true;
+                } else {
+                    historial.stream()
+                            .filter(e -> e.getSecuencia() > ultimaSecuencia)
+                            .forEach(suscriptor::encolar);
+                }
+            }
+            suscriptores.add(suscriptor);
+        }
+
+        emitter.onCompletion(() -> suscriptores.remove(suscriptor));
+        emitter.onTimeout(() -> suscriptores.remove(suscriptor));
+        emitter.onError(e -> suscriptores.remove(suscriptor));
+        suscriptor.programar();
+
+        log.info("Nueva suscripción al canal de cambios ({}): {} suscriptores", entidades, suscriptores.size());
+    }
+
+    public int getSuscriptores() {
+        return suscriptores.size();
+    }
+
+    private synchronized long secuenciaActual() {
+        return secuencia;
+    }
+
+    /**
+     * Id SSE del evento con esa secuencia en esta instancia
+     */
+    String idEvento(long secuencia) {
+        return instancia + "-" + secuencia;
+    }
+
+    /**
+     * Secuencia de un id emitido por esta instancia, o null si es de otra ejecución o no tiene el formato esperado
+     */
+    private Long secuenciaDe(String idEvento) {
+        String prefijo = instancia + "-";
+        if (!idEvento.startsWith(prefijo)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(idEvento.substring(prefijo.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void trasConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+
+    private final class Suscriptor {
+        private final SseEmitter emitter;
+        private final Set<EntidadCambio> entidades;
+        private final ArrayBlockingQueue<EventoCambio> pendientes;
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private volatile boolean desbordado;
+
+        private Suscriptor(SseEmitter emitter, Set<EntidadCambio> entidades) {
+            this.emitter = emitter;
+            this.entidades = entidades;
+            this.pendientes = new ArrayBlockingQueue<>(capacidadCliente);
+        }
+
+        /**
+         * Se llama con el canal bloqueado, así que los eventos entran en la cola en orden de secuencia
+         */
+        private void encolar(EventoCambio evento) {
+            if (entidades.contains(evento.getEntidad()) && !pendientes.offer(evento)) {
+                pendientes.clear();
+                desbordado = true;
+            }
+        }
+
+        /**
+         * Lanza el envío de lo pendiente salvo que ya haya un hilo enviando a este cliente
+         */
+        private void programar() {
+            if ((desbordado || !pendientes.isEmpty()) && enviando.compareAndSet(false, true)) {
+                applicationTaskExecutor.execute(this::enviar);
+            }
+        }
+
+        private void enviar() {
+            try {
+                while (true) {
+                    if (desbordado) {
+                        desbordado = false;
+                        long actual = secuenciaActual();
+                        emitter.send(SseEmitter.event()
+                                .id(idEvento(actual))
+                                .name(EVENTO_RESYNC)
+                                .data(Map.of("secuencia", actual), MediaType.APPLICATION_JSON));
+                    }
+                    EventoCambio evento = pendientes.poll();
+                    if (evento == null) {
+                        break;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(idEvento(evento.getSecuencia()))
+                            .name(EVENTO_CAMBIO)
+                            .data(evento, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Suscriptor del canal de cambios desconectado: {}", e.getMessage());
+                suscriptores.remove(this);
+                pendientes.clear();
+                return;
+            } finally {
+                enviando.set(false);
+            }
+            // Un evento encolado justo después de vaciar la cola no habría podido programar otro envío
+            programar();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteBusquedaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
 import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
@@ -11,6 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -24,6 +34,9 @@ import java.util.List;
 public class ClienteService {
 
     private final ClienteRepository clienteRepository;
+    private final IndiceClientes indiceClientes;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final ResumenVehiculos resumenVehiculos;
 
     /**
      * Lista todos los clientes activos
@@ -45,11 +58,16 @@ public class ClienteService {
     }
 
     /**
-     * Obtiene un cliente por documento
+     * Obtiene un cliente por documento. Los clientes dados de alta antes de normalizar los documentos
+     * conservan el suyo tal como se escribió, así que si la forma normalizada no existe se busca el texto recibido.
      */
     public Cliente obtenerPorDocumento(String documento) {
         log.debug("Buscando cliente con documento: {}", documento);
-        return clienteRepository.findByDocumento(documento)
+        String normalizado = normalizarDocumento(documento);
+        return clienteRepository.buscarPorClaveNatural(normalizado)
+                .or(() -> normalizado == null || normalizado.equals(documento)
+                        ? Optional.empty()
+                        : clienteRepository.buscarPorClaveNatural(documento))
                 .orElseThrow(() -> new RuntimeException("Cliente no encontrado con documento: " + documento));
     }
 
@@ -61,6 +79,45 @@ public class ClienteService {
         return clienteRepository.findByNombreContainingIgnoreCase(nombre);
     }
 
+    /**
+     * Búsqueda rápida por nombre, apellidos, razón social, documento, email o teléfono,
+     * ordenada por relevancia y tolerante a erratas. Mientras el índice en memoria
+     * no esté cargado se recurre a la búsqueda por nombre en BD.
+     */
+    public List<ClienteBusquedaResponse> buscar(String consulta, int limite) {
+        if (indiceClientes.isCargado()) {
+            return indiceClientes.buscar(consulta, limite);
+        }
+
+        log.debug("Índice de clientes aún no disponible, buscando en BD: {}", consulta);
+        return buscarPorNombre(consulta).stream()
+                .filter(c -> Boolean.TRUE.equals(c.getActivo()))
+                .limit(limite)
+                .map(c -> ClienteBusquedaResponse.builder()
+                        .id(c.getId())
+                        .tipoCliente(c.getTipoCliente())
+                        .documento(c.getDocumento())
+                        .nombreCompleto(c.getNombreCompleto())
+                        .email(c.getEmail())
+                        .telefono(c.getTelefono())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Búsqueda rápida que devuelve los clientes completos, en el mismo orden de relevancia que {@link #buscar}
+     */
+    public List<Cliente> buscarClientes(String consulta, int limite) {
+        List<Long> ids = buscar(consulta, limite).stream().map(ClienteBusquedaResponse::getId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Cliente> porId = clienteRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        return ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Obtiene clientes por tipo
      */
@@ -75,6 +132,7 @@ public class ClienteService {
     @Transactional
     public Cliente crear(Cliente cliente) {
         log.info("Creando nuevo cliente: {}", cliente.getNombreCompleto());
+        cliente.setDocumento(normalizarDocumento(cliente.getDocumento()));
 
         if (clienteRepository.existsByDocumento(cliente.getDocumento())) {
             throw new DuplicateResourceException("cliente", "documento", cliente.getDocumento());
@@ -83,6 +141,8 @@ public class ClienteService {
         validarDatosSegunTipo(cliente);
 
         Cliente guardado = clienteRepository.save(cliente);
+        indiceClientes.indexarTrasConfirmar(ClienteIndexado.de(guardado));
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.documento(guardado));
         log.info("Cliente creado con id: {}", guardado.getId());
 
         return guardado;
@@ -96,6 +156,7 @@ public class ClienteService {
         log.info("Actualizando cliente con id: {}", id);
 
         Cliente clienteExistente = obtenerPorId(id);
+        clienteActualizado.setDocumento(normalizarDocumento(clienteActualizado.getDocumento()));
 
         if (!clienteExistente.getDocumento().equals(clienteActualizado.getDocumento())) {
             if (clienteRepository.existsByDocumento(clienteActualizado.getDocumento())) {
@@ -119,6 +180,11 @@ public class ClienteService {
         clienteExistente.setObservaciones(clienteActualizado.getObservaciones());
 
         Cliente actualizado = clienteRepository.save(clienteExistente);
+        resumenVehiculos.marcarPorCliente(actualizado.getId());
+        if (Boolean.TRUE.equals(actualizado.getActivo())) {
+            indiceClientes.indexarTrasConfirmar(ClienteIndexado.de(actualizado));
+            indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.documento(actualizado));
+        }
         log.info("Cliente actualizado");
 
         return actualizado;
@@ -135,6 +201,8 @@ public class ClienteService {
         cliente.setActivo(false);
 
         clienteRepository.save(cliente);
+        indiceClientes.eliminarTrasConfirmar(id);
+        indiceIdentificadores.eliminarTrasConfirmar(id, TipoIdentificador.DOCUMENTO_CLIENTE);
         log.info("Cliente desactivado");
     }
 
@@ -149,13 +217,26 @@ public class ClienteService {
         cliente.setActivo(true);
 
         clienteRepository.save(cliente);
+        indiceClientes.indexarTrasConfirmar(ClienteIndexado.de(cliente));
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.documento(cliente));
         log.info("Cliente reactivado");
     }
 
+    /**
+     * Normaliza el documento: sin espacios, guiones ni puntos y en mayúsculas ("12345678-z" → "12345678Z").
+     * Se aplica al crear, actualizar, buscar e importar, para que todos los caminos guarden y comparen la misma forma
+     */
+    static String normalizarDocumento(String documento) {
+        if (documento == null) {
+            return null;
+        }
+        return documento.replaceAll("[\\s\\-.]", "").toUpperCase(Locale.ROOT);
+    }
+
     /**
      * Valida coherencia de datos según el tipo de cliente
      */
-    private void validarDatosSegunTipo(Cliente cliente) {
+    static void validarDatosSegunTipo(Cliente cliente) {
         if (cliente.getTipoCliente() == TipoCliente.EMPRESA) {
             if (cliente.getRazonSocial() == null || cliente.getRazonSocial().isBlank()) {
                 throw new BusinessRuleException("La razón social es obligatoria para empresas");
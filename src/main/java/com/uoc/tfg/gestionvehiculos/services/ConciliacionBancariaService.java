@@ -0,0 +1,361 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.CuotaAbierta;
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.MovimientoBancario;
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.MovimientoConciliado;
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.ResultadoConciliacion;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoConciliacion;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoExtracto;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Concilia extractos bancarios (CAMT.053 o CSV) con las cuotas pendientes y vencidas.
+ * <p>
+ * Las cuotas abiertas se cargan una vez en un índice en memoria por contrato e importe; el extracto
+ * se lee en streaming y cada abono se busca en el índice por los números de contrato que aparezcan
+ * en su referencia o concepto. Los abonos con una única cuota candidata se concilian (la más antigua
+ * si hay varias del mismo importe) y se aplican por bloques con una sentencia UPDATE por fecha de pago.
+ * El informe cuenta todos los movimientos, pero solo guarda el detalle de los primeros
+ * {@code conciliacion.max-detalle}, para que la memoria no crezca con el tamaño del extracto.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConciliacionBancariaService {
+
+    private final CuotaRentingRepository cuotaRepository;
+    private final AuditorAware<String> auditorProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final CanalCambios canalCambios;
+    private final OutboxEventos outboxEventos;
+
+    @Value("${conciliacion.tamano-bloque:500}")
+    private int tamanoBloque = 500;
+
+    @Value("${conciliacion.max-detalle:1000}")
+    private int maxDetalle = 1000;
+
+    public ResultadoConciliacion conciliar(InputStream contenido, FormatoExtracto formato) throws IOException {
+        long inicio = System.nanoTime();
+        String usuario = auditorProvider.getCurrentAuditor().orElse("SISTEMA");
+
+        // 1. Índice de cuotas abiertas: contrato -> importe -> cuotas por antigüedad
+        List<CuotaAbierta> abiertas = cuotaRepository.findAbiertasParaConciliar();
+        Map<String, Map<BigDecimal, Deque<CuotaAbierta>>> indice = indexar(abiertas);
+        long msIndice = msDesde(inicio);
+
+        log.info("Conciliando extracto {} contra {} cuotas abiertas de {} contratos",
+                formato, abiertas.size(), indice.size());
+
+        // 2. Lectura en streaming, casado y aplicación por bloques
+        Recuento recuento = new Recuento(maxDetalle);
+        List<MovimientoConciliado> bloque = new ArrayList<>(tamanoBloque);
+        long nanosAplicacion = 0;
+
+        try (Movimientos movimientos = abrir(contenido, formato)) {
+            while (movimientos.hasNext()) {
+                LectorImportacion.FilaLeida<MovimientoBancario> fila = movimientos.next();
+                MovimientoConciliado resultado = casar(fila, indice);
+                recuento.guardar(resultado);
+
+                // Los conciliados se cuentan al aplicar su bloque, que puede acabar en error
+                if (resultado.getEstado() == EstadoConciliacion.CONCILIADO) {
+                    bloque.add(resultado);
+                    if (bloque.size() == tamanoBloque) {
+                        nanosAplicacion += aplicar(bloque, usuario);
+                        bloque.forEach(recuento::contar);
+                        bloque.clear();
+                    }
+                } else {
+                    recuento.contar(resultado);
+                }
+            }
+        }
+        if (!bloque.isEmpty()) {
+            nanosAplicacion += aplicar(bloque, usuario);
+            bloque.forEach(recuento::contar);
+        }
+
+        long msTotal = msDesde(inicio);
+        long msAplicacion = TimeUnit.NANOSECONDS.toMillis(nanosAplicacion);
+        ResultadoConciliacion resultado = resumir(recuento, abiertas.size(), msIndice,
+                msTotal - msIndice - msAplicacion, msAplicacion, msTotal);
+
+        log.info("Conciliación finalizada: {} movimientos, {}% conciliados, {} ms",
+                resultado.getMovimientos(), resultado.getTasaConciliacion(), msTotal);
+        return resultado;
+    }
+
+    private Map<String, Map<BigDecimal, Deque<CuotaAbierta>>> indexar(List<CuotaAbierta> abiertas) {
+        Map<String, Map<BigDecimal, Deque<CuotaAbierta>>> indice = new HashMap<>();
+        for (CuotaAbierta cuota : abiertas) {
+            indice.computeIfAbsent(cuota.getNumeroContrato().toUpperCase(Locale.ROOT), k -> new HashMap<>())
+                    .computeIfAbsent(normalizar(cuota.getImporte()), k -> new ArrayDeque<>())
+                    .add(cuota);
+        }
+        return indice;
+    }
+
+    private MovimientoConciliado casar(LectorImportacion.FilaLeida<MovimientoBancario> fila,
+                                       Map<String, Map<BigDecimal, Deque<CuotaAbierta>>> indice) {
+        MovimientoBancario movimiento = fila.getValor();
+        MovimientoConciliado.MovimientoConciliadoBuilder resultado = MovimientoConciliado.builder()
+                .posicion(fila.getNumero());
+
+        if (fila.getError() != null) {
+            return resultado.estado(EstadoConciliacion.SIN_COINCIDENCIA).mensaje(fila.getError()).build();
+        }
+
+        resultado.fecha(movimiento.getFecha())
+                .importe(movimiento.getImporte())
+                .referencia(movimiento.getReferencia());
+
+        if (movimiento.getImporte() == null || movimiento.getImporte().signum() <= 0) {
+            return resultado.estado(EstadoConciliacion.IGNORADO).build();
+        }
+
+        Set<String> contratos = contratosMencionados(movimiento, indice);
+        if (contratos.isEmpty()) {
+            return resultado.estado(EstadoConciliacion.SIN_COINCIDENCIA).build();
+        }
+
+        BigDecimal importe = normalizar(movimiento.getImporte());
+        List<Deque<CuotaAbierta>> candidatas = contratos.stream()
+                .map(c -> indice.get(c).get(importe))
+                .filter(cola -> cola != null && !cola.isEmpty())
+                .toList();
+
+        if (candidatas.isEmpty()) {
+            return resultado.estado(EstadoConciliacion.IMPORTE_DISTINTO)
+                    .numeroContrato(String.join(", ", contratos))
+                    .mensaje("Ninguna cuota abierta del contrato tiene importe " + importe)
+                    .build();
+        }
+        if (candidatas.size() > 1) {
+            return resultado.estado(EstadoConciliacion.AMBIGUO)
+                    .numeroContrato(String.join(", ", contratos))
+                    .mensaje("El importe coincide con cuotas de varios contratos")
+                    .build();
+        }
+
+        CuotaAbierta cuota = candidatas.get(0).poll();
+        return resultado.estado(EstadoConciliacion.CONCILIADO)
+                .cuotaId(cuota.getId())
+                .contratoId(cuota.getContratoId())
+                .numeroContrato(cuota.getNumeroContrato())
+                .numeroCuota(cuota.getNumeroCuota())
+                .build();
+    }
+
+    /**
+     * Números de contrato del índice que aparecen como palabra en la referencia o el concepto
+     */
+    private Set<String> contratosMencionados(MovimientoBancario movimiento,
+                                             Map<String, Map<BigDecimal, Deque<CuotaAbierta>>> indice) {
+        Set<String> contratos = new LinkedHashSet<>();
+        for (String texto : new String[]{movimiento.getReferencia(), movimiento.getConcepto()}) {
+            if (texto == null) {
+                continue;
+            }
+            for (String palabra : texto.toUpperCase(Locale.ROOT).split("[^A-Z0-9-]+")) {
+                if (indice.containsKey(palabra)) {
+                    contratos.add(palabra);
+                }
+            }
+        }
+        return contratos;
+    }
+
+    /**
+     * Marca como pagadas las cuotas conciliadas del bloque, con una sentencia por fecha de pago.
+     * Si alguna cuota ha cambiado de estado mientras tanto, el bloque se deshace y se marca como erróneo.
+     *
+     * @return nanosegundos empleados
+     */
+    private long aplicar(List<MovimientoConciliado> bloque, String usuario) {
+        long inicio = System.nanoTime();
+        Map<LocalDate, List<MovimientoConciliado>> porFecha = bloque.stream().collect(Collectors.groupingBy(
+                m -> m.getFecha() != null ? m.getFecha() : LocalDate.now(),
+                TreeMap::new,
+                Collectors.toList()));
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                LocalDateTime ahora = LocalDateTime.now();
+                porFecha.forEach((fecha, movimientos) -> {
+                    List<Long> ids = movimientos.stream().map(MovimientoConciliado::getCuotaId).toList();
+                    int actualizadas = cuotaRepository.marcarComoPagadas(ids, fecha, ahora, usuario);
+                    if (actualizadas != ids.size()) {
+                        throw new InvalidOperationException(
+                                "Algunas cuotas del bloque han cambiado de estado durante la conciliación");
+                    }
+                    canalCambios.publicarTrasConfirmar(EntidadCambio.CUOTA_RENTING, ids, EstadoCuota.PAGADA.name());
+
+                    Map<Long, Map<String, Object>> eventos = new LinkedHashMap<>();
+                    for (MovimientoConciliado m : movimientos) {
+                        eventos.put(m.getCuotaId(), OutboxEventos.cuotaPagada(m.getContratoId(),
+                                m.getNumeroContrato(), m.getNumeroCuota(), m.getImporte(), fecha, m.getReferencia()));
+                    }
+                    outboxEventos.registrarTodos(TipoEventoDominio.CUOTA_PAGADA, eventos);
+                });
+            });
+        } catch (InvalidOperationException e) {
+            log.warn("Bloque de conciliación deshecho: {}", e.getMessage());
+            bloque.forEach(m -> {
+                m.setEstado(EstadoConciliacion.ERROR);
+                m.setMensaje(e.getMessage());
+            });
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private ResultadoConciliacion resumir(Recuento recuento, int cuotasAbiertas,
+                                          long msIndice, long msLectura, long msAplicacion, long msTotal) {
+        long abonos = recuento.movimientos - recuento.porEstado.getOrDefault(EstadoConciliacion.IGNORADO, 0L);
+        long conciliados = recuento.porEstado.getOrDefault(EstadoConciliacion.CONCILIADO, 0L);
+        double tasa = abonos == 0 ? 0 : Math.round(conciliados * 10000.0 / abonos) / 100.0;
+
+        return ResultadoConciliacion.builder()
+                .movimientos(recuento.movimientos)
+                .porEstado(recuento.porEstado)
+                .tasaConciliacion(tasa)
+                .importeConciliado(recuento.importeConciliado)
+                .cuotasAbiertas(cuotasAbiertas)
+                .msIndice(msIndice)
+                .msLectura(msLectura)
+                .msAplicacion(msAplicacion)
+                .msTotal(msTotal)
+                .detalle(recuento.detalle)
+                .detalleTruncado(recuento.movimientos > recuento.detalle.size())
+                .build();
+    }
+
+    private Movimientos abrir(InputStream contenido, FormatoExtracto formato) throws IOException {
+        if (formato == FormatoExtracto.CAMT053) {
+            LectorCamt053 lector = new LectorCamt053(contenido);
+            return new Movimientos() {
+                @Override
+                public boolean hasNext() {
+                    return lector.hasNext();
+                }
+
+                @Override
+                public LectorImportacion.FilaLeida<MovimientoBancario> next() {
+                    return lector.next();
+                }
+
+                @Override
+                public void close() {
+                    lector.close();
+                }
+            };
+        }
+
+        LectorImportacion<MovimientoBancario> lector = new LectorImportacion<>(
+                new BufferedReader(new InputStreamReader(contenido, StandardCharsets.UTF_8)),
+                FormatoFichero.CSV, MovimientoBancario.class, jsonMapper);
+        return new Movimientos() {
+            @Override
+            public boolean hasNext() {
+                return lector.hasNext();
+            }
+
+            @Override
+            public LectorImportacion.FilaLeida<MovimientoBancario> next() {
+                return lector.next();
+            }
+
+            @Override
+            public void close() throws IOException {
+                lector.close();
+            }
+        };
+    }
+
+    private static BigDecimal normalizar(BigDecimal importe) {
+        return importe.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static long msDesde(long inicioNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicioNanos);
+    }
+
+    /**
+     * Recuentos del informe, que se acumulan mientras se lee el extracto, y detalle de los primeros movimientos
+     */
+    private static class Recuento {
+        private final int maxDetalle;
+        private final List<MovimientoConciliado> detalle = new ArrayList<>();
+        private final Map<EstadoConciliacion, Long> porEstado = new EnumMap<>(EstadoConciliacion.class);
+        private BigDecimal importeConciliado = BigDecimal.ZERO;
+        private long movimientos;
+
+        private Recuento(int maxDetalle) {
+            this.maxDetalle = maxDetalle;
+        }
+
+        private void guardar(MovimientoConciliado movimiento) {
+            if (detalle.size() < maxDetalle) {
+                detalle.add(movimiento);
+            }
+        }
+
+        private void contar(MovimientoConciliado movimiento) {
+            movimientos++;
+            porEstado.merge(movimiento.getEstado(), 1L, Long::sum);
+            if (movimiento.getEstado() == EstadoConciliacion.CONCILIADO) {
+                importeConciliado = importeConciliado.add(movimiento.getImporte());
+            }
+        }
+    }
+
+    /**
+     * Movimientos del extracto con su posición, sea cual sea el formato
+     */
+    private interface Movimientos extends Iterator<LectorImportacion.FilaLeida<MovimientoBancario>>, AutoCloseable {
+        @Override
+        void close() throws IOException;
+    }
+}
@@ -1,16 +1,23 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
 import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaRentingResponse;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
 import com.uoc.tfg.gestionvehiculos.entities.CuotaRenting;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
 import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoContratoCreado;
 import com.uoc.tfg.gestionvehiculos.repositories.ContratoRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ListadoCampos;
+import com.uoc.tfg.gestionvehiculos.repositories.ListadoCamposRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -33,8 +41,13 @@ import java.util.stream.Collectors;
 public class ContratoRentingService {
 
     private final ContratoRentingRepository contratoRepository;
+    private final ListadoCamposRepository listadoCamposRepository;
     private final ClienteService clienteService;
     private final VehiculoService vehiculoService;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final CanalCambios canalCambios;
+    private final OutboxEventos outboxEventos;
+    private final ResumenVehiculos resumenVehiculos;
 
     public List<ContratoRenting> listarActivos() {
         log.debug("Listando contratos de renting activos");
@@ -44,6 +57,28 @@ public class ContratoRentingService {
 
     }
 
+    /**
+     * Lista los contratos activos con solo los campos indicados (el id siempre se incluye)
+     */
+    public List<Map<String, Object>> listarActivos(List<String> campos) {
+        log.debug("Listando contratos de renting activos con los campos {}", campos);
+        return listadoCamposRepository.listar(ListadoCampos.CONTRATOS_ACTIVOS, campos);
+    }
+
+    /**
+     * Versión del listado de contratos activos (número y última modificación) sin cargarlos
+     */
+    public VersionRecurso obtenerVersionActivos() {
+        return contratoRepository.findVersionActivos();
+    }
+
+    /**
+     * Versión de un contrato sin cargarlo; {@link VersionRecurso#existe()} es falso si no existe
+     */
+    public VersionRecurso obtenerVersion(Long id) {
+        return contratoRepository.findVersionById(id);
+    }
+
     public ContratoRenting obtenerPorId(Long id) {
         log.debug("Buscando contrato con id: {}", id);
         return contratoRepository.findById(id)
@@ -83,6 +118,8 @@ public class ContratoRentingService {
 
     @Transactional
     public ContratoRenting crear(ContratoRenting contrato, Long clienteId, Long vehiculoId) {
+        EventoContratoCreado evento = new EventoContratoCreado();
+        evento.begin();
 
         String numeroContrato = generarNumeroContrato();
         contrato.setNumeroContrato(numeroContrato);
@@ -98,11 +135,28 @@ public class ContratoRentingService {
         contrato.calcularDuracionMeses();
 
         ContratoRenting guardado = contratoRepository.save(contrato);
+        notificarCambio(guardado);
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.contrato(guardado));
 
         generarCuotas(guardado);
 
         vehiculoService.cambiarSituacion(vehiculo.getId(), "EN_RENTING");
 
+        outboxEventos.registrar(TipoEventoDominio.CONTRATO_CREADO, guardado.getId(), OutboxEventos.datos(
+                "numeroContrato", guardado.getNumeroContrato(),
+                "clienteId", guardado.getCliente().getId(),
+                "vehiculoId", vehiculo.getId(),
+                "fechaInicio", guardado.getFechaInicio(),
+                "fechaFin", guardado.getFechaFin(),
+                "cuotaMensual", guardado.getCuotaMensual(),
+                "cuotas", guardado.getCuotas().size()));
+
+        evento.contratoId = guardado.getId();
+        evento.numeroContrato = guardado.getNumeroContrato();
+        evento.duracionMeses = guardado.getDuracionMeses() != null ? guardado.getDuracionMeses() : 0;
+        evento.cuotas = guardado.getCuotas().size();
+        evento.commit();
+
         log.info("Contrato creado con id: {} y número: {}", guardado.getId(), guardado.getNumeroContrato());
         return guardado;
     }
@@ -121,6 +175,7 @@ public class ContratoRentingService {
 
 
         ContratoRenting contratoExistente = obtenerPorId(id);
+        resumenVehiculos.marcar(contratoExistente.getVehiculo().getId());
 
         if (!contratoExistente.getNumeroContrato().equals(contratoActualizado.getNumeroContrato())) {
             if (contratoRepository.existsByNumeroContrato(contratoActualizado.getNumeroContrato())) {
@@ -141,6 +196,8 @@ public class ContratoRentingService {
         contratoExistente.calcularDuracionMeses();
 
         ContratoRenting actualizado = contratoRepository.save(contratoExistente);
+        notificarCambio(actualizado);
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.contrato(actualizado));
         log.info("Contrato actualizado");
 
         return actualizado;
@@ -158,6 +215,7 @@ public class ContratoRentingService {
 
         contrato.setEstado(EstadoContrato.FINALIZADO);
         contratoRepository.save(contrato);
+        notificarCambio(contrato);
 
         vehiculoService.cambiarSituacion(contrato.getVehiculo().getId(), "DISPONIBLE");
 
@@ -177,13 +235,24 @@ public class ContratoRentingService {
         contrato.setEstado(EstadoContrato.CANCELADO);
         contrato.setObservaciones(contrato.getObservaciones() + "\nMotivo cancelación: " + motivo);
         contratoRepository.save(contrato);
+        notificarCambio(contrato);
 
         vehiculoService.cambiarSituacion(contrato.getVehiculo().getId(), "DISPONIBLE");
 
         log.info("Contrato cancelado");
     }
 
-    private void generarCuotas(ContratoRenting contrato) {
+    private void notificarCambio(ContratoRenting contrato) {
+        resumenVehiculos.marcar(contrato.getVehiculo().getId());
+        canalCambios.publicarTrasConfirmar(EntidadCambio.CONTRATO_RENTING, contrato.getId(),
+                contrato.getEstado() != null ? contrato.getEstado().name() : null,
+                Boolean.TRUE.equals(contrato.getActivo()));
+    }
+
+    /**
+     * Genera una cuota pendiente por cada mes del contrato. Visible en el paquete para los benchmarks
+     */
+    static void generarCuotas(ContratoRenting contrato) {
         List<CuotaRenting> cuotas = new ArrayList<>();
         LocalDate fechaVencimiento = contrato.getFechaInicio();
 
@@ -243,6 +312,7 @@ public class ContratoRentingService {
 
         contrato.setEstado(EstadoContrato.ACTIVO);
         contratoRepository.save(contrato);
+        notificarCambio(contrato);
 
         log.info("Contrato {} activado correctamente", contrato.getNumeroContrato());
     }
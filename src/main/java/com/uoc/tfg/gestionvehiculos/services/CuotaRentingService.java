@@ -2,9 +2,13 @@ package com.uoc.tfg.gestionvehiculos.services;
 
 import com.uoc.tfg.gestionvehiculos.entities.ContratoRenting;
 import com.uoc.tfg.gestionvehiculos.entities.CuotaRenting;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ListadoCampos;
+import com.uoc.tfg.gestionvehiculos.repositories.ListadoCamposRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -25,6 +30,9 @@ import java.util.List;
 public class CuotaRentingService {
 
     private final CuotaRentingRepository cuotaRepository;
+    private final ListadoCamposRepository listadoCamposRepository;
+    private final CanalCambios canalCambios;
+    private final OutboxEventos outboxEventos;
     private final ContratoRentingService contratoService;
 
     public List<CuotaRenting> listarActivas() {
@@ -34,6 +42,14 @@ public class CuotaRentingService {
                 .toList();
     }
 
+    /**
+     * Lista las cuotas activas con solo los campos indicados (el id siempre se incluye)
+     */
+    public List<Map<String, Object>> listarActivas(List<String> campos) {
+        log.debug("Listando cuotas activas con los campos {}", campos);
+        return listadoCamposRepository.listar(ListadoCampos.CUOTAS_ACTIVAS, campos);
+    }
+
     public CuotaRenting obtenerPorId(Long id) {
         log.debug("Buscando cuota con id: {}", id);
         return cuotaRepository.findById(id)
@@ -89,6 +105,11 @@ public class CuotaRentingService {
         cuota.marcarComoPagada();
 
         CuotaRenting actualizada = cuotaRepository.save(cuota);
+        canalCambios.publicarTrasConfirmar(EntidadCambio.CUOTA_RENTING, actualizada.getId(),
+                actualizada.getEstado().name(), Boolean.TRUE.equals(actualizada.getActivo()));
+        outboxEventos.registrar(TipoEventoDominio.CUOTA_PAGADA, actualizada.getId(), OutboxEventos.cuotaPagada(
+                actualizada.getContrato().getId(), actualizada.getContrato().getNumeroContrato(),
+                actualizada.getNumeroCuota(), actualizada.getImporte(), actualizada.getFechaPago(), null));
         log.info("Cuota marcada como pagada");
 
         return actualizada;
@@ -110,6 +131,8 @@ public class CuotaRentingService {
 
         cuota.setEstado(EstadoCuota.VENCIDA);
         cuotaRepository.save(cuota);
+        canalCambios.publicarTrasConfirmar(EntidadCambio.CUOTA_RENTING, cuota.getId(),
+                EstadoCuota.VENCIDA.name(), Boolean.TRUE.equals(cuota.getActivo()));
 
         log.info("Cuota marcada como vencida");
     }
@@ -125,6 +148,8 @@ public class CuotaRentingService {
         }
 
         cuotaRepository.saveAll(cuotasVencidas);
+        canalCambios.publicarTrasConfirmar(EntidadCambio.CUOTA_RENTING,
+                cuotasVencidas.stream().map(CuotaRenting::getId).toList(), EstadoCuota.VENCIDA.name());
         log.info("Actualizadas {} cuotas vencidas", cuotasVencidas.size());
     }
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.eventos.EstadoDespachoEventos;
+import com.uoc.tfg.gestionvehiculos.dtos.eventos.EventoDominio;
+import com.uoc.tfg.gestionvehiculos.entities.EventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoEventoOutbox;
+import com.uoc.tfg.gestionvehiculos.repositories.EventoOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega los eventos de la tabla de salida a los {@link ManejadorEventos}, fuera de las peticiones.
+ * <p>
+ * Cada pasada lee un lote de eventos entregables, los agrupa por agregado y procesa los grupos en
+ * paralelo en el ejecutor de la aplicación; dentro de un grupo el orden es el de registro. Si un
+ * evento falla se programa su reintento con espera exponencial y el resto de su grupo espera a que
+ * se entregue; al agotar los intentos queda FALLIDO y los siguientes del agregado continúan.
+ * <p>
+ * Se ejecuta periódicamente y, además, cada vez que se confirma una transacción con eventos. Solo
+ * hay una pasada en curso a la vez, lo que supone una única instancia de la aplicación, como el resto
+ * de índices y cachés en memoria.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j
+public class DespachadorEventos {
+
+    private static final long ESPERA_MAXIMA_MS = 300_000;
+    private static final int LONGITUD_ERROR = 500;
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final ObjectProvider<ManejadorEventos> manejadores;
+    private final TaskExecutor applicationTaskExecutor;
+    private final JsonMapper jsonMapper;
+    private final int tamanoLote;
+    private final int maxIntentos;
+    private final long esperaReintentoMs;
+    private final int retencionDias;
+
+    private final AtomicBoolean despachando = new AtomicBoolean();
+    private final AtomicBoolean avisado = new AtomicBoolean();
+    private final AtomicLong procesados = new AtomicLong();
+    private final AtomicLong reintentos = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private volatile long retrasoUltimoMs;
+    private volatile long retrasoMaximoLoteMs;
+    private volatile LocalDateTime ultimoDespacho;
+
+    public DespachadorEventos(EventoOutboxRepository eventoOutboxRepository,
+                              ObjectProvider<ManejadorEventos> manejadores,
+                              TaskExecutor applicationTaskExecutor,
+                              JsonMapper jsonMapper,
+                              @Value("${eventos.tamano-lote:200}") int tamanoLote,
+                              @Value("${eventos.max-intentos:8}") int maxIntentos,
+                              @Value("${eventos.espera-reintento-ms:1000}") long esperaReintentoMs,
+                              @Value("${eventos.retencion-dias:7}") int retencionDias) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.manejadores = manejadores;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.jsonMapper = jsonMapper;
+        this.tamanoLote = tamanoLote;
+        this.maxIntentos = maxIntentos;
+        this.esperaReintentoMs = esperaReintentoMs;
+        this.retencionDias = retencionDias;
+    }
+
+    /**
+     * Pide una pasada cuanto antes; si ya hay una en curso, hará otra al terminar
+     */
+    public void despertar() {
+        avisado.set(true);
+        if (!despachando.get()) {
+            applicationTaskExecutor.execute(this::despachar);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventos.intervalo-ms:5000}", initialDelayString = "${eventos.intervalo-ms:5000}")
+    public void despachar() {
+        if (!despachando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            boolean seguir;
+            do {
+                avisado.set(false);
+                seguir = despacharLote() == tamanoLote || avisado.get();
+            } while (seguir);
+        } catch (RuntimeException e) {
+            log.error("Error despachando eventos de dominio: {}", e.getMessage(), e);
+        } finally {
+            despachando.set(false);
+        }
+        // Un aviso llegado entre la última comprobación y la liberación no debe esperar a la siguiente pasada
+        if (avisado.get()) {
+            despertar();
+        }
+    }
+
+    /**
+     * @return número de eventos leídos del lote
+     */
+    int despacharLote() {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<EventoOutbox> lote = eventoOutboxRepository.buscarEntregables(ahora, tamanoLote);
+        ultimoDespacho = ahora;
+        if (lote.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<EventoOutbox>> porAgregado = new LinkedHashMap<>();
+        for (EventoOutbox evento : lote) {
+            porAgregado.computeIfAbsent(evento.getAgregado() + "#" + evento.getAgregadoId(), k -> new ArrayList<>())
+                    .add(evento);
+        }
+
+        ConcurrentLinkedQueue<EventoOutbox> entregados = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<EventoOutbox> fallidos = new ConcurrentLinkedQueue<>();
+        List<ManejadorEventos> disponibles = manejadores.orderedStream().toList();
+
+        CompletableFuture.allOf(porAgregado.values().stream()
+                .map(grupo -> CompletableFuture.runAsync(
+                        () -> entregarGrupo(grupo, disponibles, entregados, fallidos), applicationTaskExecutor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        LocalDateTime fin = LocalDateTime.now();
+        if (!entregados.isEmpty()) {
+            eventoOutboxRepository.marcarProcesados(entregados.stream().map(EventoOutbox::getId).toList(), fin);
+            long maximo = 0;
+            EventoOutbox ultimo = null;
+            for (EventoOutbox evento : entregados) {
+                maximo = Math.max(maximo, Duration.between(evento.getFechaCreacion(), fin).toMillis());
+                if (ultimo == null || evento.getId() > ultimo.getId()) {
+                    ultimo = evento;
+                }
+            }
+            retrasoMaximoLoteMs = maximo;
+            retrasoUltimoMs = Duration.between(ultimo.getFechaCreacion(), fin).toMillis();
+            procesados.addAndGet(entregados.size());
+        }
+        if (!fallidos.isEmpty()) {
+            eventoOutboxRepository.marcarFallos(List.copyOf(fallidos));
+        }
+
+        log.debug("Lote de eventos despachado: {} leídos, {} entregados, {} con error",
+                lote.size(), entregados.size(), fallidos.size());
+        return lote.size();
+    }
+
+    /**
+     * Entrega en orden los eventos de un agregado y se detiene en el primero que haya que reintentar
+     */
+    private void entregarGrupo(List<EventoOutbox> grupo, List<ManejadorEventos> disponibles,
+                               ConcurrentLinkedQueue<EventoOutbox> entregados,
+                               ConcurrentLinkedQueue<EventoOutbox> fallidos) {
+        for (EventoOutbox evento : grupo) {
+            try {
+                entregar(evento, disponibles);
+                entregados.add(evento);
+            } catch (Exception e) {
+                int intentos = evento.getIntentos() + 1;
+                evento.setIntentos(intentos);
+                evento.setUltimoError(truncar(e.getClass().getSimpleName() + ": " + e.getMessage()));
+                fallidos.add(evento);
+
+                if (intentos >= maxIntentos) {
+                    evento.setEstado(EstadoEventoOutbox.FALLIDO);
+                    descartados.incrementAndGet();
+                    log.error("Evento {} {} del agregado {} descartado tras {} intentos: {}",
+                            evento.getId(), evento.getTipo(), evento.getAgregadoId(), intentos, e.getMessage());
+                    continue;
+                }
+
+                long espera = Math.min(esperaReintentoMs << Math.min(intentos - 1, 20), ESPERA_MAXIMA_MS);
+                evento.setSiguienteIntento(LocalDateTime.now().plusNanos(espera * 1_000_000));
+                reintentos.incrementAndGet();
+                log.warn("Evento {} {} fallido (intento {}), se reintentará en {} ms: {}",
+                        evento.getId(), evento.getTipo(), intentos, espera, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void entregar(EventoOutbox evento, List<ManejadorEventos> disponibles) throws Exception {
+        EventoDominio dominio = EventoDominio.builder()
+                .id(evento.getId())
+                .tipo(evento.getTipo())
+                .agregadoId(evento.getAgregadoId())
+                .datos(evento.getDatos() != null ? jsonMapper.readValue(evento.getDatos(), Map.class) : Map.of())
+                .fechaCreacion(evento.getFechaCreacion())
+                .intento(evento.getIntentos() + 1)
+                .build();
+
+        for (ManejadorEventos manejador : disponibles) {
+            if (manejador.tipos().contains(evento.getTipo())) {
+                manejador.manejar(dominio);
+            }
+        }
+    }
+
+    /**
+     * Devuelve a pendientes los eventos fallidos y lanza una pasada
+     *
+     * @return número de eventos reactivados
+     */
+    public int reintentarFallidos() {
+        int reactivados = eventoOutboxRepository.reactivarFallidos();
+        log.info("Reactivados {} eventos fallidos", reactivados);
+        if (reactivados > 0) {
+            despertar();
+        }
+        return reactivados;
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgar() {
+        int eliminados = eventoOutboxRepository.eliminarProcesadosAntesDe(LocalDateTime.now().minusDays(retencionDias));
+        if (eliminados > 0) {
+            log.info("Eliminados {} eventos procesados hace más de {} días", eliminados, retencionDias);
+        }
+    }
+
+    public EstadoDespachoEventos estado() {
+        LocalDateTime masAntiguo = eventoOutboxRepository.fechaPendienteMasAntigua();
+        return EstadoDespachoEventos.builder()
+                .pendientes(eventoOutboxRepository.contarPorEstado(EstadoEventoOutbox.PENDIENTE))
+                .fallidos(eventoOutboxRepository.contarPorEstado(EstadoEventoOutbox.FALLIDO))
+                .procesados(procesados.get())
+                .reintentos(reintentos.get())
+                .descartados(descartados.get())
+                .retrasoPendienteMs(masAntiguo != null
+                        ? Math.max(0, Duration.between(masAntiguo, LocalDateTime.now()).toMillis()) : 0)
+                .retrasoUltimoMs(retrasoUltimoMs)
+                .retrasoMaximoLoteMs(retrasoMaximoLoteMs)
+                .ultimoDespacho(ultimoDespacho)
+                .manejadores((int) manejadores.orderedStream().count())
+                .build();
+    }
+
+    private String truncar(String texto) {
+        return texto.length() > LONGITUD_ERROR ? texto.substring(0, LONGITUD_ERROR) : texto;
+    }
+}
@@ -0,0 +1,187 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.CuotaRentingExportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaCompraExportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaVentaExportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.FilaExportacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoInformeGenerado;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaCompraRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaVentaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exportación de facturas y cuotas en streaming (CSV o NDJSON).
+ * Las filas se escriben a medida que se leen del cursor, sin acumularlas en memoria.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportacionService {
+
+    /**
+     * Número de filas escritas entre cada volcado al cliente
+     */
+    static final int FILAS_POR_BLOQUE = 500;
+
+    private final FacturaVentaRepository facturaVentaRepository;
+    private final FacturaCompraRepository facturaCompraRepository;
+    private final CuotaRentingRepository cuotaRepository;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Exporta las facturas de venta emitidas entre dos fechas
+     */
+    public long exportarFacturasVenta(LocalDate inicio, LocalDate fin, FormatoFichero formato,
+                                      OutputStream salida) throws IOException {
+        log.info("Exportando facturas de venta entre {} y {} en {}", inicio, fin, formato);
+        validarPeriodo(inicio, fin);
+
+        try (Stream<FacturaVentaExportacion> filas = facturaVentaRepository.streamParaExportacion(inicio, fin)) {
+            return escribir("facturas-venta", filas, FacturaVentaExportacion.CABECERA, formato, salida);
+        }
+    }
+
+    /**
+     * Exporta las facturas de compra recibidas entre dos fechas
+     */
+    public long exportarFacturasCompra(LocalDate inicio, LocalDate fin, FormatoFichero formato,
+                                       OutputStream salida) throws IOException {
+        log.info("Exportando facturas de compra entre {} y {} en {}", inicio, fin, formato);
+        validarPeriodo(inicio, fin);
+
+        try (Stream<FacturaCompraExportacion> filas = facturaCompraRepository.streamParaExportacion(inicio, fin)) {
+            return escribir("facturas-compra", filas, FacturaCompraExportacion.CABECERA, formato, salida);
+        }
+    }
+
+    /**
+     * Exporta las cuotas de renting que vencen entre dos fechas
+     */
+    public long exportarCuotas(LocalDate inicio, LocalDate fin, FormatoFichero formato,
+                               OutputStream salida) throws IOException {
+        log.info("Exportando cuotas de renting entre {} y {} en {}", inicio, fin, formato);
+        validarPeriodo(inicio, fin);
+
+        try (Stream<CuotaRentingExportacion> filas = cuotaRepository.streamParaExportacion(inicio, fin)) {
+            return escribir("cuotas", filas, CuotaRentingExportacion.CABECERA, formato, salida);
+        }
+    }
+
+    /**
+     * Valida el período antes de empezar a escribir la respuesta
+     */
+    public void validarPeriodo(LocalDate inicio, LocalDate fin) {
+        if (inicio.isAfter(fin)) {
+            throw new InvalidOperationException("La fecha de inicio no puede ser posterior a la fecha de fin");
+        }
+    }
+
+    private long escribir(String informe, Stream<? extends FilaExportacion> filas, List<String> cabecera,
+                          FormatoFichero formato, OutputStream salida) throws IOException {
+        EventoInformeGenerado evento = new EventoInformeGenerado();
+        evento.begin();
+        SalidaContada contada = new SalidaContada(salida);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(contada, StandardCharsets.UTF_8));
+
+        if (formato == FormatoFichero.CSV) {
+            writer.write(String.join(",", cabecera));
+            writer.write('\n');
+        }
+
+        long total = 0;
+        Iterator<? extends FilaExportacion> iterador = filas.iterator();
+        while (iterador.hasNext()) {
+            FilaExportacion fila = iterador.next();
+
+            if (formato == FormatoFichero.CSV) {
+                escribirCsv(writer, fila.valores());
+            } else {
+                writer.write(jsonMapper.writeValueAsString(fila));
+                writer.write('\n');
+            }
+
+            total++;
+            if (total % FILAS_POR_BLOQUE == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        log.info("Exportación finalizada: {} filas", total);
+
+        evento.informe = informe;
+        evento.formato = formato.name();
+        evento.filas = total;
+        evento.bytes = contada.bytes;
+        evento.commit();
+        return total;
+    }
+
+    private void escribirCsv(Writer writer, List<Object> valores) throws IOException {
+        for (int i = 0; i < valores.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object valor = valores.get(i);
+            if (valor != null) {
+                writer.write(escaparCsv(valor.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private String escaparCsv(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0
+                && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Cuenta los bytes escritos en la respuesta
+     */
+    private static final class SalidaContada extends FilterOutputStream {
+        private long bytes;
+
+        private SalidaContada(OutputStream salida) {
+            super(salida);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
 import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
 import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoFacturaCreada;
 import com.uoc.tfg.gestionvehiculos.repositories.FacturaCompraRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,8 @@ public class FacturaCompraService {
     private final FacturaCompraRepository facturaCompraRepository;
     private final VehiculoService vehiculoService;
     private final ProveedorService proveedorService;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final ResumenVehiculos resumenVehiculos;
 
     /**
      * Lista todas las facturas de compra activas
@@ -78,6 +82,8 @@ public class FacturaCompraService {
      */
     @Transactional
     public FacturaCompra crear(FacturaCompra factura, Long proveedorId, Long vehiculoId) {
+        EventoFacturaCreada evento = new EventoFacturaCreada();
+        evento.begin();
         log.info("Creando nueva factura de compra: {}", factura.getNumeroFactura());
 
         if (facturaCompraRepository.existsByNumeroFactura(factura.getNumeroFactura())) {
@@ -92,6 +98,13 @@ public class FacturaCompraService {
         factura.setVehiculo(vehiculoService.obtenerPorId(vehiculoId));
         factura.calcularImporteTotal();
         FacturaCompra guardada = facturaCompraRepository.save(factura);
+        resumenVehiculos.marcar(guardada.getVehiculo().getId());
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.facturaCompra(guardada));
+        evento.tipo = EventoFacturaCreada.COMPRA;
+        evento.facturaId = guardada.getId();
+        evento.importeTotal = guardada.getImporteTotal() != null ? guardada.getImporteTotal().doubleValue() : 0;
+        evento.commit();
+
         log.info("Factura de compra creada con id: {}", guardada.getId());
 
         return guardada;
@@ -105,6 +118,7 @@ public class FacturaCompraService {
         log.info("Actualizando factura de compra con id: {}", id);
 
         FacturaCompra facturaExistente = obtenerPorId(id);
+        resumenVehiculos.marcar(facturaExistente.getVehiculo().getId());
 
         if (!facturaExistente.getNumeroFactura().equals(facturaActualizada.getNumeroFactura())) {
             if (facturaCompraRepository.existsByNumeroFactura(facturaActualizada.getNumeroFactura())) {
@@ -124,6 +138,8 @@ public class FacturaCompraService {
         facturaExistente.calcularImporteTotal();
 
         FacturaCompra actualizada = facturaCompraRepository.save(facturaExistente);
+        resumenVehiculos.marcar(actualizada.getVehiculo().getId());
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.facturaCompra(actualizada));
         log.info("Factura de compra actualizada");
 
         return actualizada;
@@ -1,12 +1,16 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.entities.FacturaVenta;
 import com.uoc.tfg.gestionvehiculos.entities.ReservaVenta;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoReserva;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoFacturaCreada;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoInformeGenerado;
 import com.uoc.tfg.gestionvehiculos.repositories.FacturaVentaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +36,9 @@ public class FacturaVentaService {
     private final ClienteService clienteService;
     private final VehiculoService vehiculoService;
     private final ReservaVentaService reservaVentaService;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final OutboxEventos outboxEventos;
+    private final ResumenVehiculos resumenVehiculos;
 
     public List<FacturaVenta> listarActivas() {
         log.debug("Listando facturas de venta activas");
@@ -65,6 +72,8 @@ public class FacturaVentaService {
 
     @Transactional
     public FacturaVenta crear(FacturaVenta factura, Long clienteId, Long vehiculoId) {
+        EventoFacturaCreada evento = new EventoFacturaCreada();
+        evento.begin();
         log.info("Creando factura de venta: {}", factura.getNumeroFactura());
 
         if (facturaVentaRepository.existsByNumeroFactura(factura.getNumeroFactura())) {
@@ -84,6 +93,8 @@ public class FacturaVentaService {
         factura.calcularImporteTotal();
 
         FacturaVenta guardada = facturaVentaRepository.save(factura);
+        resumenVehiculos.marcar(guardada.getVehiculo().getId());
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.facturaVenta(guardada));
 
         vehiculoService.cambiarSituacion(guardada.getVehiculo().getId(), "VENDIDO");
 
@@ -91,6 +102,18 @@ public class FacturaVentaService {
             reservaVentaService.completar(factura.getReserva().getId());
         }
 
+        outboxEventos.registrar(TipoEventoDominio.VEHICULO_VENDIDO, guardada.getVehiculo().getId(), OutboxEventos.datos(
+                "facturaId", guardada.getId(),
+                "numeroFactura", guardada.getNumeroFactura(),
+                "clienteId", guardada.getCliente().getId(),
+                "importeTotal", guardada.getImporteTotal(),
+                "reservaId", factura.getReserva() != null ? factura.getReserva().getId() : null));
+
+        evento.tipo = EventoFacturaCreada.VENTA;
+        evento.facturaId = guardada.getId();
+        evento.importeTotal = guardada.getImporteTotal() != null ? guardada.getImporteTotal().doubleValue() : 0;
+        evento.commit();
+
         log.info("Factura de venta creada con id: {}", guardada.getId());
         return guardada;
     }
@@ -117,6 +140,8 @@ public class FacturaVentaService {
         facturaExistente.calcularImporteTotal();
 
         FacturaVenta actualizada = facturaVentaRepository.save(facturaExistente);
+        resumenVehiculos.marcar(actualizada.getVehiculo().getId());
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.facturaVenta(actualizada));
         log.info("Factura de venta actualizada ");
 
         return actualizada;
@@ -130,11 +155,18 @@ public class FacturaVentaService {
 
     public BigDecimal calcularBeneficioTotal(LocalDate inicio, LocalDate fin) {
         log.debug("Calculando beneficio total entre {} y {}", inicio, fin);
+        EventoInformeGenerado evento = new EventoInformeGenerado();
+        evento.begin();
 
         List<FacturaVenta> facturas = obtenerPorFechas(inicio, fin);
 
-        return facturas.stream()
+        BigDecimal total = facturas.stream()
                 .map(FacturaVenta::calcularBeneficio)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        evento.informe = "beneficio-total";
+        evento.filas = facturas.size();
+        evento.commit();
+        return total;
     }
 }
\ No newline at end of file
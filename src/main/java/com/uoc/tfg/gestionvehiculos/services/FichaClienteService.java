@@ -0,0 +1,203 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.FichaClienteResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.SeccionFicha;
+import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.contrato.ContratoRentingResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaRentingMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaRentingResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaVentaMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.factura.FacturaVentaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.reserva.ReservaVentaMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.reserva.ReservaVentaResponse;
+import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import com.uoc.tfg.gestionvehiculos.exceptions.ServiceUnavailableException;
+import com.uoc.tfg.gestionvehiculos.jdbc.ContabilidadSql;
+import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ContratoRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaVentaRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ReservaVentaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Ficha de cliente en una sola llamada. Las cinco consultas (cliente, contratos, cuotas, reservas y
+ * facturas de venta) no dependen unas de otras, así que se lanzan a la vez, cada una en su propia
+ * transacción de solo lectura y filtrando por el id del cliente, sin cargarlo antes como hacen los
+ * {@code obtenerPorCliente} de cada servicio. La ficha tarda lo que la consulta más lenta.
+ * <p>
+ * Las consultas van a un pool propio de {@code ficha-cliente.hilos} hilos, que es también el máximo de
+ * conexiones que las fichas toman a la vez del pool de la base de datos. El hilo de la petición no
+ * tiene conexión mientras espera, así que no puede bloquearse contra sus propias consultas.
+ * <p>
+ * La cola del pool admite {@code ficha-cliente.cola} consultas: con ella llena la ficha se rechaza con un
+ * 503 en lugar de acumular peticiones. Tampoco se espera más de {@code ficha-cliente.timeout-ms}; ese es
+ * además el tiempo máximo de cada transacción, para que una consulta atascada no retenga su conexión.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@Slf4j
+public class FichaClienteService {
+
+    static final String CLIENTE = "cliente";
+    static final String CONTRATOS = "contratos";
+    static final String CUOTAS = "cuotas";
+    static final String RESERVAS = "reservas";
+    static final String FACTURAS = "facturas";
+
+    private final ClienteRepository clienteRepository;
+    private final ContratoRentingRepository contratoRepository;
+    private final CuotaRentingRepository cuotaRepository;
+    private final ReservaVentaRepository reservaRepository;
+    private final FacturaVentaRepository facturaVentaRepository;
+    private final TransactionTemplate lectura;
+    private final ExecutorService ejecutor;
+    private final long timeoutMs;
+
+    public FichaClienteService(ClienteRepository clienteRepository,
+                               ContratoRentingRepository contratoRepository,
+                               CuotaRentingRepository cuotaRepository,
+                               ReservaVentaRepository reservaRepository,
+                               FacturaVentaRepository facturaVentaRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${ficha-cliente.hilos:8}") int hilos,
+                               @Value("${ficha-cliente.cola:40}") int cola,
+                               @Value("${ficha-cliente.timeout-ms:5000}") long timeoutMs) {
+        this.clienteRepository = clienteRepository;
+        this.contratoRepository = contratoRepository;
+        this.cuotaRepository = cuotaRepository;
+        this.reservaRepository = reservaRepository;
+        this.facturaVentaRepository = facturaVentaRepository;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+        this.lectura.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs + 999)));
+        this.timeoutMs = timeoutMs;
+        this.ejecutor = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cola), new CustomizableThreadFactory("ficha-cliente-"));
+    }
+
+    public FichaClienteResponse obtener(Long clienteId) {
+        long inicio = System.nanoTime();
+        Map<String, SeccionFicha> secciones = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<?>> lanzadas = new ArrayList<>();
+
+        CompletableFuture<List<ClienteResponse>> cliente;
+        CompletableFuture<List<ContratoRentingResponse>> contratos;
+        CompletableFuture<List<CuotaRentingResponse>> cuotas;
+        CompletableFuture<List<ReservaVentaResponse>> reservas;
+        CompletableFuture<List<FacturaVentaResponse>> facturas;
+        try {
+            cliente = consultar(CLIENTE, secciones, lanzadas,
+                    () -> clienteRepository.findById(clienteId).map(ClienteMapper::toResponse).stream().toList());
+            contratos = consultar(CONTRATOS, secciones, lanzadas,
+                    () -> ContratoRentingMapper.toListResponse(contratoRepository.findParaFichaCliente(clienteId)));
+            cuotas = consultar(CUOTAS, secciones, lanzadas,
+                    () -> CuotaRentingMapper.toListResponse(cuotaRepository.findParaFichaCliente(clienteId)));
+            reservas = consultar(RESERVAS, secciones, lanzadas,
+                    () -> ReservaVentaMapper.toListResponse(reservaRepository.findParaFichaCliente(clienteId)));
+            facturas = consultar(FACTURAS, secciones, lanzadas,
+                    () -> FacturaVentaMapper.toListResponse(facturaVentaRepository.findParaFichaCliente(clienteId)));
+        } catch (RejectedExecutionException e) {
+            cancelar(lanzadas);
+            log.warn("Ficha del cliente {} rechazada: cola de consultas llena", clienteId);
+            throw new ServiceUnavailableException(
+                    "Demasiadas fichas de cliente en curso, inténtelo de nuevo en unos segundos");
+        }
+
+        try {
+            CompletableFuture.allOf(cliente, contratos, cuotas, reservas, facturas)
+                    .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            cancelar(lanzadas);
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Ficha del cliente {} sin completar en {} ms: {}", clienteId, timeoutMs, secciones.values());
+                throw new ServiceUnavailableException("La ficha del cliente no se ha podido obtener a tiempo");
+            }
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+
+        List<ClienteResponse> encontrado = cliente.join();
+        if (encontrado.isEmpty()) {
+            throw new ResourceNotFoundException("Cliente", "id", clienteId);
+        }
+
+        long msTotal = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        log.debug("Ficha del cliente {} en {} ms: {}", clienteId, msTotal, secciones.values());
+        return FichaClienteResponse.builder()
+                .cliente(encontrado.get(0))
+                .contratos(contratos.join())
+                .cuotas(cuotas.join())
+                .reservas(reservas.join())
+                .facturas(facturas.join())
+                .secciones(Stream.of(CLIENTE, CONTRATOS, CUOTAS, RESERVAS, FACTURAS).map(secciones::get).toList())
+                .msTotal(msTotal)
+                .build();
+    }
+
+    /**
+     * Lanza una consulta en su propia transacción de solo lectura. Las entidades se pasan a DTO dentro
+     * de la transacción: fuera de ella no hay sesión para las relaciones perezosas.
+     */
+    private <T> CompletableFuture<List<T>> consultar(String seccion, Map<String, SeccionFicha> secciones,
+                                                     List<CompletableFuture<?>> lanzadas,
+                                                     Supplier<List<T>> consulta) {
+        CompletableFuture<List<T>> futura = CompletableFuture.supplyAsync(() -> {
+            ContabilidadSql contabilidad = ContabilidadSql.actual();
+            long sentencias = contabilidad.getSentencias();
+            long inicio = System.nanoTime();
+            List<T> resultado = lectura.execute(tx -> consulta.get());
+            secciones.put(seccion, SeccionFicha.builder()
+                    .seccion(seccion)
+                    .elementos(resultado.size())
+                    .ms(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio))
+                    .sentencias(contabilidad.getSentencias() - sentencias)
+                    .build());
+            return resultado;
+        }, ejecutor);
+        lanzadas.add(futura);
+        return futura;
+    }
+
+    /**
+     * Las consultas que aún esperan en la cola ya no se ejecutan; las que están en marcha terminan solas
+     */
+    private static void cancelar(List<CompletableFuture<?>> lanzadas) {
+        lanzadas.forEach(consulta -> consulta.cancel(false));
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        ejecutor.shutdownNow();
+    }
+}
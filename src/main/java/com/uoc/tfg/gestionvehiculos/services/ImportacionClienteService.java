@@ -0,0 +1,219 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteRequest;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.EstadoImportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.ResultadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
+import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ImportacionJdbcRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Importación masiva de clientes desde CSV o NDJSON (p. ej. migraciones desde otros concesionarios).
+ * <p>
+ * El documento se normaliza antes de comparar, los duplicados se detectan con conjuntos en memoria
+ * (dentro del fichero y contra la BD, una consulta por bloque) y cada bloque se inserta con lotes JDBC
+ * en su propia transacción. Tras cada bloque confirmado se guarda un punto de control, de forma que una
+ * importación interrumpida puede reanudarse enviando el mismo fichero con {@code desdeFila}.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportacionClienteService {
+
+    private final ClienteRepository clienteRepository;
+    private final ImportacionJdbcRepository importacionJdbcRepository;
+    private final RegistroImportaciones registroImportaciones;
+    private final IndiceClientes indiceClientes;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final AuditorAware<String> auditorProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor applicationTaskExecutor;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+
+    @Value("${importacion.tamano-bloque:500}")
+    private int tamanoBloque = 500;
+
+    /**
+     * Copia el contenido a un fichero temporal y lanza la importación en segundo plano.
+     * Las filas hasta {@code desdeFila} (inclusive) se omiten: ya se confirmaron en un intento anterior.
+     */
+    public EstadoImportacion iniciar(InputStream contenido, FormatoFichero formato, long desdeFila) throws IOException {
+        Path fichero = Files.createTempFile("importacion-clientes-", "." + formato.getExtension());
+        Files.copy(contenido, fichero, StandardCopyOption.REPLACE_EXISTING);
+        return iniciar(fichero, formato, desdeFila);
+    }
+
+    EstadoImportacion iniciar(Path fichero, FormatoFichero formato, long desdeFila) {
+        String usuario = auditorProvider.getCurrentAuditor().orElse("SISTEMA");
+        EstadoImportacion estado = registroImportaciones.registrar("CLIENTES", usuario);
+        estado.confirmarHasta(desdeFila);
+
+        log.info("Iniciando importación de clientes {} ({}, desde la fila {})", estado.getId(), formato, desdeFila);
+        applicationTaskExecutor.execute(() -> procesar(estado, fichero, formato, desdeFila));
+
+        return estado;
+    }
+
+    void procesar(EstadoImportacion estado, Path fichero, FormatoFichero formato, long desdeFila) {
+        Set<String> documentosVistos = new HashSet<>();
+
+        try (LectorImportacion<ClienteRequest> lector =
+                     new LectorImportacion<>(fichero, formato, ClienteRequest.class, jsonMapper)) {
+
+            List<LectorImportacion.FilaLeida<ClienteRequest>> bloque = new ArrayList<>(tamanoBloque);
+            while (lector.hasNext()) {
+                LectorImportacion.FilaLeida<ClienteRequest> fila = lector.next();
+                if (fila.getNumero() <= desdeFila) {
+                    continue;
+                }
+                bloque.add(fila);
+                if (bloque.size() == tamanoBloque) {
+                    confirmar(estado, bloque, procesarBloque(bloque, documentosVistos, estado.getUsuario()));
+                    bloque.clear();
+                }
+            }
+            if (!bloque.isEmpty()) {
+                confirmar(estado, bloque, procesarBloque(bloque, documentosVistos, estado.getUsuario()));
+            }
+
+            log.info("Importación {} finalizada: {} creados, {} rechazados", estado.getId(),
+                    estado.getFilasCreadas(), estado.getFilasRechazadas());
+        } catch (IOException | RuntimeException e) {
+            log.error("Importación {} interrumpida tras la fila {}: {}", estado.getId(),
+                    estado.getUltimaFilaConfirmada(), e.getMessage(), e);
+            estado.fallar(e.getMessage());
+        } finally {
+            estado.finalizar();
+            borrar(fichero);
+        }
+    }
+
+    /**
+     * Procesa un bloque y lo inserta en una única transacción. Si la inserción falla la excepción
+     * se propaga: el bloque no queda confirmado y la importación se detiene en el último punto de control.
+     */
+    List<ResultadoFilaImportacion> procesarBloque(List<LectorImportacion.FilaLeida<ClienteRequest>> bloque,
+                                                  Set<String> documentosVistos,
+                                                  String usuario) {
+        // 1. Normalización y validación (formato + reglas por tipo de cliente), en paralelo
+        List<List<String>> errores = bloque.parallelStream()
+                .map(this::validar)
+                .toList();
+
+        // 2. Documentos ya existentes en BD: una consulta para todo el bloque
+        Set<String> documentos = new HashSet<>();
+        for (int i = 0; i < bloque.size(); i++) {
+            if (errores.get(i).isEmpty()) {
+                documentos.add(bloque.get(i).getValor().getDocumento());
+            }
+        }
+        Set<String> documentosExistentes = documentos.isEmpty() ? Set.of()
+                : clienteRepository.findDocumentosExistentes(documentos);
+
+        // 3. Duplicados en BD o dentro del propio fichero, en el orden del fichero
+        ResultadoFilaImportacion[] resultados = new ResultadoFilaImportacion[bloque.size()];
+        List<Integer> aceptadas = new ArrayList<>();
+        List<Cliente> clientes = new ArrayList<>();
+
+        for (int i = 0; i < bloque.size(); i++) {
+            LectorImportacion.FilaLeida<ClienteRequest> fila = bloque.get(i);
+            ClienteRequest datos = fila.getValor();
+            String clave = datos != null ? datos.getDocumento() : null;
+
+            if (!errores.get(i).isEmpty()) {
+                resultados[i] = ResultadoFilaImportacion.rechazado(
+                        fila.getNumero(), clave, EstadoFilaImportacion.INVALIDO, errores.get(i));
+            } else if (documentosExistentes.contains(clave) || !documentosVistos.add(clave)) {
+                resultados[i] = ResultadoFilaImportacion.rechazado(
+                        fila.getNumero(), clave, EstadoFilaImportacion.DUPLICADO, List.of("Documento duplicado: " + clave));
+            } else {
+                clientes.add(ClienteMapper.toEntity(datos));
+                aceptadas.add(i);
+            }
+        }
+
+        // 4. Inserción por lotes JDBC
+        if (!clientes.isEmpty()) {
+            transactionTemplate.executeWithoutResult(tx -> importacionJdbcRepository.insertarClientes(clientes, usuario));
+            indiceClientes.indexar(clientes.stream().map(ClienteIndexado::de).toList());
+            indiceIdentificadores.indexar(clientes.stream().map(IdentificadorIndexado::documento).toList());
+            for (int j = 0; j < aceptadas.size(); j++) {
+                int i = aceptadas.get(j);
+                resultados[i] = ResultadoFilaImportacion.creado(
+                        bloque.get(i).getNumero(), clientes.get(j).getDocumento(), clientes.get(j).getId());
+            }
+        }
+
+        return List.of(resultados);
+    }
+
+    private List<String> validar(LectorImportacion.FilaLeida<ClienteRequest> fila) {
+        if (fila.getError() != null) {
+            return List.of(fila.getError());
+        }
+
+        ClienteRequest datos = fila.getValor();
+        datos.setDocumento(ClienteService.normalizarDocumento(datos.getDocumento()));
+
+        List<String> errores = new ArrayList<>();
+        for (ConstraintViolation<ClienteRequest> violacion : validator.validate(datos)) {
+            errores.add(violacion.getPropertyPath() + ": " + violacion.getMessage());
+        }
+
+        if (errores.isEmpty()) {
+            try {
+                ClienteService.validarDatosSegunTipo(ClienteMapper.toEntity(datos));
+            } catch (BusinessRuleException e) {
+                errores.add(e.getMessage());
+            }
+        }
+
+        return errores;
+    }
+
+    private void confirmar(EstadoImportacion estado,
+                           List<LectorImportacion.FilaLeida<ClienteRequest>> bloque,
+                           List<ResultadoFilaImportacion> resultados) {
+        estado.registrar(resultados);
+        estado.confirmarHasta(bloque.get(bloque.size() - 1).getNumero());
+    }
+
+    private void borrar(Path fichero) {
+        try {
+            Files.deleteIfExists(fichero);
+        } catch (IOException e) {
+            log.warn("No se ha podido borrar el fichero temporal {}", fichero);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.EstadoImportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.ResultadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.VehiculoImportacion;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
+import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaCompraRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ImportacionJdbcRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ProveedorRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de vehículos (opcionalmente con su factura de compra) desde CSV o NDJSON.
+ * <p>
+ * El fichero se procesa en segundo plano por bloques: cada bloque se valida en paralelo,
+ * se comprueban duplicados con una consulta por conjunto de claves y se inserta con lotes JDBC
+ * en su propia transacción. El progreso y el informe por fila se consultan en {@link RegistroImportaciones}.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportacionVehiculoService {
+
+    private static final String SITUACION_POR_DEFECTO = "DISPONIBLE";
+
+    private final VehiculoRepository vehiculoRepository;
+    private final FacturaCompraRepository facturaCompraRepository;
+    private final ProveedorRepository proveedorRepository;
+    private final SituacionVehiculoRepository situacionRepository;
+    private final ImportacionJdbcRepository importacionJdbcRepository;
+    private final RegistroImportaciones registroImportaciones;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final VersionesEntidades versionesEntidades;
+    private final CanalCambios canalCambios;
+    private final ResumenVehiculos resumenVehiculos;
+    private final AuditorAware<String> auditorProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor applicationTaskExecutor;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+
+    @Value("${importacion.tamano-bloque:500}")
+    private int tamanoBloque = 500;
+
+    /**
+     * Copia el contenido a un fichero temporal (la petición termina antes que la importación)
+     * y lanza la importación en segundo plano
+     */
+    public EstadoImportacion iniciar(InputStream contenido, FormatoFichero formato) throws IOException {
+        Path fichero = Files.createTempFile("importacion-vehiculos-", "." + formato.getExtension());
+        Files.copy(contenido, fichero, StandardCopyOption.REPLACE_EXISTING);
+        return iniciar(fichero, formato);
+    }
+
+    /**
+     * Registra la importación y la lanza en segundo plano. El fichero pasa a ser
+     * responsabilidad de la importación, que lo borra al terminar.
+     */
+    EstadoImportacion iniciar(Path fichero, FormatoFichero formato) {
+        String usuario = auditorProvider.getCurrentAuditor().orElse("SISTEMA");
+        EstadoImportacion estado = registroImportaciones.registrar("VEHICULOS", usuario);
+
+        log.info("Iniciando importación de vehículos {} ({})", estado.getId(), formato);
+        applicationTaskExecutor.execute(() -> procesar(estado, fichero, formato));
+
+        return estado;
+    }
+
+    void procesar(EstadoImportacion estado, Path fichero, FormatoFichero formato) {
+        Set<String> matriculasVistas = new HashSet<>();
+        Set<String> bastidoresVistos = new HashSet<>();
+        Set<String> facturasVistas = new HashSet<>();
+        Map<String, SituacionVehiculo> situaciones = situacionRepository.findAll().stream()
+                .collect(Collectors.toMap(SituacionVehiculo::getNombre, Function.identity()));
+
+        try (LectorImportacion<VehiculoImportacion> lector =
+                     new LectorImportacion<>(fichero, formato, VehiculoImportacion.class, jsonMapper)) {
+
+            List<LectorImportacion.FilaLeida<VehiculoImportacion>> bloque = new ArrayList<>(tamanoBloque);
+            while (lector.hasNext()) {
+                bloque.add(lector.next());
+                if (bloque.size() == tamanoBloque) {
+                    estado.registrar(procesarBloque(bloque, situaciones,
+                            matriculasVistas, bastidoresVistos, facturasVistas, estado.getUsuario()));
+                    estado.confirmarHasta(bloque.get(bloque.size() - 1).getNumero());
+                    bloque.clear();
+                }
+            }
+            if (!bloque.isEmpty()) {
+                estado.registrar(procesarBloque(bloque, situaciones,
+                        matriculasVistas, bastidoresVistos, facturasVistas, estado.getUsuario()));
+                estado.confirmarHasta(bloque.get(bloque.size() - 1).getNumero());
+            }
+
+            log.info("Importación {} finalizada: {} creados, {} rechazados", estado.getId(),
+                    estado.getFilasCreadas(), estado.getFilasRechazadas());
+        } catch (IOException | RuntimeException e) {
+            log.error("Importación {} interrumpida: {}", estado.getId(), e.getMessage(), e);
+            estado.fallar(e.getMessage());
+        } finally {
+            estado.finalizar();
+            borrar(fichero);
+        }
+    }
+
+    List<ResultadoFilaImportacion> procesarBloque(List<LectorImportacion.FilaLeida<VehiculoImportacion>> bloque,
+                                                  Map<String, SituacionVehiculo> situaciones,
+                                                  Set<String> matriculasVistas,
+                                                  Set<String> bastidoresVistos,
+                                                  Set<String> facturasVistas,
+                                                  String usuario) {
+        // 1. Validación de formato y reglas, en paralelo (no depende de la BD)
+        List<List<String>> errores = bloque.parallelStream()
+                .map(fila -> validar(fila, situaciones))
+                .toList();
+
+        // 2. Claves existentes en BD: una consulta por tipo de clave para todo el bloque
+        Set<String> matriculas = new HashSet<>();
+        Set<String> bastidores = new HashSet<>();
+        Set<String> numerosFactura = new HashSet<>();
+        Set<String> cifs = new HashSet<>();
+        for (int i = 0; i < bloque.size(); i++) {
+            if (errores.get(i).isEmpty()) {
+                VehiculoImportacion v = bloque.get(i).getValor();
+                matriculas.add(v.getMatricula());
+                bastidores.add(v.getNumeroBastidor());
+                if (v.tieneFactura()) {
+                    numerosFactura.add(v.getNumeroFactura());
+                    cifs.add(v.getProveedorCif());
+                }
+            }
+        }
+
+        Set<String> matriculasExistentes = matriculas.isEmpty() ? Set.of()
+                : vehiculoRepository.findMatriculasExistentes(matriculas);
+        Set<String> bastidoresExistentes = bastidores.isEmpty() ? Set.of()
+                : vehiculoRepository.findBastidoresExistentes(bastidores);
+        Set<String> facturasExistentes = numerosFactura.isEmpty() ? Set.of()
+                : facturaCompraRepository.findNumerosFacturaExistentes(numerosFactura);
+        Map<String, Proveedor> proveedores = cifs.isEmpty() ? Map.of()
+                : proveedorRepository.findByCifIn(cifs).stream()
+                .collect(Collectors.toMap(Proveedor::getCif, Function.identity()));
+
+        // 3. Duplicados (en BD o dentro del propio fichero), en el orden del fichero
+        ResultadoFilaImportacion[] resultados = new ResultadoFilaImportacion[bloque.size()];
+        List<Integer> aceptadas = new ArrayList<>();
+        List<Vehiculo> vehiculos = new ArrayList<>();
+        List<FacturaCompra> facturas = new ArrayList<>();
+
+        for (int i = 0; i < bloque.size(); i++) {
+            LectorImportacion.FilaLeida<VehiculoImportacion> fila = bloque.get(i);
+            VehiculoImportacion datos = fila.getValor();
+            String clave = datos != null ? datos.getMatricula() : null;
+
+            if (!errores.get(i).isEmpty()) {
+                resultados[i] = ResultadoFilaImportacion.rechazado(
+                        fila.getNumero(), clave, EstadoFilaImportacion.INVALIDO, errores.get(i));
+                continue;
+            }
+
+            // Las claves del fichero solo cuentan como vistas cuando la fila se acepta: una fila rechazada
+            // por otro motivo no debe hacer que se rechace como duplicada la siguiente con la misma matrícula
+            List<String> duplicados = new ArrayList<>();
+            if (matriculasExistentes.contains(datos.getMatricula()) || matriculasVistas.contains(datos.getMatricula())) {
+                duplicados.add("Matrícula duplicada: " + datos.getMatricula());
+            }
+            if (bastidoresExistentes.contains(datos.getNumeroBastidor())
+                    || bastidoresVistos.contains(datos.getNumeroBastidor())) {
+                duplicados.add("Número de bastidor duplicado: " + datos.getNumeroBastidor());
+            }
+            if (datos.tieneFactura() && (facturasExistentes.contains(datos.getNumeroFactura())
+                    || facturasVistas.contains(datos.getNumeroFactura()))) {
+                duplicados.add("Número de factura duplicado: " + datos.getNumeroFactura());
+            }
+            if (!duplicados.isEmpty()) {
+                resultados[i] = ResultadoFilaImportacion.rechazado(
+                        fila.getNumero(), clave, EstadoFilaImportacion.DUPLICADO, duplicados);
+                continue;
+            }
+
+            Proveedor proveedor = datos.tieneFactura() ? proveedores.get(datos.getProveedorCif()) : null;
+            if (datos.tieneFactura() && proveedor == null) {
+                resultados[i] = ResultadoFilaImportacion.rechazado(fila.getNumero(), clave,
+                        EstadoFilaImportacion.INVALIDO, List.of("Proveedor no encontrado con CIF: " + datos.getProveedorCif()));
+                continue;
+            }
+
+            Vehiculo vehiculo = aVehiculo(datos, situaciones);
+            vehiculos.add(vehiculo);
+            aceptadas.add(i);
+            matriculasVistas.add(datos.getMatricula());
+            bastidoresVistos.add(datos.getNumeroBastidor());
+            if (proveedor != null) {
+                facturas.add(aFacturaCompra(datos, vehiculo, proveedor));
+                facturasVistas.add(datos.getNumeroFactura());
+            }
+        }
+
+        // 4. Inserción por lotes JDBC, todo el bloque en una transacción
+        if (!vehiculos.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    importacionJdbcRepository.insertarVehiculos(vehiculos, usuario);
+                    if (!facturas.isEmpty()) {
+                        importacionJdbcRepository.insertarFacturasCompra(facturas, usuario);
+                    }
+                    resumenVehiculos.marcar(vehiculos.stream().map(Vehiculo::getId).toList());
+                });
+                List<IdentificadorIndexado> identificadores = new ArrayList<>();
+                for (Vehiculo vehiculo : vehiculos) {
+                    identificadores.add(IdentificadorIndexado.matricula(vehiculo));
+                    identificadores.add(IdentificadorIndexado.bastidor(vehiculo));
+                }
+                facturas.forEach(f -> identificadores.add(IdentificadorIndexado.facturaCompra(f)));
+                indiceIdentificadores.indexar(identificadores);
+                versionesEntidades.incrementar(EntidadCacheada.VEHICULO);
+                vehiculos.forEach(v -> canalCambios.publicar(EntidadCambio.VEHICULO, v.getId(),
+                        v.getSituacion() != null ? v.getSituacion().getNombre() : null, true));
+                for (int j = 0; j < aceptadas.size(); j++) {
+                    int i = aceptadas.get(j);
+                    resultados[i] = ResultadoFilaImportacion.creado(
+                            bloque.get(i).getNumero(), vehiculos.get(j).getMatricula(), vehiculos.get(j).getId());
+                }
+            } catch (DataAccessException e) {
+                log.error("Error insertando bloque de vehículos: {}", e.getMessage());
+                // El bloque no se ha guardado: sus claves pueden aparecer más adelante en el fichero
+                vehiculos.forEach(v -> {
+                    matriculasVistas.remove(v.getMatricula());
+                    bastidoresVistos.remove(v.getNumeroBastidor());
+                });
+                facturas.forEach(f -> facturasVistas.remove(f.getNumeroFactura()));
+                for (int i : aceptadas) {
+                    resultados[i] = ResultadoFilaImportacion.rechazado(bloque.get(i).getNumero(),
+                            bloque.get(i).getValor().getMatricula(), EstadoFilaImportacion.ERROR,
+                            List.of("No se ha podido guardar el bloque: " + e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+
+        return List.of(resultados);
+    }
+
+    private List<String> validar(LectorImportacion.FilaLeida<VehiculoImportacion> fila,
+                                 Map<String, SituacionVehiculo> situaciones) {
+        if (fila.getError() != null) {
+            return List.of(fila.getError());
+        }
+
+        VehiculoImportacion datos = fila.getValor();
+        normalizar(datos);
+
+        List<String> errores = new ArrayList<>();
+        for (ConstraintViolation<VehiculoImportacion> violacion : validator.validate(datos)) {
+            errores.add(violacion.getPropertyPath() + ": " + violacion.getMessage());
+        }
+
+        String situacion = datos.getSituacion() != null ? datos.getSituacion() : SITUACION_POR_DEFECTO;
+        if (!situaciones.containsKey(situacion)) {
+            errores.add("Situación no encontrada: " + situacion);
+        }
+
+        if (datos.tieneFactura()
+                && (datos.getFechaFactura() == null || datos.getImporteBase() == null
+                || datos.getIva() == null || datos.getProveedorCif() == null)) {
+            errores.add("La factura de compra requiere fecha, importe base, IVA y CIF del proveedor");
+        }
+
+        return errores;
+    }
+
+    private void normalizar(VehiculoImportacion datos) {
+        if (datos.getMatricula() != null) {
+            datos.setMatricula(datos.getMatricula().trim().toUpperCase(Locale.ROOT));
+        }
+        if (datos.getNumeroBastidor() != null) {
+            datos.setNumeroBastidor(datos.getNumeroBastidor().trim().toUpperCase(Locale.ROOT));
+        }
+        if (datos.getProveedorCif() != null) {
+            datos.setProveedorCif(datos.getProveedorCif().trim().toUpperCase(Locale.ROOT));
+        }
+        if (datos.getSituacion() != null) {
+            datos.setSituacion(datos.getSituacion().trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private Vehiculo aVehiculo(VehiculoImportacion datos, Map<String, SituacionVehiculo> situaciones) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setMatricula(datos.getMatricula());
+        vehiculo.setMarca(datos.getMarca());
+        vehiculo.setModelo(datos.getModelo());
+        vehiculo.setAnyoFabricacion(datos.getAnyoFabricacion());
+        vehiculo.setColor(datos.getColor());
+        vehiculo.setKilometros(datos.getKilometros());
+        vehiculo.setNumeroBastidor(datos.getNumeroBastidor());
+        vehiculo.setTipoCombustible(datos.getTipoCombustible());
+        vehiculo.setSituacion(situaciones.get(
+                datos.getSituacion() != null ? datos.getSituacion() : SITUACION_POR_DEFECTO));
+        return vehiculo;
+    }
+
+    private FacturaCompra aFacturaCompra(VehiculoImportacion datos, Vehiculo vehiculo, Proveedor proveedor) {
+        FacturaCompra factura = new FacturaCompra();
+        factura.setNumeroFactura(datos.getNumeroFactura());
+        factura.setFechaFactura(datos.getFechaFactura());
+        factura.setImporteBase(datos.getImporteBase());
+        factura.setIva(datos.getIva());
+        factura.setProveedor(proveedor);
+        factura.setVehiculo(vehiculo);
+        factura.calcularImporteTotal();
+        return factura;
+    }
+
+    private void borrar(Path fichero) {
+        try {
+            Files.deleteIfExists(fichero);
+        } catch (IOException e) {
+            log.warn("No se ha podido borrar el fichero temporal {}", fichero);
+        }
+    }
+}
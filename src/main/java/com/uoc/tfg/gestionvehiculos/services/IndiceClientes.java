@@ -0,0 +1,438 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteBusquedaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado;
+import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas en memoria para la búsqueda rápida de clientes
+ * por nombre, apellidos, razón social, documento, email y teléfono.
+ * <p>
+ * Cada cliente ocupa una posición entera; cada trigrama guarda la lista ordenada de posiciones que lo
+ * contienen. Al modificar un cliente su posición antigua se descarta y se le asigna una nueva al final,
+ * así las listas siguen ordenadas sin reescribirlas; cuando las posiciones descartadas superan a las vivas
+ * el índice se compacta. Un resultado debe compartir al menos la mitad de los trigramas de la consulta,
+ * lo que tolera erratas y palabras incompletas.
+ * <p>
+ * La carga inicial construye el índice aparte, sin bloquear las búsquedas, y lo sustituye de una vez; los
+ * cambios que llegan mientras tanto se anotan y se aplican sobre el índice nuevo antes de sustituirlo.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceClientes {
+
+    private static final double COINCIDENCIA_MINIMA = 0.5;
+    private static final int DESCARTADAS_MINIMAS_PARA_COMPACTAR = 1000;
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private final ClienteRepository clienteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Estado estado = new Estado();
+    private List<Consumer<Estado>> cambiosDuranteCarga;
+    private volatile boolean cargado;
+
+    /**
+     * Carga los clientes activos al arrancar. Hasta entonces {@link #isCargado()} es falso
+     * y la búsqueda debe resolverse contra la BD.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        long inicio = System.currentTimeMillis();
+
+        // Desde aquí se anotan los cambios, para no perder los que lleguen entre la consulta y la sustitución
+        lock.writeLock().lock();
+        try {
+            cambiosDuranteCarga = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Estado nuevo = new Estado();
+        int clientes;
+        try {
+            List<ClienteIndexado> activos = clienteRepository.findActivosParaIndexar();
+            activos.forEach(nuevo::anadir);
+            clientes = activos.size();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                cambiosDuranteCarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int aplicados;
+        int trigramas;
+        lock.writeLock().lock();
+        try {
+            aplicados = cambiosDuranteCarga.size();
+            cambiosDuranteCarga.forEach(cambio -> cambio.accept(nuevo));
+            cambiosDuranteCarga = null;
+            estado = nuevo.compactadoSiProcede();
+            trigramas = estado.trigramas.size();
+            cargado = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Índice de clientes cargado: {} clientes y {} cambios durante la carga, {} trigramas en {} ms",
+                clientes, aplicados, trigramas, System.currentTimeMillis() - inicio);
+    }
+
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return estado.posicionPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Añade o reemplaza el cliente cuando la transacción en curso se confirme
+     * (inmediatamente si no hay transacción)
+     */
+    public void indexarTrasConfirmar(ClienteIndexado cliente) {
+        trasConfirmar(() -> indexar(List.of(cliente)));
+    }
+
+    public void eliminarTrasConfirmar(Long id) {
+        trasConfirmar(() -> eliminar(id));
+    }
+
+    public void indexar(Collection<ClienteIndexado> clientes) {
+        List<ClienteIndexado> copia = List.copyOf(clientes);
+        aplicar(indice -> copia.forEach(cliente -> {
+            indice.descartar(cliente.getId());
+            indice.anadir(cliente);
+        }));
+    }
+
+    public void eliminar(Long id) {
+        aplicar(indice -> indice.descartar(id));
+    }
+
+    /**
+     * Devuelve hasta {@code limite} clientes ordenados por relevancia
+     */
+    public List<ClienteBusquedaResponse> buscar(String consulta, int limite) {
+        List<String> delaConsulta = new ArrayList<>(trigramasDe(normalizar(consulta)));
+        if (delaConsulta.isEmpty()) {
+            return List.of();
+        }
+
+        String consultaNormalizada = limpiar(consulta);
+        String documentoConsulta = documento(consulta);
+        int n = delaConsulta.size();
+        int minimo = Math.max(1, (int) Math.ceil(n * COINCIDENCIA_MINIMA));
+
+        lock.readLock().lock();
+        try {
+            Estado indice = estado;
+            ListaPosiciones[] listas = delaConsulta.stream()
+                    .map(t -> indice.trigramas.getOrDefault(t, ListaPosiciones.VACIA))
+                    .sorted(Comparator.comparingInt(ListaPosiciones::size))
+                    .toArray(ListaPosiciones[]::new);
+
+            // Un candidato con 'minimo' coincidencias aparece por fuerza en alguna de las n - minimo + 1
+            // listas más cortas: esas se recorren enteras y el resto solo se usa para sumar a los candidatos
+            int recorridas = n - minimo + 1;
+            // Todas las listas están ordenadas: se recorren a la vez con un cursor por lista, de modo que cada
+            // candidato sale una sola vez, en orden de posición y con sus coincidencias ya contadas, sin tablas
+            // auxiliares y leyendo la memoria en orden. Las listas largas solo completan la cuenta de cada
+            // candidato y su cursor avanza a saltos
+            int[] cursores = new int[n];
+            PriorityQueue<long[]> mejores = new PriorityQueue<>(limite + 1, Comparator.comparingLong(e -> e[0]));
+            while (true) {
+                int posicion = Integer.MAX_VALUE;
+                for (int i = 0; i < recorridas; i++) {
+                    if (cursores[i] < listas[i].size()) {
+                        posicion = Math.min(posicion, listas[i].get(cursores[i]));
+                    }
+                }
+                if (posicion == Integer.MAX_VALUE) {
+                    break;
+                }
+                int comunes = 0;
+                for (int i = 0; i < recorridas; i++) {
+                    if (cursores[i] < listas[i].size() && listas[i].get(cursores[i]) == posicion) {
+                        cursores[i]++;
+                        comunes++;
+                    }
+                }
+                for (int i = recorridas; i < n && comunes + n - i >= minimo; i++) {
+                    cursores[i] = listas[i].siguienteDesde(cursores[i], posicion);
+                    if (cursores[i] < listas[i].size() && listas[i].get(cursores[i]) == posicion) {
+                        comunes++;
+                    }
+                }
+                if (comunes < minimo) {
+                    continue;
+                }
+
+                // Los 'limite' mejores con un montículo acotado; solo a esos se les calcula la puntuación completa
+                Entrada entrada = indice.posiciones.get(posicion);
+                if (entrada == null) {
+                    continue;
+                }
+                long puntos = comunes * 4L;
+                if (entrada.documento.equals(documentoConsulta)) {
+                    puntos += n * 4L;
+                }
+                if (mejores.size() == limite && puntos + n * 2L <= mejores.peek()[0]) {
+                    continue;
+                }
+                if (entrada.texto.contains(consultaNormalizada)) {
+                    puntos += n * 2L;
+                }
+                if (mejores.size() < limite || puntos > mejores.peek()[0]) {
+                    mejores.add(new long[]{puntos, posicion});
+                    if (mejores.size() > limite) {
+                        mejores.poll();
+                    }
+                }
+            }
+
+            List<ClienteBusquedaResponse> resultados = new ArrayList<>(mejores.size());
+            for (long[] mejor : mejores) {
+                double puntuacion = mejor[0] / (4.0 * n);
+                resultados.add(indice.posiciones.get((int) mejor[1]).aResultado(Math.round(puntuacion * 1000) / 1000.0));
+            }
+            resultados.sort(Comparator.comparingDouble(ClienteBusquedaResponse::getPuntuacion).reversed()
+                    .thenComparing(ClienteBusquedaResponse::getNombreCompleto, Comparator.nullsLast(String::compareTo)));
+            return resultados;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Minúsculas y sin tildes ("Muñoz Pérez" → "munoz perez")
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinTildes = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return sinTildes.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Texto normalizado con las palabras separadas por un único espacio
+     */
+    private static String limpiar(String texto) {
+        return SEPARADORES.matcher(normalizar(texto)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Documento normalizado como una sola palabra ("12345678-Z" → "12345678z")
+     */
+    private static String documento(String documento) {
+        return SEPARADORES.matcher(normalizar(documento)).replaceAll("");
+    }
+
+    /**
+     * Trigramas de cada palabra, con un espacio de relleno a cada lado para
+     * dar más peso a los inicios y finales ("ana" → " an", "ana", "na ")
+     */
+    static Set<String> trigramasDe(String textoNormalizado) {
+        Set<String> resultado = new LinkedHashSet<>();
+        for (String palabra : SEPARADORES.split(textoNormalizado)) {
+            if (palabra.isEmpty()) {
+                continue;
+            }
+            String rellena = " " + palabra + " ";
+            for (int i = 0; i + 3 <= rellena.length(); i++) {
+                resultado.add(rellena.substring(i, i + 3));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Aplica un cambio al índice y, si hay una carga en curso, lo anota para repetirlo sobre el índice nuevo
+     */
+    private void aplicar(Consumer<Estado> cambio) {
+        lock.writeLock().lock();
+        try {
+            cambio.accept(estado);
+            estado = estado.compactadoSiProcede();
+            if (cambiosDuranteCarga != null) {
+                cambiosDuranteCarga.add(cambio);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void trasConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+
+    /**
+     * Posiciones, trigramas y clientes del índice. Solo se modifica con el bloqueo de escritura,
+     * salvo el que construye {@link #cargar()}, que nadie más ve hasta que lo sustituye.
+     */
+    private static final class Estado {
+        private final List<Entrada> posiciones = new ArrayList<>();
+        private final Map<Long, Integer> posicionPorId = new HashMap<>();
+        private final Map<String, ListaPosiciones> trigramas = new HashMap<>();
+        private int descartadas;
+
+        private void anadir(ClienteIndexado cliente) {
+            Entrada entrada = new Entrada(cliente);
+            int posicion = posiciones.size();
+            posiciones.add(entrada);
+            posicionPorId.put(cliente.getId(), posicion);
+
+            Set<String> propios = new LinkedHashSet<>(trigramasDe(entrada.texto));
+            propios.addAll(trigramasDe(entrada.documento));
+            for (String trigrama : propios) {
+                trigramas.computeIfAbsent(trigrama, k -> new ListaPosiciones()).anadir(posicion);
+            }
+        }
+
+        private void descartar(Long id) {
+            Integer anterior = posicionPorId.remove(id);
+            if (anterior != null) {
+                posiciones.set(anterior, null);
+                descartadas++;
+            }
+        }
+
+        /**
+         * Este mismo estado o, si las posiciones descartadas superan a las vivas, uno nuevo solo con las vivas
+         */
+        private Estado compactadoSiProcede() {
+            if (descartadas < DESCARTADAS_MINIMAS_PARA_COMPACTAR || descartadas < posicionPorId.size()) {
+                return this;
+            }
+            Estado compactado = new Estado();
+            posiciones.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(e -> compactado.anadir(e.cliente));
+            log.debug("Índice de clientes compactado: {} clientes", compactado.posicionPorId.size());
+            return compactado;
+        }
+    }
+
+    private static final class Entrada {
+        private final ClienteIndexado cliente;
+        private final String texto;
+        private final String documento;
+
+        private Entrada(ClienteIndexado cliente) {
+            this.cliente = cliente;
+            this.documento = documento(cliente.getDocumento());
+            this.texto = limpiar(String.join(" ",
+                    valor(cliente.getNombre()), valor(cliente.getApellidos()), valor(cliente.getRazonSocial()),
+                    valor(cliente.getEmail()), valor(cliente.getTelefono())));
+        }
+
+        private ClienteBusquedaResponse aResultado(double puntuacion) {
+            return ClienteBusquedaResponse.builder()
+                    .id(cliente.getId())
+                    .tipoCliente(cliente.getTipoCliente())
+                    .documento(cliente.getDocumento())
+                    .nombreCompleto(cliente.getNombreCompleto())
+                    .email(cliente.getEmail())
+                    .telefono(cliente.getTelefono())
+                    .puntuacion(puntuacion)
+                    .build();
+        }
+
+        private static String valor(String campo) {
+            return campo != null ? campo : "";
+        }
+    }
+
+    /**
+     * Lista creciente de posiciones sobre un array de enteros (sin cajas por elemento)
+     */
+    private static final class ListaPosiciones {
+        private static final ListaPosiciones VACIA = new ListaPosiciones();
+
+        private int[] datos = new int[4];
+        private int tamano;
+
+        private void anadir(int posicion) {
+            if (tamano == datos.length) {
+                datos = Arrays.copyOf(datos, tamano * 2);
+            }
+            datos[tamano++] = posicion;
+        }
+
+        private int get(int i) {
+            return datos[i];
+        }
+
+        private int size() {
+            return tamano;
+        }
+
+        /**
+         * Primer índice desde {@code desde} cuya posición no es menor que la dada. Avanza a saltos que se
+         * duplican y termina con una búsqueda binaria: cuesta poco tanto si la posición está cerca como lejos
+         */
+        private int siguienteDesde(int desde, int posicion) {
+            if (desde >= tamano || datos[desde] >= posicion) {
+                return desde;
+            }
+            int bajo = desde;
+            int paso = 1;
+            while (bajo + paso < tamano && datos[bajo + paso] < posicion) {
+                bajo += paso;
+                paso <<= 1;
+            }
+            int encontrada = Arrays.binarySearch(datos, bajo + 1, Math.min(bajo + paso, tamano), posicion);
+            return encontrada >= 0 ? encontrada : -encontrada - 1;
+        }
+    }
+}
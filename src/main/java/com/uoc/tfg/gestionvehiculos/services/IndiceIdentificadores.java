@@ -0,0 +1,228 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorEncontrado;
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import com.uoc.tfg.gestionvehiculos.repositories.IdentificadorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Índice en memoria de los identificadores que un usuario puede pegar en la búsqueda rápida:
+ * matrículas, bastidores, documentos de cliente, CIF de proveedor, números de contrato y de factura.
+ * <p>
+ * Las claves son el identificador normalizado (mayúsculas, solo letras y dígitos) seguido del tipo y el id,
+ * en un mapa ordenado: una búsqueda por prefijo es un recorrido desde la primera clave que empieza por la
+ * consulta hasta completar el límite, sin mirar el resto. Como el separador es el carácter más bajo posible,
+ * las coincidencias exactas salen antes que las que solo empiezan por la consulta. Las lecturas no bloquean;
+ * las escrituras se serializan para mantener a la par el mapa inverso por entidad. La carga completa construye
+ * los mapas aparte y los sustituye de una vez, repitiendo sobre ellos los cambios que llegan mientras tanto.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceIdentificadores {
+
+    private static final char SEPARADOR = '\u0000';
+    private static final char MAXIMO = Character.MAX_VALUE;
+    private static final Pattern NO_ALFANUMERICOS = Pattern.compile("[^A-Z0-9]+");
+
+    private final IdentificadorRepository identificadorRepository;
+
+    private volatile Estado estado = new Estado();
+    private List<Consumer<Estado>> cambiosDuranteCarga;
+    private volatile boolean cargado;
+
+    /**
+     * Carga los identificadores de las entidades activas al arrancar. Hasta entonces
+     * {@link #isCargado()} es falso y la búsqueda debe resolverse contra la BD.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        long inicio = System.currentTimeMillis();
+
+        // Desde aquí se anotan los cambios, para no perder los que lleguen entre la consulta y la sustitución
+        synchronized (this) {
+            cambiosDuranteCarga = new ArrayList<>();
+        }
+
+        Estado nuevo = new Estado();
+        try {
+            identificadorRepository.findTodos().forEach(nuevo::anadir);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                cambiosDuranteCarga = null;
+            }
+            throw e;
+        }
+
+        int aplicados;
+        synchronized (this) {
+            aplicados = cambiosDuranteCarga.size();
+            cambiosDuranteCarga.forEach(cambio -> cambio.accept(nuevo));
+            cambiosDuranteCarga = null;
+            estado = nuevo;
+            cargado = true;
+        }
+
+        log.info("Índice de identificadores cargado: {} identificadores y {} cambios durante la carga en {} ms",
+                nuevo.entradas.size(), aplicados, System.currentTimeMillis() - inicio);
+    }
+
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    public int size() {
+        return estado.entradas.size();
+    }
+
+    /**
+     * Añade o reemplaza los identificadores cuando la transacción en curso se confirme
+     * (inmediatamente si no hay transacción)
+     */
+    public void indexarTrasConfirmar(IdentificadorIndexado... identificadores) {
+        List<IdentificadorIndexado> lista = List.of(identificadores);
+        trasConfirmar(() -> indexar(lista));
+    }
+
+    public void eliminarTrasConfirmar(Long id, TipoIdentificador... tipos) {
+        trasConfirmar(() -> {
+            for (TipoIdentificador tipo : tipos) {
+                eliminar(tipo, id);
+            }
+        });
+    }
+
+    public void indexar(Collection<IdentificadorIndexado> identificadores) {
+        List<IdentificadorIndexado> copia = List.copyOf(identificadores);
+        aplicar(indice -> copia.forEach(identificador -> {
+            indice.descartar(identificador.getTipo(), identificador.getId());
+            indice.anadir(identificador);
+        }));
+    }
+
+    public void eliminar(TipoIdentificador tipo, Long id) {
+        aplicar(indice -> indice.descartar(tipo, id));
+    }
+
+    /**
+     * Devuelve hasta {@code limite} identificadores que empiezan por la consulta, primero los exactos
+     * y después en orden alfabético. Si {@code tipos} está vacío se buscan todos.
+     */
+    public List<IdentificadorEncontrado> buscar(String consulta, Set<TipoIdentificador> tipos, int limite) {
+        String prefijo = normalizar(consulta);
+        if (prefijo.isEmpty()) {
+            return List.of();
+        }
+
+        List<IdentificadorEncontrado> resultados = new ArrayList<>(Math.min(limite, 16));
+        for (Map.Entry<String, IdentificadorIndexado> entrada
+                : estado.entradas.subMap(prefijo, true, prefijo + MAXIMO, false).entrySet()) {
+            IdentificadorIndexado identificador = entrada.getValue();
+            if (!tipos.isEmpty() && !tipos.contains(identificador.getTipo())) {
+                continue;
+            }
+            boolean exacto = entrada.getKey().length() > prefijo.length()
+                    && entrada.getKey().charAt(prefijo.length()) == SEPARADOR;
+            resultados.add(aResultado(identificador, exacto));
+            if (resultados.size() == limite) {
+                break;
+            }
+        }
+        return resultados;
+    }
+
+    static IdentificadorEncontrado aResultado(IdentificadorIndexado identificador, boolean exacto) {
+        return IdentificadorEncontrado.builder()
+                .tipo(identificador.getTipo())
+                .id(identificador.getId())
+                .valor(identificador.getValor())
+                .descripcion(identificador.getDescripcion())
+                .recurso(identificador.getTipo().getRecurso() + "/" + identificador.getId())
+                .exacto(exacto)
+                .build();
+    }
+
+    /**
+     * Mayúsculas y solo letras y dígitos ("rent-2026-0001" → "RENT20260001", "1234 abc" → "1234ABC")
+     */
+    static String normalizar(String identificador) {
+        if (identificador == null) {
+            return "";
+        }
+        return NO_ALFANUMERICOS.matcher(identificador.toUpperCase(Locale.ROOT)).replaceAll("");
+    }
+
+    /**
+     * Aplica un cambio al índice y, si hay una carga en curso, lo anota para repetirlo sobre el índice nuevo
+     */
+    private synchronized void aplicar(Consumer<Estado> cambio) {
+        cambio.accept(estado);
+        if (cambiosDuranteCarga != null) {
+            cambiosDuranteCarga.add(cambio);
+        }
+    }
+
+    private void trasConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+
+    /**
+     * Mapa ordenado de claves y mapa inverso por entidad, que se sustituyen juntos al recargar
+     */
+    private static final class Estado {
+
+        private final ConcurrentSkipListMap<String, IdentificadorIndexado> entradas = new ConcurrentSkipListMap<>();
+        private final Map<TipoIdentificador, Map<Long, String>> clavePorEntidad = new EnumMap<>(TipoIdentificador.class);
+
+        private void anadir(IdentificadorIndexado identificador) {
+            String normalizado = normalizar(identificador.getValor());
+            if (normalizado.isEmpty()) {
+                return;
+            }
+            String clave = normalizado + SEPARADOR + identificador.getTipo().name() + SEPARADOR + identificador.getId();
+            entradas.put(clave, identificador);
+            clavePorEntidad.computeIfAbsent(identificador.getTipo(), t -> new HashMap<>())
+                    .put(identificador.getId(), clave);
+        }
+
+        private void descartar(TipoIdentificador tipo, Long id) {
+            Map<Long, String> claves = clavePorEntidad.get(tipo);
+            String anterior = claves != null ? claves.remove(id) : null;
+            if (anterior != null) {
+                entradas.remove(anterior);
+            }
+        }
+    }
+}
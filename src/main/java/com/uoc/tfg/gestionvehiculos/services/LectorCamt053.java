@@ -0,0 +1,229 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.MovimientoBancario;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lee los apuntes de un extracto CAMT.053 (ISO 20022) con StAX, sin construir el árbol XML:
+ * la memoria usada no depende del tamaño del fichero. Cada {@code Ntry} produce un movimiento,
+ * o uno por {@code TxDtls} cuando el apunte agrupa varias transacciones con importe propio.
+ * Un apunte con un importe o una fecha que no se pueden leer se devuelve con su error, sin
+ * interrumpir la lectura del resto del extracto.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class LectorCamt053 implements Iterator<LectorImportacion.FilaLeida<MovimientoBancario>>, Closeable {
+
+    private static final XMLInputFactory FACTORIA = crearFactoria();
+
+    private final XMLStreamReader reader;
+    private final Deque<String> ruta = new ArrayDeque<>();
+    private final Deque<LectorImportacion.FilaLeida<MovimientoBancario>> listos = new ArrayDeque<>();
+    private final StringBuilder texto = new StringBuilder();
+
+    private Apunte apunte;
+    private Apunte transaccion;
+    private long posicion;
+
+    public LectorCamt053(InputStream contenido) {
+        try {
+            this.reader = FACTORIA.createXMLStreamReader(contenido);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("El extracto no es un XML válido: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (listos.isEmpty() && reader.hasNext()) {
+                avanzar();
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Error leyendo el extracto CAMT.053: " + e.getMessage(), e);
+        }
+        return !listos.isEmpty();
+    }
+
+    @Override
+    public LectorImportacion.FilaLeida<MovimientoBancario> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return listos.poll();
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // El flujo subyacente lo cierra quien lo abrió
+        }
+    }
+
+    private void avanzar() throws XMLStreamException {
+        switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT -> {
+                String nombre = reader.getLocalName();
+                ruta.push(nombre);
+                texto.setLength(0);
+                if ("Ntry".equals(nombre)) {
+                    apunte = new Apunte();
+                } else if ("TxDtls".equals(nombre) && apunte != null) {
+                    transaccion = new Apunte();
+                }
+            }
+            case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> texto.append(reader.getText());
+            case XMLStreamConstants.END_ELEMENT -> {
+                String nombre = ruta.pop();
+                if (apunte != null) {
+                    cerrar(nombre, texto.toString().trim());
+                }
+                texto.setLength(0);
+            }
+            default -> {
+                // Comentarios, espacios e instrucciones de proceso no aportan nada
+            }
+        }
+    }
+
+    private void cerrar(String nombre, String valor) {
+        String padre = ruta.peek();
+        Apunte actual = transaccion != null ? transaccion : apunte;
+
+        switch (nombre) {
+            case "Amt" -> {
+                if (!ruta.contains("Chrgs") && actual.importe == null && (transaccion != null || "Ntry".equals(padre))) {
+                    try {
+                        actual.importe = new BigDecimal(valor);
+                    } catch (NumberFormatException e) {
+                        actual.error = "Importe no válido en el extracto: " + valor;
+                    }
+                }
+            }
+            case "CdtDbtInd" -> {
+                // Solo el indicador propio del apunte o de la transacción: el de los gastos (Chrgs) o el de
+                // otros bloques anidados no cambia el sentido del movimiento
+                if ("Ntry".equals(padre) || ("TxDtls".equals(padre) && transaccion != null)) {
+                    actual.cargo = "DBIT".equals(valor);
+                }
+            }
+            case "Dt", "DtTm" -> {
+                if (("ValDt".equals(padre) || "BookgDt".equals(padre)) && (apunte.fecha == null || "ValDt".equals(padre))) {
+                    try {
+                        apunte.fecha = LocalDate.parse(valor.substring(0, Math.min(valor.length(), 10)));
+                    } catch (DateTimeException e) {
+                        apunte.error = "Fecha no válida en el extracto: " + valor;
+                    }
+                }
+            }
+            case "MndtId" -> actual.referencia = valor;
+            case "EndToEndId" -> {
+                if (actual.referencia == null && !"NOTPROVIDED".equals(valor)) {
+                    actual.referencia = valor;
+                }
+            }
+            case "Ustrd", "AddtlNtryInf", "AddtlTxInf" -> actual.concepto =
+                    actual.concepto == null ? valor : actual.concepto + " " + valor;
+            case "TxDtls" -> {
+                if (transaccion != null) {
+                    apunte.transacciones.add(transaccion);
+                    transaccion = null;
+                }
+            }
+            case "Ntry" -> {
+                emitir(apunte);
+                apunte = null;
+            }
+            default -> {
+                // Resto de elementos del apunte: no se usan para conciliar
+            }
+        }
+    }
+
+    private void emitir(Apunte ntry) {
+        String error = ntry.error != null ? ntry.error : ntry.transacciones.stream()
+                .map(t -> t.error).filter(Objects::nonNull).findFirst().orElse(null);
+        if (error != null) {
+            listos.add(new LectorImportacion.FilaLeida<>(++posicion, null, error));
+            return;
+        }
+
+        boolean desglosado = ntry.transacciones.size() > 1
+                && ntry.transacciones.stream().allMatch(t -> t.importe != null);
+
+        if (!desglosado) {
+            Apunte detalle = ntry.transacciones.isEmpty() ? new Apunte() : ntry.transacciones.get(0);
+            listos.add(movimiento(ntry.fecha, ntry.importe, ntry.cargo,
+                    detalle.referencia != null ? detalle.referencia : ntry.referencia,
+                    unir(ntry.concepto, detalle.concepto)));
+            return;
+        }
+
+        for (Apunte tx : ntry.transacciones) {
+            listos.add(movimiento(ntry.fecha, tx.importe, tx.cargo || ntry.cargo,
+                    tx.referencia, unir(ntry.concepto, tx.concepto)));
+        }
+    }
+
+    private LectorImportacion.FilaLeida<MovimientoBancario> movimiento(LocalDate fecha, BigDecimal importe,
+                                                                       boolean cargo, String referencia,
+                                                                       String concepto) {
+        if (importe == null) {
+            return new LectorImportacion.FilaLeida<>(++posicion, null, "Apunte sin importe en el extracto CAMT.053");
+        }
+        return new LectorImportacion.FilaLeida<>(++posicion, MovimientoBancario.builder()
+                .fecha(fecha)
+                .importe(cargo ? importe.negate() : importe)
+                .referencia(referencia)
+                .concepto(concepto)
+                .build(), null);
+    }
+
+    private String unir(String a, String b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : a + " " + b;
+    }
+
+    private static XMLInputFactory crearFactoria() {
+        XMLInputFactory factoria = XMLInputFactory.newFactory();
+        factoria.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factoria.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factoria.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factoria;
+    }
+
+    /**
+     * Datos acumulados de un Ntry o de uno de sus TxDtls mientras se recorren sus elementos
+     */
+    private static class Apunte {
+        private LocalDate fecha;
+        private BigDecimal importe;
+        private boolean cargo;
+        private String referencia;
+        private String concepto;
+        private String error;
+        private final List<Apunte> transacciones = new ArrayList<>();
+    }
+}
@@ -0,0 +1,166 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lee un fichero de importación fila a fila (CSV con cabecera o NDJSON) sin cargarlo entero en memoria.
+ * Cada fila se convierte al tipo indicado; si no se puede convertir se devuelve con el error
+ * para que el llamante la incluya en el informe en lugar de abortar la importación.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class LectorImportacion<T> implements Iterator<LectorImportacion.FilaLeida<T>>, Closeable {
+
+    private final BufferedReader reader;
+    private final FormatoFichero formato;
+    private final Class<T> tipo;
+    private final JsonMapper jsonMapper;
+
+    private List<String> cabecera;
+    private long numeroLinea;
+    private String siguienteLinea;
+
+    public LectorImportacion(Path fichero, FormatoFichero formato, Class<T> tipo, JsonMapper jsonMapper) throws IOException {
+        this(Files.newBufferedReader(fichero, StandardCharsets.UTF_8), formato, tipo, jsonMapper);
+    }
+
+    LectorImportacion(BufferedReader reader, FormatoFichero formato, Class<T> tipo, JsonMapper jsonMapper) throws IOException {
+        this.reader = reader;
+        this.formato = formato;
+        this.tipo = tipo;
+        this.jsonMapper = jsonMapper;
+
+        if (formato == FormatoFichero.CSV) {
+            String primera = leerLinea();
+            this.cabecera = primera != null ? separarCsv(primera) : List.of();
+        }
+        this.siguienteLinea = leerLinea();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return siguienteLinea != null;
+    }
+
+    @Override
+    public FilaLeida<T> next() {
+        if (siguienteLinea == null) {
+            throw new NoSuchElementException();
+        }
+
+        String linea = siguienteLinea;
+        long fila = numeroLinea;
+        try {
+            siguienteLinea = leerLinea();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            T valor = formato == FormatoFichero.CSV
+                    ? jsonMapper.convertValue(aMapa(separarCsv(linea)), tipo)
+                    : jsonMapper.readValue(linea, tipo);
+            if (valor == null) {
+                // Una línea NDJSON con "null" es JSON válido, pero no es una fila
+                return new FilaLeida<>(fila, null, "Formato de fila no válido: la fila está vacía");
+            }
+            return new FilaLeida<>(fila, valor, null);
+        } catch (JacksonException e) {
+            return new FilaLeida<>(fila, null, "Formato de fila no válido: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new FilaLeida<>(fila, null, "Formato de fila no válido: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Devuelve la siguiente línea no vacía (las líneas en blanco se ignoran)
+     */
+    private String leerLinea() throws IOException {
+        String linea;
+        do {
+            linea = reader.readLine();
+            numeroLinea++;
+        } while (linea != null && linea.isBlank());
+        return linea;
+    }
+
+    private Map<String, String> aMapa(List<String> valores) {
+        if (valores.size() > cabecera.size()) {
+            throw new IllegalArgumentException("La fila tiene más columnas que la cabecera");
+        }
+
+        Map<String, String> mapa = new HashMap<>();
+        for (int i = 0; i < valores.size(); i++) {
+            String valor = valores.get(i).trim();
+            if (!valor.isEmpty()) {
+                mapa.put(cabecera.get(i).trim(), valor);
+            }
+        }
+        return mapa;
+    }
+
+    /**
+     * Separa una línea CSV por comas respetando los campos entre comillas dobles
+     */
+    static List<String> separarCsv(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FilaLeida<T> {
+        private final long numero;
+        private final T valor;
+        private final String error;
+    }
+}
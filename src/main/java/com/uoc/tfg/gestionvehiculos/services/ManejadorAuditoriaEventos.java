@@ -0,0 +1,32 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.eventos.EventoDominio;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Deja constancia en el log de auditoría de cada evento de dominio entregado
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@Slf4j(topic = "auditoria.eventos")
+public class ManejadorAuditoriaEventos implements ManejadorEventos {
+
+    @Override
+    public Set<TipoEventoDominio> tipos() {
+        return EnumSet.allOf(TipoEventoDominio.class);
+    }
+
+    @Override
+    public void manejar(EventoDominio evento) {
+        log.info("Evento {} {} agregado {} registrado {}: {}", evento.getId(), evento.getTipo(),
+                evento.getAgregadoId(), evento.getFechaCreacion(), evento.getDatos());
+    }
+}
@@ -0,0 +1,24 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.eventos.EventoDominio;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+
+import java.util.Set;
+
+/**
+ * Consumidor de eventos de dominio. Cada bean que implemente esta interfaz recibe, fuera de la
+ * petición que originó el cambio, los eventos de los tipos que declara.
+ * <p>
+ * La entrega es al menos una vez: si un manejador lanza una excepción el evento se reintenta para
+ * todos los manejadores de su tipo, así que deben ser idempotentes (por ejemplo, usando el id del evento).
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public interface ManejadorEventos {
+
+    Set<TipoEventoDominio> tipos();
+
+    void manejar(EventoDominio evento) throws Exception;
+}
@@ -0,0 +1,101 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.entities.EventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoEventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import com.uoc.tfg.gestionvehiculos.repositories.EventoOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro de eventos de dominio en la tabla de salida. Se llama desde la transacción del cambio,
+ * de modo que el evento se guarda o se pierde junto con él; al confirmar se avisa al despachador
+ * para que lo entregue sin esperar a la siguiente pasada.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventos {
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final DespachadorEventos despachadorEventos;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(TipoEventoDominio tipo, Long agregadoId, Map<String, Object> datos) {
+        registrarTodos(tipo, Map.of(agregadoId, datos));
+    }
+
+    /**
+     * Registra un evento del mismo tipo por cada agregado, con una sola inserción por lotes
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarTodos(TipoEventoDominio tipo, Map<Long, Map<String, Object>> datosPorAgregado) {
+        if (datosPorAgregado.isEmpty()) {
+            return;
+        }
+        LocalDateTime ahora = LocalDateTime.now();
+        List<EventoOutbox> eventos = new ArrayList<>(datosPorAgregado.size());
+        datosPorAgregado.forEach((agregadoId, datos) -> eventos.add(EventoOutbox.builder()
+                .tipo(tipo)
+                .agregado(tipo.getAgregado())
+                .agregadoId(agregadoId)
+                .datos(jsonMapper.writeValueAsString(datos))
+                .estado(EstadoEventoOutbox.PENDIENTE)
+                .fechaCreacion(ahora)
+                .build()));
+        eventoOutboxRepository.insertar(eventos);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    despachadorEventos.despertar();
+                }
+            });
+        }
+    }
+
+    /**
+     * Datos de un evento a partir de pares clave, valor (admite valores nulos y conserva el orden)
+     */
+    public static Map<String, Object> datos(Object... claveValor) {
+        Map<String, Object> datos = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < claveValor.length; i += 2) {
+            datos.put((String) claveValor[i], claveValor[i + 1]);
+        }
+        return datos;
+    }
+
+    /**
+     * Datos del evento CUOTA_PAGADA. Lo usan el pago individual, el masivo y la conciliación
+     * bancaria, de modo que los consumidores reciben siempre las mismas claves; la referencia
+     * solo viene informada cuando el pago procede de un extracto.
+     */
+    public static Map<String, Object> cuotaPagada(Long contratoId, String numeroContrato, Integer numeroCuota,
+                                                  BigDecimal importe, LocalDate fechaPago, String referencia) {
+        return datos(
+                "contratoId", contratoId,
+                "numeroContrato", numeroContrato,
+                "numeroCuota", numeroCuota,
+                "importe", importe,
+                "fechaPago", fechaPago,
+                "referencia", referencia);
+    }
+}
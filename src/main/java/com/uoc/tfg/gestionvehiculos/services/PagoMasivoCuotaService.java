@@ -0,0 +1,207 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaPagoProyeccion;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.PagoMasivoRequest;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.PagoMasivoResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.ResultadoPagoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pago masivo de cuotas para la conciliación mensual de cobros.
+ * <p>
+ * En lugar de una transacción y varias consultas por cuota, cada bloque valida el estado de
+ * todas sus cuotas con una consulta IN y las marca como pagadas con una única sentencia UPDATE.
+ * El resultado se informa cuota a cuota.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PagoMasivoCuotaService {
+
+    private final CuotaRentingRepository cuotaRepository;
+    private final AuditorAware<String> auditorProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final CanalCambios canalCambios;
+    private final OutboxEventos outboxEventos;
+
+    /**
+     * Paga las cuotas indicadas. Sin tamaño de bloque todo va en una transacción;
+     * con él, cada bloque se confirma por separado.
+     */
+    public PagoMasivoResponse pagar(PagoMasivoRequest request) {
+        if (request.getCuotaIds().isEmpty() && request.getReferencias().isEmpty()) {
+            throw new InvalidOperationException("Debe indicar al menos una cuota a pagar");
+        }
+
+        List<ResultadoPagoCuota> resultados = resolver(request);
+        List<ResultadoPagoCuota> pendientes = resultados.stream()
+                .filter(r -> r.getMensaje() == null)
+                .toList();
+
+        int tamanoBloque = request.getTamanoBloque() != null ? request.getTamanoBloque() : Math.max(pendientes.size(), 1);
+        String usuario = auditorProvider.getCurrentAuditor().orElse("SISTEMA");
+
+        log.info("Pago masivo de {} cuotas en bloques de {}", pendientes.size(), tamanoBloque);
+
+        for (int desde = 0; desde < pendientes.size(); desde += tamanoBloque) {
+            List<ResultadoPagoCuota> bloque = pendientes.subList(desde, Math.min(desde + tamanoBloque, pendientes.size()));
+            pagarBloque(bloque, request.getFechaPago(), usuario);
+        }
+
+        int pagadas = (int) resultados.stream().filter(ResultadoPagoCuota::isPagada).count();
+        log.info("Pago masivo finalizado: {} pagadas, {} rechazadas", pagadas, resultados.size() - pagadas);
+
+        return PagoMasivoResponse.builder()
+                .total(resultados.size())
+                .pagadas(pagadas)
+                .rechazadas(resultados.size() - pagadas)
+                .resultados(resultados)
+                .build();
+    }
+
+    /**
+     * Traduce la petición a una lista de resultados en el orden recibido. Las referencias por
+     * contrato se resuelven con una sola consulta; las no encontradas y las repetidas quedan ya rechazadas.
+     */
+    private List<ResultadoPagoCuota> resolver(PagoMasivoRequest request) {
+        Map<String, CuotaPagoProyeccion> porReferencia = new HashMap<>();
+        if (!request.getReferencias().isEmpty()) {
+            Set<String> contratos = new HashSet<>();
+            Set<Integer> numeros = new HashSet<>();
+            for (PagoMasivoRequest.ReferenciaCuota referencia : request.getReferencias()) {
+                contratos.add(referencia.getNumeroContrato());
+                numeros.add(referencia.getNumeroCuota());
+            }
+            for (CuotaPagoProyeccion cuota : cuotaRepository.findParaPagoPorContratos(contratos, numeros)) {
+                porReferencia.put(clave(cuota.getNumeroContrato(), cuota.getNumeroCuota()), cuota);
+            }
+        }
+
+        List<ResultadoPagoCuota> resultados = new ArrayList<>();
+        Set<Long> vistas = new HashSet<>();
+
+        for (Long id : request.getCuotaIds()) {
+            ResultadoPagoCuota resultado = ResultadoPagoCuota.builder().cuotaId(id).build();
+            if (!vistas.add(id)) {
+                resultado.setMensaje("Cuota repetida en la petición");
+            }
+            resultados.add(resultado);
+        }
+
+        for (PagoMasivoRequest.ReferenciaCuota referencia : request.getReferencias()) {
+            CuotaPagoProyeccion cuota = porReferencia.get(clave(referencia.getNumeroContrato(), referencia.getNumeroCuota()));
+            ResultadoPagoCuota resultado = ResultadoPagoCuota.builder()
+                    .cuotaId(cuota != null ? cuota.getId() : null)
+                    .numeroContrato(referencia.getNumeroContrato())
+                    .numeroCuota(referencia.getNumeroCuota())
+                    .build();
+            if (cuota == null) {
+                resultado.setMensaje("Cuota no encontrada");
+            } else if (!vistas.add(cuota.getId())) {
+                resultado.setMensaje("Cuota repetida en la petición");
+            }
+            resultados.add(resultado);
+        }
+
+        return resultados;
+    }
+
+    /**
+     * Valida y paga un bloque en su propia transacción. Si otra operación cambia alguna cuota
+     * entre la validación y la actualización, el bloque se deshace y sus cuotas quedan rechazadas.
+     */
+    private void pagarBloque(List<ResultadoPagoCuota> bloque, LocalDate fechaPago, String usuario) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Map<Long, CuotaPagoProyeccion> cuotas = cuotaRepository
+                        .findParaPagoPorIds(bloque.stream().map(ResultadoPagoCuota::getCuotaId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(CuotaPagoProyeccion::getId, Function.identity()));
+
+                List<ResultadoPagoCuota> pagables = new ArrayList<>();
+                for (ResultadoPagoCuota resultado : bloque) {
+                    CuotaPagoProyeccion cuota = cuotas.get(resultado.getCuotaId());
+                    String error = validar(cuota);
+                    if (error != null) {
+                        resultado.setMensaje(error);
+                        continue;
+                    }
+                    resultado.setNumeroContrato(cuota.getNumeroContrato());
+                    resultado.setNumeroCuota(cuota.getNumeroCuota());
+                    pagables.add(resultado);
+                }
+
+                if (pagables.isEmpty()) {
+                    return;
+                }
+
+                List<Long> ids = pagables.stream().map(ResultadoPagoCuota::getCuotaId).toList();
+                int actualizadas = cuotaRepository.marcarComoPagadas(ids, fechaPago, LocalDateTime.now(), usuario);
+                if (actualizadas != pagables.size()) {
+                    throw new InvalidOperationException(
+                            "Algunas cuotas del bloque han cambiado de estado durante el pago; vuelva a intentarlo");
+                }
+                canalCambios.publicarTrasConfirmar(EntidadCambio.CUOTA_RENTING, ids, EstadoCuota.PAGADA.name());
+
+                Map<Long, Map<String, Object>> eventos = new LinkedHashMap<>();
+                for (ResultadoPagoCuota resultado : pagables) {
+                    CuotaPagoProyeccion cuota = cuotas.get(resultado.getCuotaId());
+                    eventos.put(cuota.getId(), OutboxEventos.cuotaPagada(cuota.getContratoId(),
+                            cuota.getNumeroContrato(), cuota.getNumeroCuota(), cuota.getImporte(), fechaPago, null));
+                }
+                outboxEventos.registrarTodos(TipoEventoDominio.CUOTA_PAGADA, eventos);
+                pagables.forEach(r -> r.setPagada(true));
+            });
+        } catch (InvalidOperationException e) {
+            log.warn("Bloque de pago masivo deshecho: {}", e.getMessage());
+            for (ResultadoPagoCuota resultado : bloque) {
+                if (resultado.getMensaje() == null) {
+                    resultado.setPagada(false);
+                    resultado.setMensaje(e.getMessage());
+                }
+            }
+        }
+    }
+
+    private String validar(CuotaPagoProyeccion cuota) {
+        if (cuota == null) {
+            return "Cuota no encontrada";
+        }
+        if (cuota.getEstado() == EstadoCuota.PAGADA) {
+            return "La cuota ya está marcada como pagada";
+        }
+        if (cuota.getEstado() == EstadoCuota.CANCELADA) {
+            return "No se puede marcar como pagada una cuota cancelada";
+        }
+        return null;
+    }
+
+    private String clave(String numeroContrato, Integer numeroCuota) {
+        return numeroContrato + "#" + numeroCuota;
+    }
+}
@@ -1,6 +1,10 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
 import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
 import com.uoc.tfg.gestionvehiculos.repositories.ProveedorRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +26,8 @@ import java.util.List;
 public class ProveedorService {
 
     private final ProveedorRepository proveedorRepository;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final VersionesEntidades versionesEntidades;
 
     /**
      * Lista todos los proveedores activos
@@ -47,7 +53,7 @@ public class ProveedorService {
      */
     public Proveedor obtenerPorCif(String cif) {
         log.debug("Buscando proveedor con CIF: {}", cif);
-        return proveedorRepository.findByCif(cif)
+        return proveedorRepository.buscarPorClaveNatural(cif)
                 .orElseThrow(() -> new RuntimeException("Proveedor no encontrado con CIF: " + cif));
     }
 
@@ -63,6 +69,8 @@ public class ProveedorService {
         }
 
         Proveedor guardado = proveedorRepository.save(proveedor);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.PROVEEDOR);
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.cif(guardado));
         log.info("Proveedor creado con id: {}", guardado.getId());
 
         return guardado;
@@ -96,6 +104,10 @@ public class ProveedorService {
         proveedor.setObservaciones(proveedorAActualizar.getObservaciones());
 
         Proveedor actualizado = proveedorRepository.save(proveedor);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.PROVEEDOR);
+        if (Boolean.TRUE.equals(actualizado.getActivo())) {
+            indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.cif(actualizado));
+        }
         log.info("Proveedor actualizado");
 
         return actualizado;
@@ -112,6 +124,8 @@ public class ProveedorService {
         proveedor.setActivo(false);
 
         proveedorRepository.save(proveedor);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.PROVEEDOR);
+        indiceIdentificadores.eliminarTrasConfirmar(id, TipoIdentificador.CIF_PROVEEDOR);
         log.info("Proveedor desactivado");
     }
 
@@ -126,6 +140,8 @@ public class ProveedorService {
         proveedor.setActivo(true);
 
         proveedorRepository.save(proveedor);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.PROVEEDOR);
+        indiceIdentificadores.indexarTrasConfirmar(IdentificadorIndexado.cif(proveedor));
         log.info("Proveedor reactivado");
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.EstadoImportacion;
+import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro en memoria de las importaciones en curso o finalizadas recientemente,
+ * para poder consultar su progreso. Las finalizadas se descartan pasada una hora.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+public class RegistroImportaciones {
+
+    private static final long HORAS_RETENCION = 1;
+
+    private final Map<String, EstadoImportacion> importaciones = new ConcurrentHashMap<>();
+
+    public EstadoImportacion registrar(String tipo, String usuario) {
+        purgarFinalizadas();
+
+        EstadoImportacion estado = new EstadoImportacion(UUID.randomUUID().toString(), tipo, usuario);
+        importaciones.put(estado.getId(), estado);
+        return estado;
+    }
+
+    public EstadoImportacion obtener(String id) {
+        EstadoImportacion estado = importaciones.get(id);
+        if (estado == null) {
+            throw new ResourceNotFoundException("Importación", "id", id);
+        }
+        return estado;
+    }
+
+    private void purgarFinalizadas() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(HORAS_RETENCION);
+        importaciones.values().removeIf(e -> e.isFinalizada() && e.getFechaFin().isBefore(limite));
+    }
+}
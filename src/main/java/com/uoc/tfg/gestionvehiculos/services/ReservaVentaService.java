@@ -4,8 +4,10 @@ import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.entities.ReservaVenta;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import com.uoc.tfg.gestionvehiculos.enums.EstadoReserva;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
+import com.uoc.tfg.gestionvehiculos.jfr.EventoExpiracionReservas;
 import com.uoc.tfg.gestionvehiculos.repositories.ReservaVentaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +15,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -29,6 +33,8 @@ public class ReservaVentaService {
     private final ReservaVentaRepository reservaRepository;
     private final ClienteService clienteService;
     private final VehiculoService vehiculoService;
+    private final OutboxEventos outboxEventos;
+    private final ResumenVehiculos resumenVehiculos;
 
     public List<ReservaVenta> listarActivas() {
         log.debug("Listando reservas activas");
@@ -92,6 +98,7 @@ public class ReservaVentaService {
 
         // Guardar reserva
         ReservaVenta guardada = reservaRepository.save(reserva);
+        resumenVehiculos.marcar(vehiculoId);
 
         // Cambiar situación del vehículo a RESERVADO
         vehiculoService.cambiarSituacion(vehiculoId, "RESERVADO");
@@ -118,6 +125,7 @@ public class ReservaVentaService {
         reserva.confirmar();
 
         ReservaVenta actualizada = reservaRepository.save(reserva);
+        resumenVehiculos.marcar(reserva.getVehiculo().getId());
         log.info("Reserva confirmada exitosamente");
 
         return actualizada;
@@ -136,6 +144,7 @@ public class ReservaVentaService {
         reserva.cancelar();
         reserva.setObservaciones(reserva.getObservaciones() + "\nMotivo cancelación: " + motivo);
         reservaRepository.save(reserva);
+        resumenVehiculos.marcar(reserva.getVehiculo().getId());
 
         vehiculoService.cambiarSituacion(reserva.getVehiculo().getId(), "DISPONIBLE");
 
@@ -154,6 +163,11 @@ public class ReservaVentaService {
 
         reserva.completar();
         reservaRepository.save(reserva);
+        resumenVehiculos.marcar(reserva.getVehiculo().getId());
+
+        outboxEventos.registrar(TipoEventoDominio.RESERVA_COMPLETADA, reserva.getId(), OutboxEventos.datos(
+                "clienteId", reserva.getCliente().getId(),
+                "vehiculoId", reserva.getVehiculo().getId()));
 
         log.info("Reserva completada ");
     }
@@ -161,6 +175,8 @@ public class ReservaVentaService {
     @Transactional
     public void actualizarReservasExpiradas() {
         log.info("Actualizando reservas expiradas");
+        EventoExpiracionReservas evento = new EventoExpiracionReservas();
+        evento.begin();
 
         List<ReservaVenta> reservasExpiradas = obtenerExpiradas();
 
@@ -171,6 +187,19 @@ public class ReservaVentaService {
         }
 
         reservaRepository.saveAll(reservasExpiradas);
+        resumenVehiculos.marcar(reservasExpiradas.stream().map(r -> r.getVehiculo().getId()).toList());
+
+        Map<Long, Map<String, Object>> eventos = new LinkedHashMap<>();
+        for (ReservaVenta reserva : reservasExpiradas) {
+            eventos.put(reserva.getId(), OutboxEventos.datos(
+                    "clienteId", reserva.getCliente().getId(),
+                    "vehiculoId", reserva.getVehiculo().getId(),
+                    "fechaLimite", reserva.getFechaLimite()));
+        }
+        outboxEventos.registrarTodos(TipoEventoDominio.RESERVA_EXPIRADA, eventos);
+
+        evento.reservasExpiradas = reservasExpiradas.size();
+        evento.commit();
         log.info("Actualizadas {} reservas expiradas", reservasExpiradas.size());
     }
 }
\ No newline at end of file
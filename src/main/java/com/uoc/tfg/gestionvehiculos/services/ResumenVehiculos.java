@@ -0,0 +1,98 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoResumenJdbcRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mantiene la tabla vehiculo_resumen. Los servicios marcan los vehículos afectados por cada escritura
+ * y, justo antes de confirmar la transacción, se recalculan sus filas una sola vez aunque se hayan marcado
+ * varias veces: el resumen se confirma junto con el cambio y nunca queda desfasado.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumenVehiculos {
+
+    private final VehiculoResumenJdbcRepository vehiculoResumenJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Recalcula la tabla entera al arrancar, por si la BD se ha modificado fuera de la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        Integer filas = transactionTemplate.execute(tx -> vehiculoResumenJdbcRepository.reconstruir());
+        log.info("Resumen de vehículos reconstruido: {} vehículos en {} ms", filas, System.currentTimeMillis() - inicio);
+    }
+
+    public void marcar(Long vehiculoId) {
+        if (vehiculoId != null) {
+            marcar(List.of(vehiculoId));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void marcar(Collection<Long> vehiculoIds) {
+        if (vehiculoIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(tx -> vehiculoResumenJdbcRepository.recalcular(vehiculoIds));
+            return;
+        }
+
+        Set<Long> pendientes = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pendientes == null) {
+            Set<Long> nuevos = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, nuevos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Las filas se leen con SQL, así que los cambios de Hibernate tienen que estar ya escritos
+                    entityManager.flush();
+                    vehiculoResumenJdbcRepository.recalcular(nuevos);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ResumenVehiculos.this);
+                }
+            });
+            pendientes = nuevos;
+        }
+        pendientes.addAll(vehiculoIds);
+    }
+
+    /**
+     * Marca los vehículos cuyo resumen muestra al cliente (contrato o reserva en curso)
+     */
+    public void marcarPorCliente(Long clienteId) {
+        marcar(vehiculoResumenJdbcRepository.buscarIdsPorCliente(clienteId));
+    }
+
+    public void marcarPorSituacion(Long situacionId) {
+        marcar(vehiculoResumenJdbcRepository.buscarIdsPorSituacion(situacionId));
+    }
+}
@@ -1,6 +1,8 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
 import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
 import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,8 @@ import java.util.List;
 public class SituacionVehiculoService {
 
     private final SituacionVehiculoRepository situacionRepository;
+    private final VersionesEntidades versionesEntidades;
+    private final ResumenVehiculos resumenVehiculos;
 
     public List<SituacionVehiculo> listarTodas() {
         log.debug("Listando todas las situaciones de vehículo");
@@ -43,7 +47,7 @@ public class SituacionVehiculoService {
 
     public SituacionVehiculo obtenerPorNombre(String nombre) {
         log.debug("Buscando situación con nombre: {}", nombre);
-        return situacionRepository.findByNombre(nombre)
+        return situacionRepository.buscarPorClaveNatural(nombre)
                 .orElseThrow(() -> new RuntimeException("Situación no encontrada: " + nombre));
     }
 
@@ -56,6 +60,7 @@ public class SituacionVehiculoService {
         }
 
         SituacionVehiculo guardada = situacionRepository.save(situacion);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.SITUACION_VEHICULO);
         log.info("Situación creada con id: {}", guardada.getId());
 
         return guardada;
@@ -72,6 +77,8 @@ public class SituacionVehiculoService {
         situacionExistente.setOrden(situacionActualizada.getOrden());
 
         SituacionVehiculo actualizada = situacionRepository.save(situacionExistente);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.SITUACION_VEHICULO);
+        resumenVehiculos.marcarPorSituacion(actualizada.getId());
         log.info("Situación actualizada exitosamente");
 
         return actualizada;
@@ -1,6 +1,8 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
 import com.uoc.tfg.gestionvehiculos.entities.Usuario;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
 import com.uoc.tfg.gestionvehiculos.enums.Rol;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
@@ -28,6 +30,7 @@ public class UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final VersionesEntidades versionesEntidades;
 
     /**
      * Obtiene todos los usuarios activos
@@ -51,7 +54,7 @@ public class UsuarioService {
      */
     public Usuario obtenerPorUsername(String username) {
         log.debug("Buscando usuario con username: {}", username);
-        return usuarioRepository.findByUsername(username)
+        return usuarioRepository.buscarPorClaveNatural(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", "username", username));
     }
 
@@ -74,6 +77,7 @@ public class UsuarioService {
         usuario.setFechaCambioPassword(LocalDateTime.now());
 
         Usuario guardado = usuarioRepository.save(usuario);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
         log.info("Usuario creado exitosamente con id: {}", guardado.getId());
 
         return guardado;
@@ -108,6 +112,7 @@ public class UsuarioService {
         usuarioExistente.setRol(usuarioActualizado.getRol());
 
         Usuario actualizado = usuarioRepository.save(usuarioExistente);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
         log.info("Usuario actualizado exitosamente");
 
         return actualizado;
@@ -131,6 +136,7 @@ public class UsuarioService {
         usuario.setFechaCambioPassword(LocalDateTime.now());
 
         usuarioRepository.save(usuario);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
         log.info("Contraseña cambiada exitosamente");
     }
 
@@ -145,6 +151,7 @@ public class UsuarioService {
         usuario.setActivo(false);
 
         usuarioRepository.save(usuario);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
         log.info("Usuario desactivado exitosamente");
     }
 
@@ -161,6 +168,7 @@ public class UsuarioService {
         usuario.setIntentosFallidos(0);
 
         usuarioRepository.save(usuario);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
         log.info("Usuario reactivado exitosamente");
     }
 
@@ -176,6 +184,7 @@ public class UsuarioService {
         usuario.setIntentosFallidos(0);
 
         usuarioRepository.save(usuario);
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.USUARIO);
         log.info("Cuenta desbloqueada exitosamente");
     }
 
@@ -1,18 +1,37 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.BusquedaVehiculosResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.FiltroVehiculos;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoMapper;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResumenResponse;
 import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
 import com.uoc.tfg.gestionvehiculos.exceptions.BusinessRuleException;
 import com.uoc.tfg.gestionvehiculos.exceptions.DuplicateResourceException;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
 import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import com.uoc.tfg.gestionvehiculos.repositories.ListadoCampos;
+import com.uoc.tfg.gestionvehiculos.repositories.ListadoCamposRepository;
 import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoBusquedaRepository;
 import com.uoc.tfg.gestionvehiculos.repositories.VehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoResumenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author José Antonio Ruiz Traid
@@ -27,6 +46,13 @@ public class VehiculoService {
 
     private final VehiculoRepository vehiculoRepository;
     private final SituacionVehiculoService situacionVehiculoService;
+    private final VehiculoBusquedaRepository vehiculoBusquedaRepository;
+    private final VehiculoResumenRepository vehiculoResumenRepository;
+    private final ListadoCamposRepository listadoCamposRepository;
+    private final IndiceIdentificadores indiceIdentificadores;
+    private final VersionesEntidades versionesEntidades;
+    private final CanalCambios canalCambios;
+    private final ResumenVehiculos resumenVehiculos;
 
     /**
      * Lista todos los vehículos activos
@@ -38,6 +64,28 @@ public class VehiculoService {
                 .toList();
     }
 
+    /**
+     * Lista los vehículos activos con solo los campos indicados (el id siempre se incluye)
+     */
+    public List<Map<String, Object>> listarActivos(List<String> campos) {
+        log.debug("Listando vehículos activos con los campos {}", campos);
+        return listadoCamposRepository.listar(ListadoCampos.VEHICULOS_ACTIVOS, campos);
+    }
+
+    /**
+     * Versión del listado de vehículos activos (número y última modificación) sin cargarlos
+     */
+    public VersionRecurso obtenerVersionActivos() {
+        return vehiculoRepository.findVersionActivos();
+    }
+
+    /**
+     * Versión de un vehículo sin cargarlo; {@link VersionRecurso#existe()} es falso si no existe
+     */
+    public VersionRecurso obtenerVersion(Long id) {
+        return vehiculoRepository.findVersionById(id);
+    }
+
     /**
      * Obtiene un vehículo por ID
      */
@@ -47,6 +95,26 @@ public class VehiculoService {
                 .orElseThrow(() -> new RuntimeException("Vehículo no encontrado con id: " + id));
     }
 
+    /**
+     * Resumen de los vehículos activos (opcionalmente de una situación), leído de vehiculo_resumen
+     */
+    public List<VehiculoResumenResponse> listarResumenes(String situacion) {
+        log.debug("Listando resúmenes de vehículos activos con situación {}", situacion);
+        return (situacion != null
+                ? vehiculoResumenRepository.findByActivoTrueAndSituacionOrderByVehiculoId(situacion.toUpperCase())
+                : vehiculoResumenRepository.findByActivoTrueOrderByVehiculoId())
+                .stream()
+                .map(VehiculoMapper::toResumenResponse)
+                .toList();
+    }
+
+    public VehiculoResumenResponse obtenerResumen(Long id) {
+        log.debug("Buscando resumen del vehículo con id: {}", id);
+        return vehiculoResumenRepository.findById(id)
+                .map(VehiculoMapper::toResumenResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Vehículo", "id", id));
+    }
+
     /**
      * Obtiene un vehículo por matrícula
      */
@@ -56,6 +124,27 @@ public class VehiculoService {
                 .orElseThrow(() -> new RuntimeException("Vehículo no encontrado con matrícula: " + matricula));
     }
 
+    /**
+     * Búsqueda paginada con filtros, devolviendo en la misma respuesta los recuentos por faceta
+     */
+    public BusquedaVehiculosResponse buscar(FiltroVehiculos filtro, Pageable pageable) {
+        log.debug("Buscando vehículos con filtro: {}", filtro);
+
+        validarRango("año de fabricación", filtro.getAnyoDesde(), filtro.getAnyoHasta());
+        validarRango("kilómetros", filtro.getKilometrosDesde(), filtro.getKilometrosHasta());
+
+        Page<VehiculoResponse> pagina = vehiculoBusquedaRepository.buscar(filtro, pageable);
+
+        return BusquedaVehiculosResponse.builder()
+                .contenido(pagina.getContent())
+                .pagina(pagina.getNumber())
+                .tamano(pagina.getSize())
+                .totalElementos(pagina.getTotalElements())
+                .totalPaginas(pagina.getTotalPages())
+                .facetas(vehiculoBusquedaRepository.facetas(filtro))
+                .build();
+    }
+
     /**
      * Crea un nuevo vehículo
      */
@@ -76,6 +165,9 @@ public class VehiculoService {
         }
 
         Vehiculo guardado = vehiculoRepository.save(vehiculo);
+        notificarCambio(guardado);
+        indiceIdentificadores.indexarTrasConfirmar(
+                IdentificadorIndexado.matricula(guardado), IdentificadorIndexado.bastidor(guardado));
         log.info("Vehículo creado exitosamente con id: {}", guardado.getId());
 
         return guardado;
@@ -111,6 +203,11 @@ public class VehiculoService {
         }
 
         Vehiculo actualizado = vehiculoRepository.save(vehiculoExistente);
+        notificarCambio(actualizado);
+        if (Boolean.TRUE.equals(actualizado.getActivo())) {
+            indiceIdentificadores.indexarTrasConfirmar(
+                    IdentificadorIndexado.matricula(actualizado), IdentificadorIndexado.bastidor(actualizado));
+        }
         log.info("Vehículo actualizado exitosamente");
 
         return actualizado;
@@ -128,6 +225,7 @@ public class VehiculoService {
         vehiculo.setSituacion(nuevaSituacion);
 
         Vehiculo actualizado = vehiculoRepository.save(vehiculo);
+        notificarCambio(actualizado);
         log.info("Situación cambiada exitosamente");
 
         return actualizado;
@@ -149,6 +247,7 @@ public class VehiculoService {
         vehiculo.setKilometros(kilometros);
 
         Vehiculo actualizado = vehiculoRepository.save(vehiculo);
+        notificarCambio(actualizado);
         log.info("Kilómetros actualizados exitosamente");
 
         return actualizado;
@@ -169,7 +268,27 @@ public class VehiculoService {
 
         vehiculo.setActivo(false);
         vehiculoRepository.save(vehiculo);
+        notificarCambio(vehiculo);
+        indiceIdentificadores.eliminarTrasConfirmar(id, TipoIdentificador.MATRICULA, TipoIdentificador.BASTIDOR);
 
         log.info("Vehículo desactivado exitosamente");
     }
-}
\ No newline at end of file
+
+    /**
+     * Invalida las respuestas cacheadas de vehículos y publica el cambio, ambos tras confirmar,
+     * y marca su resumen para recalcularlo
+     */
+    private void notificarCambio(Vehiculo vehiculo) {
+        resumenVehiculos.marcar(vehiculo.getId());
+        versionesEntidades.incrementarTrasConfirmar(EntidadCacheada.VEHICULO);
+        canalCambios.publicarTrasConfirmar(EntidadCambio.VEHICULO, vehiculo.getId(),
+                vehiculo.getSituacion() != null ? vehiculo.getSituacion().getNombre() : null,
+                Boolean.TRUE.equals(vehiculo.getActivo()));
+    }
+
+    private void validarRango(String campo, Integer desde, Integer hasta) {
+        if (desde != null && hasta != null && desde > hasta) {
+            throw new InvalidOperationException("Rango de " + campo + " inválido: " + desde + " > " + hasta);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+-- Esquema inicial: el que generaba Hibernate con ddl-auto=update a partir de las entidades.
+-- Las restricciones sin nombre en las entidades conservan el que les da Hibernate, el mismo que tienen
+-- las bases de datos creadas con ddl-auto; los índices van con el nombre de @Table(indexes = ...).
+-- Sirve para MySQL y para H2 en modo MySQL (pruebas de carga).
+
+create table clientes (
+    id bigint not null auto_increment,
+    codigo_postal varchar(10),
+    documento varchar(20) not null,
+    telefono varchar(20),
+    ciudad varchar(100),
+    email varchar(100),
+    provincia varchar(100),
+    apellidos varchar(200),
+    nombre varchar(200) not null,
+    razon_social varchar(200),
+    direccion varchar(300) not null,
+    observaciones TEXT,
+    tipo_cliente enum ('AUTONOMO','EMPRESA','PARTICULAR') not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_nombre on clientes (nombre);
+create index idx_documento on clientes (documento);
+create index idx_tipo_cliente on clientes (tipo_cliente);
+alter table clientes add constraint uk_documento unique (documento);
+
+create table contratos_renting (
+    id bigint not null auto_increment,
+    coste_km_extra decimal(5,3),
+    cuota_mensual decimal(10,2) not null,
+    dia_cobro_cuota integer,
+    duracion_meses integer not null,
+    fecha_fin date not null,
+    fecha_inicio date not null,
+    kilometros_incluidos integer,
+    cliente_id bigint not null,
+    vehiculo_id bigint not null,
+    numero_contrato varchar(50) not null,
+    observaciones TEXT,
+    estado enum ('ACTIVO','CANCELADO','FINALIZADO','PENDIENTE') not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id),
+    check ((duracion_meses>=1)),
+    check ((kilometros_incluidos>=0))
+) engine=InnoDB;
+
+create index idx_contrato_cliente on contratos_renting (cliente_id);
+create index idx_contrato_vehiculo on contratos_renting (vehiculo_id);
+create index idx_contrato_estado on contratos_renting (estado);
+create index idx_fecha_inicio on contratos_renting (fecha_inicio);
+create index idx_contrato_activo_actualizacion on contratos_renting (activo, fecha_actualizacion);
+alter table contratos_renting add constraint uk_numero_contrato unique (numero_contrato);
+
+create table cuotas_renting (
+    id bigint not null auto_increment,
+    fecha_pago date,
+    fecha_vencimiento date not null,
+    importe decimal(10,2) not null,
+    numero_cuota integer not null,
+    contrato_id bigint not null,
+    observaciones TEXT,
+    estado enum ('CANCELADA','PAGADA','PENDIENTE','VENCIDA') not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id),
+    check ((numero_cuota>=1))
+) engine=InnoDB;
+
+create index idx_contrato on cuotas_renting (contrato_id);
+create index idx_cuota_estado on cuotas_renting (estado);
+create index idx_fecha_vencimiento on cuotas_renting (fecha_vencimiento);
+
+create table eventos_outbox (
+    id bigint not null auto_increment,
+    intentos integer not null,
+    agregado_id bigint not null,
+    fecha_creacion datetime(6) not null,
+    fecha_procesado datetime(6),
+    siguiente_intento datetime(6),
+    agregado varchar(40) not null,
+    ultimo_error varchar(500),
+    datos TEXT,
+    estado enum ('FALLIDO','PENDIENTE','PROCESADO') not null,
+    tipo enum ('CONTRATO_CREADO','CUOTA_PAGADA','RESERVA_COMPLETADA','RESERVA_EXPIRADA','VEHICULO_VENDIDO') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_eventos_outbox_estado on eventos_outbox (estado, id);
+create index idx_eventos_outbox_agregado on eventos_outbox (agregado, agregado_id, id);
+
+create table facturas_compra (
+    id bigint not null auto_increment,
+    fecha_factura date not null,
+    importe_base decimal(10,2) not null,
+    importe_total decimal(10,2) not null,
+    iva decimal(5,2) not null,
+    proveedor_id bigint not null,
+    vehiculo_id bigint not null,
+    numero_factura varchar(50) not null,
+    observaciones TEXT,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_proveedor on facturas_compra (proveedor_id);
+create index idx_vehiculo_compra on facturas_compra (vehiculo_id);
+create index idx_fecha_factura on facturas_compra (fecha_factura);
+alter table facturas_compra add constraint uk_numero_factura unique (numero_factura);
+alter table facturas_compra add constraint UK11qeaffagr6nbe26fflor4y0y unique (vehiculo_id);
+
+create table facturas_venta (
+    id bigint not null auto_increment,
+    descuento decimal(10,2),
+    fecha_factura date not null,
+    importe_base decimal(10,2) not null,
+    importe_total decimal(10,2) not null,
+    iva decimal(5,2) not null,
+    cliente_id bigint not null,
+    reserva_id bigint,
+    vehiculo_id bigint not null,
+    numero_factura varchar(50) not null,
+    observaciones TEXT,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_cliente_venta on facturas_venta (cliente_id);
+create index idx_vehiculo_venta on facturas_venta (vehiculo_id);
+create index idx_reserva on facturas_venta (reserva_id);
+create index idx_fecha_factura_venta on facturas_venta (fecha_factura);
+alter table facturas_venta add constraint uk_numero_factura_venta unique (numero_factura);
+alter table facturas_venta add constraint UKfsqq5bwl1xsfel617cswqabcx unique (reserva_id);
+alter table facturas_venta add constraint UKh933tj5pkaqc532rg0nbxpojk unique (vehiculo_id);
+
+create table proveedores (
+    id bigint not null auto_increment,
+    codigo_postal varchar(10),
+    cif varchar(20) not null,
+    telefono varchar(20),
+    ciudad varchar(100),
+    email varchar(100),
+    persona_contacto varchar(100),
+    provincia varchar(100),
+    nombre_comercial varchar(200) not null,
+    razon_social varchar(200) not null,
+    direccion varchar(300) not null,
+    observaciones TEXT,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_nombre_comercial on proveedores (nombre_comercial);
+create index idx_cif on proveedores (cif);
+alter table proveedores add constraint uk_cif unique (cif);
+
+create table reservas_venta (
+    id bigint not null auto_increment,
+    fecha_limite date,
+    fecha_reserva date not null,
+    precio_reserva decimal(10,2) not null,
+    señal decimal(10,2),
+    cliente_id bigint not null,
+    vehiculo_id bigint not null,
+    observaciones TEXT,
+    estado enum ('CANCELADA','COMPLETADA','CONFIRMADA','PENDIENTE') not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_reserva_cliente on reservas_venta (cliente_id);
+create index idx_reserva_vehiculo on reservas_venta (vehiculo_id);
+create index idx_reserva_estado on reservas_venta (estado);
+create index idx_fecha_reserva on reservas_venta (fecha_reserva);
+
+create table situaciones_vehiculo (
+    id bigint not null auto_increment,
+    orden_visualizacion integer,
+    nombre varchar(20) not null,
+    descripcion varchar(100) not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+alter table situaciones_vehiculo add constraint UK2cat83b5eivdr3t0me99m61ve unique (nombre);
+
+create table usuarios (
+    id bigint not null auto_increment,
+    credenciales_expiradas BOOLEAN DEFAULT FALSE,
+    cuenta_bloqueada BOOLEAN DEFAULT FALSE,
+    cuenta_expirada BOOLEAN DEFAULT FALSE,
+    intentos_fallidos INT DEFAULT 0,
+    fecha_cambio_password datetime(6),
+    fecha_ultimo_acceso datetime(6),
+    telefono varchar(20),
+    nombre varchar(50) not null,
+    username varchar(50) not null,
+    apellidos varchar(100) not null,
+    email varchar(100) not null,
+    password varchar(255) not null,
+    rol enum ('ADMIN','COMERCIAL','GERENTE','OPERARIO','USUARIO') not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_username on usuarios (username);
+create index idx_email on usuarios (email);
+create index idx_activo on usuarios (activo);
+alter table usuarios add constraint uk_username unique (username);
+alter table usuarios add constraint uk_email unique (email);
+
+create table vehiculo_resumen (
+    vehiculo_id bigint not null,
+    activo bit not null,
+    anyo_fabricacion integer,
+    cuota_mensual decimal(10,2),
+    fecha_fin_contrato date,
+    fecha_limite_reserva date,
+    kilometros integer,
+    precio_compra decimal(10,2),
+    precio_venta decimal(10,2),
+    cliente_id bigint,
+    contrato_id bigint,
+    fecha_actualizacion datetime(6),
+    reserva_id bigint,
+    matricula varchar(10) not null,
+    situacion varchar(20) not null,
+    marca varchar(50) not null,
+    modelo varchar(50) not null,
+    numero_contrato varchar(50),
+    cliente_nombre varchar(401),
+    estado_contrato enum ('ACTIVO','CANCELADO','FINALIZADO','PENDIENTE'),
+    estado_reserva enum ('CANCELADA','COMPLETADA','CONFIRMADA','PENDIENTE'),
+    primary key (vehiculo_id)
+) engine=InnoDB;
+
+create index idx_vehiculo_resumen_situacion on vehiculo_resumen (activo, situacion, vehiculo_id);
+create index idx_vehiculo_resumen_cliente on vehiculo_resumen (cliente_id);
+
+create table vehiculos (
+    id bigint not null auto_increment,
+    anyo_fabricacion integer not null,
+    kilometros INT DEFAULT 0,
+    situacion_id bigint not null,
+    matricula varchar(10) not null,
+    numero_bastidor varchar(17),
+    color varchar(30),
+    marca varchar(50) not null,
+    modelo varchar(50) not null,
+    tipo_combustible enum ('DIESEL','ELECTRICO','GASOLINA','HIBRIDO','HIBRIDO_ENCHUFABLE') not null,
+    activo BOOLEAN DEFAULT TRUE,
+    fecha_creacion datetime(6),
+    fecha_actualizacion datetime(6),
+    usuario_creacion varchar(100),
+    usuario_modificacion varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_matricula on vehiculos (matricula);
+create index idx_situacion on vehiculos (situacion_id);
+create index idx_marca_modelo on vehiculos (marca, modelo);
+create index idx_vehiculo_activo_situacion_marca on vehiculos (activo, situacion_id, marca);
+create index idx_vehiculo_combustible_anyo on vehiculos (tipo_combustible, anyo_fabricacion);
+create index idx_vehiculo_anyo_kilometros on vehiculos (anyo_fabricacion, kilometros);
+create index idx_vehiculo_activo_actualizacion on vehiculos (activo, fecha_actualizacion);
+alter table vehiculos add constraint UKwidpc0i9uotdrlq5xxlklr0d unique (matricula);
+alter table vehiculos add constraint UKf7alsm05ae6dni0xd3y6k1x0g unique (numero_bastidor);
+
+alter table contratos_renting
+    add constraint FK2e2iupcgve3h3i6dj36soa18n foreign key (cliente_id) references clientes (id);
+alter table contratos_renting
+    add constraint FK9bf9oucwpl5aic2rc239gmc0w foreign key (vehiculo_id) references vehiculos (id);
+alter table cuotas_renting
+    add constraint FKq2vpvp2nxxe7c3duwg8vblyqy foreign key (contrato_id) references contratos_renting (id);
+alter table facturas_compra
+    add constraint FKa4p975ckwciooaue8yj6tok5y foreign key (proveedor_id) references proveedores (id);
+alter table facturas_compra
+    add constraint FKrpvajlhfg9e20cmgcpyxxirmm foreign key (vehiculo_id) references vehiculos (id);
+alter table facturas_venta
+    add constraint FKm1n2yn1gh6r0f140w3au788u5 foreign key (cliente_id) references clientes (id);
+alter table facturas_venta
+    add constraint FKkkn3grv5riocao99jej1vb6uc foreign key (reserva_id) references reservas_venta (id);
+alter table facturas_venta
+    add constraint FKex3s0a3bac08ki6dm37j9cn56 foreign key (vehiculo_id) references vehiculos (id);
+alter table reservas_venta
+    add constraint FKn8ht9li4mo5cd7qnpul9ek92a foreign key (cliente_id) references clientes (id);
+alter table reservas_venta
+    add constraint FKokhb47t90cgxs2rj8vs1q9aqm foreign key (vehiculo_id) references vehiculos (id);
+alter table vehiculos
+    add constraint FKcacy2pqbc9328fujbb324paim foreign key (situacion_id) references situaciones_vehiculo (id);
@@ -0,0 +1,209 @@
+package com.uoc.tfg.gestionvehiculos.perf;
+
+import com.uoc.tfg.gestionvehiculos.GestionVehiculosApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tiempo de arranque en frío con el esquema gestionado por Hibernate ({@code ddl-auto=update}, como antes) y
+ * por las migraciones de Flyway con {@code ddl-auto=validate}. Cada arranque es una JVM nueva contra la misma
+ * base de datos, ya creada, alternando los dos modos para repartir el ruido de la máquina.
+ * <p>
+ * De cada arranque se toma el tiempo desde que arranca la JVM hasta que la aplicación está lista y lo que
+ * tardan en crearse el {@code entityManagerFactory} (donde Hibernate inspecciona o valida el esquema) y el
+ * {@code flywayInitializer}. Imprime la mediana, el mínimo y el máximo por modo y los guarda en
+ * {@code perf.informe-arranque}:
+ * <pre>
+ * mvn -Pperf -DskipTests verify -Dperf.principal=ArranqueEnFrio
+ * mvn -Pperf -DskipTests verify -Dperf.principal=ArranqueEnFrio -Dperf.arranque.url=jdbc:mysql://localhost:3306/arranque -Dperf.arranque.usuario=root -Dperf.arranque.password=...
+ * </pre>
+ * Por defecto usa una base de datos H2 en fichero, donde inspeccionar el esquema es casi gratis; la diferencia
+ * que importa es contra MySQL, donde cada consulta de metadatos es un viaje por la red.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class ArranqueEnFrio {
+
+    private static final String UPDATE = "update";
+    private static final String FLYWAY = "flyway";
+    private static final String MARCA = "ARRANQUE ";
+    private static final String ARGUMENTO_HIJO = "--hijo";
+
+    private ArranqueEnFrio() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && ARGUMENTO_HIJO.equals(args[0])) {
+            arrancarHijo(args[1]);
+            return;
+        }
+
+        int arranques = Integer.getInteger("perf.arranques", 5);
+        Path informe = Path.of(System.getProperty("perf.informe-arranque", "target/perf/arranque.json"));
+        Path directorio = informe.toAbsolutePath().getParent();
+        Files.createDirectories(directorio);
+        String url = System.getProperty("perf.arranque.url", "");
+        if (url.isBlank()) {
+            Path bd = directorio.resolve("arranque");
+            Files.deleteIfExists(Path.of(bd + ".mv.db"));
+            url = "jdbc:h2:file:" + bd + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        }
+        Map<String, String> conexion = new LinkedHashMap<>();
+        conexion.put("perf.arranque.url", url);
+        conexion.put("perf.arranque.usuario", System.getProperty("perf.arranque.usuario", "sa"));
+        conexion.put("perf.arranque.password", System.getProperty("perf.arranque.password", ""));
+
+        // Primer arranque: crea el esquema con las migraciones (o lo marca si ya existía) y no se cuenta
+        System.out.printf("Preparando el esquema en %s...%n", url);
+        lanzar(FLYWAY, conexion);
+
+        Map<String, List<Map<String, Long>>> medidas = new LinkedHashMap<>();
+        medidas.put(UPDATE, new ArrayList<>());
+        medidas.put(FLYWAY, new ArrayList<>());
+        for (int i = 1; i <= arranques; i++) {
+            for (String modo : medidas.keySet()) {
+                Map<String, Long> medida = lanzar(modo, conexion);
+                medidas.get(modo).add(medida);
+                System.out.printf("Arranque %d/%d con %s: %d ms%n", i, arranques, modo, medida.get("listoMs"));
+            }
+        }
+
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        System.out.printf("%n%-8s %10s %10s %10s %16s %16s%n", "modo", "mediana ms", "min ms", "max ms",
+                "hibernate ms", "flyway ms");
+        for (Map.Entry<String, List<Map<String, Long>>> modo : medidas.entrySet()) {
+            List<Long> listo = valores(modo.getValue(), "listoMs");
+            Map<String, Object> fila = new LinkedHashMap<>();
+            fila.put("medianaMs", mediana(listo));
+            fila.put("minimoMs", listo.get(0));
+            fila.put("maximoMs", listo.get(listo.size() - 1));
+            fila.put("medianaHibernateMs", mediana(valores(modo.getValue(), "hibernateMs")));
+            fila.put("medianaFlywayMs", mediana(valores(modo.getValue(), "flywayMs")));
+            fila.put("arranques", modo.getValue());
+            resumen.put(modo.getKey(), fila);
+            System.out.printf("%-8s %10d %10d %10d %16d %16d%n", modo.getKey(), fila.get("medianaMs"),
+                    fila.get("minimoMs"), fila.get("maximoMs"), fila.get("medianaHibernateMs"), fila.get("medianaFlywayMs"));
+        }
+
+        Map<String, Object> salida = new LinkedHashMap<>();
+        salida.put("fecha", LocalDateTime.now().toString());
+        salida.put("java", Runtime.version().toString());
+        salida.put("url", url);
+        salida.put("arranquesPorModo", arranques);
+        salida.put("modos", resumen);
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(informe.toFile(), salida);
+        System.out.printf("%nInforme en %s%n", informe);
+    }
+
+    /**
+     * Arranca la aplicación en otra JVM y devuelve lo que esta escribe tras {@link #MARCA}
+     */
+    private static Map<String, Long> lanzar(String modo, Map<String, String> conexion)
+            throws IOException, InterruptedException {
+        List<String> comando = new ArrayList<>();
+        comando.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        conexion.forEach((clave, valor) -> comando.add("-D" + clave + "=" + valor));
+        comando.add("-Dsun.stdout.encoding=UTF-8");
+        comando.add("-cp");
+        comando.add(System.getProperty("java.class.path"));
+        comando.add(ArranqueEnFrio.class.getName());
+        comando.add(ARGUMENTO_HIJO);
+        comando.add(modo);
+
+        Process proceso = new ProcessBuilder(comando).redirectErrorStream(true).start();
+        String resultado = null;
+        StringBuilder salida = new StringBuilder();
+        try (BufferedReader lector = new BufferedReader(
+                new InputStreamReader(proceso.getInputStream(), StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.startsWith(MARCA)) {
+                    resultado = linea.substring(MARCA.length());
+                } else {
+                    salida.append(linea).append(System.lineSeparator());
+                }
+            }
+        }
+        int codigo = proceso.waitFor();
+        if (codigo != 0 || resultado == null) {
+            throw new IllegalStateException("El arranque con " + modo + " ha terminado con código " + codigo
+                    + System.lineSeparator() + salida);
+        }
+        Map<String, Long> medida = new LinkedHashMap<>();
+        for (String par : resultado.split(",")) {
+            String[] claveValor = par.split("=");
+            medida.put(claveValor[0], Long.parseLong(claveValor[1]));
+        }
+        return medida;
+    }
+
+    private static void arrancarHijo(String modo) {
+        Map<String, Object> propiedades = new HashMap<>();
+        propiedades.put("spring.datasource.url", System.getProperty("perf.arranque.url"));
+        propiedades.put("spring.datasource.username", System.getProperty("perf.arranque.usuario"));
+        propiedades.put("spring.datasource.password", System.getProperty("perf.arranque.password"));
+        propiedades.put("spring.flyway.enabled", FLYWAY.equals(modo));
+        propiedades.put("spring.jpa.hibernate.ddl-auto", FLYWAY.equals(modo) ? "validate" : "update");
+        propiedades.put("jwt.secret", "prueba-de-arranque-clave-de-firma-solo-para-medir-0123456789");
+        propiedades.put("jwt.expiration", "3600000");
+        propiedades.put("server.port", "0");
+        propiedades.put("management.server.port", "0");
+        propiedades.put("spring.main.banner-mode", "off");
+        propiedades.put("spring.jpa.show-sql", "false");
+        propiedades.put("logging.level.root", "ERROR");
+        // Con update, Hibernate intenta recrear las restricciones que ya existen y avisa de cada una
+        propiedades.put("logging.level.org.hibernate.tool.schema", "OFF");
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        BufferingApplicationStartup pasos = new BufferingApplicationStartup(20_000);
+        SpringApplication aplicacion = new SpringApplication(GestionVehiculosApplication.class);
+        aplicacion.setDefaultProperties(propiedades);
+        aplicacion.setApplicationStartup(pasos);
+        long listoMs;
+        Map<String, Long> porBean = new HashMap<>();
+        try (ConfigurableApplicationContext contexto = aplicacion.run()) {
+            listoMs = ManagementFactory.getRuntimeMXBean().getUptime();
+            pasos.getBufferedTimeline().getEvents().stream()
+                    .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                    .forEach(e -> {
+                        for (StartupStep.Tag tag : e.getStartupStep().getTags()) {
+                            if ("beanName".equals(tag.getKey())) {
+                                porBean.merge(tag.getValue(), e.getDuration().toMillis(), Long::sum);
+                            }
+                        }
+                    });
+        }
+        // El entityManagerFactory depende de Flyway, así que su paso incluye el de las migraciones
+        long flywayMs = porBean.getOrDefault("flywayInitializer", 0L);
+        long hibernateMs = Math.max(0, porBean.getOrDefault("entityManagerFactory", 0L) - flywayMs);
+        System.out.println(MARCA + "listoMs=" + listoMs + ",hibernateMs=" + hibernateMs + ",flywayMs=" + flywayMs);
+        System.exit(0);
+    }
+
+    private static List<Long> valores(List<Map<String, Long>> medidas, String clave) {
+        return medidas.stream().map(m -> m.get(clave)).sorted().toList();
+    }
+
+    private static long mediana(List<Long> ordenados) {
+        return ordenados.get(ordenados.size() / 2);
+    }
+}
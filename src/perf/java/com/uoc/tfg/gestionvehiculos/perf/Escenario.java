@@ -0,0 +1,40 @@
+package com.uoc.tfg.gestionvehiculos.perf;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+
+/**
+ * Un tipo de petición de la prueba de carga: cada usuario simulado la repite en bucle durante el
+ * calentamiento y la medición.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class Escenario {
+
+    private final String nombre;
+    private final GeneradorPeticion generador;
+
+    public Escenario(String nombre, GeneradorPeticion generador) {
+        this.nombre = nombre;
+        this.generador = generador;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return la siguiente petición, o null si el escenario ya no tiene datos con los que seguir
+     * (p. ej. no quedan vehículos libres para crear contratos)
+     */
+    public HttpRequest siguiente(Random aleatorio) {
+        return generador.crear(aleatorio);
+    }
+
+    @FunctionalInterface
+    public interface GeneradorPeticion {
+        HttpRequest crear(Random aleatorio);
+    }
+}
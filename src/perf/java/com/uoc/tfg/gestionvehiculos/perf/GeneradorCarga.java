@@ -0,0 +1,104 @@
+package com.uoc.tfg.gestionvehiculos.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Lanza un escenario con un número fijo de usuarios concurrentes, cada uno en su hilo y sin pausas entre
+ * peticiones (bucle cerrado). Las peticiones del calentamiento no se miden; en la medición se registra la
+ * latencia de cada respuesta y los códigos de estado que no son 2xx.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class GeneradorCarga {
+
+    private static final long MAX_LATENCIA_US = TimeUnit.MINUTES.toMicros(5);
+    private static final int ERROR_CONEXION = -1;
+
+    private final HttpClient cliente;
+    private final int usuarios;
+    private final Duration calentamiento;
+    private final Duration duracion;
+    private final long semilla;
+
+    public GeneradorCarga(HttpClient cliente, int usuarios, Duration calentamiento, Duration duracion, long semilla) {
+        this.cliente = cliente;
+        this.usuarios = usuarios;
+        this.calentamiento = calentamiento;
+        this.duracion = duracion;
+        this.semilla = semilla;
+    }
+
+    public ResultadoEscenario ejecutar(Escenario escenario) throws InterruptedException {
+        Recorder latencias = new Recorder(MAX_LATENCIA_US, 3);
+        LongAdder correctas = new LongAdder();
+        Map<Integer, LongAdder> errores = new ConcurrentHashMap<>();
+        long inicioMedicion = System.nanoTime() + calentamiento.toNanos();
+        long fin = inicioMedicion + duracion.toNanos();
+        LongAccumulator ultimaRespuesta = new LongAccumulator(Math::max, inicioMedicion);
+
+        ExecutorService hilos = Executors.newFixedThreadPool(usuarios);
+        for (int u = 0; u < usuarios; u++) {
+            Random aleatorio = new Random(semilla * 31 + u);
+            hilos.execute(() -> {
+                while (System.nanoTime() < fin && !Thread.currentThread().isInterrupted()) {
+                    HttpRequest peticion = escenario.siguiente(aleatorio);
+                    if (peticion == null) {
+                        return;
+                    }
+                    long inicio = System.nanoTime();
+                    int estado = enviar(peticion);
+                    long respuesta = System.nanoTime();
+                    if (inicio < inicioMedicion) {
+                        continue;
+                    }
+                    latencias.recordValue(Math.min((respuesta - inicio) / 1000, MAX_LATENCIA_US));
+                    ultimaRespuesta.accumulate(respuesta);
+                    if (estado >= 200 && estado < 300) {
+                        correctas.increment();
+                    } else {
+                        errores.computeIfAbsent(estado, e -> new LongAdder()).increment();
+                    }
+                }
+            });
+        }
+        hilos.shutdown();
+        if (!hilos.awaitTermination(calentamiento.plus(duracion).plusMinutes(5).toMillis(), TimeUnit.MILLISECONDS)) {
+            hilos.shutdownNow();
+        }
+
+        Histogram histograma = latencias.getIntervalHistogram();
+        double segundos = (Math.min(ultimaRespuesta.get(), fin) - inicioMedicion) / 1e9;
+        return new ResultadoEscenario(escenario.getNombre(), histograma, correctas.sum(),
+                errores.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum())),
+                segundos);
+    }
+
+    private int enviar(HttpRequest peticion) {
+        try {
+            return cliente.send(peticion, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return ERROR_CONEXION;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ERROR_CONEXION;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.uoc.tfg.gestionvehiculos.perf;
+
+import com.uoc.tfg.gestionvehiculos.GestionVehiculosApplication;
+import com.uoc.tfg.gestionvehiculos.config.GeneradorDatosSinteticos;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Prueba de carga en proceso: arranca la aplicación sobre una H2 en memoria, la llena con
+ * {@link GeneradorDatosSinteticos} y lanza contra ella, por HTTP y uno detrás de otro, los escenarios de uso
+ * habituales (login, listado y búsquedas, ficha de cliente, alta de contratos, pago de cuotas y exportación).
+ * <p>
+ * Imprime una tabla con peticiones por segundo, percentiles de latencia y errores de cada escenario y
+ * guarda lo mismo en JSON ({@code perf.informe}), junto con las sentencias SQL por endpoint de
+ * {@code /api/sql/endpoints}. Se lanza con el perfil Maven {@code perf}:
+ * <pre>
+ * mvn -Pperf -DskipTests verify
+ * mvn -Pperf -DskipTests verify -Dperf.vehiculos=10000 -Dperf.clientes=20000 -Dperf.cuotas=100000 -Dperf.escenarios=listado,busqueda
+ * </pre>
+ * H2 no se comporta igual que MySQL, así que las cifras sirven para comparar versiones entre sí
+ * y encontrar cuellos de botella, no como capacidad de producción.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public final class PruebaCarga {
+
+    private static final String USUARIO = "admin";
+    private static final String PASSWORD = "admin1234";
+    private static final int TAMANO_PAGINA = 20;
+    private static final int MAX_PAGINAS_LISTADO = 100;
+    private static final int MESES_INFORME = 24;
+    private static final int MAX_CUOTAS_A_PAGAR = 500_000;
+
+    private PruebaCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int vehiculos = Integer.getInteger("perf.vehiculos", 100_000);
+        int clientes = Integer.getInteger("perf.clientes", 200_000);
+        int cuotas = Integer.getInteger("perf.cuotas", 1_000_000);
+        long semilla = Long.getLong("perf.semilla", 42L);
+        int usuarios = Integer.getInteger("perf.usuarios", 32);
+        Duration calentamiento = Duration.ofSeconds(Integer.getInteger("perf.calentamiento-s", 5));
+        Duration duracion = Duration.ofSeconds(Integer.getInteger("perf.duracion-s", 30));
+        String escenarios = System.getProperty("perf.escenarios", "");
+        Path informe = Path.of(System.getProperty("perf.informe", "target/perf/informe.json"));
+
+        System.out.printf("Arrancando con %d vehículos, %d clientes y unas %d cuotas (semilla %d)...%n",
+                vehiculos, clientes, cuotas, semilla);
+        try (ConfigurableApplicationContext contexto = arrancar(usuarios, vehiculos, clientes, cuotas, semilla)) {
+            JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+            GeneradorDatosSinteticos generadorDatos = contexto.getBean(GeneradorDatosSinteticos.class);
+            Map<String, Long> generados = generadorDatos.getFilas();
+            double segundosCarga = generadorDatos.getSegundos();
+            System.out.printf("Datos generados en %.1f s: %s%n", segundosCarga, generados);
+
+            String base = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+            HttpClient cliente = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            JsonMapper json = JsonMapper.builder().build();
+            String token = "Bearer " + json.readTree(enviar(cliente, login(base))).get("token").asString();
+
+            List<Escenario> seleccionados = escenarios(base, token, jdbcTemplate, vehiculos, semilla).stream()
+                    .filter(seleccion(escenarios))
+                    .toList();
+            GeneradorCarga generador = new GeneradorCarga(cliente, usuarios, calentamiento, duracion, semilla);
+            List<ResultadoEscenario> resultados = new ArrayList<>();
+            for (Escenario escenario : seleccionados) {
+                System.out.printf("Escenario %s: %d usuarios, %d s de calentamiento y %d s de medición%n",
+                        escenario.getNombre(), usuarios, calentamiento.toSeconds(), duracion.toSeconds());
+                resultados.add(generador.ejecutar(escenario));
+            }
+
+            imprimir(resultados);
+
+            Map<String, Object> configuracion = new LinkedHashMap<>();
+            configuracion.put("semilla", semilla);
+            configuracion.put("usuarios", usuarios);
+            configuracion.put("calentamientoS", calentamiento.toSeconds());
+            configuracion.put("duracionS", duracion.toSeconds());
+            Map<String, Object> datos = new LinkedHashMap<>(generados);
+            datos.put("segundosCarga", segundosCarga);
+
+            Map<String, Object> salida = new LinkedHashMap<>();
+            salida.put("fecha", LocalDateTime.now().toString());
+            salida.put("configuracion", configuracion);
+            salida.put("datos", datos);
+            salida.put("escenarios", resultados.stream().map(ResultadoEscenario::comoMapa).toList());
+            salida.put("sentenciasSql", json.readTree(enviar(cliente, HttpRequest.newBuilder(
+                    URI.create(base + "/api/sql/endpoints?limite=20")).header("Authorization", token).GET().build())));
+
+            Files.createDirectories(informe.toAbsolutePath().getParent());
+            json.writerWithDefaultPrettyPrinter().writeValue(informe.toFile(), salida);
+            System.out.printf("%nInforme en %s%n", informe);
+        }
+    }
+
+    private static ConfigurableApplicationContext arrancar(int usuarios, int vehiculos, int clientes, int cuotas,
+                                                           long semilla) {
+        Map<String, Object> propiedades = new LinkedHashMap<>();
+        propiedades.put("spring.profiles.active", "datos-sinteticos");
+        propiedades.put("datos-sinteticos.vehiculos", vehiculos);
+        propiedades.put("datos-sinteticos.clientes", clientes);
+        propiedades.put("datos-sinteticos.cuotas", cuotas);
+        propiedades.put("datos-sinteticos.semilla", semilla);
+        propiedades.put("spring.datasource.url", "jdbc:h2:mem:perf;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        propiedades.put("spring.datasource.username", "sa");
+        propiedades.put("spring.datasource.password", "");
+        propiedades.put("spring.datasource.hikari.maximum-pool-size", Math.max(10, usuarios));
+        // Esquema por las migraciones de Flyway, como en producción
+        propiedades.put("spring.jpa.hibernate.ddl-auto", "validate");
+        propiedades.put("spring.jpa.show-sql", "false");
+        propiedades.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        propiedades.put("jwt.secret", "prueba-de-carga-clave-de-firma-solo-para-h2-0123456789");
+        propiedades.put("jwt.expiration", "3600000");
+        propiedades.put("server.port", "0");
+        propiedades.put("spring.main.banner-mode", "off");
+        propiedades.put("logging.level.root", "ERROR");
+        propiedades.put("logging.level.com.uoc.tfg.gestionvehiculos", "ERROR");
+        // Los errores de cada petición ya se cuentan por código de estado en el informe
+        propiedades.put("logging.level.com.uoc.tfg.gestionvehiculos.exceptions", "OFF");
+        propiedades.put("logging.level.org.springframework.web.servlet.mvc.method.annotation", "ERROR");
+        // DevTools reinicia la aplicación en otro cargador de clases; aquí solo añadiría ruido a las medidas
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(GestionVehiculosApplication.class)
+                .properties(propiedades)
+                .run();
+    }
+
+    private static List<Escenario> escenarios(String base, String token, JdbcTemplate jdbcTemplate, int vehiculos,
+                                              long semilla) {
+        int paginas = Math.max(1, Math.min(MAX_PAGINAS_LISTADO, vehiculos / TAMANO_PAGINA));
+        LocalDate mesActual = LocalDate.now().withDayOfMonth(1);
+
+        List<Long> vehiculosLibres = jdbcTemplate.queryForList("SELECT v.id FROM vehiculos v " +
+                "JOIN situaciones_vehiculo s ON s.id = v.situacion_id WHERE s.nombre = 'DISPONIBLE' ORDER BY v.id", Long.class);
+        List<String> apellidos = jdbcTemplate.queryForList("SELECT DISTINCT apellidos FROM clientes " +
+                "WHERE apellidos IS NOT NULL ORDER BY apellidos LIMIT 200", String.class).stream()
+                .map(a -> a.split(" ")[0])
+                .distinct()
+                .toList();
+        List<Long> cuotasPendientes = jdbcTemplate.queryForList("SELECT id FROM cuotas_renting " +
+                "WHERE estado = 'PENDIENTE' ORDER BY id LIMIT " + MAX_CUOTAS_A_PAGAR, Long.class);
+        Collections.shuffle(vehiculosLibres, new Random(semilla));
+        Collections.shuffle(cuotasPendientes, new Random(semilla));
+        Long maxCliente = jdbcTemplate.queryForObject("SELECT MAX(id) FROM clientes", Long.class);
+        AtomicInteger siguienteVehiculo = new AtomicInteger();
+        AtomicInteger siguienteCuota = new AtomicInteger();
+
+        return List.of(
+                new Escenario("login", aleatorio -> login(base)),
+                new Escenario("listado", aleatorio -> get(base, token,
+                        "/api/vehiculos/buscar?page=" + aleatorio.nextInt(paginas) + "&size=" + TAMANO_PAGINA)),
+                new Escenario("busqueda", aleatorio -> get(base, token, "/api/clientes/buscar/relevancia?q=" + URLEncoder.encode(
+                        apellidos.get(aleatorio.nextInt(apellidos.size())), StandardCharsets.UTF_8))),
+                new Escenario("ficha", aleatorio -> get(base, token, "/api/clientes/"
+                        + (1 + aleatorio.nextInt(maxCliente == null ? 1 : maxCliente.intValue())) + "/ficha")),
+                new Escenario("informe", aleatorio -> {
+                    LocalDate inicio = mesActual.minusMonths(aleatorio.nextInt(MESES_INFORME));
+                    return get(base, token, "/api/exportaciones/cuotas-renting?formato=CSV&inicio=" + inicio
+                            + "&fin=" + inicio.plusMonths(1).minusDays(1));
+                }),
+                new Escenario("crear-contrato", aleatorio -> {
+                    int i = siguienteVehiculo.getAndIncrement();
+                    if (i >= vehiculosLibres.size() || maxCliente == null) {
+                        return null;
+                    }
+                    LocalDate inicio = LocalDate.now();
+                    String cuerpo = String.format("{\"clienteId\":%d,\"vehiculoId\":%d,\"fechaInicio\":\"%s\"," +
+                                    "\"fechaFin\":\"%s\",\"cuotaMensual\":%d.00,\"kilometrosIncluidos\":45000," +
+                                    "\"costeKmExtra\":0.080,\"estado\":\"ACTIVO\"}",
+                            1 + aleatorio.nextInt(maxCliente.intValue()), vehiculosLibres.get(i), inicio,
+                            inicio.plusMonths(36), 150 + aleatorio.nextInt(600));
+                    return HttpRequest.newBuilder(URI.create(base + "/api/contratos-renting"))
+                            .header("Authorization", token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                            .build();
+                }),
+                new Escenario("pagar-cuota", aleatorio -> {
+                    int i = siguienteCuota.getAndIncrement();
+                    if (i >= cuotasPendientes.size()) {
+                        return null;
+                    }
+                    return HttpRequest.newBuilder(URI.create(base + "/api/cuotas-renting/" + cuotasPendientes.get(i) + "/pagar"))
+                            .header("Authorization", token)
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                            .build();
+                }));
+    }
+
+    private static Predicate<Escenario> seleccion(String escenarios) {
+        if (escenarios.isBlank()) {
+            return e -> true;
+        }
+        Set<String> nombres = Arrays.stream(escenarios.split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        return e -> nombres.contains(e.getNombre());
+    }
+
+    private static HttpRequest login(String base) {
+        return HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + USUARIO + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    private static HttpRequest get(String base, String token, String ruta) {
+        return HttpRequest.newBuilder(URI.create(base + ruta))
+                .header("Authorization", token)
+                .GET()
+                .build();
+    }
+
+    private static String enviar(HttpClient cliente, HttpRequest peticion) throws IOException, InterruptedException {
+        HttpResponse<String> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() != 200) {
+            throw new IllegalStateException(peticion.uri() + " ha devuelto " + respuesta.statusCode() + ": " + respuesta.body());
+        }
+        return respuesta.body();
+    }
+
+    private static void imprimir(List<ResultadoEscenario> resultados) {
+        System.out.printf("%n%-16s %10s %10s %9s %9s %9s %9s %9s %8s%n", "escenario", "peticiones", "pet/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errores");
+        for (ResultadoEscenario r : resultados) {
+            System.out.printf("%-16s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d%n", r.getNombre(),
+                    r.getPeticiones(), r.getPorSegundo(), r.percentilMs(50), r.percentilMs(90), r.percentilMs(99),
+                    r.percentilMs(99.9), r.maximoMs(), r.getErrores());
+        }
+    }
+}
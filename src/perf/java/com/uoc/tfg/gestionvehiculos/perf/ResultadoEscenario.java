@@ -0,0 +1,76 @@
+package com.uoc.tfg.gestionvehiculos.perf;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Peticiones, errores y latencias (en microsegundos) de un escenario durante la medición
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+public class ResultadoEscenario {
+
+    private final String nombre;
+    private final Histogram latencias;
+    private final long correctas;
+    private final Map<Integer, Long> errores;
+    private final double segundos;
+
+    /**
+     * @param errores peticiones fallidas por código de estado HTTP; -1 para los errores de conexión
+     */
+    public ResultadoEscenario(String nombre, Histogram latencias, long correctas, Map<Integer, Long> errores,
+                              double segundos) {
+        this.nombre = nombre;
+        this.latencias = latencias;
+        this.correctas = correctas;
+        this.errores = new TreeMap<>(errores);
+        this.segundos = segundos;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public long getPeticiones() {
+        return correctas + getErrores();
+    }
+
+    public long getErrores() {
+        return errores.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double getPorSegundo() {
+        return segundos > 0 ? getPeticiones() / segundos : 0;
+    }
+
+    public double percentilMs(double percentil) {
+        return latencias.getValueAtPercentile(percentil) / 1000.0;
+    }
+
+    public double maximoMs() {
+        return latencias.getMaxValue() / 1000.0;
+    }
+
+    public Map<String, Object> comoMapa() {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("escenario", nombre);
+        mapa.put("peticiones", getPeticiones());
+        mapa.put("correctas", correctas);
+        mapa.put("errores", errores);
+        mapa.put("segundos", segundos);
+        mapa.put("peticionesPorSegundo", getPorSegundo());
+        mapa.put("mediaMs", latencias.getTotalCount() == 0 ? 0 : latencias.getMean() / 1000.0);
+        mapa.put("p50Ms", percentilMs(50));
+        mapa.put("p90Ms", percentilMs(90));
+        mapa.put("p99Ms", percentilMs(99));
+        mapa.put("p999Ms", percentilMs(99.9));
+        mapa.put("maxMs", maximoMs());
+        return mapa;
+    }
+}
@@ -0,0 +1,106 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import com.uoc.tfg.gestionvehiculos.config.AuditorAwareImpl;
+import com.uoc.tfg.gestionvehiculos.config.CacheEntidadesConfig;
+import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
+import com.uoc.tfg.gestionvehiculos.repositories.ProveedorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba sobre H2 que las escrituras confirmadas invalidan la caché de segundo nivel.
+ * Cada paso va en su propia transacción, porque la caché solo se actualiza al confirmar. El esquema lo crea
+ * Hibernate: las migraciones son de MySQL y la H2 embebida de los tests no está en modo MySQL.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({CacheEntidadesConfig.class, CacheEntidades.class, AuditorAwareImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheEntidadesTest {
+
+    @Autowired
+    private ProveedorRepository proveedorRepository;
+
+    @Autowired
+    private CacheEntidades cacheEntidades;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaccion;
+
+    @BeforeEach
+    void setUp() {
+        transaccion = new TransactionTemplate(transactionManager);
+        transaccion.executeWithoutResult(estado -> proveedorRepository.deleteAll());
+        cacheEntidades.vaciar();
+    }
+
+    @Test
+    void actualizar_ProveedorCacheado_DeberiaLeerseElValorNuevoDesdeLaCache() {
+        // Arrange
+        Long id = guardarProveedor("B11111111", "Original").getId();
+        leerNombre(id);
+        long aciertosAntes = cacheEntidades.estadisticas(RegionesCache.PROVEEDORES).getAciertos();
+        assertEquals("Original", leerNombre(id));
+        assertEquals(aciertosAntes + 1, cacheEntidades.estadisticas(RegionesCache.PROVEEDORES).getAciertos());
+
+        // Act
+        transaccion.executeWithoutResult(estado ->
+                proveedorRepository.findById(id).orElseThrow().setNombreComercial("Actualizado"));
+
+        // Assert
+        long aciertosTrasActualizar = cacheEntidades.estadisticas(RegionesCache.PROVEEDORES).getAciertos();
+        assertEquals("Actualizado", leerNombre(id));
+        assertTrue(cacheEntidades.estadisticas(RegionesCache.PROVEEDORES).getAciertos() > aciertosTrasActualizar);
+    }
+
+    @Test
+    void actualizar_CifCacheado_DeberiaResolverSoloElCifNuevo() {
+        // Arrange
+        Long id = guardarProveedor("B22222222", "Con CIF").getId();
+        buscarPorCif("B22222222");
+        long resolucionesAntes = cacheEntidades.estado().getResolucionesClaveNatural();
+        assertTrue(buscarPorCif("B22222222").isPresent());
+        assertEquals(resolucionesAntes, cacheEntidades.estado().getResolucionesClaveNatural());
+
+        // Act
+        transaccion.executeWithoutResult(estado ->
+                proveedorRepository.findById(id).orElseThrow().setCif("B33333333"));
+
+        // Assert
+        assertTrue(buscarPorCif("B22222222").isEmpty());
+        assertEquals(id, buscarPorCif("B33333333").map(Proveedor::getId).orElseThrow());
+    }
+
+    private Proveedor guardarProveedor(String cif, String nombreComercial) {
+        Proveedor proveedor = new Proveedor();
+        proveedor.setCif(cif);
+        proveedor.setRazonSocial(nombreComercial + " S.L.");
+        proveedor.setNombreComercial(nombreComercial);
+        proveedor.setDireccion("Calle Mayor 1");
+        return transaccion.execute(estado -> proveedorRepository.save(proveedor));
+    }
+
+    private String leerNombre(Long id) {
+        return transaccion.execute(estado -> proveedorRepository.findById(id).orElseThrow().getNombreComercial());
+    }
+
+    private Optional<Proveedor> buscarPorCif(String cif) {
+        return transaccion.execute(estado -> proveedorRepository.buscarPorClaveNatural(cif));
+    }
+}
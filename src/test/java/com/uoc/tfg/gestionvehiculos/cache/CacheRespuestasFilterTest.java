@@ -0,0 +1,146 @@
+package com.uoc.tfg.gestionvehiculos.cache;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadisticasEndpointCache;
+import com.uoc.tfg.gestionvehiculos.dtos.cache.EstadoCacheRespuestas;
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCacheada;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheRespuestasFilterTest {
+
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private CacheRespuestas cacheRespuestas;
+    private VersionesEntidades versionesEntidades;
+    private CacheRespuestasFilter filtro;
+
+    private final AtomicInteger llamadas = new AtomicInteger();
+    private final FilterChain controlador = (request, response) -> {
+        llamadas.incrementAndGet();
+        response.setContentType("application/json");
+        response.getWriter().write("[{\"id\":" + llamadas.get() + "}]");
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cacheRespuestas = new CacheRespuestas();
+        versionesEntidades = new VersionesEntidades();
+        filtro = new CacheRespuestasFilter(cacheRespuestas, versionesEntidades, handlerMapping);
+
+        HandlerMethod handler = new HandlerMethod(new ProveedoresStub(), ProveedoresStub.class.getMethod("listar"));
+        lenient().when(handlerMapping.getHandler(any())).thenReturn(new HandlerExecutionChain(handler));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_SegundaPeticion_DeberiaServirseDesdeCacheHastaQueCambieLaVersion() throws Exception {
+        // Act
+        MockHttpServletResponse primera = ejecutar();
+        MockHttpServletResponse segunda = ejecutar();
+        versionesEntidades.incrementar(EntidadCacheada.PROVEEDOR);
+        MockHttpServletResponse tercera = ejecutar();
+
+        // Assert
+        assertEquals("MISS", primera.getHeader(CacheRespuestasFilter.CABECERA_CACHE));
+        assertEquals("HIT", segunda.getHeader(CacheRespuestasFilter.CABECERA_CACHE));
+        assertEquals(primera.getContentAsString(), segunda.getContentAsString());
+        assertEquals("application/json", segunda.getContentType());
+        assertEquals("MISS", tercera.getHeader(CacheRespuestasFilter.CABECERA_CACHE));
+        assertEquals("[{\"id\":2}]", tercera.getContentAsString());
+        assertEquals(2, llamadas.get());
+
+        EstadisticasEndpointCache estadisticas = cacheRespuestas.estado().getEndpoints().get(0);
+        assertEquals(1, estadisticas.getAciertos());
+        assertEquals(2, estadisticas.getFallos());
+    }
+
+    @Test
+    void doFilter_EntradaObsoletaRegenerandose_DeberiaServirLaVersionAnterior() throws Exception {
+        // Arrange
+        ejecutar();
+        versionesEntidades.incrementar(EntidadCacheada.PROVEEDOR);
+        cacheRespuestas.obtener("ROLE_ADMIN /api/proveedores").iniciarRegeneracion();
+
+        // Act
+        MockHttpServletResponse respuesta = ejecutar();
+
+        // Assert
+        assertEquals("STALE", respuesta.getHeader(CacheRespuestasFilter.CABECERA_CACHE));
+        assertEquals("[{\"id\":1}]", respuesta.getContentAsString());
+        assertEquals(1, llamadas.get());
+    }
+
+    @Test
+    void guardar_SuperandoElTamanoMaximo_DeberiaExpulsarLaMenosUsada() {
+        // Arrange
+        ReflectionTestUtils.setField(cacheRespuestas, "maxBytes", 2000L);
+        cacheRespuestas.guardar("a", entrada(500));
+        cacheRespuestas.guardar("b", entrada(500));
+        cacheRespuestas.obtener("a");
+
+        // Act
+        cacheRespuestas.guardar("c", entrada(500));
+
+        // Assert
+        EstadoCacheRespuestas estado = cacheRespuestas.estado();
+        assertNotNull(cacheRespuestas.obtener("a"));
+        assertNull(cacheRespuestas.obtener("b"));
+        assertNotNull(cacheRespuestas.obtener("c"));
+        assertEquals(2, estado.getEntradas());
+        assertEquals(1, estado.getExpulsadas());
+        assertTrue(estado.getBytes() <= 2000L);
+    }
+
+    private MockHttpServletResponse ejecutar() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/proveedores");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, controlador);
+        return response;
+    }
+
+    private static CacheRespuestas.Entrada entrada(int bytes) {
+        return new CacheRespuestas.Entrada(new byte[bytes], "application/json", null, null, null, 0);
+    }
+
+    static class ProveedoresStub {
+        @RespuestaCacheable(EntidadCacheada.PROVEEDOR)
+        public List<String> listar() {
+            return List.of();
+        }
+    }
+}
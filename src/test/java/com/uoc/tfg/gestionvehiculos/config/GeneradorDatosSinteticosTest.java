@@ -0,0 +1,142 @@
+package com.uoc.tfg.gestionvehiculos.config;
+
+import com.uoc.tfg.gestionvehiculos.repositories.DatosSinteticosJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GeneradorDatosSinteticosTest {
+
+    private static final int COLUMNAS_AUDITORIA = 4;
+
+    @Mock
+    private DatosSinteticosJdbcRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object[]> vehiculos = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object[]> contratos = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object[]> reservas = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object[]> ventas = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        when(repository.situaciones()).thenReturn(Map.of("DISPONIBLE", 1L, "EN_RENTING", 2L, "RESERVADO", 3L, "VENDIDO", 4L));
+        when(repository.siguienteId(anyString())).thenReturn(1L);
+        doAnswer(capturar(vehiculos)).when(repository).insertarVehiculos(any());
+        doAnswer(capturar(contratos)).when(repository).insertarContratos(any());
+        doAnswer(capturar(reservas)).when(repository).insertarReservas(any());
+        doAnswer(capturar(ventas)).when(repository).insertarFacturasVenta(any());
+    }
+
+    @Test
+    void generar_MismaSemilla_DeberiaGenerarLosMismosVehiculosConDistintosHilos() throws Exception {
+        // Arrange
+        GeneradorDatosSinteticos unHilo = generador(1);
+        GeneradorDatosSinteticos cuatroHilos = generador(4);
+
+        // Act
+        unHilo.generar();
+        List<List<Object>> primera = sinAuditoria(vehiculos);
+        vehiculos.clear();
+        cuatroHilos.generar();
+        List<List<Object>> segunda = sinAuditoria(vehiculos);
+
+        // Assert
+        assertEquals(10_000, primera.size());
+        assertEquals(primera, segunda);
+        assertEquals(10_000, primera.stream().map(v -> v.get(1)).distinct().count());
+    }
+
+    @Test
+    void generar_DeberiaAsignarSituacionCoherenteConContratosReservasYVentas() throws Exception {
+        // Arrange
+        GeneradorDatosSinteticos generador = generador(2);
+
+        // Act
+        generador.generar();
+
+        // Assert
+        Map<Long, Long> situacionPorVehiculo = vehiculos.stream()
+                .collect(Collectors.toMap(v -> (Long) v[0], v -> (Long) v[9]));
+        contratos.forEach(c -> assertEquals("ACTIVO".equals(c[10]) ? 2L : 1L, situacionPorVehiculo.get((Long) c[3])));
+        Set<Long> reservasCompletadas = reservas.stream()
+                .filter(r -> "COMPLETADA".equals(r[6]))
+                .map(r -> (Long) r[0])
+                .collect(Collectors.toSet());
+        ventas.forEach(v -> {
+            assertEquals(4L, situacionPorVehiculo.get((Long) v[3]));
+            assertTrue(reservasCompletadas.contains((Long) v[4]));
+        });
+        assertEquals(1_500, ventas.size());
+        assertEquals(500, reservas.size() - ventas.size());
+        assertEquals(500, situacionPorVehiculo.values().stream().filter(s -> s == 3L).count());
+        assertEquals(2_778, contratos.size());
+        assertEquals(Map.of("proveedores", 50L, "clientes", 5_000L, "vehiculos", 10_000L, "facturas_compra", 10_000L,
+                        "contratos_renting", 2_778L, "reservas_venta", 2_000L, "facturas_venta", 1_500L),
+                generador.getFilas().entrySet().stream()
+                        .filter(e -> !"cuotas_renting".equals(e.getKey()))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    @Test
+    void run_BaseDeDatosConClientes_NoDeberiaGenerar() throws Exception {
+        // Arrange
+        when(repository.contar("clientes")).thenReturn(3L);
+
+        // Act
+        generador(1).run();
+
+        // Assert
+        verify(repository, never()).insertarVehiculos(any());
+        verify(repository, never()).insertarClientes(any());
+    }
+
+    private GeneradorDatosSinteticos generador(int hilos) {
+        return new GeneradorDatosSinteticos(repository, transactionManager, 10_000, 5_000, 50, 100_000,
+                0.15, 0.05, 42L, hilos, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Answer<Void> capturar(List<Object[]> destino) {
+        return invocacion -> {
+            destino.addAll(invocacion.getArgument(0, List.class));
+            return null;
+        };
+    }
+
+    private static List<List<Object>> sinAuditoria(List<Object[]> filas) {
+        return filas.stream()
+                .sorted(Comparator.comparingLong(f -> (Long) f[0]))
+                .map(f -> Arrays.asList(Arrays.copyOf(f, f.length - COLUMNAS_AUDITORIA)))
+                .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.uoc.tfg.gestionvehiculos.controllers;
+
+import com.uoc.tfg.gestionvehiculos.exceptions.GlobalExceptionHandler;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.services.CanalCambios;
+import com.uoc.tfg.gestionvehiculos.services.CuotaRentingService;
+import com.uoc.tfg.gestionvehiculos.services.OutboxEventos;
+import com.uoc.tfg.gestionvehiculos.services.PagoMasivoCuotaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class CuotaRentingControllerTest {
+
+    @Mock
+    private CuotaRentingService cuotaService;
+
+    @Mock
+    private CuotaRentingRepository cuotaRepository;
+
+    @Mock
+    private AuditorAware<String> auditorProvider;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CanalCambios canalCambios;
+
+    @Mock
+    private OutboxEventos outboxEventos;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        PagoMasivoCuotaService pagoMasivoService = new PagoMasivoCuotaService(
+                cuotaRepository, auditorProvider, transactionTemplate, canalCambios, outboxEventos);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CuotaRentingController(cuotaService, pagoMasivoService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void pagarEnBloque_ConListasNulasEnElJson_DeberiaDevolver400() throws Exception {
+        // Arrange
+        String cuerpo = "{\"fechaPago\":\"" + LocalDate.now() + "\",\"cuotaIds\":null,\"referencias\":null}";
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/cuotas-renting/pagar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cuerpo))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Debe indicar al menos una cuota a pagar"));
+        verifyNoInteractions(cuotaRepository);
+    }
+}
@@ -0,0 +1,50 @@
+package com.uoc.tfg.gestionvehiculos.jdbc;
+
+import com.uoc.tfg.gestionvehiculos.dtos.sql.EstadisticasSqlEndpoint;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class ContabilidadSqlFilterTest {
+
+    @Test
+    void doFilter_ConsultaRepetidaPorElemento_DeberiaAnotarCabecerasYMarcarSospechaNMasUno() throws Exception {
+        // Arrange
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:filtro;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DataSourceContabilizado(h2));
+        EstadisticasSql estadisticas = new EstadisticasSql();
+        ContabilidadSqlFilter filtro = new ContabilidadSqlFilter(estadisticas, true, true, 100, 10_000, 5);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contratos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filtro.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/contratos");
+            for (int id = 1; id <= 6; id++) {
+                jdbcTemplate.queryForObject("SELECT " + id, Integer.class);
+            }
+            res.getWriter().write("[]");
+        });
+
+        // Assert
+        assertEquals("6", response.getHeader(ContabilidadSqlFilter.CABECERA_SENTENCIAS));
+        assertNotNull(response.getHeader(ContabilidadSqlFilter.CABECERA_TIEMPO));
+        EstadisticasSqlEndpoint endpoint = estadisticas.peores(10).get(0);
+        assertEquals("GET /api/contratos", endpoint.getEndpoint());
+        assertEquals(6, endpoint.getSentencias());
+        assertEquals(1, endpoint.getSospechasNMasUno());
+        assertEquals(0, endpoint.getPeticionesSobreUmbral());
+        assertEquals("SELECT ?", endpoint.getUltimaSentenciaRepetida());
+    }
+}
@@ -0,0 +1,65 @@
+package com.uoc.tfg.gestionvehiculos.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class DataSourceContabilizadoTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:contabilidad;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new DataSourceContabilizado(h2));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS prueba");
+        jdbcTemplate.execute("CREATE TABLE prueba (id INT PRIMARY KEY, nombre VARCHAR(20))");
+    }
+
+    @Test
+    void ejecutar_LoteYConsulta_DeberiaContarSentenciasYFilas() {
+        // Arrange
+        ContabilidadSql contabilidad = ContabilidadSql.actual();
+        long sentencias = contabilidad.getSentencias();
+        long filas = contabilidad.getFilas();
+
+        // Act
+        jdbcTemplate.batchUpdate("INSERT INTO prueba (id, nombre) VALUES (?, ?)",
+                List.of(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+        List<String> nombres = jdbcTemplate.queryForList("SELECT nombre FROM prueba ORDER BY id", String.class);
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), nombres);
+        assertEquals(2, contabilidad.getSentencias() - sentencias);
+        assertEquals(6, contabilidad.getFilas() - filas);
+    }
+
+    @Test
+    void terminarCaptura_MismaConsultaConDistintosValores_DeberiaAgruparlaEnUnaHuella() {
+        // Arrange
+        ContabilidadSql contabilidad = ContabilidadSql.actual();
+        contabilidad.iniciarCaptura();
+
+        // Act
+        for (int id = 1; id <= 4; id++) {
+            jdbcTemplate.queryForList("SELECT nombre FROM prueba WHERE id = " + id, String.class);
+        }
+        jdbcTemplate.queryForList("SELECT nombre FROM prueba WHERE id IN (?, ?, ?)", String.class, 1, 2, 3);
+        var huellas = contabilidad.terminarCaptura();
+
+        // Assert
+        assertEquals(4, huellas.get("SELECT nombre FROM prueba WHERE id = ?"));
+        assertEquals(1, huellas.get("SELECT nombre FROM prueba WHERE id IN (?...)"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.uoc.tfg.gestionvehiculos.jfr;
+
+import com.uoc.tfg.gestionvehiculos.dtos.jfr.EstadoGrabacionJfr;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class GrabacionesJfrTest {
+
+    private final GrabacionesJfr grabaciones = new GrabacionesJfr(60, 15, 64, "default");
+
+    @AfterEach
+    void tearDown() {
+        grabaciones.cerrar();
+    }
+
+    @Test
+    void volcar_GrabacionConEventoDeNegocio_DeberiaIncluirEventoConSusCampos() throws Exception {
+        // Arrange
+        EstadoGrabacionJfr estado = grabaciones.iniciar(500L);
+        EventoContratoCreado evento = new EventoContratoCreado();
+        evento.begin();
+        evento.contratoId = 7;
+        evento.numeroContrato = "RENT-2026-0007";
+        evento.cuotas = 36;
+        evento.commit();
+
+        // Act
+        Path fichero = grabaciones.volcar();
+        List<RecordedEvent> eventos;
+        try {
+            eventos = RecordingFile.readAllEvents(fichero).stream()
+                    .filter(e -> e.getEventType().getName().equals(EventosJfr.CONTRATO_CREADO))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(fichero);
+        }
+
+        // Assert
+        assertEquals("RUNNING", estado.getEstado());
+        assertEquals(60, estado.getDuracionMin());
+        assertEquals(1, eventos.size());
+        assertEquals(7, eventos.get(0).getLong("contratoId"));
+        assertEquals("RENT-2026-0007", eventos.get(0).getString("numeroContrato"));
+        assertEquals(36, eventos.get(0).getInt("cuotas"));
+    }
+
+    @Test
+    void iniciar_ConGrabacionEnCurso_DeberiaLanzarExcepcion() {
+        // Arrange
+        grabaciones.iniciar(1L);
+
+        // Act & Assert
+        assertThrows(InvalidOperationException.class, () -> grabaciones.iniciar(1L));
+        assertEquals("STOPPED", grabaciones.detener().getEstado());
+    }
+
+    @Test
+    void volcar_SinGrabacion_DeberiaLanzarExcepcion() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, grabaciones::volcar);
+        assertEquals("SIN_GRABACION", grabaciones.estado().getEstado());
+    }
+}
@@ -0,0 +1,71 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import com.uoc.tfg.gestionvehiculos.dtos.latencias.LatenciaRuta;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class LatenciasRutasTest {
+
+    private static final long NANOS_POR_MS = 1_000_000;
+
+    @Test
+    void peores_ConLatenciasRegistradas_DeberiaCalcularPercentilesPorRutaYClaseDeEstado() {
+        // Arrange
+        LatenciasRutas latencias = new LatenciasRutas(5);
+        for (int ms = 1; ms <= 1000; ms++) {
+            latencias.registrar("GET /api/contratos-renting", 200, ms * NANOS_POR_MS);
+        }
+        latencias.registrar("GET /api/contratos-renting", 404, 2 * NANOS_POR_MS);
+
+        // Act
+        List<LatenciaRuta> resultado = latencias.peores(10);
+
+        // Assert
+        assertEquals(2, resultado.size());
+        LatenciaRuta correctas = resultado.get(0);
+        assertEquals("GET /api/contratos-renting", correctas.getEndpoint());
+        assertEquals("2xx", correctas.getClaseEstado());
+        assertEquals(1000, correctas.getPeticiones());
+        assertEquals(500, correctas.getP50Ms(), 5);
+        assertEquals(990, correctas.getP99Ms(), 10);
+        assertEquals(1000, correctas.getMaxMs(), 10);
+        assertEquals("4xx", resultado.get(1).getClaseEstado());
+    }
+
+    @Test
+    void rotar_MasIntervalosQueLaVentana_DeberiaDescartarLosAntiguos() {
+        // Arrange
+        LatenciasRutas latencias = new LatenciasRutas(2);
+        latencias.registrar("GET /api/facturas-venta/beneficio-total", 200, 800 * NANOS_POR_MS);
+        latencias.rotar();
+        latencias.registrar("GET /api/facturas-venta/beneficio-total", 200, 10 * NANOS_POR_MS);
+
+        // Act
+        LatenciaRuta conAntiguo = latencias.peores(1).get(0);
+        latencias.rotar();
+        latencias.rotar();
+        LatenciaRuta sinAntiguo = latencias.peores(1).get(0);
+
+        // Assert
+        assertEquals(2, conAntiguo.getPeticiones());
+        assertEquals(800, conAntiguo.getMaxMs(), 8);
+        assertEquals(1, sinAntiguo.getPeticiones());
+        assertEquals(10, sinAntiguo.getMaxMs(), 1);
+    }
+
+    @Test
+    void claseEstado_DistintosCodigos_DeberiaAgruparPorCentena() {
+        // Act & Assert
+        assertEquals("2xx", LatenciasRutas.claseEstado(204));
+        assertEquals("5xx", LatenciasRutas.claseEstado(503));
+        assertEquals("otro", LatenciasRutas.claseEstado(0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.repositories.ContratoRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoResumenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class MetricasNegocioTest {
+
+    @Test
+    void actualizar_DeberiaPublicarLosConteosEnLosGauges() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CuotaRentingRepository cuotaRepository = mock(CuotaRentingRepository.class);
+        ContratoRentingRepository contratoRepository = mock(ContratoRentingRepository.class);
+        VehiculoResumenRepository resumenRepository = mock(VehiculoResumenRepository.class);
+        when(cuotaRepository.countByEstadoAndActivoTrueAndFechaVencimientoGreaterThanEqual(
+                eq(EstadoCuota.PENDIENTE), any(LocalDate.class))).thenReturn(12L);
+        when(cuotaRepository.countVencidas(any(LocalDate.class), eq(EstadoCuota.VENCIDA), eq(EstadoCuota.PENDIENTE)))
+                .thenReturn(3L);
+        when(contratoRepository.countByEstadoAndActivoTrue(EstadoContrato.ACTIVO)).thenReturn(5L);
+        when(resumenRepository.countByActivoTrueAndSituacion("DISPONIBLE")).thenReturn(8L);
+        MetricasNegocio metricas = new MetricasNegocio(cuotaRepository, contratoRepository, resumenRepository, registry);
+
+        // Act
+        double antes = registry.get("negocio.contratos.activos").gauge().value();
+        metricas.actualizar();
+
+        // Assert
+        assertEquals(0, antes);
+        assertEquals(12, registry.get("negocio.cuotas").tag("estado", "pendiente").gauge().value());
+        assertEquals(3, registry.get("negocio.cuotas").tag("estado", "vencida").gauge().value());
+        assertEquals(5, registry.get("negocio.contratos.activos").gauge().value());
+        assertEquals(8, registry.get("negocio.vehiculos.disponibles").gauge().value());
+    }
+}
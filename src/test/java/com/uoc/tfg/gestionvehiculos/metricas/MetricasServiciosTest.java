@@ -0,0 +1,67 @@
+package com.uoc.tfg.gestionvehiculos.metricas;
+
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.services.ResumenVehiculos;
+import com.uoc.tfg.gestionvehiculos.services.SituacionVehiculoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class MetricasServiciosTest {
+
+    private SimpleMeterRegistry registry;
+    private SituacionVehiculoRepository situacionRepository;
+    private SituacionVehiculoService servicio;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        situacionRepository = mock(SituacionVehiculoRepository.class);
+        AspectJProxyFactory proxy = new AspectJProxyFactory(new SituacionVehiculoService(
+                situacionRepository, mock(VersionesEntidades.class), mock(ResumenVehiculos.class)));
+        proxy.addAspect(new MetricasServicios(registry));
+        servicio = proxy.getProxy();
+    }
+
+    @Test
+    void medir_LlamadaCorrecta_DeberiaRegistrarTimerOk() {
+        // Arrange
+        when(situacionRepository.buscarPorClaveNatural("DISPONIBLE")).thenReturn(Optional.of(new SituacionVehiculo()));
+
+        // Act
+        servicio.obtenerPorNombre("DISPONIBLE");
+        servicio.obtenerPorNombre("DISPONIBLE");
+
+        // Assert
+        assertEquals(2, registry.get(MetricasServicios.LLAMADAS)
+                .tags("clase", "SituacionVehiculoService", "metodo", "obtenerPorNombre", "resultado", "ok")
+                .timer().count());
+        assertNull(registry.find(MetricasServicios.ERRORES).counter());
+    }
+
+    @Test
+    void medir_LlamadaConExcepcion_DeberiaContarErrorYRelanzarla() {
+        // Arrange
+        when(situacionRepository.buscarPorClaveNatural("INEXISTENTE")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> servicio.obtenerPorNombre("INEXISTENTE"));
+        assertEquals(1, registry.get(MetricasServicios.ERRORES)
+                .tags("metodo", "obtenerPorNombre", "excepcion", "RuntimeException")
+                .counter().count());
+        assertEquals(1, registry.get(MetricasServicios.LLAMADAS).tag("resultado", "error").timer().count());
+    }
+}
@@ -0,0 +1,57 @@
+package com.uoc.tfg.gestionvehiculos.migraciones;
+
+import org.flywaydb.core.api.migration.Context;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class V2__IndicesConNombrePorTablaTest {
+
+    @Test
+    void migrate_IndiceConNombreHeredado_DeberiaRenombrarloYDejarLosDemas() throws Exception {
+        // Arrange
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:migracion-v2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        try (Connection conexion = h2.getConnection(); Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("create table cuotas_renting (id bigint primary key, estado varchar(20))");
+            sentencia.execute("create index idx_estado on cuotas_renting (estado)");
+            sentencia.execute("create table reservas_venta (id bigint primary key, estado varchar(20))");
+            sentencia.execute("create index idx_reserva_estado on reservas_venta (estado)");
+            Context context = mock(Context.class);
+            when(context.getConnection()).thenReturn(conexion);
+
+            // Act
+            new V2__IndicesConNombrePorTabla().migrate(context);
+
+            // Assert
+            assertEquals(Set.of("idx_cuota_estado"), indices(conexion, "cuotas_renting"));
+            assertEquals(Set.of("idx_reserva_estado"), indices(conexion, "reservas_venta"));
+        }
+    }
+
+    private static Set<String> indices(Connection conexion, String tabla) throws Exception {
+        Set<String> nombres = new HashSet<>();
+        try (ResultSet indices = conexion.getMetaData().getIndexInfo(null, null, tabla, false, true)) {
+            while (indices.next()) {
+                String nombre = indices.getString("INDEX_NAME").toLowerCase();
+                if (nombre.startsWith("idx_")) {
+                    nombres.add(nombre);
+                }
+            }
+        }
+        return nombres;
+    }
+}
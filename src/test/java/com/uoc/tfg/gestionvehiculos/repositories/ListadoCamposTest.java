@@ -0,0 +1,61 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.enums.EstadoContrato;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class ListadoCamposTest {
+
+    @Test
+    void resolver_ConRepetidosYEspacios_DeberiaDevolverIdPrimeroSinRepetir() {
+        // Act
+        List<String> campos = ListadoCampos.VEHICULOS_ACTIVOS.resolver(List.of(" matricula", "marca", "", "matricula", "id"));
+
+        // Assert
+        assertEquals(List.of("id", "matricula", "marca"), campos);
+    }
+
+    @Test
+    void resolver_CampoInexistente_DeberiaLanzarExcepcion() {
+        // Act & Assert
+        InvalidOperationException exception = assertThrows(InvalidOperationException.class,
+                () -> ListadoCampos.VEHICULOS_ACTIVOS.resolver(List.of("matricula", "precio")));
+        assertTrue(exception.getMessage().contains("precio"));
+    }
+
+    @Test
+    void consulta_SoloCamposPropios_NoDeberiaHacerJoins() {
+        // Act
+        String consulta = ListadoCampos.CONTRATOS_ACTIVOS.consulta(List.of("id", "numeroContrato", "estado"));
+
+        // Assert
+        assertEquals("select c.id, c.numeroContrato, c.estado from ContratoRenting c " +
+                "where c.activo = true order by c.id", consulta);
+    }
+
+    @Test
+    void consulta_CamposDeRelacion_DeberiaHacerSoloLosJoinsNecesarios() {
+        // Act
+        String consulta = ListadoCampos.CONTRATOS_ACTIVOS.consulta(List.of("id", "vehiculoMatricula", "vehiculoId"));
+
+        // Assert
+        assertTrue(consulta.contains("left join c.vehiculo v"));
+        assertFalse(consulta.contains("c.cliente"));
+    }
+
+    @Test
+    void convertir_EstadoNombre_DeberiaDevolverElNombreDelEstado() {
+        // Act & Assert
+        assertEquals("ACTIVO", ListadoCampos.CONTRATOS_ACTIVOS.convertir("estadoNombre", EstadoContrato.ACTIVO));
+        assertEquals(EstadoContrato.ACTIVO, ListadoCampos.CONTRATOS_ACTIVOS.convertir("estado", EstadoContrato.ACTIVO));
+    }
+}
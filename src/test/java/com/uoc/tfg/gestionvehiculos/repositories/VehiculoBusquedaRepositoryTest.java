@@ -0,0 +1,94 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.config.AuditorAwareImpl;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.FiltroVehiculos;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Facetas de la búsqueda de vehículos sobre H2. El esquema lo crea Hibernate: las migraciones son de MySQL.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({VehiculoBusquedaRepository.class, AuditorAwareImpl.class})
+class VehiculoBusquedaRepositoryTest {
+
+    @Autowired
+    private VehiculoBusquedaRepository vehiculoBusquedaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        SituacionVehiculo disponible = new SituacionVehiculo();
+        disponible.setNombre("DISPONIBLE");
+        disponible.setDescripcion("Disponible");
+        entityManager.persist(disponible);
+
+        guardar("0001AAA", "Corolla", 5_000, true, disponible);
+        guardar("0002AAA", "Corolla", 60_000, true, disponible);
+        guardar("0003AAA", "Yaris", 60_000, true, disponible);
+        guardar("0004AAA", "Auris", 200_000, true, disponible);
+        guardar("0005AAA", "Prius", 9_999, false, disponible);
+        entityManager.flush();
+    }
+
+    @Test
+    void facetas_DeberiaContarKilometrosPorTramoYActivoSinSuPropioFiltro() {
+        // Arrange
+        FiltroVehiculos filtro = FiltroVehiculos.builder().kilometrosDesde(50_000).build();
+
+        // Act
+        Map<String, Map<String, Long>> facetas = vehiculoBusquedaRepository.facetas(filtro);
+
+        // Assert
+        assertEquals(Map.of("0-9999", 1L, "10000-49999", 0L, "50000-99999", 2L, "100000-149999", 0L,
+                "150000+", 1L), facetas.get(VehiculoBusquedaRepository.FACETA_KILOMETROS));
+        assertEquals(Map.of("true", 3L), facetas.get(VehiculoBusquedaRepository.FACETA_ACTIVO));
+        assertEquals(3L, facetas.get(VehiculoBusquedaRepository.FACETA_MARCA).get("Toyota"));
+    }
+
+    @Test
+    void facetas_ConMasModelosQueElLimite_DeberiaAgruparElRestoEnOtros() {
+        // Arrange
+        ReflectionTestUtils.setField(vehiculoBusquedaRepository, "maxValoresFaceta", 2);
+
+        // Act
+        Map<String, Long> modelos = vehiculoBusquedaRepository.facetas(new FiltroVehiculos())
+                .get(VehiculoBusquedaRepository.FACETA_MODELO);
+
+        // Assert
+        assertEquals(3, modelos.size());
+        assertEquals(2L, modelos.get("Corolla"));
+        assertEquals(1L, modelos.get(VehiculoBusquedaRepository.OTROS));
+    }
+
+    private void guardar(String matricula, String modelo, int kilometros, boolean activo, SituacionVehiculo situacion) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setMatricula(matricula);
+        vehiculo.setMarca("Toyota");
+        vehiculo.setModelo(modelo);
+        vehiculo.setAnyoFabricacion(2022);
+        vehiculo.setKilometros(kilometros);
+        vehiculo.setTipoCombustible(TipoCombustible.GASOLINA);
+        vehiculo.setSituacion(situacion);
+        vehiculo.setActivo(activo);
+        entityManager.persist(vehiculo);
+    }
+}
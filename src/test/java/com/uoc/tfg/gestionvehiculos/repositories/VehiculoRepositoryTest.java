@@ -0,0 +1,68 @@
+package com.uoc.tfg.gestionvehiculos.repositories;
+
+import com.uoc.tfg.gestionvehiculos.config.AuditorAwareImpl;
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Versiones de vehículos sobre H2. El esquema lo crea Hibernate: las migraciones son de MySQL.
+ *
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(AuditorAwareImpl.class)
+class VehiculoRepositoryTest {
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void findVersionActivos_SituacionModificadaDespues_DeberiaTomarSuFecha() {
+        // Arrange
+        SituacionVehiculo disponible = new SituacionVehiculo();
+        disponible.setNombre("DISPONIBLE");
+        disponible.setDescripcion("Disponible");
+        entityManager.persist(disponible);
+
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setMatricula("0001AAA");
+        vehiculo.setMarca("Toyota");
+        vehiculo.setModelo("Corolla");
+        vehiculo.setAnyoFabricacion(2022);
+        vehiculo.setTipoCombustible(TipoCombustible.GASOLINA);
+        vehiculo.setSituacion(disponible);
+        vehiculo.setActivo(true);
+        entityManager.persist(vehiculo);
+        entityManager.flush();
+
+        LocalDateTime renombrada = LocalDateTime.now().plusDays(1).withNano(0);
+        entityManager.createQuery("update SituacionVehiculo s set s.nombre = 'LIBRE', s.fechaActualizacion = :fecha")
+                .setParameter("fecha", renombrada)
+                .executeUpdate();
+
+        // Act
+        VersionRecurso listado = vehiculoRepository.findVersionActivos();
+        VersionRecurso individual = vehiculoRepository.findVersionById(vehiculo.getId());
+
+        // Assert
+        assertEquals(1, listado.getElementos());
+        assertEquals(renombrada, listado.getUltimaModificacion());
+        assertEquals(renombrada, individual.getUltimaModificacion());
+    }
+}
@@ -1,5 +1,6 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
 import com.uoc.tfg.gestionvehiculos.dtos.auth.LoginRequest;
 import com.uoc.tfg.gestionvehiculos.dtos.auth.LoginResponse;
 import com.uoc.tfg.gestionvehiculos.dtos.auth.RegistroRequest;
@@ -53,6 +54,9 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private VersionesEntidades versionesEntidades;
+
     @InjectMocks
     private AuthService authService;
 
@@ -104,7 +108,7 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(null);
         when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
-        when(usuarioRepository.findByUsername("testuser")).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.buscarPorClaveNatural("testuser")).thenReturn(Optional.of(usuario));
         when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
         when(jwtUtil.generateToken(userDetails)).thenReturn("mock.jwt.token");
 
@@ -122,7 +126,7 @@ class AuthServiceTest {
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userDetailsService, times(1)).loadUserByUsername("testuser");
-        verify(usuarioRepository, times(1)).findByUsername("testuser");
+        verify(usuarioRepository, times(1)).buscarPorClaveNatural("testuser");
         verify(usuarioRepository, times(1)).save(usuario);
         verify(jwtUtil, times(1)).generateToken(userDetails);
     }
@@ -132,7 +136,7 @@ class AuthServiceTest {
         // Arrange
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new BadCredentialsException("Credenciales inválidas"));
-        when(usuarioRepository.findByUsername("testuser")).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.buscarPorClaveNatural("testuser")).thenReturn(Optional.of(usuario));
         when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
 
         // Act & Assert
@@ -141,7 +145,7 @@ class AuthServiceTest {
         });
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(usuarioRepository, times(1)).findByUsername("testuser");
+        verify(usuarioRepository, times(1)).buscarPorClaveNatural("testuser");
         verify(usuarioRepository, times(1)).save(usuario); // Registra intento fallido
     }
 
@@ -151,7 +155,7 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(null);
         when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
-        when(usuarioRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+        when(usuarioRepository.buscarPorClaveNatural("testuser")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
@@ -160,7 +164,7 @@ class AuthServiceTest {
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userDetailsService, times(1)).loadUserByUsername("testuser");
-        verify(usuarioRepository, times(1)).findByUsername("testuser");
+        verify(usuarioRepository, times(1)).buscarPorClaveNatural("testuser");
     }
 
     @Test
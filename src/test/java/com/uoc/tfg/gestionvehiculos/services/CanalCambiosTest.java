@@ -0,0 +1,123 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.enums.EntidadCambio;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+class CanalCambiosTest {
+
+    @Test
+    void publicar_SuscriptorDeVehiculos_DeberiaRecibirSoloCambiosDeVehiculos() {
+        // Arrange
+        CanalCambios canal = new CanalCambios(new SyncTaskExecutor(), 10, 100, 0);
+        EmisorDePrueba emisor = new EmisorDePrueba();
+        canal.suscribir(emisor, EnumSet.of(EntidadCambio.VEHICULO), null);
+
+        // Act
+        canal.publicar(EntidadCambio.VEHICULO, 1L, "EN_RENTING", true);
+        canal.publicar(EntidadCambio.CUOTA_RENTING, 7L, "PAGADA", true);
+        canal.publicar(EntidadCambio.VEHICULO, 2L, "DISPONIBLE", false);
+
+        // Assert
+        assertEquals(List.of("1:cambio", "3:cambio"), emisor.eventos);
+        assertTrue(emisor.datos.get(0).contains("EN_RENTING"));
+    }
+
+    @Test
+    void publicar_ColaDelClienteLlena_DeberiaDescartarlaYEnviarResync() {
+        // Arrange
+        List<Runnable> envios = new ArrayList<>();
+        CanalCambios canal = new CanalCambios(envios::add, 2, 100, 0);
+        EmisorDePrueba emisor = new EmisorDePrueba();
+        canal.suscribir(emisor, EnumSet.allOf(EntidadCambio.class), null);
+
+        // Act
+        for (long id = 1; id <= 4; id++) {
+            canal.publicar(EntidadCambio.CONTRATO_RENTING, id, "ACTIVO", true);
+        }
+        canal.publicar(EntidadCambio.CONTRATO_RENTING, 5L, "FINALIZADO", true);
+        envios.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, envios.size());
+        assertEquals(List.of("5:resync", "4:cambio", "5:cambio"), emisor.eventos);
+    }
+
+    @Test
+    void suscribir_ConUltimoEventoEnHistorial_DeberiaReenviarLosPerdidos() {
+        // Arrange
+        CanalCambios canal = new CanalCambios(new SyncTaskExecutor(), 10, 3, 0);
+        for (long id = 1; id <= 5; id++) {
+            canal.publicar(EntidadCambio.VEHICULO, id, "DISPONIBLE", true);
+        }
+        EmisorDePrueba reanudado = new EmisorDePrueba();
+        EmisorDePrueba antiguo = new EmisorDePrueba();
+
+        // Act
+        canal.suscribir(reanudado, EnumSet.of(EntidadCambio.VEHICULO), canal.idEvento(3));
+        canal.suscribir(antiguo, EnumSet.of(EntidadCambio.VEHICULO), canal.idEvento(1));
+
+        // Assert
+        assertEquals(List.of("4:cambio", "5:cambio"), reanudado.eventos);
+        assertEquals(List.of("5:resync"), antiguo.eventos);
+        assertEquals(2, canal.getSuscriptores());
+    }
+
+    @Test
+    void suscribir_ConUltimoEventoDeOtraEjecucion_DeberiaEnviarResync() {
+        // Arrange
+        // Tras un reinicio la secuencia vuelve a empezar: el cliente trae ids que esta instancia no ha emitido
+        CanalCambios canal = new CanalCambios(new SyncTaskExecutor(), 10, 100, 0);
+        canal.publicar(EntidadCambio.VEHICULO, 1L, "DISPONIBLE", true);
+        canal.publicar(EntidadCambio.VEHICULO, 2L, "DISPONIBLE", true);
+        EmisorDePrueba anteriorAlReinicio = new EmisorDePrueba();
+        EmisorDePrueba posteriorALaSecuencia = new EmisorDePrueba();
+        EmisorDePrueba sinMarca = new EmisorDePrueba();
+
+        // Act
+        canal.suscribir(anteriorAlReinicio, EnumSet.of(EntidadCambio.VEHICULO), "otra-1");
+        canal.suscribir(posteriorALaSecuencia, EnumSet.of(EntidadCambio.VEHICULO), canal.idEvento(5000));
+        canal.suscribir(sinMarca, EnumSet.of(EntidadCambio.VEHICULO), "5000");
+        canal.publicar(EntidadCambio.VEHICULO, 3L, "EN_RENTING", true);
+
+        // Assert
+        assertEquals(List.of("2:resync", "3:cambio"), anteriorAlReinicio.eventos);
+        assertEquals(List.of("2:resync", "3:cambio"), posteriorALaSecuencia.eventos);
+        assertEquals(List.of("2:resync", "3:cambio"), sinMarca.eventos);
+        assertEquals(canal.idEvento(2), anteriorAlReinicio.ids.get(0));
+    }
+
+    /**
+     * Guarda "secuencia:nombre" de cada evento enviado en lugar de escribirlo en una respuesta
+     */
+    private static class EmisorDePrueba extends SseEmitter {
+        private final List<String> eventos = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> datos = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String texto = builder.build().stream()
+                    .map(d -> String.valueOf(d.getData()))
+                    .collect(Collectors.joining());
+            String id = texto.replaceAll("(?s).*id:([^\n]+)\n.*", "$1");
+            String nombre = texto.replaceAll("(?s).*event:(\\w+)\n.*", "$1");
+            ids.add(id);
+            eventos.add(id.substring(id.lastIndexOf('-') + 1) + ":" + nombre);
+            datos.add(texto);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteBusquedaResponse;
 import com.uoc.tfg.gestionvehiculos.entities.Cliente;
 import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
 import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
@@ -24,6 +25,15 @@ class ClienteServiceTest {
     @Mock
     private ClienteRepository clienteRepository;
 
+    @Mock
+    private IndiceClientes indiceClientes;
+
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private ResumenVehiculos resumenVehiculos;
+
     @InjectMocks
     private ClienteService clienteService;
 
@@ -134,6 +144,48 @@ class ClienteServiceTest {
         verify(clienteRepository, times(1)).save(any(Cliente.class));
     }
 
+    @Test
+    void crear_DocumentoConGuionYMinusculas_DeberiaGuardarloNormalizado() {
+        // Arrange
+        Cliente nuevoCliente = new Cliente();
+        nuevoCliente.setTipoCliente(TipoCliente.PARTICULAR);
+        nuevoCliente.setDocumento(" 87654321-b ");
+        nuevoCliente.setNombre("María");
+        nuevoCliente.setApellidos("López Sánchez");
+
+        when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Cliente resultado = clienteService.crear(nuevoCliente);
+
+        // Assert
+        assertEquals("87654321B", resultado.getDocumento());
+        verify(clienteRepository).existsByDocumento("87654321B");
+    }
+
+    @Test
+    void obtenerPorDocumento_GuardadoSinNormalizar_DeberiaEncontrarloPorSuTextoOriginal() {
+        // Arrange
+        when(clienteRepository.buscarPorClaveNatural("12345678Z")).thenReturn(Optional.empty());
+        when(clienteRepository.buscarPorClaveNatural("12345678-z")).thenReturn(Optional.of(clienteParticular));
+
+        // Act
+        Cliente resultado = clienteService.obtenerPorDocumento("12345678-z");
+
+        // Assert
+        assertSame(clienteParticular, resultado);
+    }
+
+    @Test
+    void obtenerPorDocumento_YaNormalizadoYSinResultado_DeberiaConsultarUnaSolaVez() {
+        // Arrange
+        when(clienteRepository.buscarPorClaveNatural("12345678Z")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> clienteService.obtenerPorDocumento("12345678Z"));
+        verify(clienteRepository, times(1)).buscarPorClaveNatural(any());
+    }
+
     @Test
     void crear_ClienteEmpresa_DeberiaGuardarYRetornarCliente() {
         // Arrange
@@ -262,4 +314,20 @@ class ClienteServiceTest {
         assertEquals(TipoCliente.PARTICULAR, resultado.get(0).getTipoCliente());
         assertEquals("Juan", resultado.get(0).getNombre());
     }
-}
\ No newline at end of file
+
+    @Test
+    void buscarClientes_DeberiaDevolverClientesCompletosEnOrdenDeRelevancia() {
+        // Arrange
+        when(indiceClientes.isCargado()).thenReturn(true);
+        when(indiceClientes.buscar("talleres", 10)).thenReturn(List.of(
+                ClienteBusquedaResponse.builder().id(2L).puntuacion(1.0).build(),
+                ClienteBusquedaResponse.builder().id(1L).puntuacion(0.5).build()));
+        when(clienteRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(clienteParticular, clienteEmpresa));
+
+        // Act
+        List<Cliente> resultado = clienteService.buscarClientes("talleres", 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), resultado.stream().map(Cliente::getId).toList());
+    }
+}
@@ -0,0 +1,223 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.CuotaAbierta;
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.MovimientoConciliado;
+import com.uoc.tfg.gestionvehiculos.dtos.conciliacion.ResultadoConciliacion;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoConciliacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoExtracto;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConciliacionBancariaServiceTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2026, 1, 5);
+
+    private static final String CAMT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.08">
+              <BkToCstmrStmt><Stmt>
+                <Bal><Amt Ccy="EUR">99999.00</Amt></Bal>
+                <Ntry>
+                  <Amt Ccy="EUR">750.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                  <BookgDt><Dt>2026-01-06</Dt></BookgDt><ValDt><Dt>2026-01-05</Dt></ValDt>
+                  <NtryDtls>
+                    <TxDtls>
+                      <Refs><EndToEndId>E2E-1</EndToEndId><MndtId>RENT-2026-0001</MndtId></Refs>
+                      <Amt Ccy="EUR">300.00</Amt>
+                    </TxDtls>
+                    <TxDtls>
+                      <Refs><EndToEndId>NOTPROVIDED</EndToEndId></Refs>
+                      <Amt Ccy="EUR">450.00</Amt>
+                      <RmtInf><Ustrd>Cuota renting RENT-2026-0002 enero</Ustrd></RmtInf>
+                    </TxDtls>
+                  </NtryDtls>
+                </Ntry>
+                <Ntry>
+                  <Amt Ccy="EUR">300.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                  <ValDt><Dt>2026-01-05</Dt></ValDt>
+                  <NtryDtls><TxDtls><Refs><MndtId>RENT-2026-0001</MndtId></Refs></TxDtls></NtryDtls>
+                </Ntry>
+                <Ntry>
+                  <Amt Ccy="EUR">120.00</Amt><CdtDbtInd>DBIT</CdtDbtInd>
+                  <ValDt><Dt>2026-01-05</Dt></ValDt>
+                </Ntry>
+                <Ntry>
+                  <Amt Ccy="EUR">300.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                  <ValDt><Dt>2026-01-05</Dt></ValDt>
+                  <AddtlNtryInf>RENT-2026-0001 RENT-2026-0003</AddtlNtryInf>
+                </Ntry>
+                <Ntry>
+                  <Amt Ccy="EUR">999.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                  <ValDt><Dt>2026-01-05</Dt></ValDt>
+                  <AddtlNtryInf>RENT-2026-0002</AddtlNtryInf>
+                </Ntry>
+                <Ntry>
+                  <Amt Ccy="EUR">50.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                  <ValDt><Dt>2026-01-05</Dt></ValDt>
+                  <AddtlNtryInf>Transferencia</AddtlNtryInf>
+                </Ntry>
+              </Stmt></BkToCstmrStmt>
+            </Document>
+            """;
+
+    @Mock
+    private CuotaRentingRepository cuotaRepository;
+
+    @Mock
+    private AuditorAware<String> auditorProvider;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CanalCambios canalCambios;
+
+    @Mock
+    private OutboxEventos outboxEventos;
+
+    private ConciliacionBancariaService conciliacionService;
+
+    @BeforeEach
+    void setUp() {
+        conciliacionService = new ConciliacionBancariaService(
+                cuotaRepository, auditorProvider, transactionTemplate, JsonMapper.builder().build(), canalCambios,
+                outboxEventos);
+
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        when(cuotaRepository.findAbiertasParaConciliar()).thenReturn(List.of(
+                new CuotaAbierta(1L, 1L, "RENT-2026-0001", 1, FECHA.minusMonths(1), new BigDecimal("300")),
+                new CuotaAbierta(2L, 1L, "RENT-2026-0001", 2, FECHA, new BigDecimal("300.00")),
+                new CuotaAbierta(5L, 1L, "RENT-2026-0001", 3, FECHA.plusMonths(1), new BigDecimal("300.00")),
+                new CuotaAbierta(3L, 2L, "RENT-2026-0002", 1, FECHA, new BigDecimal("450.00")),
+                new CuotaAbierta(4L, 3L, "RENT-2026-0003", 1, FECHA, new BigDecimal("300.00"))));
+        doAnswer(invocation -> {
+            Consumer<Object> accion = invocation.getArgument(0);
+            accion.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void conciliar_Camt053_DeberiaCasarPorContratoEImporteYMarcarAmbiguos() throws Exception {
+        // Arrange
+        when(cuotaRepository.marcarComoPagadas(anyCollection(), eq(FECHA), any(), eq("admin"))).thenReturn(3);
+
+        // Act
+        ResultadoConciliacion resultado = conciliacionService.conciliar(
+                new ByteArrayInputStream(CAMT.getBytes(StandardCharsets.UTF_8)), FormatoExtracto.CAMT053);
+
+        // Assert
+        List<MovimientoConciliado> detalle = resultado.getDetalle();
+        assertEquals(7, resultado.getMovimientos());
+
+        assertEquals(EstadoConciliacion.CONCILIADO, detalle.get(0).getEstado());
+        assertEquals(1L, detalle.get(0).getCuotaId());
+        assertEquals(EstadoConciliacion.CONCILIADO, detalle.get(1).getEstado());
+        assertEquals(3L, detalle.get(1).getCuotaId());
+        assertEquals(EstadoConciliacion.CONCILIADO, detalle.get(2).getEstado());
+        assertEquals(2L, detalle.get(2).getCuotaId());
+        assertEquals(EstadoConciliacion.IGNORADO, detalle.get(3).getEstado());
+        assertEquals(0, new BigDecimal("-120.00").compareTo(detalle.get(3).getImporte()));
+        assertEquals(EstadoConciliacion.AMBIGUO, detalle.get(4).getEstado());
+        assertEquals(EstadoConciliacion.IMPORTE_DISTINTO, detalle.get(5).getEstado());
+        assertEquals(EstadoConciliacion.SIN_COINCIDENCIA, detalle.get(6).getEstado());
+
+        assertEquals(3L, resultado.getPorEstado().get(EstadoConciliacion.CONCILIADO));
+        assertEquals(50.0, resultado.getTasaConciliacion());
+        assertEquals(0, new BigDecimal("1050.00").compareTo(resultado.getImporteConciliado()));
+        verify(cuotaRepository).marcarComoPagadas(eq(List.of(1L, 3L, 2L)), eq(FECHA), any(), eq("admin"));
+        verify(outboxEventos).registrarTodos(eq(TipoEventoDominio.CUOTA_PAGADA), argThat(eventos ->
+                eventos.get(3L).keySet().equals(OutboxEventos.cuotaPagada(null, null, null, null, null, null).keySet())
+                        && eventos.get(3L).get("contratoId").equals(2L)));
+    }
+
+    @Test
+    void conciliar_Csv_SiCambianCuotasDuranteLaAplicacion_DeberiaMarcarBloqueComoError() throws Exception {
+        // Arrange
+        String csv = """
+                fecha,importe,referencia,concepto
+                2026-01-05,450.00,RENT-2026-0002,
+                2026-01-05,no-es-un-importe,RENT-2026-0001,
+                """;
+        when(cuotaRepository.marcarComoPagadas(anyCollection(), any(), any(), any())).thenReturn(0);
+
+        // Act
+        ResultadoConciliacion resultado = conciliacionService.conciliar(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), FormatoExtracto.CSV);
+
+        // Assert
+        assertEquals(2, resultado.getMovimientos());
+        assertEquals(EstadoConciliacion.ERROR, resultado.getDetalle().get(0).getEstado());
+        assertEquals(EstadoConciliacion.SIN_COINCIDENCIA, resultado.getDetalle().get(1).getEstado());
+        assertNotNull(resultado.getDetalle().get(1).getMensaje());
+        assertEquals(0.0, resultado.getTasaConciliacion());
+    }
+
+    @Test
+    void conciliar_Camt053_ConGastosEImporteNoValido_DeberiaRespetarElSentidoYSeguir() throws Exception {
+        // Arrange
+        String camt = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.08">
+                  <BkToCstmrStmt><Stmt>
+                    <Ntry>
+                      <Amt Ccy="EUR">12,50</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                      <ValDt><Dt>2026-01-05</Dt></ValDt>
+                      <AddtlNtryInf>RENT-2026-0002</AddtlNtryInf>
+                    </Ntry>
+                    <Ntry>
+                      <Amt Ccy="EUR">450.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                      <ValDt><Dt>2026-01-05</Dt></ValDt>
+                      <Chrgs><Rcrd><Amt Ccy="EUR">1.00</Amt><CdtDbtInd>DBIT</CdtDbtInd></Rcrd></Chrgs>
+                      <AddtlNtryInf>RENT-2026-0002</AddtlNtryInf>
+                    </Ntry>
+                  </Stmt></BkToCstmrStmt>
+                </Document>
+                """;
+        ReflectionTestUtils.setField(conciliacionService, "maxDetalle", 1);
+        when(cuotaRepository.marcarComoPagadas(anyCollection(), eq(FECHA), any(), eq("admin"))).thenReturn(1);
+
+        // Act
+        ResultadoConciliacion resultado = conciliacionService.conciliar(
+                new ByteArrayInputStream(camt.getBytes(StandardCharsets.UTF_8)), FormatoExtracto.CAMT053);
+
+        // Assert
+        assertEquals(2, resultado.getMovimientos());
+        assertEquals(1L, resultado.getPorEstado().get(EstadoConciliacion.SIN_COINCIDENCIA));
+        assertEquals(1L, resultado.getPorEstado().get(EstadoConciliacion.CONCILIADO));
+        assertEquals(0, new BigDecimal("450.00").compareTo(resultado.getImporteConciliado()));
+        assertEquals(1, resultado.getDetalle().size());
+        assertTrue(resultado.getDetalle().get(0).getMensaje().contains("12,50"));
+        assertTrue(resultado.isDetalleTruncado());
+    }
+}
@@ -42,6 +42,18 @@ class ContratoRentingServiceTest {
     @Mock
     private ClienteService clienteService;
 
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private CanalCambios canalCambios;
+
+    @Mock
+    private OutboxEventos outboxEventos;
+
+    @Mock
+    private ResumenVehiculos resumenVehiculos;
+
     @Mock
     private Vehiculo vehiculo;
 
@@ -0,0 +1,128 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.eventos.EventoDominio;
+import com.uoc.tfg.gestionvehiculos.entities.EventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoEventoOutbox;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import com.uoc.tfg.gestionvehiculos.repositories.EventoOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.SyncTaskExecutor;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class DespachadorEventosTest {
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Mock
+    private ObjectProvider<ManejadorEventos> manejadores;
+
+    private final List<Long> entregados = new ArrayList<>();
+    private final Set<Long> conError = new HashSet<>();
+
+    private DespachadorEventos despachador;
+
+    @BeforeEach
+    void setUp() {
+        ManejadorEventos manejador = new ManejadorEventos() {
+            @Override
+            public Set<TipoEventoDominio> tipos() {
+                return EnumSet.allOf(TipoEventoDominio.class);
+            }
+
+            @Override
+            public void manejar(EventoDominio evento) {
+                if (conError.contains(evento.getId())) {
+                    throw new IllegalStateException("destino no disponible");
+                }
+                entregados.add(evento.getId());
+            }
+        };
+        when(manejadores.orderedStream()).thenAnswer(i -> Stream.of(manejador));
+        despachador = new DespachadorEventos(eventoOutboxRepository, manejadores, new SyncTaskExecutor(),
+                JsonMapper.builder().build(), 10, 3, 1000, 7);
+    }
+
+    @Test
+    void despacharLote_EventoConError_DeberiaDetenerSuAgregadoYEntregarLosDemas() {
+        // Arrange
+        conError.add(1L);
+        when(eventoOutboxRepository.buscarEntregables(any(), eq(10))).thenReturn(List.of(
+                evento(1L, TipoEventoDominio.CONTRATO_CREADO, 7L, 0),
+                evento(2L, TipoEventoDominio.CUOTA_PAGADA, 40L, 0),
+                evento(3L, TipoEventoDominio.CONTRATO_CREADO, 7L, 0)));
+
+        // Act
+        int leidos = despachador.despacharLote();
+
+        // Assert
+        assertEquals(3, leidos);
+        assertEquals(List.of(2L), entregados);
+        verify(eventoOutboxRepository).marcarProcesados(eq(List.of(2L)), any());
+
+        ArgumentCaptor<List<EventoOutbox>> fallos = ArgumentCaptor.captor();
+        verify(eventoOutboxRepository).marcarFallos(fallos.capture());
+        EventoOutbox fallido = fallos.getValue().get(0);
+        assertEquals(1, fallos.getValue().size());
+        assertEquals(1L, fallido.getId());
+        assertEquals(1, fallido.getIntentos());
+        assertEquals(EstadoEventoOutbox.PENDIENTE, fallido.getEstado());
+        assertTrue(fallido.getSiguienteIntento().isAfter(LocalDateTime.now()));
+        assertTrue(fallido.getUltimoError().contains("destino no disponible"));
+    }
+
+    @Test
+    void despacharLote_UltimoIntento_DeberiaMarcarFallidoYSeguirConElAgregado() {
+        // Arrange
+        conError.add(1L);
+        when(eventoOutboxRepository.buscarEntregables(any(), eq(10))).thenReturn(List.of(
+                evento(1L, TipoEventoDominio.RESERVA_COMPLETADA, 5L, 2),
+                evento(2L, TipoEventoDominio.RESERVA_EXPIRADA, 5L, 0)));
+
+        // Act
+        despachador.despacharLote();
+
+        // Assert
+        assertEquals(List.of(2L), entregados);
+        verify(eventoOutboxRepository).marcarFallos(argThat(fallos ->
+                fallos.size() == 1 && fallos.get(0).getEstado() == EstadoEventoOutbox.FALLIDO));
+        assertEquals(1, despachador.estado().getDescartados());
+    }
+
+    private EventoOutbox evento(Long id, TipoEventoDominio tipo, Long agregadoId, int intentos) {
+        return EventoOutbox.builder()
+                .id(id)
+                .tipo(tipo)
+                .agregado(tipo.getAgregado())
+                .agregadoId(agregadoId)
+                .datos("{\"numero\":" + id + "}")
+                .estado(EstadoEventoOutbox.PENDIENTE)
+                .intentos(intentos)
+                .fechaCreacion(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
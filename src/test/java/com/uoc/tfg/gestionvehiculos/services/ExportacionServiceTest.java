@@ -0,0 +1,123 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.CuotaRentingExportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.exportacion.FacturaVentaExportacion;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaCompraRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaVentaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportacionServiceTest {
+
+    @Mock
+    private FacturaVentaRepository facturaVentaRepository;
+
+    @Mock
+    private FacturaCompraRepository facturaCompraRepository;
+
+    @Mock
+    private CuotaRentingRepository cuotaRepository;
+
+    private ExportacionService exportacionService;
+
+    private final LocalDate inicio = LocalDate.of(2025, 1, 1);
+    private final LocalDate fin = LocalDate.of(2025, 12, 31);
+
+    @BeforeEach
+    void setUp() {
+        exportacionService = new ExportacionService(
+                facturaVentaRepository, facturaCompraRepository, cuotaRepository, JsonMapper.builder().build());
+    }
+
+    @Test
+    void exportarFacturasVenta_EnCsv_DeberiaEscribirCabeceraYFilasEscapadas() throws Exception {
+        // Arrange
+        FacturaVentaExportacion factura = new FacturaVentaExportacion(
+                1L, "FV-001", LocalDate.of(2025, 3, 15), "12345678A", "Pérez, Juan",
+                "1234ABC", new BigDecimal("10000.00"), new BigDecimal("21.00"), null, new BigDecimal("12100.00"));
+        when(facturaVentaRepository.streamParaExportacion(inicio, fin)).thenReturn(Stream.of(factura));
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        long total = exportacionService.exportarFacturasVenta(inicio, fin, FormatoFichero.CSV, salida);
+
+        // Assert
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, total);
+        assertEquals(2, lineas.length);
+        assertEquals(String.join(",", FacturaVentaExportacion.CABECERA), lineas[0]);
+        assertEquals("1,FV-001,2025-03-15,12345678A,\"Pérez, Juan\",1234ABC,10000.00,21.00,,12100.00", lineas[1]);
+    }
+
+    @Test
+    void exportarCuotas_EnNdjson_DeberiaEscribirUnObjetoPorLinea() throws Exception {
+        // Arrange
+        CuotaRentingExportacion cuota1 = new CuotaRentingExportacion(
+                1L, "RENT-2025-0001", "12345678A", 1, LocalDate.of(2025, 2, 1), null,
+                new BigDecimal("500.00"), EstadoCuota.PENDIENTE);
+        CuotaRentingExportacion cuota2 = new CuotaRentingExportacion(
+                2L, "RENT-2025-0001", "12345678A", 2, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1),
+                new BigDecimal("500.00"), EstadoCuota.PAGADA);
+        when(cuotaRepository.streamParaExportacion(inicio, fin)).thenReturn(Stream.of(cuota1, cuota2));
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        long total = exportacionService.exportarCuotas(inicio, fin, FormatoFichero.NDJSON, salida);
+
+        // Assert
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, total);
+        assertEquals(2, lineas.length);
+        assertTrue(lineas[0].startsWith("{") && lineas[0].contains("\"estado\":\"PENDIENTE\""));
+        assertTrue(lineas[1].contains("\"fechaPago\":\"2025-03-01\""));
+        assertFalse(lineas[0].contains("valores"));
+    }
+
+    @Test
+    void exportarFacturasVenta_DeberiaCerrarElStream() throws Exception {
+        // Arrange
+        AtomicBoolean cerrado = new AtomicBoolean(false);
+        when(facturaVentaRepository.streamParaExportacion(inicio, fin))
+                .thenReturn(Stream.<FacturaVentaExportacion>empty().onClose(() -> cerrado.set(true)));
+
+        // Act
+        long total = exportacionService.exportarFacturasVenta(
+                inicio, fin, FormatoFichero.CSV, new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(0, total);
+        assertTrue(cerrado.get());
+    }
+
+    @Test
+    void exportarFacturasCompra_ConPeriodoInvertido_DeberiaLanzarExcepcion() {
+        // Act & Assert
+        assertThrows(InvalidOperationException.class, () ->
+                exportacionService.exportarFacturasCompra(fin, inicio, FormatoFichero.CSV, new ByteArrayOutputStream()));
+        verifyNoInteractions(facturaCompraRepository);
+    }
+}
@@ -38,6 +38,12 @@ class FacturaCompraServiceTest {
     @Mock
     private ProveedorService proveedorService;
 
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private ResumenVehiculos resumenVehiculos;
+
     @InjectMocks
     private FacturaCompraService facturaCompraService;
 
@@ -44,6 +44,15 @@ class FacturaVentaServiceTest {
     @Mock
     private ReservaVentaService reservaVentaService;
 
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private OutboxEventos outboxEventos;
+
+    @Mock
+    private ResumenVehiculos resumenVehiculos;
+
     @InjectMocks
     private FacturaVentaService facturaVentaService;
 
@@ -0,0 +1,177 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.FichaClienteResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.SeccionFicha;
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import com.uoc.tfg.gestionvehiculos.exceptions.ServiceUnavailableException;
+import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ContratoRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaVentaRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ReservaVentaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class FichaClienteServiceTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private ContratoRentingRepository contratoRepository;
+
+    @Mock
+    private CuotaRentingRepository cuotaRepository;
+
+    @Mock
+    private ReservaVentaRepository reservaRepository;
+
+    @Mock
+    private FacturaVentaRepository facturaVentaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FichaClienteService fichaClienteService;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        fichaClienteService = new FichaClienteService(clienteRepository, contratoRepository, cuotaRepository,
+                reservaRepository, facturaVentaRepository, transactionManager, 5, 10, 5000);
+
+        cliente = new Cliente();
+        cliente.setId(1L);
+        cliente.setTipoCliente(TipoCliente.PARTICULAR);
+        cliente.setDocumento("12345678A");
+        cliente.setNombre("Juan");
+        cliente.setApellidos("Pérez García");
+        cliente.setActivo(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fichaClienteService.cerrar();
+    }
+
+    @Test
+    void obtener_DeberiaLanzarLasConsultasALaVezYDevolverElCosteDeCadaSeccion() {
+        // Arrange
+        // Ninguna consulta termina hasta que han empezado las cinco: en serie, la primera esperaría para siempre
+        CountDownLatch empezadas = new CountDownLatch(5);
+        when(clienteRepository.findById(1L)).thenAnswer(esperarALas(empezadas, Optional.of(cliente)));
+        when(contratoRepository.findParaFichaCliente(1L)).thenAnswer(esperarALas(empezadas, List.of()));
+        when(cuotaRepository.findParaFichaCliente(1L)).thenAnswer(esperarALas(empezadas, List.of()));
+        when(reservaRepository.findParaFichaCliente(1L)).thenAnswer(esperarALas(empezadas, List.of()));
+        when(facturaVentaRepository.findParaFichaCliente(1L)).thenAnswer(esperarALas(empezadas, List.of()));
+
+        // Act
+        FichaClienteResponse ficha = fichaClienteService.obtener(1L);
+
+        // Assert
+        assertEquals("Juan Pérez García", ficha.getCliente().getNombreCompleto());
+        assertTrue(ficha.getContratos().isEmpty());
+        assertTrue(ficha.getFacturas().isEmpty());
+        assertEquals(List.of("cliente", "contratos", "cuotas", "reservas", "facturas"),
+                ficha.getSecciones().stream().map(SeccionFicha::getSeccion).toList());
+        assertEquals(1, ficha.getSecciones().get(0).getElementos());
+        verify(transactionManager, times(5)).commit(any());
+    }
+
+    @Test
+    void obtener_ClienteInexistente_DeberiaLanzarResourceNotFoundException() {
+        // Arrange
+        when(clienteRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> fichaClienteService.obtener(99L));
+    }
+
+    @Test
+    void obtener_ConsultaFallida_DeberiaPropagarLaExcepcionOriginal() {
+        // Arrange
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(cuotaRepository.findParaFichaCliente(1L)).thenThrow(new IllegalStateException("Conexión perdida"));
+
+        // Act
+        IllegalStateException excepcion = assertThrows(IllegalStateException.class,
+                () -> fichaClienteService.obtener(1L));
+
+        // Assert
+        assertEquals("Conexión perdida", excepcion.getMessage());
+    }
+
+    @Test
+    void obtener_ConLaColaDeConsultasLlena_DeberiaLanzarServiceUnavailableException() {
+        // Arrange
+        // Un hilo y un hueco en la cola: la consulta del cliente ocupa el hilo, la de contratos la cola.
+        // Al rechazar la ficha se cancela la del cliente, que puede no llegar a ejecutarse
+        FichaClienteService saturado = new FichaClienteService(clienteRepository, contratoRepository,
+                cuotaRepository, reservaRepository, facturaVentaRepository, transactionManager, 1, 1, 5000);
+        CountDownLatch liberar = new CountDownLatch(1);
+        lenient().when(clienteRepository.findById(1L)).thenAnswer(invocacion -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return Optional.of(cliente);
+        });
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceUnavailableException.class, () -> saturado.obtener(1L));
+        } finally {
+            liberar.countDown();
+            saturado.cerrar();
+        }
+    }
+
+    @Test
+    void obtener_ConsultaQueNoTerminaATiempo_DeberiaLanzarServiceUnavailableException() {
+        // Arrange
+        FichaClienteService conPlazo = new FichaClienteService(clienteRepository, contratoRepository,
+                cuotaRepository, reservaRepository, facturaVentaRepository, transactionManager, 5, 10, 100);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(clienteRepository.findById(1L)).thenAnswer(invocacion -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return Optional.of(cliente);
+        });
+
+        // Act & Assert
+        try {
+            ServiceUnavailableException excepcion = assertThrows(ServiceUnavailableException.class,
+                    () -> conPlazo.obtener(1L));
+            assertEquals("La ficha del cliente no se ha podido obtener a tiempo", excepcion.getMessage());
+        } finally {
+            liberar.countDown();
+            conPlazo.cerrar();
+        }
+    }
+
+    private static Answer<Object> esperarALas(CountDownLatch empezadas, Object resultado) {
+        return invocacion -> {
+            empezadas.countDown();
+            assertTrue(empezadas.await(5, TimeUnit.SECONDS), "Las consultas no se han lanzado a la vez");
+            return resultado;
+        };
+    }
+}
@@ -0,0 +1,205 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.EstadoImportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.ResultadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.entities.Cliente;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ImportacionJdbcRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImportacionClienteServiceTest {
+
+    private static final String CABECERA = "tipoCliente,documento,nombre,apellidos,razonSocial,direccion,email";
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private ImportacionJdbcRepository importacionJdbcRepository;
+
+    @Mock
+    private IndiceClientes indiceClientes;
+
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private AuditorAware<String> auditorProvider;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path directorio;
+
+    private ImportacionClienteService importacionService;
+
+    @BeforeEach
+    void setUp() {
+        importacionService = new ImportacionClienteService(
+                clienteRepository, importacionJdbcRepository, new RegistroImportaciones(), indiceClientes, indiceIdentificadores, auditorProvider,
+                transactionTemplate, new SyncTaskExecutor(), Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build());
+
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        when(clienteRepository.findDocumentosExistentes(anyCollection())).thenReturn(Set.of("99999999R"));
+
+        doAnswer(invocation -> {
+            Consumer<Object> accion = invocation.getArgument(0);
+            accion.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        doAnswer(invocation -> {
+            List<Cliente> clientes = invocation.getArgument(0);
+            long id = 100;
+            for (Cliente c : clientes) {
+                c.setId(id++);
+            }
+            return null;
+        }).when(importacionJdbcRepository).insertarClientes(any(), eq("admin"));
+    }
+
+    @Test
+    void iniciar_DeberiaNormalizarDocumentoYDescartarDuplicados() throws Exception {
+        // Arrange
+        Path fichero = directorio.resolve("clientes.csv");
+        Files.writeString(fichero, String.join("\n",
+                CABECERA,
+                "PARTICULAR,12345678-z,Ana,García,,Calle Mayor 1,ana@test.com",
+                "PARTICULAR,12345678Z,Ana,García,,Calle Mayor 1,",
+                "PARTICULAR,99999999 r,Luis,Pérez,,Calle Sol 2,",
+                "EMPRESA,B12345678,Talleres,,,Polígono 3,",
+                "EMPRESA,B87654321,Talleres,,Talleres SL,Polígono 3,no-es-un-email"
+        ));
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.CSV, 0);
+
+        // Assert
+        assertNull(estado.getError());
+        assertEquals(1, estado.getFilasCreadas().get());
+        assertEquals(4, estado.getFilasRechazadas().get());
+        assertEquals(6, estado.getUltimaFilaConfirmada().get());
+
+        List<ResultadoFilaImportacion> resultados = new ArrayList<>(estado.getResultados());
+        assertEquals(EstadoFilaImportacion.CREADO, resultados.get(0).getEstado());
+        assertEquals("12345678Z", resultados.get(0).getClave());
+        assertEquals(EstadoFilaImportacion.DUPLICADO, resultados.get(1).getEstado());
+        assertEquals(EstadoFilaImportacion.DUPLICADO, resultados.get(2).getEstado());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(3).getEstado());
+        assertTrue(resultados.get(3).getMensajes().get(0).contains("razón social"));
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(4).getEstado());
+
+        verify(clienteRepository, times(1)).findDocumentosExistentes(anyCollection());
+        verify(clienteRepository, never()).existsByDocumento(any());
+    }
+
+    @Test
+    void iniciar_ConFilaNdjsonNula_DeberiaRechazarlaYSeguir() throws Exception {
+        // Arrange
+        Path fichero = directorio.resolve("clientes.ndjson");
+        Files.writeString(fichero, String.join("\n",
+                "null",
+                "{\"tipoCliente\":\"PARTICULAR\",\"documento\":\"11111111h\",\"nombre\":\"Ana\"," +
+                        "\"apellidos\":\"García\",\"direccion\":\"Calle Mayor 1\"}"
+        ));
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.NDJSON, 0);
+
+        // Assert
+        assertNull(estado.getError());
+        List<ResultadoFilaImportacion> resultados = new ArrayList<>(estado.getResultados());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(0).getEstado());
+        assertEquals(EstadoFilaImportacion.CREADO, resultados.get(1).getEstado());
+        assertEquals("11111111H", resultados.get(1).getClave());
+    }
+
+    @Test
+    void iniciar_ConDesdeFila_DeberiaOmitirFilasYaConfirmadas() throws Exception {
+        // Arrange
+        Path fichero = directorio.resolve("clientes.csv");
+        Files.writeString(fichero, String.join("\n",
+                CABECERA,
+                "PARTICULAR,11111111H,Ana,García,,Calle Mayor 1,",
+                "PARTICULAR,22222222J,Luis,Pérez,,Calle Sol 2,"
+        ));
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.CSV, 2);
+
+        // Assert
+        assertEquals(1, estado.getFilasProcesadas().get());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Cliente>> clientes = ArgumentCaptor.forClass(List.class);
+        verify(importacionJdbcRepository).insertarClientes(clientes.capture(), eq("admin"));
+        assertEquals("22222222J", clientes.getValue().get(0).getDocumento());
+    }
+
+    @Test
+    void iniciar_SiFallaUnBloque_DeberiaDetenerseEnElUltimoPuntoDeControl() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(importacionService, "tamanoBloque", 1);
+        Path fichero = directorio.resolve("clientes.csv");
+        Files.writeString(fichero, String.join("\n",
+                CABECERA,
+                "PARTICULAR,11111111H,Ana,García,,Calle Mayor 1,",
+                "PARTICULAR,22222222J,Luis,Pérez,,Calle Sol 2,",
+                "PARTICULAR,33333333P,Eva,Ruiz,,Calle Luna 3,"
+        ));
+        doAnswer(invocation -> {
+            Consumer<Object> accion = invocation.getArgument(0);
+            accion.accept(null);
+            return null;
+        }).doThrow(new DataIntegrityViolationException("uk_documento"))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.CSV, 0);
+
+        // Assert
+        assertTrue(estado.isFinalizada());
+        assertNotNull(estado.getError());
+        assertEquals(2, estado.getUltimaFilaConfirmada().get());
+        assertEquals(1, estado.getFilasCreadas().get());
+    }
+}
@@ -0,0 +1,223 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.EstadoImportacion;
+import com.uoc.tfg.gestionvehiculos.dtos.importacion.ResultadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.entities.FacturaCompra;
+import com.uoc.tfg.gestionvehiculos.entities.Proveedor;
+import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
+import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoFilaImportacion;
+import com.uoc.tfg.gestionvehiculos.enums.FormatoFichero;
+import com.uoc.tfg.gestionvehiculos.repositories.FacturaCompraRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ImportacionJdbcRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.ProveedorRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.SituacionVehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImportacionVehiculoServiceTest {
+
+    private static final String CABECERA = "matricula,marca,modelo,anyoFabricacion,color,kilometros," +
+            "numeroBastidor,tipoCombustible,situacion,numeroFactura,fechaFactura,importeBase,iva,proveedorCif";
+
+    @Mock
+    private VehiculoRepository vehiculoRepository;
+
+    @Mock
+    private FacturaCompraRepository facturaCompraRepository;
+
+    @Mock
+    private ProveedorRepository proveedorRepository;
+
+    @Mock
+    private SituacionVehiculoRepository situacionRepository;
+
+    @Mock
+    private ImportacionJdbcRepository importacionJdbcRepository;
+
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private CanalCambios canalCambios;
+
+    @Mock
+    private ResumenVehiculos resumenVehiculos;
+
+    @Mock
+    private AuditorAware<String> auditorProvider;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path directorio;
+
+    private ImportacionVehiculoService importacionService;
+
+    @BeforeEach
+    void setUp() {
+        importacionService = new ImportacionVehiculoService(
+                vehiculoRepository, facturaCompraRepository, proveedorRepository, situacionRepository,
+                importacionJdbcRepository, new RegistroImportaciones(), indiceIdentificadores, new VersionesEntidades(),
+                canalCambios, resumenVehiculos, auditorProvider, transactionTemplate,
+                new SyncTaskExecutor(), Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build());
+
+        SituacionVehiculo disponible = new SituacionVehiculo();
+        disponible.setId(1L);
+        disponible.setNombre("DISPONIBLE");
+        when(situacionRepository.findAll()).thenReturn(List.of(disponible));
+
+        Proveedor proveedor = new Proveedor();
+        proveedor.setId(7L);
+        proveedor.setCif("B11111111");
+        when(proveedorRepository.findByCifIn(anyCollection())).thenReturn(List.of(proveedor));
+
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        when(vehiculoRepository.findMatriculasExistentes(anyCollection())).thenReturn(Set.of("9999ZZZ"));
+        when(vehiculoRepository.findBastidoresExistentes(anyCollection())).thenReturn(Set.of());
+        when(facturaCompraRepository.findNumerosFacturaExistentes(anyCollection())).thenReturn(Set.of());
+
+        doAnswer(invocation -> {
+            Consumer<Object> accion = invocation.getArgument(0);
+            accion.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        doAnswer(invocation -> {
+            List<Vehiculo> vehiculos = invocation.getArgument(0);
+            long id = 100;
+            for (Vehiculo v : vehiculos) {
+                v.setId(id++);
+            }
+            return null;
+        }).when(importacionJdbcRepository).insertarVehiculos(any(), eq("admin"));
+    }
+
+    @Test
+    void iniciar_ConFicheroCsv_DeberiaClasificarCadaFilaEInsertarPorLotes() throws Exception {
+        // Arrange
+        Path fichero = directorio.resolve("vehiculos.csv");
+        Files.writeString(fichero, String.join("\n",
+                CABECERA,
+                "1234abc,Toyota,Corolla,2022,Blanco,1000,VIN00000000000001,GASOLINA,,FC-1,2025-01-10,10000,21,B11111111",
+                "9999ZZZ,Seat,Ibiza,2021,Rojo,500,VIN00000000000002,DIESEL,,,,,,",
+                "1234ABC,Seat,Leon,2021,Rojo,500,VIN00000000000003,DIESEL,,,,,,",
+                "5555BBB,Seat,Leon,2021,Rojo,-1,VIN00000000000004,DIESEL,,,,,,",
+                "6666CCC,Seat,Leon,2021,Rojo,0,VIN00000000000005,DIESEL,,FC-2,2025-01-10,10000,21,B00000000",
+                "7777DDD,Seat,Leon,no-es-un-año,Rojo,0,VIN00000000000006,DIESEL,,,,,,"
+        ));
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.CSV);
+
+        // Assert
+        assertTrue(estado.isFinalizada());
+        assertNull(estado.getError());
+        assertEquals(6, estado.getFilasProcesadas().get());
+        assertEquals(1, estado.getFilasCreadas().get());
+        assertEquals(5, estado.getFilasRechazadas().get());
+
+        List<ResultadoFilaImportacion> resultados = new ArrayList<>(estado.getResultados());
+        assertEquals(EstadoFilaImportacion.CREADO, resultados.get(0).getEstado());
+        assertEquals("1234ABC", resultados.get(0).getClave());
+        assertEquals(100L, resultados.get(0).getId());
+        assertEquals(EstadoFilaImportacion.DUPLICADO, resultados.get(1).getEstado());
+        assertEquals(EstadoFilaImportacion.DUPLICADO, resultados.get(2).getEstado());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(3).getEstado());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(4).getEstado());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(5).getEstado());
+        assertEquals(7, resultados.get(5).getFila());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FacturaCompra>> facturas = ArgumentCaptor.forClass(List.class);
+        verify(importacionJdbcRepository).insertarFacturasCompra(facturas.capture(), eq("admin"));
+        assertEquals(1, facturas.getValue().size());
+        assertEquals(100L, facturas.getValue().get(0).getVehiculo().getId());
+        assertEquals(0, facturas.getValue().get(0).getImporteTotal().compareTo(new java.math.BigDecimal("12100")));
+        verify(vehiculoRepository, times(1)).findMatriculasExistentes(anyCollection());
+        assertFalse(Files.exists(fichero));
+    }
+
+    @Test
+    void iniciar_ConFicheroNdjson_DeberiaAsignarSituacionPorDefecto() throws Exception {
+        // Arrange
+        Path fichero = directorio.resolve("vehiculos.ndjson");
+        Files.writeString(fichero,
+                "{\"matricula\":\"1111AAA\",\"marca\":\"Kia\",\"modelo\":\"Niro\",\"anyoFabricacion\":2023," +
+                        "\"kilometros\":0,\"numeroBastidor\":\"VIN00000000000010\",\"tipoCombustible\":\"HIBRIDO\"}\n");
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.NDJSON);
+
+        // Assert
+        assertEquals(1, estado.getFilasCreadas().get());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Vehiculo>> vehiculos = ArgumentCaptor.forClass(List.class);
+        verify(importacionJdbcRepository).insertarVehiculos(vehiculos.capture(), eq("admin"));
+        assertEquals("DISPONIBLE", vehiculos.getValue().get(0).getSituacion().getNombre());
+        verify(importacionJdbcRepository, never()).insertarFacturasCompra(any(), any());
+    }
+
+    @Test
+    void iniciar_FilaRechazadaPorProveedor_NoDeberiaBloquearSuMatriculaNiSuBastidor() throws Exception {
+        // Arrange
+        Path fichero = directorio.resolve("vehiculos.ndjson");
+        Files.writeString(fichero, String.join("\n",
+                "{\"matricula\":\"2222BBB\",\"marca\":\"Kia\",\"modelo\":\"Niro\",\"anyoFabricacion\":2023," +
+                        "\"kilometros\":0,\"numeroBastidor\":\"VIN00000000000020\",\"tipoCombustible\":\"HIBRIDO\"," +
+                        "\"numeroFactura\":\"FC-9\",\"fechaFactura\":\"2025-01-10\",\"importeBase\":10000,\"iva\":21," +
+                        "\"proveedorCif\":\"B00000000\"}",
+                "null",
+                "{\"matricula\":\"2222BBB\",\"marca\":\"Kia\",\"modelo\":\"Niro\",\"anyoFabricacion\":2023," +
+                        "\"kilometros\":0,\"numeroBastidor\":\"VIN00000000000020\",\"tipoCombustible\":\"HIBRIDO\"}"
+        ));
+
+        // Act
+        EstadoImportacion estado = importacionService.iniciar(fichero, FormatoFichero.NDJSON);
+
+        // Assert
+        assertNull(estado.getError());
+        List<ResultadoFilaImportacion> resultados = new ArrayList<>(estado.getResultados());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(0).getEstado());
+        assertEquals(EstadoFilaImportacion.INVALIDO, resultados.get(1).getEstado());
+        assertEquals(EstadoFilaImportacion.CREADO, resultados.get(2).getEstado());
+        assertEquals(1, estado.getFilasCreadas().get());
+    }
+}
@@ -0,0 +1,181 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteBusquedaResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cliente.ClienteIndexado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoCliente;
+import com.uoc.tfg.gestionvehiculos.repositories.ClienteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class IndiceClientesTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @InjectMocks
+    private IndiceClientes indiceClientes;
+
+    @BeforeEach
+    void setUp() {
+        when(clienteRepository.findActivosParaIndexar()).thenReturn(List.of(
+                new ClienteIndexado(1L, TipoCliente.PARTICULAR, "12345678Z", "Juan", "Pérez García",
+                        null, "juan@example.com", "666123456"),
+                new ClienteIndexado(2L, TipoCliente.EMPRESA, "B12345678", "Talleres", null,
+                        "Talleres Muñoz S.L.", "info@munoz.es", "911222333"),
+                new ClienteIndexado(3L, TipoCliente.PARTICULAR, "87654321X", "Juana", "Gómez",
+                        null, null, null)));
+        indiceClientes.cargar();
+    }
+
+    @Test
+    void buscar_ConErrata_DeberiaEncontrarClienteYOrdenarPorRelevancia() {
+        // Act
+        List<ClienteBusquedaResponse> resultado = indiceClientes.buscar("juan perez garzia", 10);
+
+        // Assert
+        assertTrue(indiceClientes.isCargado());
+        assertFalse(resultado.isEmpty());
+        assertEquals(1L, resultado.get(0).getId());
+        assertEquals("Juan Pérez García", resultado.get(0).getNombreCompleto());
+    }
+
+    @Test
+    void buscar_SinTildesNiMayusculas_DeberiaEncontrarPorRazonSocial() {
+        // Act
+        List<ClienteBusquedaResponse> resultado = indiceClientes.buscar("MUNOZ", 10);
+
+        // Assert
+        assertEquals(1, resultado.size());
+        assertEquals(2L, resultado.get(0).getId());
+    }
+
+    @Test
+    void buscar_PorDocumentoConGuion_DeberiaPriorizarCoincidenciaExacta() {
+        // Act
+        List<ClienteBusquedaResponse> resultado = indiceClientes.buscar("12345678-z", 10);
+
+        // Assert
+        assertEquals(1L, resultado.get(0).getId());
+        assertTrue(resultado.get(0).getPuntuacion() > 1);
+    }
+
+    @Test
+    void buscar_PorTelefonoParcial_DeberiaEncontrarCliente() {
+        // Act
+        List<ClienteBusquedaResponse> resultado = indiceClientes.buscar("911222", 10);
+
+        // Assert
+        assertEquals(2L, resultado.get(0).getId());
+    }
+
+    @Test
+    void indexar_DeberiaReemplazarDatosAnterioresYEliminarDeberiaQuitarCliente() {
+        // Act
+        indiceClientes.indexar(List.of(new ClienteIndexado(3L, TipoCliente.PARTICULAR, "87654321X",
+                "Juana", "Fernández", null, null, null)));
+        indiceClientes.eliminar(1L);
+
+        // Assert
+        assertTrue(indiceClientes.buscar("gomez", 10).isEmpty());
+        assertEquals(3L, indiceClientes.buscar("fernandez", 10).get(0).getId());
+        assertTrue(indiceClientes.buscar("perez garcia", 10).isEmpty());
+        assertEquals(2, indiceClientes.size());
+    }
+
+    @Test
+    void indexar_ConMuchasModificaciones_DeberiaCompactarSinPerderClientes() {
+        // Arrange
+        List<ClienteIndexado> cambios = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            cambios.add(new ClienteIndexado(3L, TipoCliente.PARTICULAR, "87654321X",
+                    "Juana", "Gómez " + i, null, null, null));
+        }
+
+        // Act
+        indiceClientes.indexar(cambios);
+
+        // Assert
+        assertEquals(3, indiceClientes.size());
+        assertEquals(3L, indiceClientes.buscar("juana gomez 2499", 1).get(0).getId());
+        assertEquals(1L, indiceClientes.buscar("juan perez", 1).get(0).getId());
+    }
+
+    @Test
+    void cargar_ConCambiosMientrasSeConsulta_DeberiaAplicarlosSobreElIndiceNuevo() {
+        // Arrange
+        // Mientras la consulta de la carga está en curso se confirma un alta y una baja
+        when(clienteRepository.findActivosParaIndexar()).thenAnswer(invocacion -> {
+            indiceClientes.indexar(List.of(new ClienteIndexado(4L, TipoCliente.PARTICULAR, "11111111H",
+                    "Lucía", "Ortega", null, null, null)));
+            indiceClientes.eliminar(3L);
+            return List.of(
+                    new ClienteIndexado(1L, TipoCliente.PARTICULAR, "12345678Z", "Juan", "Pérez García",
+                            null, "juan@example.com", "666123456"),
+                    new ClienteIndexado(3L, TipoCliente.PARTICULAR, "87654321X", "Juana", "Gómez",
+                            null, null, null));
+        });
+
+        // Act
+        indiceClientes.cargar();
+
+        // Assert
+        assertEquals(2, indiceClientes.size());
+        assertEquals(4L, indiceClientes.buscar("lucia ortega", 1).get(0).getId());
+        assertTrue(indiceClientes.buscar("gomez", 10).isEmpty());
+    }
+
+    @Test
+    void buscar_ConMuchosCandidatos_DeberiaDevolverSoloLosMejores() {
+        // Arrange
+        List<ClienteIndexado> clientes = new ArrayList<>();
+        for (long id = 10; id < 5000; id++) {
+            clientes.add(new ClienteIndexado(id, TipoCliente.PARTICULAR, "DOC" + id,
+                    "Cliente", "Apellido " + id, null, null, null));
+        }
+        indiceClientes.indexar(clientes);
+
+        // Act
+        List<ClienteBusquedaResponse> resultado = indiceClientes.buscar("cliente apellido 4321", 3);
+
+        // Assert
+        assertEquals(3, resultado.size());
+        assertEquals(4321L, resultado.get(0).getId());
+    }
+
+    @Test
+    void buscar_ConPalabraMuyRepetidaEnElIndice_DeberiaContarTambienSusCoincidencias() {
+        // Arrange
+        // "talleres" deja listas de trigramas largas que solo se consultan para completar la cuenta
+        List<ClienteIndexado> clientes = new ArrayList<>();
+        for (long id = 10; id < 3000; id++) {
+            clientes.add(new ClienteIndexado(id, TipoCliente.EMPRESA, "B" + id, null, null,
+                    "Talleres Gomez " + id, null, null));
+        }
+        indiceClientes.indexar(clientes);
+
+        // Act
+        List<ClienteBusquedaResponse> resultado = indiceClientes.buscar("talleres munoz", 5);
+
+        // Assert
+        assertEquals(5, resultado.size());
+        assertEquals(2L, resultado.get(0).getId());
+        assertEquals(1.5, resultado.get(0).getPuntuacion());
+        assertTrue(resultado.get(1).getPuntuacion() < 1);
+    }
+}
@@ -0,0 +1,134 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorEncontrado;
+import com.uoc.tfg.gestionvehiculos.dtos.busqueda.IdentificadorIndexado;
+import com.uoc.tfg.gestionvehiculos.enums.TipoIdentificador;
+import com.uoc.tfg.gestionvehiculos.repositories.IdentificadorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class IndiceIdentificadoresTest {
+
+    private static final Set<TipoIdentificador> TODOS = EnumSet.noneOf(TipoIdentificador.class);
+
+    @Mock
+    private IdentificadorRepository identificadorRepository;
+
+    @InjectMocks
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @BeforeEach
+    void setUp() {
+        when(identificadorRepository.findTodos()).thenReturn(List.of(
+                new IdentificadorIndexado(TipoIdentificador.MATRICULA, 1L, "1234ABC", "Toyota Corolla"),
+                new IdentificadorIndexado(TipoIdentificador.MATRICULA, 2L, "1234ABD", "Seat León"),
+                new IdentificadorIndexado(TipoIdentificador.BASTIDOR, 1L, "JTDBR32E720123456", "Toyota Corolla"),
+                new IdentificadorIndexado(TipoIdentificador.DOCUMENTO_CLIENTE, 7L, "12345678Z", "Juan Pérez"),
+                new IdentificadorIndexado(TipoIdentificador.NUMERO_CONTRATO, 3L, "RENT-2026-0001", "1234ABC"),
+                new IdentificadorIndexado(TipoIdentificador.NUMERO_CONTRATO, 4L, "RENT-2026-0002", "1234ABD"),
+                new IdentificadorIndexado(TipoIdentificador.CIF_PROVEEDOR, 5L, "B12345678", "Talleres Muñoz S.L.")));
+        indiceIdentificadores.cargar();
+    }
+
+    @Test
+    void buscar_ConEspaciosYMinusculas_DeberiaEncontrarMatriculaExacta() {
+        // Act
+        List<IdentificadorEncontrado> resultado = indiceIdentificadores.buscar(" 1234 abc ", TODOS, 10);
+
+        // Assert
+        assertTrue(indiceIdentificadores.isCargado());
+        assertEquals(1, resultado.size());
+        assertEquals(TipoIdentificador.MATRICULA, resultado.get(0).getTipo());
+        assertEquals(1L, resultado.get(0).getId());
+        assertEquals("/api/vehiculos/1", resultado.get(0).getRecurso());
+        assertTrue(resultado.get(0).isExacto());
+    }
+
+    @Test
+    void buscar_PorPrefijo_DeberiaDevolverTiposDistintosEnOrdenAlfabetico() {
+        // Act
+        List<IdentificadorEncontrado> resultado = indiceIdentificadores.buscar("1234", TODOS, 10);
+
+        // Assert
+        assertEquals(List.of("12345678Z", "1234ABC", "1234ABD"),
+                resultado.stream().map(IdentificadorEncontrado::getValor).toList());
+        assertTrue(resultado.stream().noneMatch(IdentificadorEncontrado::isExacto));
+    }
+
+    @Test
+    void buscar_NumeroContratoSinGuiones_DeberiaRespetarTipoYLimite() {
+        // Act
+        List<IdentificadorEncontrado> contratos = indiceIdentificadores.buscar("rent2026", TODOS, 1);
+        List<IdentificadorEncontrado> soloProveedores = indiceIdentificadores.buscar(
+                "B1", EnumSet.of(TipoIdentificador.CIF_PROVEEDOR), 10);
+
+        // Assert
+        assertEquals(1, contratos.size());
+        assertEquals("RENT-2026-0001", contratos.get(0).getValor());
+        assertEquals(1, soloProveedores.size());
+        assertEquals(5L, soloProveedores.get(0).getId());
+    }
+
+    @Test
+    void indexar_CambioDeMatricula_DeberiaReemplazarLaAnterior() {
+        // Act
+        indiceIdentificadores.indexar(List.of(
+                new IdentificadorIndexado(TipoIdentificador.MATRICULA, 1L, "9999XYZ", "Toyota Corolla")));
+
+        // Assert
+        assertEquals(List.of(2L), indiceIdentificadores.buscar("1234AB", TODOS, 10).stream()
+                .map(IdentificadorEncontrado::getId).toList());
+        assertEquals(1, indiceIdentificadores.buscar("9999XYZ", TODOS, 10).size());
+    }
+
+    @Test
+    void eliminarTrasConfirmar_SinTransaccion_DeberiaQuitarIdentificadoresDelTipo() {
+        // Act
+        indiceIdentificadores.eliminarTrasConfirmar(1L, TipoIdentificador.MATRICULA, TipoIdentificador.BASTIDOR);
+
+        // Assert
+        assertTrue(indiceIdentificadores.buscar("JTDBR", TODOS, 10).isEmpty());
+        assertEquals(List.of("1234ABD"), indiceIdentificadores.buscar("1234AB", TODOS, 10).stream()
+                .map(IdentificadorEncontrado::getValor).toList());
+        assertEquals(5, indiceIdentificadores.size());
+    }
+
+    @Test
+    void cargar_ConCambiosMientrasSeConsulta_DeberiaAplicarlosSobreElIndiceNuevo() {
+        // Arrange
+        // Mientras la consulta de la recarga está en curso se confirma un alta y una baja
+        when(identificadorRepository.findTodos()).thenAnswer(invocacion -> {
+            indiceIdentificadores.indexar(List.of(
+                    new IdentificadorIndexado(TipoIdentificador.MATRICULA, 9L, "9999ZZZ", "Kia Ceed")));
+            indiceIdentificadores.eliminar(TipoIdentificador.MATRICULA, 2L);
+            return List.of(
+                    new IdentificadorIndexado(TipoIdentificador.MATRICULA, 1L, "1234ABC", "Toyota Corolla"),
+                    new IdentificadorIndexado(TipoIdentificador.MATRICULA, 2L, "1234ABD", "Seat León"));
+        });
+
+        // Act
+        indiceIdentificadores.cargar();
+
+        // Assert
+        assertEquals(2, indiceIdentificadores.size());
+        assertEquals(9L, indiceIdentificadores.buscar("9999zzz", TODOS, 10).get(0).getId());
+        assertTrue(indiceIdentificadores.buscar("1234abd", TODOS, 10).isEmpty());
+    }
+}
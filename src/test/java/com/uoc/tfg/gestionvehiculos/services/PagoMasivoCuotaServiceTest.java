@@ -0,0 +1,169 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.CuotaPagoProyeccion;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.PagoMasivoRequest;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.PagoMasivoResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.cuota.ResultadoPagoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.EstadoCuota;
+import com.uoc.tfg.gestionvehiculos.enums.TipoEventoDominio;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.repositories.CuotaRentingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PagoMasivoCuotaServiceTest {
+
+    private static final LocalDate HOY = LocalDate.now();
+    private static final BigDecimal IMPORTE = new BigDecimal("300.00");
+
+    @Mock
+    private CuotaRentingRepository cuotaRepository;
+
+    @Mock
+    private AuditorAware<String> auditorProvider;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CanalCambios canalCambios;
+
+    @Mock
+    private OutboxEventos outboxEventos;
+
+    @InjectMocks
+    private PagoMasivoCuotaService pagoMasivoService;
+
+    @BeforeEach
+    void setUp() {
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        doAnswer(invocation -> {
+            Consumer<Object> accion = invocation.getArgument(0);
+            accion.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void pagar_DeberiaValidarConUnaConsultaYActualizarConUnaSentencia() {
+        // Arrange
+        when(cuotaRepository.findParaPagoPorContratos(anyCollection(), anyCollection())).thenReturn(List.of(
+                new CuotaPagoProyeccion(4L, 1L, "RENT-1", 4, IMPORTE, EstadoCuota.PENDIENTE),
+                new CuotaPagoProyeccion(9L, 2L, "RENT-2", 4, IMPORTE, EstadoCuota.PENDIENTE)));
+        when(cuotaRepository.findParaPagoPorIds(anyCollection())).thenReturn(List.of(
+                new CuotaPagoProyeccion(1L, 1L, "RENT-1", 1, IMPORTE, EstadoCuota.PENDIENTE),
+                new CuotaPagoProyeccion(2L, 1L, "RENT-1", 2, IMPORTE, EstadoCuota.PAGADA),
+                new CuotaPagoProyeccion(3L, 1L, "RENT-1", 3, IMPORTE, EstadoCuota.VENCIDA),
+                new CuotaPagoProyeccion(4L, 1L, "RENT-1", 4, IMPORTE, EstadoCuota.PENDIENTE)));
+        when(cuotaRepository.marcarComoPagadas(anyCollection(), eq(HOY), any(), eq("admin"))).thenReturn(3);
+
+        PagoMasivoRequest request = PagoMasivoRequest.builder()
+                .fechaPago(HOY)
+                .cuotaIds(List.of(1L, 2L, 3L, 1L, 99L))
+                .referencias(List.of(
+                        new PagoMasivoRequest.ReferenciaCuota("RENT-1", 4),
+                        new PagoMasivoRequest.ReferenciaCuota("RENT-3", 1)))
+                .build();
+
+        // Act
+        PagoMasivoResponse response = pagoMasivoService.pagar(request);
+
+        // Assert
+        assertEquals(7, response.getTotal());
+        assertEquals(3, response.getPagadas());
+        assertEquals(4, response.getRechazadas());
+
+        List<ResultadoPagoCuota> resultados = response.getResultados();
+        assertTrue(resultados.get(0).isPagada());
+        assertEquals("La cuota ya está marcada como pagada", resultados.get(1).getMensaje());
+        assertTrue(resultados.get(2).isPagada());
+        assertEquals("Cuota repetida en la petición", resultados.get(3).getMensaje());
+        assertEquals("Cuota no encontrada", resultados.get(4).getMensaje());
+        assertTrue(resultados.get(5).isPagada());
+        assertEquals(4L, resultados.get(5).getCuotaId());
+        assertEquals("Cuota no encontrada", resultados.get(6).getMensaje());
+
+        verify(cuotaRepository, times(1)).findParaPagoPorIds(anyCollection());
+        verify(cuotaRepository).marcarComoPagadas(eq(List.of(1L, 3L, 4L)), eq(HOY), any(), eq("admin"));
+        verify(cuotaRepository, never()).save(any());
+    }
+
+    @Test
+    void pagar_ConTamanoBloque_DeberiaDeshacerSoloElBloqueConCambiosConcurrentes() {
+        // Arrange
+        when(cuotaRepository.findParaPagoPorIds(List.of(1L, 2L))).thenReturn(List.of(
+                new CuotaPagoProyeccion(1L, 1L, "RENT-1", 1, IMPORTE, EstadoCuota.PENDIENTE),
+                new CuotaPagoProyeccion(2L, 1L, "RENT-1", 2, IMPORTE, EstadoCuota.PENDIENTE)));
+        when(cuotaRepository.findParaPagoPorIds(List.of(3L))).thenReturn(List.of(
+                new CuotaPagoProyeccion(3L, 1L, "RENT-1", 3, IMPORTE, EstadoCuota.PENDIENTE)));
+        when(cuotaRepository.marcarComoPagadas(eq(List.of(1L, 2L)), any(), any(), any())).thenReturn(1);
+        when(cuotaRepository.marcarComoPagadas(eq(List.of(3L)), any(), any(), any())).thenReturn(1);
+
+        PagoMasivoRequest request = PagoMasivoRequest.builder()
+                .fechaPago(HOY)
+                .cuotaIds(List.of(1L, 2L, 3L))
+                .tamanoBloque(2)
+                .build();
+
+        // Act
+        PagoMasivoResponse response = pagoMasivoService.pagar(request);
+
+        // Assert
+        assertEquals(1, response.getPagadas());
+        assertFalse(response.getResultados().get(0).isPagada());
+        assertNotNull(response.getResultados().get(0).getMensaje());
+        assertTrue(response.getResultados().get(2).isPagada());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(outboxEventos).registrarTodos(eq(TipoEventoDominio.CUOTA_PAGADA),
+                argThat(eventos -> eventos.keySet().equals(Set.of(3L))
+                        && eventos.get(3L).equals(OutboxEventos.cuotaPagada(1L, "RENT-1", 3, IMPORTE, HOY, null))));
+    }
+
+    @Test
+    void pagar_SinCuotas_DeberiaLanzarExcepcion() {
+        // Arrange
+        PagoMasivoRequest request = PagoMasivoRequest.builder().fechaPago(HOY).build();
+
+        // Act & Assert
+        assertThrows(InvalidOperationException.class, () -> pagoMasivoService.pagar(request));
+        verifyNoInteractions(cuotaRepository);
+    }
+
+    @Test
+    void pagar_ConListasNulas_DeberiaLanzarInvalidOperationException() {
+        // Arrange
+        PagoMasivoRequest request = PagoMasivoRequest.builder().fechaPago(HOY).build();
+        request.setCuotaIds(null);
+        request.setReferencias(null);
+
+        // Act & Assert
+        assertThrows(InvalidOperationException.class, () -> pagoMasivoService.pagar(request));
+        verifyNoInteractions(cuotaRepository);
+    }
+}
@@ -0,0 +1,99 @@
+package com.uoc.tfg.gestionvehiculos.services;
+
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoResumenJdbcRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author José Antonio Ruiz Traid
+ * @version 1.0
+ * @date 01-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ResumenVehiculosTest {
+
+    @Mock
+    private VehiculoResumenJdbcRepository vehiculoResumenJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ResumenVehiculos resumenVehiculos;
+
+    @BeforeEach
+    void setUp() {
+        resumenVehiculos = new ResumenVehiculos(vehiculoResumenJdbcRepository, transactionTemplate);
+        ReflectionTestUtils.setField(resumenVehiculos, "entityManager", entityManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(resumenVehiculos);
+    }
+
+    @Test
+    void marcar_VariasVecesEnUnaTransaccion_DeberiaRecalcularUnaVezAntesDeConfirmar() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        when(vehiculoResumenJdbcRepository.buscarIdsPorCliente(7L)).thenReturn(List.of(3L, 1L));
+
+        // Act
+        resumenVehiculos.marcar(1L);
+        resumenVehiculos.marcar(List.of(2L, 1L));
+        resumenVehiculos.marcarPorCliente(7L);
+        verify(vehiculoResumenJdbcRepository, never()).recalcular(any());
+
+        List<TransactionSynchronization> sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+        sincronizaciones.forEach(s -> s.beforeCommit(false));
+        sincronizaciones.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertEquals(1, sincronizaciones.size());
+        InOrder orden = inOrder(entityManager, vehiculoResumenJdbcRepository);
+        orden.verify(entityManager).flush();
+        orden.verify(vehiculoResumenJdbcRepository).recalcular(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L, 3L))
+                && ids.size() == 3));
+        assertNull(TransactionSynchronizationManager.getResource(resumenVehiculos));
+    }
+
+    @Test
+    void marcar_SinTransaccion_DeberiaRecalcularEnSuPropiaTransaccion() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Object> accion = invocation.getArgument(0);
+            accion.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // Act
+        resumenVehiculos.marcar(5L);
+
+        // Assert
+        verify(vehiculoResumenJdbcRepository).recalcular(List.of(5L));
+        verifyNoInteractions(entityManager);
+    }
+}
@@ -1,18 +1,32 @@
 package com.uoc.tfg.gestionvehiculos.services;
 
+import com.uoc.tfg.gestionvehiculos.cache.VersionesEntidades;
+import com.uoc.tfg.gestionvehiculos.dtos.VersionRecurso;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.BusquedaVehiculosResponse;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.FiltroVehiculos;
+import com.uoc.tfg.gestionvehiculos.dtos.vehiculo.VehiculoResponse;
 import com.uoc.tfg.gestionvehiculos.entities.SituacionVehiculo;
 import com.uoc.tfg.gestionvehiculos.entities.Vehiculo;
 import com.uoc.tfg.gestionvehiculos.enums.TipoCombustible;
+import com.uoc.tfg.gestionvehiculos.exceptions.InvalidOperationException;
+import com.uoc.tfg.gestionvehiculos.exceptions.ResourceNotFoundException;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoBusquedaRepository;
 import com.uoc.tfg.gestionvehiculos.repositories.VehiculoRepository;
+import com.uoc.tfg.gestionvehiculos.repositories.VehiculoResumenRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +49,24 @@ class VehiculoServiceTest {
     @Mock
     private SituacionVehiculoService situacionVehiculoService;
 
+    @Mock
+    private VehiculoBusquedaRepository vehiculoBusquedaRepository;
+
+    @Mock
+    private IndiceIdentificadores indiceIdentificadores;
+
+    @Mock
+    private VersionesEntidades versionesEntidades;
+
+    @Mock
+    private CanalCambios canalCambios;
+
+    @Mock
+    private ResumenVehiculos resumenVehiculos;
+
+    @Mock
+    private VehiculoResumenRepository vehiculoResumenRepository;
+
     @InjectMocks
     private VehiculoService vehiculoService;
 
@@ -209,6 +241,7 @@ class VehiculoServiceTest {
         verify(vehiculoRepository, times(1)).findById(1L);
         verify(situacionVehiculoService, times(1)).obtenerPorNombre("EN_RENTING");
         verify(vehiculoRepository, times(1)).save(vehiculo);
+        verify(resumenVehiculos).marcar(1L);
     }
 
     @Test
@@ -239,4 +272,84 @@ class VehiculoServiceTest {
         assertTrue(resultado.isEmpty());
         verify(vehiculoRepository, times(1)).findAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    void buscar_DeberiaDevolverPaginaConFacetas() {
+        // Arrange
+        FiltroVehiculos filtro = FiltroVehiculos.builder()
+                .tipoCombustible(List.of(TipoCombustible.DIESEL))
+                .anyoDesde(2020)
+                .build();
+        Pageable pageable = PageRequest.of(0, 20);
+        VehiculoResponse encontrado = VehiculoResponse.builder().id(1L).matricula("1234ABC").build();
+        Map<String, Map<String, Long>> facetas = Map.of("marca", Map.of("Toyota", 1L));
+        when(vehiculoBusquedaRepository.buscar(filtro, pageable))
+                .thenReturn(new PageImpl<>(List.of(encontrado), pageable, 1));
+        when(vehiculoBusquedaRepository.facetas(filtro)).thenReturn(facetas);
+
+        // Act
+        BusquedaVehiculosResponse resultado = vehiculoService.buscar(filtro, pageable);
+
+        // Assert
+        assertEquals(1, resultado.getContenido().size());
+        assertEquals(1L, resultado.getTotalElementos());
+        assertEquals(1, resultado.getTotalPaginas());
+        assertEquals(facetas, resultado.getFacetas());
+    }
+
+    @Test
+    void buscar_ConRangoInvertido_DeberiaLanzarExcepcion() {
+        // Arrange
+        FiltroVehiculos filtro = FiltroVehiculos.builder()
+                .kilometrosDesde(50000)
+                .kilometrosHasta(10000)
+                .build();
+
+        // Act & Assert
+        assertThrows(InvalidOperationException.class,
+                () -> vehiculoService.buscar(filtro, PageRequest.of(0, 20)));
+        verifyNoInteractions(vehiculoBusquedaRepository);
+    }
+
+    @Test
+    void obtenerVersionActivos_DeberiaCambiarEtagAlModificarseUnVehiculo() {
+        // Arrange
+        LocalDateTime antes = LocalDateTime.of(2026, 1, 10, 9, 30, 0, 123_456_000);
+        when(vehiculoRepository.findVersionActivos())
+                .thenReturn(new VersionRecurso(2L, antes), new VersionRecurso(2L, antes.plusNanos(1_000)));
+
+        // Act
+        VersionRecurso primera = vehiculoService.obtenerVersionActivos();
+        VersionRecurso segunda = vehiculoService.obtenerVersionActivos();
+
+        // Assert
+        assertTrue(primera.getEtagDebil().startsWith("W/\"2-"));
+        assertNotEquals(primera.getEtagDebil(), segunda.getEtagDebil());
+        assertEquals(primera.getUltimaModificacionMillis(), segunda.getUltimaModificacionMillis());
+        verifyNoMoreInteractions(vehiculoRepository);
+    }
+
+    @Test
+    void obtenerVersion_CuandoNoExiste_DeberiaIndicarloSinCargarEntidad() {
+        // Arrange
+        when(vehiculoRepository.findVersionById(99L)).thenReturn(new VersionRecurso(0L, null));
+
+        // Act
+        VersionRecurso version = vehiculoService.obtenerVersion(99L);
+
+        // Assert
+        assertFalse(version.existe());
+        assertEquals(-1, version.getUltimaModificacionMillis());
+        verify(vehiculoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void obtenerResumen_CuandoNoExiste_DeberiaLanzarResourceNotFound() {
+        // Arrange
+        when(vehiculoResumenRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> vehiculoService.obtenerResumen(99L));
+        verify(vehiculoRepository, never()).findById(anyLong());
+    }
+}